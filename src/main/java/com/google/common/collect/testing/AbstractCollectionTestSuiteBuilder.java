@@ -18,6 +18,7 @@ package com.google.common.collect.testing;
 
 import com.google.common.collect.testing.testers.CollectionAddAllTester;
 import com.google.common.collect.testing.testers.CollectionAddTester;
+import com.google.common.collect.testing.testers.CollectionAllocationFreeReadTester;
 import com.google.common.collect.testing.testers.CollectionClearTester;
 import com.google.common.collect.testing.testers.CollectionContainsAllTester;
 import com.google.common.collect.testing.testers.CollectionContainsTester;
@@ -26,6 +27,7 @@ import com.google.common.collect.testing.testers.CollectionEqualsTester;
 import com.google.common.collect.testing.testers.CollectionForEachTester;
 import com.google.common.collect.testing.testers.CollectionIsEmptyTester;
 import com.google.common.collect.testing.testers.CollectionIteratorTester;
+import com.google.common.collect.testing.testers.CollectionReferenceReleaseTester;
 import com.google.common.collect.testing.testers.CollectionRemoveAllTester;
 import com.google.common.collect.testing.testers.CollectionRemoveIfTester;
 import com.google.common.collect.testing.testers.CollectionRemoveTester;
@@ -34,8 +36,10 @@ import com.google.common.collect.testing.testers.CollectionSerializationTester;
 import com.google.common.collect.testing.testers.CollectionSizeTester;
 import com.google.common.collect.testing.testers.CollectionSpliteratorTester;
 import com.google.common.collect.testing.testers.CollectionStreamTester;
+import com.google.common.collect.testing.testers.CollectionThreadSafetyTester;
 import com.google.common.collect.testing.testers.CollectionToArrayTester;
 import com.google.common.collect.testing.testers.CollectionToStringTester;
+import com.google.common.collect.testing.testers.CollectionWeaklyConsistentIterationTester;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -56,6 +60,7 @@ public abstract class AbstractCollectionTestSuiteBuilder<
         return Arrays.<Class<? extends AbstractTester>>asList(
                 CollectionAddAllTester.class,
                 CollectionAddTester.class,
+                CollectionAllocationFreeReadTester.class,
                 CollectionClearTester.class,
                 CollectionContainsAllTester.class,
                 CollectionContainsTester.class,
@@ -64,6 +69,7 @@ public abstract class AbstractCollectionTestSuiteBuilder<
                 CollectionForEachTester.class,
                 CollectionIsEmptyTester.class,
                 CollectionIteratorTester.class,
+                CollectionReferenceReleaseTester.class,
                 CollectionRemoveAllTester.class,
                 CollectionRemoveIfTester.class,
                 CollectionRemoveTester.class,
@@ -72,7 +78,9 @@ public abstract class AbstractCollectionTestSuiteBuilder<
                 CollectionSizeTester.class,
                 CollectionSpliteratorTester.class,
                 CollectionStreamTester.class,
+                CollectionThreadSafetyTester.class,
                 CollectionToArrayTester.class,
-                CollectionToStringTester.class);
+                CollectionToStringTester.class,
+                CollectionWeaklyConsistentIterationTester.class);
     }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.annotations.Beta;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Base class for testers of how the throughput of a concurrent subject scales with the number of
+ * threads using it. It holds the configuration shared by such testers, and runs the workloads that
+ * a subclass supplies through a {@link ThroughputMeasurer}.
+ *
+ * @param <T> The concrete type of this tester (the 'self-type'). All the configuration methods of
+ *     this class (such as {@link #named}) return this type, so that the configuration methods of
+ *     the subclass can be chained onto them without casting.
+ */
+@Beta
+public abstract class AbstractScalabilityTester<T extends AbstractScalabilityTester<T>> {
+    private static final long DEFAULT_DURATION_MILLIS = 100;
+    private static final double DEFAULT_THROUGHPUT_RATIO = 0.5;
+
+    private String name;
+    private int maxThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private long durationNanos = DEFAULT_DURATION_MILLIS * 1_000_000;
+    private double throughputRatio = DEFAULT_THROUGHPUT_RATIO;
+
+    /** Creates a tester which calls the subject under test {@code defaultName} unless it is renamed. */
+    protected AbstractScalabilityTester(String defaultName) {
+        this.name = checkNotNull(defaultName);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected T self() {
+        return (T) this;
+    }
+
+    /** Names the subject under test in the report and in failure messages. */
+    public T named(String name) {
+        this.name = checkNotNull(name);
+        return self();
+    }
+
+    /**
+     * Sets the largest number of threads to measure with. Defaults to the number of available
+     * processors, but at least 2.
+     */
+    public T withMaxThreads(int maxThreads) {
+        checkArgument(maxThreads >= 2, "maxThreads (%s) must be at least 2", maxThreads);
+        this.maxThreads = maxThreads;
+        return self();
+    }
+
+    /** Sets how long each measurement runs. Defaults to 100 milliseconds. */
+    public T withDurationMillis(long millis) {
+        checkArgument(millis > 0, "millis (%s) must be positive", millis);
+        this.durationNanos = millis * 1_000_000;
+        return self();
+    }
+
+    /**
+     * Sets the least ratio of the throughput at every measured number of threads to the throughput
+     * of a single thread. Defaults to 0.5.
+     */
+    public T expectThroughputRatioAtLeast(double ratio) {
+        checkArgument(ratio > 0, "ratio (%s) must be positive", ratio);
+        this.throughputRatio = ratio;
+        return self();
+    }
+
+    /** Returns a human-readable table of the throughput and speedup of each workload. */
+    public String report() {
+        return measure().report();
+    }
+
+    /** Asserts that the throughput at every number of threads meets the expected ratio. */
+    public void test() {
+        measure().assertThroughputRatioAtLeast(throughputRatio);
+    }
+
+    /** Measures each workload of the subject under test with {@code measurer}. */
+    protected abstract void measureWorkloads(ThroughputMeasurer measurer);
+
+    private ThroughputMeasurer measure() {
+        ThroughputMeasurer measurer = new ThroughputMeasurer(name, maxThreads, durationNanos);
+        measureWorkloads(measurer);
+        return measurer;
+    }
+}
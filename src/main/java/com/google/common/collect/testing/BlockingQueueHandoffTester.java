@@ -0,0 +1,296 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.annotations.Beta;
+import com.google.common.collect.testing.TailLatencyTester.Histogram;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.testing.Platform.format;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tester for handing messages from producer threads to consumer threads through a blocking queue.
+ * For each configured number of producers and consumers, the producers {@code put} a fixed number of
+ * time-stamped messages each into a fresh queue, and the consumers {@code take} them until every
+ * consumer has received an end marker. The tester checks that every message was taken exactly once,
+ * and reports the throughput in messages per second and percentiles of the hand-off latency, the
+ * time from just before {@code put} to just after {@code take}.
+ *
+ * <p>The queue must return the messages either in the order they were put, or in their natural
+ * order, which is also the order in which they were put; this covers the FIFO and priority queues
+ * of {@link java.util.concurrent}. A bounded queue throttles the producers, which usually trades
+ * throughput for lower latency. By default, {@link #test} fails only on lost or duplicated
+ * messages; {@link #expectLatencyAtMost} adds a latency budget.
+ *
+ * <p>Example usage:
+ *
+ * <pre>
+ * BlockingQueueHandoffTester.forQueue(() -&gt; new ArrayBlockingQueue&lt;&gt;(1024))
+ *     .named("ArrayBlockingQueue")
+ *     .withThreads(4, 4)
+ *     .test();
+ * </pre>
+ */
+@Beta
+public final class BlockingQueueHandoffTester {
+    private static final int DEFAULT_MESSAGES_PER_PRODUCER = 1 << 14;
+
+    /** Creates a tester for the queues created by {@code supplier}, which must be empty. */
+    public static BlockingQueueHandoffTester forQueue(
+            Supplier<? extends BlockingQueue<Object>> supplier) {
+        return new BlockingQueueHandoffTester(supplier);
+    }
+
+    private final Supplier<? extends BlockingQueue<Object>> supplier;
+    /** The configured numbers of producers and consumers. */
+    private final List<int[]> threads = new ArrayList<>();
+    private String name = "queue";
+    private int messagesPerProducer = DEFAULT_MESSAGES_PER_PRODUCER;
+    private double latencyPercentile = 100;
+    private long latencyBudgetNanos = Long.MAX_VALUE;
+
+    private BlockingQueueHandoffTester(Supplier<? extends BlockingQueue<Object>> supplier) {
+        this.supplier = checkNotNull(supplier);
+    }
+
+    /** Names the queue under test in the report and in failure messages. */
+    public BlockingQueueHandoffTester named(String name) {
+        this.name = checkNotNull(name);
+        return this;
+    }
+
+    /**
+     * Adds a measurement with the given numbers of producer and consumer threads. If none is added,
+     * one producer with one consumer and four producers with four consumers are measured.
+     */
+    public BlockingQueueHandoffTester withThreads(int producers, int consumers) {
+        checkArgument(producers > 0, "producers (%s) must be positive", producers);
+        checkArgument(consumers > 0, "consumers (%s) must be positive", consumers);
+        threads.add(new int[] {producers, consumers});
+        return this;
+    }
+
+    /** Sets the number of messages that each producer puts. Defaults to 16384. */
+    public BlockingQueueHandoffTester withMessagesPerProducer(int messagesPerProducer) {
+        checkArgument(
+                messagesPerProducer > 0, "messagesPerProducer (%s) must be positive", messagesPerProducer);
+        this.messagesPerProducer = messagesPerProducer;
+        return this;
+    }
+
+    /**
+     * Sets the largest tolerated hand-off latency at the given percentile, such as 99, in every
+     * measurement. By default, there is no limit.
+     */
+    public BlockingQueueHandoffTester expectLatencyAtMost(double percentile, long nanos) {
+        checkArgument(
+                percentile > 0 && percentile <= 100, "percentile (%s) must be in (0, 100]", percentile);
+        checkArgument(nanos >= 0, "nanos (%s) must be nonnegative", nanos);
+        this.latencyPercentile = percentile;
+        this.latencyBudgetNanos = nanos;
+        return this;
+    }
+
+    /** Returns a human-readable summary of the throughput and latency of each measurement. */
+    public String report() {
+        return format("%s%n%s", name, describe(measure()));
+    }
+
+    /**
+     * Asserts that no message was lost or duplicated, and that the latency stays within the budget,
+     * in every measurement.
+     */
+    public void test() {
+        List<Result> results = measure();
+        List<String> failures = new ArrayList<>();
+        for (Result result : results) {
+            if (!result.problems.isEmpty()) {
+                failures.add(format("%s: %s", result.configuration(), String.join(", ", result.problems)));
+            }
+            long latency = result.latencies.valueAtPercentile(latencyPercentile);
+            if (latency > latencyBudgetNanos) {
+                failures.add(
+                        format(
+                                "%s: p%s hand-off latency %s ns, expected at most %s ns",
+                                result.configuration(), latencyPercentile, latency, latencyBudgetNanos));
+            }
+        }
+        if (!failures.isEmpty()) {
+            fail(
+                    format(
+                            "%s failed to hand off messages:%n  %s%n%s",
+                            name, String.join("\n  ", failures), describe(results)));
+        }
+    }
+
+    private List<int[]> effectiveThreads() {
+        return threads.isEmpty() ? Arrays.asList(new int[] {1, 1}, new int[] {4, 4}) : threads;
+    }
+
+    private String describe(List<Result> results) {
+        List<String> lines = new ArrayList<>();
+        for (Result result : results) {
+            lines.add(
+                    format(
+                            "  %s: %s messages, %.0f messages/s, hand-off latency p50 %s ns, p99 %s ns, "
+                                    + "p99.9 %s ns, max %s ns",
+                            result.configuration(),
+                            result.messages,
+                            result.messages * 1e9 / result.elapsedNanos,
+                            result.latencies.valueAtPercentile(50),
+                            result.latencies.valueAtPercentile(99),
+                            result.latencies.valueAtPercentile(99.9),
+                            result.latencies.max));
+        }
+        return String.join("\n", lines);
+    }
+
+    private List<Result> measure() {
+        List<Result> results = new ArrayList<>();
+        for (int[] counts : effectiveThreads()) {
+            // one unrecorded run warms up the code paths
+            run(counts[0], counts[1]);
+            results.add(run(counts[0], counts[1]));
+        }
+        return results;
+    }
+
+    private Result run(int producers, int consumers) {
+        BlockingQueue<Object> queue = supplier.get();
+        checkArgument(queue.isEmpty(), "the supplied queue must be empty");
+        AtomicInteger producing = new AtomicInteger(producers);
+        Histogram[] latencies = new Histogram[consumers];
+        int[][][] received = new int[consumers][][];
+        long[] starts = new long[producers + consumers];
+        long[] ends = new long[producers + consumers];
+        Helpers.runConcurrently(
+                producers + consumers,
+                thread -> {
+                    starts[thread] = System.nanoTime();
+                    if (thread < producers) {
+                        for (int i = 0; i < messagesPerProducer; i++) {
+                            queue.put(new Message(thread, i, System.nanoTime()));
+                        }
+                        // the last producer to finish puts one end marker for each consumer
+                        if (producing.decrementAndGet() == 0) {
+                            for (int i = 0; i < consumers; i++) {
+                                queue.put(Message.END);
+                            }
+                        }
+                    } else {
+                        Histogram histogram = new Histogram();
+                        int[][] counts = new int[producers][messagesPerProducer];
+                        for (Object taken = queue.take(); taken != Message.END; taken = queue.take()) {
+                            Message message = (Message) taken;
+                            histogram.record(Math.max(0, System.nanoTime() - message.sentNanos));
+                            counts[message.producer][message.sequence]++;
+                        }
+                        latencies[thread - producers] = histogram;
+                        received[thread - producers] = counts;
+                    }
+                    ends[thread] = System.nanoTime();
+                });
+        long elapsed = Arrays.stream(ends).max().getAsLong() - Arrays.stream(starts).min().getAsLong();
+        return new Result(producers, consumers, messagesPerProducer, latencies, received, elapsed);
+    }
+
+    /**
+     * A message put by a producer. Messages are ordered by the time they were created, so that a
+     * priority queue hands them off in the same order as a FIFO queue.
+     */
+    private static final class Message implements Comparable<Message> {
+        static final Message END = new Message(-1, -1, Long.MAX_VALUE);
+
+        final int producer;
+        final int sequence;
+        final long sentNanos;
+
+        Message(int producer, int sequence, long sentNanos) {
+            this.producer = producer;
+            this.sequence = sequence;
+            this.sentNanos = sentNanos;
+        }
+
+        @Override
+        public int compareTo(Message that) {
+            return Long.compare(this.sentNanos, that.sentNanos);
+        }
+    }
+
+    /** The outcome of one measurement. */
+    private static final class Result {
+        final int producers;
+        final int consumers;
+        final long messages;
+        final Histogram latencies = new Histogram();
+        final long elapsedNanos;
+        final List<String> problems = new ArrayList<>();
+
+        Result(
+                int producers,
+                int consumers,
+                int messagesPerProducer,
+                Histogram[] latencies,
+                int[][][] received,
+                long elapsedNanos) {
+            this.producers = producers;
+            this.consumers = consumers;
+            this.messages = (long) producers * messagesPerProducer;
+            this.elapsedNanos = Math.max(1, elapsedNanos);
+            for (Histogram histogram : latencies) {
+                this.latencies.add(histogram);
+            }
+            int lost = 0;
+            int duplicated = 0;
+            String firstLost = null;
+            String firstDuplicated = null;
+            for (int producer = 0; producer < producers; producer++) {
+                for (int sequence = 0; sequence < messagesPerProducer; sequence++) {
+                    int count = 0;
+                    for (int[][] counts : received) {
+                        count += counts[producer][sequence];
+                    }
+                    if (count == 0 && lost++ == 0) {
+                        firstLost = format("#%s of producer %s", sequence, producer);
+                    } else if (count > 1 && duplicated++ == 0) {
+                        firstDuplicated = format("#%s of producer %s", sequence, producer);
+                    }
+                }
+            }
+            if (lost > 0) {
+                problems.add(format("lost %s messages, first %s", lost, firstLost));
+            }
+            if (duplicated > 0) {
+                problems.add(format("duplicated %s messages, first %s", duplicated, firstDuplicated));
+            }
+        }
+
+        String configuration() {
+            return format("%s producers, %s consumers", producers, consumers);
+        }
+    }
+}
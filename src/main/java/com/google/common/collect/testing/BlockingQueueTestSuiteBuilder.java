@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.collect.testing.testers.BlockingQueueDrainToTester;
+import com.google.common.collect.testing.testers.BlockingQueueProducerConsumerTester;
+import com.google.common.collect.testing.testers.BlockingQueuePutTester;
+import com.google.common.collect.testing.testers.BlockingQueueRemainingCapacityTester;
+import com.google.common.collect.testing.testers.BlockingQueueTakeTester;
+import com.google.common.collect.testing.testers.BlockingQueueTimedOfferTester;
+import com.google.common.collect.testing.testers.BlockingQueueTimedPollTester;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Creates, based on your criteria, a JUnit test suite that exhaustively tests a {@link
+ * java.util.concurrent.BlockingQueue} implementation. This includes all the tests run by {@link
+ * QueueTestSuiteBuilder}. Bounded queues should declare {@link
+ * com.google.common.collect.testing.features.QueueFeature#BOUNDED}.
+ */
+public class BlockingQueueTestSuiteBuilder<E> extends QueueTestSuiteBuilder<E> {
+    public static <E> BlockingQueueTestSuiteBuilder<E> using(TestQueueGenerator<E> generator) {
+        BlockingQueueTestSuiteBuilder<E> result = new BlockingQueueTestSuiteBuilder<>();
+        result.usingGenerator(generator);
+        return result;
+    }
+
+    static final List<? extends Class<? extends AbstractTester>> TESTERS =
+            Arrays.asList(
+                    BlockingQueueDrainToTester.class,
+                    BlockingQueueProducerConsumerTester.class,
+                    BlockingQueuePutTester.class,
+                    BlockingQueueRemainingCapacityTester.class,
+                    BlockingQueueTakeTester.class,
+                    BlockingQueueTimedOfferTester.class,
+                    BlockingQueueTimedPollTester.class);
+
+    @Override
+    protected List<Class<? extends AbstractTester>> getTesters() {
+        List<Class<? extends AbstractTester>> testers = Helpers.copyToList(super.getTesters());
+        testers.addAll(TESTERS);
+        return testers;
+    }
+}
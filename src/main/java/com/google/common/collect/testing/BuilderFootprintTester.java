@@ -0,0 +1,218 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.annotations.Beta;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.testing.Platform.format;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tester for the capacity that builders leave behind in the containers they build. The tester
+ * builds containers of several sizes with an expected size that is missing, too small, exact and
+ * too big, measures each with {@link com.google.common.testing.ObjectGraphMeasurer} (without the
+ * elements, as {@link FootprintTester} does), and compares the footprint to that of the container
+ * built with the exact expected size. A builder whose {@code build()} trims or reuses its arrays as
+ * intended yields containers of about the same footprint whatever the estimate was; one that keeps
+ * an over-sized array or hash table does not.
+ *
+ * <p>Example usage:
+ *
+ * <pre>
+ * BuilderFootprintTester.&lt;String&gt;forBuilder(
+ *         (expectedSize, elements) -&gt;
+ *             ImmutableList.&lt;String&gt;builderWithExpectedSize(expectedSize).addAll(elements).build(),
+ *         i -&gt; "e" + i)
+ *     .named("ImmutableList.Builder")
+ *     .expectAtMostRatio(1.0)
+ *     .test();
+ * </pre>
+ */
+@Beta
+public final class BuilderFootprintTester<E> {
+    private static final int[] DEFAULT_SIZES = {16, 1000};
+
+    /**
+     * The default expected sizes, as multiples of the actual size: none, a half, exact, twice and
+     * eight times.
+     */
+    private static final double[] DEFAULT_ESTIMATES = {0, 0.5, 1, 2, 8};
+
+    /**
+     * The default tolerated ratio to the exact footprint. Hash-based containers may keep a table of
+     * up to twice the minimal size rather than rehash.
+     */
+    private static final double DEFAULT_MAX_RATIO = 2.0;
+
+    /**
+     * Creates a tester for containers created by {@code build}, which receives the expected size to
+     * pass to the builder and a list of distinct elements that it must add. The elements are
+     * returned by {@code elements} for the indexes {@code 0} to {@code size - 1}.
+     */
+    public static <E> BuilderFootprintTester<E> forBuilder(
+            BiFunction<Integer, List<E>, ?> build, IntFunction<? extends E> elements) {
+        return new BuilderFootprintTester<>(build, elements);
+    }
+
+    private final BiFunction<Integer, List<E>, ?> build;
+    private final IntFunction<? extends E> elements;
+    private String name = "builder";
+    private int[] sizes = DEFAULT_SIZES;
+    private double[] estimates = DEFAULT_ESTIMATES;
+    private double maxRatio = DEFAULT_MAX_RATIO;
+
+    private BuilderFootprintTester(
+            BiFunction<Integer, List<E>, ?> build, IntFunction<? extends E> elements) {
+        this.build = checkNotNull(build);
+        this.elements = checkNotNull(elements);
+    }
+
+    /** Names the builder under test in reports and failure messages. */
+    public BuilderFootprintTester<E> named(String name) {
+        this.name = checkNotNull(name);
+        return this;
+    }
+
+    /** Replaces the sizes at which the footprints are compared. */
+    public BuilderFootprintTester<E> withSizes(int... sizes) {
+        checkArgument(sizes.length > 0, "no sizes given");
+        for (int size : sizes) {
+            checkArgument(size > 0, "size (%s) must be positive", size);
+        }
+        this.sizes = sizes.clone();
+        return this;
+    }
+
+    /**
+     * Replaces the expected sizes to build with, as multiples of the actual size. The exact estimate,
+     * {@code 1}, is always measured as the reference.
+     */
+    public BuilderFootprintTester<E> withEstimates(double... estimates) {
+        checkArgument(estimates.length > 0, "no estimates given");
+        for (double estimate : estimates) {
+            checkArgument(estimate >= 0, "estimate (%s) must be nonnegative", estimate);
+        }
+        this.estimates = estimates.clone();
+        return this;
+    }
+
+    /**
+     * Sets the largest tolerated ratio of the footprint built with any estimate to the footprint
+     * built with the exact estimate. Defaults to {@code 2.0}.
+     */
+    public BuilderFootprintTester<E> expectAtMostRatio(double maxRatio) {
+        checkArgument(maxRatio >= 1, "ratio (%s) must be at least 1", maxRatio);
+        this.maxRatio = maxRatio;
+        return this;
+    }
+
+    /** Measures the containers and returns a table of their footprints. */
+    public String report() {
+        return report(measure());
+    }
+
+    /** Measures the containers and asserts that none of them exceeds the tolerated ratio. */
+    public void test() {
+        long[][] footprints = measure();
+        List<String> failures = new ArrayList<>();
+        for (int i = 0; i < sizes.length; i++) {
+            for (int j = 0; j < estimates.length; j++) {
+                double ratio = ratio(footprints[i], j);
+                if (ratio > maxRatio) {
+                    failures.add(
+                            format(
+                                    "size %s with expected size %s: %s bytes, %.2fx the %s bytes of the "
+                                            + "exact estimate",
+                                    sizes[i],
+                                    expectedSize(sizes[i], estimates[j]),
+                                    footprints[i][j + 1],
+                                    ratio,
+                                    footprints[i][0]));
+                }
+            }
+        }
+        if (!failures.isEmpty()) {
+            fail(
+                    format(
+                            "%s wastes capacity, beyond the tolerated %.2fx:%n  %s%n%s",
+                            name,
+                            maxRatio,
+                            String.join("\n  ", failures),
+                            report(footprints)));
+        }
+    }
+
+    /**
+     * Returns, for each size, the footprint built with the exact estimate followed by those built
+     * with each of the estimates.
+     */
+    private long[][] measure() {
+        long[][] footprints = new long[sizes.length][estimates.length + 1];
+        for (int i = 0; i < sizes.length; i++) {
+            List<E> contents = new ArrayList<>();
+            for (int k = 0; k < sizes[i]; k++) {
+                contents.add(elements.apply(k));
+            }
+            footprints[i][0] = measure(sizes[i], contents);
+            for (int j = 0; j < estimates.length; j++) {
+                footprints[i][j + 1] = measure(expectedSize(sizes[i], estimates[j]), contents);
+            }
+        }
+        return footprints;
+    }
+
+    private long measure(int expectedSize, List<E> contents) {
+        Object container = build.apply(expectedSize, Collections.unmodifiableList(contents));
+        return FootprintTester.measureExcluding(container, contents).bytes();
+    }
+
+    private static int expectedSize(int size, double estimate) {
+        return (int) Math.round(size * estimate);
+    }
+
+    private static double ratio(long[] footprints, int estimateIndex) {
+        return footprints[estimateIndex + 1] / (double) Math.max(footprints[0], 1);
+    }
+
+    private String report(long[][] footprints) {
+        StringBuilder report =
+                new StringBuilder(format("%s footprint in bytes, excluding the elements:%n", name))
+                        .append(format("%10s %10s", "size", "exact"));
+        for (double estimate : estimates) {
+            report.append(format(" %14s", format("%sx", estimate)));
+        }
+        report.append(format("%n"));
+        for (int i = 0; i < sizes.length; i++) {
+            report.append(format("%10s %10s", sizes[i], footprints[i][0]));
+            for (int j = 0; j < estimates.length; j++) {
+                String cell = format("%s (%.2fx)", footprints[i][j + 1], ratio(footprints[i], j));
+                report.append(format(" %14s", cell));
+            }
+            report.append(format("%n"));
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,466 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.annotations.Beta;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.testing.Platform.format;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tester for the capacity that a mutable container retains after most of its contents have been
+ * removed. For each supported removal path, the tester grows a container to a large size, removes
+ * all but a small residue, and compares the shrunk container with a fresh one holding only the
+ * residue: the time to iterate it, to call {@code isEmpty()}, and to {@code clear()} it, and its
+ * footprint without the elements, measured with {@link
+ * com.google.common.testing.ObjectGraphMeasurer}.
+ *
+ * <p>Tables like that of {@link java.util.HashMap} never shrink, so iterating or clearing them
+ * stays proportional to their peak size. That is a valid design, but callers should be able to rely
+ * on it either way: by default, the tester asserts only that {@code isEmpty()} does not depend on
+ * the peak size, while a container that is declared to {@linkplain #expectCompaction compact} must
+ * also match the fresh container in iteration cost, {@code clear()} cost and footprint. Times are
+ * compared with a wide margin, since only the difference between {@code O(size)} and {@code
+ * O(capacity)} is of interest. Removal paths that throw {@link UnsupportedOperationException} are
+ * skipped.
+ *
+ * <p>Example usage:
+ *
+ * <pre>
+ * CapacityRetentionTester.forMap(TreeMap::new, i -&gt; "k" + i, i -&gt; "v" + i)
+ *     .named("TreeMap")
+ *     .expectCompaction()
+ *     .test();
+ * </pre>
+ */
+@Beta
+public final class CapacityRetentionTester<C> {
+    private static final int DEFAULT_PEAK_SIZE = 1 << 16;
+    private static final int DEFAULT_RESIDUE = 16;
+
+    /** The tolerated ratio of the shrunk container's times to those of the fresh container. */
+    private static final double MAX_TIME_RATIO = 8.0;
+
+    /** The tolerated ratio of the shrunk container's footprint to that of the fresh container. */
+    private static final double MAX_FOOTPRINT_RATIO = 4.0;
+
+    /** The least time over which a single timing is averaged. */
+    private static final long MIN_MEASUREMENT_NANOS = 1_000_000;
+
+    /**
+     * Times below this are compared as if they were this long, since the difference between a few
+     * nanoseconds and a few more is noise rather than retained capacity.
+     */
+    private static final double MIN_SIGNIFICANT_NANOS = 100;
+
+    private static final int ROUNDS = 5;
+
+    /** The number of newly built containers cleared in each timing of {@code clear()}. */
+    private static final int CLEAR_BATCH_SIZE = 8;
+
+    /**
+     * Creates a tester for the collections created by {@code factory}, into which it adds the
+     * elements returned by {@code elements} for the indexes {@code 0} to the peak size. The removal
+     * paths are {@code remove(Object)}, {@code iterator().remove()}, {@code removeIf} and {@code
+     * removeAll}.
+     */
+    @SuppressWarnings("unchecked") // the items hold what elements returned
+    public static <E, C extends Collection<E>> CapacityRetentionTester<C> forCollection(
+            Supplier<? extends C> factory, IntFunction<? extends E> elements) {
+        checkNotNull(elements);
+        CapacityRetentionTester<C> tester =
+                new CapacityRetentionTester<>(
+                        factory,
+                        i -> new Object[] {elements.apply(i)},
+                        (collection, item) -> collection.add((E) item[0]),
+                        collection -> collection);
+        tester.addRemovals("", collection -> collection);
+        return tester;
+    }
+
+    /**
+     * Creates a tester for the maps created by {@code factory}, into which it puts the keys and
+     * values returned by {@code keys} and {@code values} for the indexes {@code 0} to the peak size.
+     * The removal paths are {@code remove(Object)}, and {@code remove(Object)}, {@code
+     * iterator().remove()}, {@code removeIf} and {@code removeAll} on the key set.
+     */
+    @SuppressWarnings("unchecked") // the items hold what keys and values returned
+    public static <K, V, C extends Map<K, V>> CapacityRetentionTester<C> forMap(
+            Supplier<? extends C> factory,
+            IntFunction<? extends K> keys,
+            IntFunction<? extends V> values) {
+        checkNotNull(keys);
+        checkNotNull(values);
+        CapacityRetentionTester<C> tester =
+                new CapacityRetentionTester<>(
+                        factory,
+                        i -> new Object[] {keys.apply(i), values.apply(i)},
+                        (map, item) -> map.put((K) item[0], (V) item[1]),
+                        Map::keySet);
+        tester.removals.put(
+                "remove(Object)",
+                (map, removed) -> {
+                    for (Object key : removed) {
+                        map.remove(key);
+                    }
+                });
+        tester.addRemovals("keySet().", Map::keySet);
+        return tester;
+    }
+
+    private final Supplier<? extends C> factory;
+    /**
+     * Returns the objects that make up the {@code i}th element or entry. The first of them is what
+     * removal paths remove.
+     */
+    private final IntFunction<Object[]> items;
+    private final BiConsumer<C, Object[]> insert;
+    /** Returns a view whose iteration, {@code isEmpty()} and {@code clear()} are those of C. */
+    private final Function<? super C, ? extends Collection<?>> view;
+    private final Map<String, BiConsumer<C, Set<Object>>> removals = new LinkedHashMap<>();
+    private String name = "container";
+    private int peakSize = DEFAULT_PEAK_SIZE;
+    private int residue = DEFAULT_RESIDUE;
+    private boolean expectCompaction;
+    // written by measurements so that the JIT compiler can't discard them
+    private int sink;
+
+    private CapacityRetentionTester(
+            Supplier<? extends C> factory,
+            IntFunction<Object[]> items,
+            BiConsumer<C, Object[]> insert,
+            Function<? super C, ? extends Collection<?>> view) {
+        this.factory = checkNotNull(factory);
+        this.items = items;
+        this.insert = insert;
+        this.view = view;
+    }
+
+    private void addRemovals(String prefix, Function<? super C, ? extends Collection<?>> collection) {
+        removals.put(
+                prefix + "remove(Object)",
+                (container, removed) -> {
+                    Collection<?> elements = collection.apply(container);
+                    for (Object element : removed) {
+                        elements.remove(element);
+                    }
+                });
+        removals.put(
+                prefix + "iterator().remove()",
+                (container, removed) -> {
+                    for (Iterator<?> i = collection.apply(container).iterator(); i.hasNext(); ) {
+                        if (removed.contains(i.next())) {
+                            i.remove();
+                        }
+                    }
+                });
+        removals.put(
+                prefix + "removeIf",
+                (container, removed) -> collection.apply(container).removeIf(removed::contains));
+        removals.put(
+                prefix + "removeAll",
+                (container, removed) -> collection.apply(container).removeAll(removed));
+    }
+
+    /** Names the container under test in reports and failure messages. */
+    public CapacityRetentionTester<C> named(String name) {
+        this.name = checkNotNull(name);
+        return this;
+    }
+
+    /** Sets the size to grow containers to, and the number of elements to leave in them. */
+    public CapacityRetentionTester<C> withSizes(int peakSize, int residue) {
+        checkArgument(residue > 0, "residue (%s) must be positive", residue);
+        checkArgument(
+                peakSize >= 16 * residue,
+                "peakSize (%s) must be at least 16 times the residue (%s)",
+                peakSize,
+                residue);
+        this.peakSize = peakSize;
+        this.residue = residue;
+        return this;
+    }
+
+    /**
+     * Declares that the container releases its capacity as elements are removed, so that iteration,
+     * {@code clear()} and footprint are proportional to its current size rather than its peak size.
+     */
+    public CapacityRetentionTester<C> expectCompaction() {
+        this.expectCompaction = true;
+        return this;
+    }
+
+    /** Measures the containers and returns a table of their costs. */
+    public String report() {
+        return report(measure());
+    }
+
+    /** Measures the containers and asserts the costs that the container is expected to meet. */
+    public void test() {
+        Map<String, Costs> costs = measure();
+        Costs fresh = costs.get("fresh");
+        List<String> failures = new ArrayList<>();
+        for (Map.Entry<String, Costs> entry : costs.entrySet()) {
+            if (entry.getValue() == fresh) {
+                continue;
+            }
+            String path = entry.getKey();
+            Costs shrunk = entry.getValue();
+            check(
+                    failures,
+                    path,
+                    "isEmpty()",
+                    shrunk.isEmptyNanos,
+                    fresh.isEmptyNanos,
+                    MIN_SIGNIFICANT_NANOS,
+                    MAX_TIME_RATIO);
+            if (expectCompaction) {
+                check(
+                        failures,
+                        path,
+                        "iteration",
+                        shrunk.iterationNanos,
+                        fresh.iterationNanos,
+                        MIN_SIGNIFICANT_NANOS,
+                        MAX_TIME_RATIO);
+                check(
+                        failures,
+                        path,
+                        "clear()",
+                        shrunk.clearNanos,
+                        fresh.clearNanos,
+                        MIN_SIGNIFICANT_NANOS,
+                        MAX_TIME_RATIO);
+                check(
+                        failures,
+                        path,
+                        "footprint",
+                        shrunk.footprint,
+                        fresh.footprint,
+                        1,
+                        MAX_FOOTPRINT_RATIO);
+            }
+        }
+        if (!failures.isEmpty()) {
+            fail(
+                    format(
+                            "%s retains capacity after removals:%n  %s%n%s",
+                            name,
+                            String.join("\n  ", failures),
+                            report(costs)));
+        }
+    }
+
+    private void check(
+            List<String> failures,
+            String path,
+            String measure,
+            double shrunk,
+            double fresh,
+            double floor,
+            double maxRatio) {
+        double ratio = shrunk / Math.max(fresh, floor);
+        if (ratio > maxRatio) {
+            failures.add(
+                    format(
+                            "after %s, %s costs %.1fx that of a fresh container (at most %.1fx expected)",
+                            path,
+                            measure,
+                            ratio,
+                            maxRatio));
+        }
+    }
+
+    /** Returns the costs of the fresh container, followed by those after each removal path. */
+    private Map<String, Costs> measure() {
+        Object[][] all = new Object[peakSize][];
+        for (int i = 0; i < peakSize; i++) {
+            all[i] = items.apply(i);
+        }
+        List<Object[]> kept = Arrays.asList(all).subList(0, residue);
+        Set<Object> removed = new HashSet<>();
+        for (int i = residue; i < peakSize; i++) {
+            removed.add(all[i][0]);
+        }
+
+        Map<String, C> containers = new LinkedHashMap<>();
+        containers.put("fresh", fill(kept));
+        for (String path : removals.keySet()) {
+            C container;
+            try {
+                container = shrink(path, all, removed);
+            } catch (UnsupportedOperationException e) {
+                continue;
+            }
+            int size = view.apply(container).size();
+            if (size != residue) {
+                throw new AssertionError(
+                        format(
+                                "%s has %s elements after %s, but %s were expected",
+                                name,
+                                size,
+                                path,
+                                residue));
+            }
+            containers.put(path, container);
+        }
+
+        List<Object> excluded = new ArrayList<>();
+        for (Object[] item : kept) {
+            excluded.addAll(Arrays.asList(item));
+        }
+        Map<String, Costs> costs = new LinkedHashMap<>();
+        for (Map.Entry<String, C> entry : containers.entrySet()) {
+            Costs cost = new Costs();
+            cost.footprint = FootprintTester.measureExcluding(entry.getValue(), excluded).bytes();
+            costs.put(entry.getKey(), cost);
+        }
+        // Timing every container in each round, and keeping the least times, evens out the effects
+        // of compilation and garbage collection on whichever container happens to be timed first.
+        for (int round = 0; round < ROUNDS; round++) {
+            for (Map.Entry<String, C> entry : containers.entrySet()) {
+                timeReads(entry.getValue(), costs.get(entry.getKey()));
+            }
+        }
+        // clear() changes the container, so it is timed last, each time on newly built containers.
+        for (int round = 0; round < ROUNDS; round++) {
+            for (String path : containers.keySet()) {
+                List<C> batch = new ArrayList<>();
+                for (int i = 0; i < CLEAR_BATCH_SIZE; i++) {
+                    batch.add(path.equals("fresh") ? fill(kept) : shrink(path, all, removed));
+                }
+                Costs cost = costs.get(path);
+                cost.clearNanos = Math.min(cost.clearNanos, timeClear(batch));
+            }
+        }
+        return costs;
+    }
+
+    /** Grows a container to the peak size and shrinks it to the residue along the given path. */
+    private C shrink(String path, Object[][] all, Set<Object> removed) {
+        C container = fill(Arrays.asList(all));
+        removals.get(path).accept(container, removed);
+        return container;
+    }
+
+    private C fill(List<Object[]> contents) {
+        C container = factory.get();
+        for (Object[] item : contents) {
+            insert.accept(container, item);
+        }
+        return container;
+    }
+
+    private void timeReads(C container, Costs costs) {
+        Collection<?> elements = view.apply(container);
+        costs.iterationNanos =
+                Math.min(
+                        costs.iterationNanos,
+                        nanosPerRun(
+                                () -> {
+                                    for (Object element : elements) {
+                                        sink += System.identityHashCode(element);
+                                    }
+                                }));
+        costs.isEmptyNanos =
+                Math.min(costs.isEmptyNanos, nanosPerRun(() -> sink += elements.isEmpty() ? 1 : 0));
+    }
+
+    /** Returns the average time to clear each of the containers once. */
+    private double timeClear(List<C> batch) {
+        List<Collection<?>> views = new ArrayList<>();
+        for (C container : batch) {
+            views.add(view.apply(container));
+        }
+        long start = System.nanoTime();
+        for (Collection<?> elements : views) {
+            elements.clear();
+        }
+        return (System.nanoTime() - start) / (double) views.size();
+    }
+
+    /**
+     * Returns the average time of {@code operation}, run in batches that double in size until a batch
+     * takes long enough to time reliably.
+     */
+    private static double nanosPerRun(Runnable operation) {
+        for (int batch = 1; ; batch *= 2) {
+            long start = System.nanoTime();
+            for (int i = 0; i < batch; i++) {
+                operation.run();
+            }
+            long elapsed = System.nanoTime() - start;
+            if (elapsed >= MIN_MEASUREMENT_NANOS) {
+                return elapsed / (double) batch;
+            }
+        }
+    }
+
+    private String report(Map<String, Costs> costs) {
+        StringBuilder report =
+                new StringBuilder(
+                                format(
+                                        "%s shrunk from %s to %s elements, and a fresh container:%n",
+                                        name,
+                                        peakSize,
+                                        residue))
+                        .append(
+                                format(
+                                        "%-28s %14s %14s %14s %14s%n",
+                                        "removal path",
+                                        "iteration ns",
+                                        "isEmpty() ns",
+                                        "clear() ns",
+                                        "bytes"));
+        for (Map.Entry<String, Costs> entry : costs.entrySet()) {
+            Costs cost = entry.getValue();
+            report.append(
+                    format(
+                            "%-28s %14.1f %14.1f %14.1f %14s%n",
+                            entry.getKey(),
+                            cost.iterationNanos,
+                            cost.isEmptyNanos,
+                            cost.clearNanos,
+                            cost.footprint));
+        }
+        return report.toString();
+    }
+
+    private static final class Costs {
+        double iterationNanos = Double.POSITIVE_INFINITY;
+        double isEmptyNanos = Double.POSITIVE_INFINITY;
+        double clearNanos = Double.POSITIVE_INFINITY;
+        long footprint;
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect.testing;
+
+import com.google.common.annotations.Beta;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A large, adversarial set of distinct keys whose hash codes collide, for testing how hash-based
+ * containers behave under hash flooding. Unlike {@link SampleElements.Colliders}, which provides
+ * only the five sample elements, this class can produce any number of keys, typically between
+ * 10<sup>4</sup> and 10<sup>6</sup>.
+ *
+ * <p>Every key created by one {@code CollidingKeys} instance reports its calls to {@link
+ * Object#hashCode}, {@link Object#equals} and (for comparable keys) {@link Comparable#compareTo}
+ * to that instance, so that tests such as {@link HashFloodingTester} can measure the work done by a
+ * container without relying on timing. The counter is not thread-safe.
+ */
+@Beta
+public final class CollidingKeys {
+    /** The shapes of adversarial input supported by {@link CollidingKeys}. */
+    public enum Kind {
+        /** All keys share a single hash code and do not implement {@link Comparable}. */
+        FULLY_COLLIDING {
+            @Override
+            public CollidingKeys create(int size) {
+                return fullyColliding(size, false);
+            }
+        },
+
+        /** All keys share a single hash code and implement {@link Comparable}. */
+        FULLY_COLLIDING_COMPARABLE {
+            @Override
+            public CollidingKeys create(int size) {
+                return fullyColliding(size, true);
+            }
+        },
+
+        /**
+         * Keys fall into about {@code sqrt(size)} groups of equal hash codes and do not implement
+         * {@link Comparable}.
+         */
+        PARTIALLY_COLLIDING {
+            @Override
+            public CollidingKeys create(int size) {
+                return partiallyColliding(size, defaultDistinctHashCodes(size), false);
+            }
+        },
+
+        /**
+         * Keys fall into about {@code sqrt(size)} groups of equal hash codes and implement {@link
+         * Comparable}.
+         */
+        PARTIALLY_COLLIDING_COMPARABLE {
+            @Override
+            public CollidingKeys create(int size) {
+                return partiallyColliding(size, defaultDistinctHashCodes(size), true);
+            }
+        };
+
+        /** Creates {@code size} distinct keys of this kind. */
+        public abstract CollidingKeys create(int size);
+
+        private static int defaultDistinctHashCodes(int size) {
+            return Math.max(1, (int) Math.sqrt(size));
+        }
+    }
+
+    /**
+     * Returns {@code size} distinct keys that all have the same hash code. If {@code comparable} is
+     * true, the keys implement {@link Comparable}, which allows containers such as {@link
+     * java.util.HashMap} to fall back to a balanced tree for the colliding bucket.
+     */
+    public static CollidingKeys fullyColliding(int size, boolean comparable) {
+        return partiallyColliding(size, 1, comparable);
+    }
+
+    /**
+     * Returns {@code size} distinct keys that have only {@code distinctHashCodes} different hash
+     * codes, assigned round-robin, so that each hash code is shared by about {@code size /
+     * distinctHashCodes} keys.
+     */
+    public static CollidingKeys partiallyColliding(
+            int size, int distinctHashCodes, boolean comparable) {
+        checkArgument(size >= 0, "size (%s) must be nonnegative", size);
+        checkArgument(
+                distinctHashCodes > 0, "distinctHashCodes (%s) must be positive", distinctHashCodes);
+        return new CollidingKeys(size, distinctHashCodes, comparable);
+    }
+
+    private final List<Object> keys;
+    private final int distinctHashCodes;
+    private final boolean comparable;
+    private long calls;
+
+    private CollidingKeys(int size, int distinctHashCodes, boolean comparable) {
+        this.distinctHashCodes = distinctHashCodes;
+        this.comparable = comparable;
+        List<Object> keys = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // The hash codes are spread out so that they do not land in adjacent buckets.
+            int hash = (i % distinctHashCodes) * 0x9E3779B9;
+            keys.add(comparable ? new ComparableKey(this, i, hash) : new Key(this, i, hash));
+        }
+        this.keys = Collections.unmodifiableList(keys);
+    }
+
+    /** Returns the keys, in the order they were created. */
+    public List<Object> keys() {
+        return keys;
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    public int distinctHashCodes() {
+        return distinctHashCodes;
+    }
+
+    public boolean isComparable() {
+        return comparable;
+    }
+
+    /**
+     * Returns the number of calls to {@code hashCode}, {@code equals} and {@code compareTo} on these
+     * keys since they were created or since the last call to {@link #resetCalls}.
+     */
+    public long calls() {
+        return calls;
+    }
+
+    /** Resets the counter returned by {@link #calls} to zero. */
+    public void resetCalls() {
+        calls = 0;
+    }
+
+    @Override
+    public String toString() {
+        return Platform.format(
+                "CollidingKeys[size=%s, distinctHashCodes=%s, comparable=%s]",
+                keys.size(), distinctHashCodes, comparable);
+    }
+
+    private static class Key {
+        final CollidingKeys owner;
+        final int id;
+        final int hash;
+
+        Key(CollidingKeys owner, int id, int hash) {
+            this.owner = owner;
+            this.id = id;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            owner.calls++;
+            if (obj instanceof Key) {
+                Key that = (Key) obj;
+                return this.owner == that.owner && this.id == that.id;
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            owner.calls++;
+            return hash;
+        }
+
+        // needed because otherwise Object.toString() calls hashCode()
+        @Override
+        public String toString() {
+            return "Key" + id;
+        }
+    }
+
+    private static final class ComparableKey extends Key implements Comparable<ComparableKey> {
+        ComparableKey(CollidingKeys owner, int id, int hash) {
+            super(owner, id, hash);
+        }
+
+        @Override
+        public int compareTo(ComparableKey that) {
+            owner.calls++;
+            return Integer.compare(this.id, that.id);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.annotations.Beta;
+
+/**
+ * An upper bound on how the cost of an operation grows with the size of its input, as checked by
+ * performance contract testers such as {@link HashFloodingTester} and {@link ScalingTimer}.
+ */
+@Beta
+public enum Complexity {
+    CONSTANT {
+        @Override
+        double cost(int n) {
+            return 1;
+        }
+    },
+    LOG {
+        @Override
+        double cost(int n) {
+            return log2(n);
+        }
+    },
+    LINEAR {
+        @Override
+        double cost(int n) {
+            return n;
+        }
+    },
+    N_LOG_N {
+        @Override
+        double cost(int n) {
+            return n * log2(n);
+        }
+    },
+    QUADRATIC {
+        @Override
+        double cost(int n) {
+            return (double) n * n;
+        }
+    };
+
+    /** Returns the cost for input size {@code n}, up to a constant factor. */
+    abstract double cost(int n);
+
+    /** Returns the factor by which the cost grows when the input grows from {@code from} to {@code to}. */
+    public double growth(int from, int to) {
+        return cost(to) / cost(from);
+    }
+
+    private static double log2(int n) {
+        return Math.log(Math.max(n, 2)) / Math.log(2);
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.annotations.Beta;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.testing.Platform.format;
+
+/**
+ * Tester for how the throughput of a concurrent map scales with the number of threads using it. For
+ * each configured mix of {@code get}, {@code put} and {@code compute} calls, the tester runs the
+ * mix on 1, 2, 4 and so on up to the maximum number of threads, each time on a fresh map created by
+ * the generator, and reports the operations per second and the speedup over a single thread. The
+ * keys are drawn from a Zipfian distribution, so that a few hot keys see most of the traffic, as in
+ * caches and counters.
+ *
+ * <p>By default, {@link #test} fails only if the throughput at some number of threads falls below
+ * half of the single-threaded throughput, which catches maps whose throughput collapses under
+ * contention. The default cannot catch a map that merely serializes its operations, such as one with
+ * an accidental global lock or a {@code Collections.synchronizedMap} view: such a map cannot speed
+ * up, but it may keep about the single-threaded throughput, and on a single processor it measures
+ * the same as a map that does scale. To catch it, demand a speedup with {@link
+ * #expectThroughputRatioAtLeast}, such as 1.5 with {@code withMaxThreads(2)}, on a host with at
+ * least as many processors as threads.
+ *
+ * <p>Example usage, with a generator that is also passed to {@link ConcurrentMapTestSuiteBuilder}:
+ *
+ * <pre>
+ * ConcurrentMapScalabilityTester.forGenerator(generator, i -&gt; "k" + i, i -&gt; "v" + i)
+ *     .named("ConcurrentHashMap")
+ *     .test();
+ * </pre>
+ */
+@Beta
+public final class ConcurrentMapScalabilityTester<K, V>
+        extends AbstractScalabilityTester<ConcurrentMapScalabilityTester<K, V>> {
+    private static final int DEFAULT_KEY_COUNT = 1 << 12;
+    private static final double DEFAULT_ZIPF_EXPONENT = 0.99;
+
+    /** The number of precomputed operations, through which every thread cycles. */
+    private static final int SCHEDULE_LENGTH = 1 << 16;
+
+    private static final byte GET = 0;
+    private static final byte PUT = 1;
+    private static final byte COMPUTE = 2;
+
+    /**
+     * Creates a tester for the maps created by {@code generator}, which are filled with the keys and
+     * values returned by {@code keys} and {@code values} for the indexes {@code 0} to the key count.
+     */
+    public static <K, V> ConcurrentMapScalabilityTester<K, V> forGenerator(
+            TestMapGenerator<K, V> generator,
+            IntFunction<? extends K> keys,
+            IntFunction<? extends V> values) {
+        return new ConcurrentMapScalabilityTester<>(generator, keys, values);
+    }
+
+    private final TestMapGenerator<K, V> generator;
+    private final IntFunction<? extends K> keys;
+    private final IntFunction<? extends V> values;
+    /** The configured mixes, as percentages of get, put and compute calls. */
+    private final Map<String, int[]> mixes = new LinkedHashMap<>();
+    private int keyCount = DEFAULT_KEY_COUNT;
+    private double zipfExponent = DEFAULT_ZIPF_EXPONENT;
+
+    private ConcurrentMapScalabilityTester(
+            TestMapGenerator<K, V> generator,
+            IntFunction<? extends K> keys,
+            IntFunction<? extends V> values) {
+        super("map");
+        this.generator = checkNotNull(generator);
+        this.keys = checkNotNull(keys);
+        this.values = checkNotNull(values);
+    }
+
+    /**
+     * Adds a mix of operations, as the percentages of {@code get}, {@code put} and {@code compute}
+     * calls, which must add up to 100. If no mix is added, a read-mostly mix of 90% {@code get}, 9%
+     * {@code put} and 1% {@code compute} and a write-heavy mix of 50%, 30% and 20% are run.
+     */
+    public ConcurrentMapScalabilityTester<K, V> withMix(
+            String name, int getPercent, int putPercent, int computePercent) {
+        checkArgument(
+                getPercent >= 0 && putPercent >= 0 && computePercent >= 0,
+                "percentages must be nonnegative");
+        checkArgument(
+                getPercent + putPercent + computePercent == 100,
+                "percentages (%s, %s, %s) must add up to 100",
+                getPercent,
+                putPercent,
+                computePercent);
+        mixes.put(checkNotNull(name), new int[] {getPercent, putPercent, computePercent});
+        return this;
+    }
+
+    /**
+     * Sets the number of keys and the exponent of their Zipfian distribution, where 0 makes all keys
+     * equally likely. Defaults to 4096 keys and 0.99.
+     */
+    public ConcurrentMapScalabilityTester<K, V> withKeys(int keyCount, double zipfExponent) {
+        checkArgument(keyCount > 0, "keyCount (%s) must be positive", keyCount);
+        checkArgument(zipfExponent >= 0, "zipfExponent (%s) must be nonnegative", zipfExponent);
+        this.keyCount = keyCount;
+        this.zipfExponent = zipfExponent;
+        return this;
+    }
+
+    private Map<String, int[]> effectiveMixes() {
+        if (!mixes.isEmpty()) {
+            return mixes;
+        }
+        Map<String, int[]> defaults = new LinkedHashMap<>();
+        defaults.put("read-mostly", new int[] {90, 9, 1});
+        defaults.put("write-heavy", new int[] {50, 30, 20});
+        return defaults;
+    }
+
+    @Override
+    protected void measureWorkloads(ThroughputMeasurer measurer) {
+        @SuppressWarnings("unchecked") // the generator's keys are Ks
+        K[] keyArray = (K[]) new Object[keyCount];
+        Object[] entries = new Object[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keyArray[i] = keys.apply(i);
+            entries[i] = Helpers.mapEntry(keyArray[i], values.apply(i));
+        }
+        V value = values.apply(0);
+        int[] keySchedule = zipfSchedule();
+        for (Map.Entry<String, int[]> mix : effectiveMixes().entrySet()) {
+            int[] percentages = mix.getValue();
+            byte[] operations = operationSchedule(percentages);
+            measurer.measure(
+                    mix.getKey(),
+                    format(
+                            "%s (%s%% get, %s%% put, %s%% compute) on %s keys, Zipf exponent %s",
+                            mix.getKey(),
+                            percentages[0],
+                            percentages[1],
+                            percentages[2],
+                            keyCount,
+                            zipfExponent),
+                    threads -> {
+                        Map<K, V> map = generator.create(entries);
+                        // each thread starts at a different point of the schedule
+                        int spacing = SCHEDULE_LENGTH / threads;
+                        return (thread, index) -> {
+                            int slot = (int) (thread * spacing + index) & (SCHEDULE_LENGTH - 1);
+                            K key = keyArray[keySchedule[slot]];
+                            switch (operations[slot]) {
+                                case GET:
+                                    return map.get(key) == null ? 0 : 1;
+                                case PUT:
+                                    return map.put(key, value) == null ? 0 : 1;
+                                default:
+                                    return map.compute(key, (k, old) -> value) == null ? 0 : 1;
+                            }
+                        };
+                    });
+        }
+    }
+
+    /** Returns key indexes drawn from the Zipfian distribution by inverting its distribution function. */
+    private int[] zipfSchedule() {
+        double[] cumulative = new double[keyCount];
+        double sum = 0;
+        for (int i = 0; i < keyCount; i++) {
+            sum += 1 / Math.pow(i + 1, zipfExponent);
+            cumulative[i] = sum;
+        }
+        Random random = new Random(0);
+        int[] schedule = new int[SCHEDULE_LENGTH];
+        for (int i = 0; i < SCHEDULE_LENGTH; i++) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            schedule[i] = Math.min(index >= 0 ? index : -index - 1, keyCount - 1);
+        }
+        return schedule;
+    }
+
+    private static byte[] operationSchedule(int[] mix) {
+        Random random = new Random(1);
+        byte[] schedule = new byte[SCHEDULE_LENGTH];
+        for (int i = 0; i < SCHEDULE_LENGTH; i++) {
+            int percent = random.nextInt(100);
+            schedule[i] = percent < mix[0] ? GET : percent < mix[0] + mix[1] ? PUT : COMPUTE;
+        }
+        return schedule;
+    }
+}
@@ -14,6 +14,8 @@
 
 package com.google.common.collect.testing;
 
+import com.google.common.collect.testing.testers.ConcurrentMapComputeTester;
+import com.google.common.collect.testing.testers.ConcurrentMapLinearizabilityTester;
 import com.google.common.collect.testing.testers.ConcurrentMapPutIfAbsentTester;
 import com.google.common.collect.testing.testers.ConcurrentMapRemoveTester;
 import com.google.common.collect.testing.testers.ConcurrentMapReplaceEntryTester;
@@ -40,7 +42,9 @@ public class ConcurrentMapTestSuiteBuilder<K, V> extends MapTestSuiteBuilder<K,
                     ConcurrentMapPutIfAbsentTester.class,
                     ConcurrentMapRemoveTester.class,
                     ConcurrentMapReplaceTester.class,
-                    ConcurrentMapReplaceEntryTester.class);
+                    ConcurrentMapReplaceEntryTester.class,
+                    ConcurrentMapLinearizabilityTester.class,
+                    ConcurrentMapComputeTester.class);
 
     @Override
     protected List<Class<? extends AbstractTester>> getTesters() {
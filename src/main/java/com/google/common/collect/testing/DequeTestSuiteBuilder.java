@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.collect.testing.testers.DequeDescendingIteratorTester;
+import com.google.common.collect.testing.testers.DequeEndOperationCostTester;
+import com.google.common.collect.testing.testers.DequeOfferFirstTester;
+import com.google.common.collect.testing.testers.DequePeekLastTester;
+import com.google.common.collect.testing.testers.DequePollLastTester;
+import com.google.common.collect.testing.testers.DequeReferenceReleaseTester;
+import com.google.common.collect.testing.testers.DequeRemoveLastOccurrenceTester;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Creates, based on your criteria, a JUnit test suite that exhaustively tests a deque
+ * implementation. This includes all the tests run by {@link QueueTestSuiteBuilder}.
+ */
+public final class DequeTestSuiteBuilder<E> extends QueueTestSuiteBuilder<E> {
+    public static <E> DequeTestSuiteBuilder<E> using(TestDequeGenerator<E> generator) {
+        DequeTestSuiteBuilder<E> result = new DequeTestSuiteBuilder<>();
+        result.usingGenerator(generator);
+        return result;
+    }
+
+    static final List<? extends Class<? extends AbstractTester>> TESTERS =
+            Arrays.asList(
+                    DequeDescendingIteratorTester.class,
+                    DequeEndOperationCostTester.class,
+                    DequeOfferFirstTester.class,
+                    DequePeekLastTester.class,
+                    DequePollLastTester.class,
+                    DequeReferenceReleaseTester.class,
+                    DequeRemoveLastOccurrenceTester.class);
+
+    /**
+     * Specify whether to skip the general collection tests. Call this method when testing a
+     * collection that's both a deque and a list, to avoid running the common collection tests twice.
+     * By default, collection tests do run.
+     */
+    @Override
+    public DequeTestSuiteBuilder<E> skipCollectionTests() {
+        super.skipCollectionTests();
+        return this;
+    }
+
+    @Override
+    protected List<Class<? extends AbstractTester>> getTesters() {
+        List<Class<? extends AbstractTester>> testers = Helpers.copyToList(super.getTesters());
+        testers.addAll(TESTERS);
+        return testers;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.annotations.Beta;
+import com.google.common.testing.ObjectGraphMeasurer;
+import com.google.common.testing.ObjectGraphMeasurer.Footprint;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.testing.Platform.format;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tester for the memory footprint of the containers created by a {@link TestContainerGenerator}.
+ * The tester creates containers of several sizes, measures them with {@link ObjectGraphMeasurer},
+ * and reports the retained bytes per element: the growth of the footprint from the empty container,
+ * divided by the number of elements. The elements themselves, and for {@link Map.Entry} elements
+ * their keys and values, are not counted, so that the result reflects only the container's
+ * representation.
+ *
+ * <p>Sample elements are too few for this, so the caller provides a function that creates the
+ * {@code i}th of any number of distinct elements. Example usage:
+ *
+ * <pre>
+ * FootprintTester.forGenerator(new SetGenerators.ImmutableSetCopyOfGenerator(), i -> "e" + i)
+ *     .named("ImmutableSet")
+ *     .expectAtMostBytesPerElement(12)
+ *     .test();
+ * </pre>
+ */
+@Beta
+public final class FootprintTester<E> {
+    private static final int[] DEFAULT_SIZES = {64, 1024, 16384};
+
+    /**
+     * Creates a tester for the containers created by {@code generator}, populated with the elements
+     * returned by {@code elements} for the indexes {@code 0} to {@code size - 1}.
+     */
+    public static <E> FootprintTester<E> forGenerator(
+            TestContainerGenerator<?, E> generator, IntFunction<? extends E> elements) {
+        return new FootprintTester<>(generator, elements);
+    }
+
+    private final TestContainerGenerator<?, E> generator;
+    private final IntFunction<? extends E> elements;
+    private String name = "container";
+    private int[] sizes = DEFAULT_SIZES;
+    private double maxBytesPerElement = Double.POSITIVE_INFINITY;
+
+    private FootprintTester(TestContainerGenerator<?, E> generator, IntFunction<? extends E> elements) {
+        this.generator = checkNotNull(generator);
+        this.elements = checkNotNull(elements);
+    }
+
+    /** Names the container under test in reports and failure messages. */
+    public FootprintTester<E> named(String name) {
+        this.name = checkNotNull(name);
+        return this;
+    }
+
+    /** Replaces the sizes at which the footprint is measured. */
+    public FootprintTester<E> withSizes(int... sizes) {
+        checkArgument(sizes.length > 0, "no sizes given");
+        for (int size : sizes) {
+            checkArgument(size > 0, "size (%s) must be positive", size);
+        }
+        this.sizes = sizes.clone();
+        return this;
+    }
+
+    /**
+     * Sets the budget that {@link #test} asserts at every size. By default, {@link #test} only
+     * measures.
+     */
+    public FootprintTester<E> expectAtMostBytesPerElement(double maxBytesPerElement) {
+        checkArgument(maxBytesPerElement > 0, "budget (%s) must be positive", maxBytesPerElement);
+        this.maxBytesPerElement = maxBytesPerElement;
+        return this;
+    }
+
+    /** Measures the containers and returns a table of their footprints. */
+    public String report() {
+        return report(measure());
+    }
+
+    /** Measures the containers and asserts that none of them exceeds the budget. */
+    public void test() {
+        Footprint[] footprints = measure();
+        for (int i = 0; i < sizes.length; i++) {
+            if (bytesPerElement(footprints, i) > maxBytesPerElement) {
+                fail(
+                        format(
+                                "%s exceeds the budget of %.1f bytes per element at size %s%n%s",
+                                name,
+                                maxBytesPerElement,
+                                sizes[i],
+                                report(footprints)));
+            }
+        }
+    }
+
+    /** Returns the footprint of the empty container followed by those at each of the sizes. */
+    private Footprint[] measure() {
+        Footprint[] footprints = new Footprint[sizes.length + 1];
+        footprints[0] = measure(0);
+        for (int i = 0; i < sizes.length; i++) {
+            footprints[i + 1] = measure(sizes[i]);
+        }
+        return footprints;
+    }
+
+    private Footprint measure(int size) {
+        Object[] contents = new Object[size];
+        for (int i = 0; i < size; i++) {
+            contents[i] = elements.apply(i);
+        }
+        return measureExcluding(generator.create(contents), Arrays.asList(contents));
+    }
+
+    /**
+     * Measures {@code container} without the {@code contents}, and for {@link Map.Entry} contents
+     * without their keys and values.
+     */
+    static Footprint measureExcluding(Object container, Collection<?> contents) {
+        Set<Object> excluded = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Object element : contents) {
+            excluded.add(element);
+            if (element instanceof Map.Entry) {
+                excluded.add(((Map.Entry<?, ?>) element).getKey());
+                excluded.add(((Map.Entry<?, ?>) element).getValue());
+            }
+        }
+        return ObjectGraphMeasurer.measure(container, object -> !excluded.contains(object));
+    }
+
+    private double bytesPerElement(Footprint[] footprints, int sizeIndex) {
+        return (footprints[sizeIndex + 1].bytes() - footprints[0].bytes()) / (double) sizes[sizeIndex];
+    }
+
+    private String report(Footprint[] footprints) {
+        StringBuilder report =
+                new StringBuilder(format("%s footprint, excluding the elements:%n", name))
+                        .append(format("%10s %10s %12s %14s%n", "size", "objects", "bytes", "bytes/element"))
+                        .append(format("%10s %10s %12s%n", 0, footprints[0].objects(), footprints[0].bytes()));
+        for (int i = 0; i < sizes.length; i++) {
+            Footprint footprint = footprints[i + 1];
+            report.append(
+                    format(
+                            "%10s %10s %12s %14.1f%n",
+                            sizes[i],
+                            footprint.objects(),
+                            footprint.bytes(),
+                            bytesPerElement(footprints, i)));
+        }
+        return report.toString();
+    }
+}
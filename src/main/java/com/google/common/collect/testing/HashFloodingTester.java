@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect.testing;
+
+import com.google.common.annotations.Beta;
+import com.google.common.collect.testing.CollidingKeys.Kind;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.testing.Platform.format;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tester for the hash flooding resistance of hash-based containers. The tester builds the container
+ * from a small and a large set of {@link CollidingKeys}, counts the calls to {@code hashCode},
+ * {@code equals} and {@code compareTo} made by construction and by each query, and asserts that the
+ * count grows no faster than the expected {@link Complexity} between the two sizes.
+ *
+ * <p>Counting calls instead of measuring time keeps the test deterministic. By default, both fully
+ * and partially colliding {@link Comparable} keys are used, with which a flooding-resistant
+ * container (such as a {@link java.util.HashMap} with treeified buckets) is expected to spend
+ * {@code O(n log n)} on construction and {@code O(log n)} per query.
+ *
+ * <p>Example usage:
+ *
+ * <pre>
+ * HashFloodingTester.forConstruction(ImmutableSet::copyOf)
+ *     .named("ImmutableSet")
+ *     .withQuery("contains", Set::contains)
+ *     .test();
+ * </pre>
+ */
+@Beta
+public final class HashFloodingTester<C> {
+    /**
+     * The tolerated ratio between the observed growth and the growth predicted by the expected
+     * complexity. This absorbs constant factors such as resizing, while still separating {@code O(n
+     * log n)} from {@code O(n^2)} by a wide margin at the default sizes.
+     */
+    private static final double SLACK = 2.0;
+
+    private static final int DEFAULT_SMALL_SIZE = 1 << 10;
+    private static final int DEFAULT_LARGE_SIZE = 1 << 14;
+
+    /**
+     * Creates a tester for containers created by {@code construction}, which receives a list of
+     * distinct keys and must insert all of them.
+     */
+    public static <C> HashFloodingTester<C> forConstruction(
+            Function<? super List<Object>, ? extends C> construction) {
+        return new HashFloodingTester<>(construction);
+    }
+
+    private final Function<? super List<Object>, ? extends C> construction;
+    private final Map<String, BiConsumer<? super C, Object>> queries = new LinkedHashMap<>();
+    private Set<Kind> kinds =
+            EnumSet.of(Kind.FULLY_COLLIDING_COMPARABLE, Kind.PARTIALLY_COLLIDING_COMPARABLE);
+    private String name = "container";
+    private int smallSize = DEFAULT_SMALL_SIZE;
+    private int largeSize = DEFAULT_LARGE_SIZE;
+    private Complexity constructionComplexity = Complexity.N_LOG_N;
+    private Complexity queryComplexity = Complexity.LOG;
+
+    private HashFloodingTester(Function<? super List<Object>, ? extends C> construction) {
+        this.construction = checkNotNull(construction);
+    }
+
+    /** Names the container under test in failure messages. */
+    public HashFloodingTester<C> named(String name) {
+        this.name = checkNotNull(name);
+        return this;
+    }
+
+    /**
+     * Adds a query, such as {@code Map::get} or {@code Set::contains}, which is run once for every key
+     * in a container built from those keys.
+     */
+    public HashFloodingTester<C> withQuery(String name, BiConsumer<? super C, Object> query) {
+        queries.put(checkNotNull(name), checkNotNull(query));
+        return this;
+    }
+
+    /** Replaces the kinds of adversarial keys to test with. */
+    public HashFloodingTester<C> withKeys(Kind first, Kind... rest) {
+        this.kinds = EnumSet.of(first, rest);
+        return this;
+    }
+
+    /**
+     * Sets the two sizes at which the call counts are compared. Larger sizes, up to about 10<sup>6
+     * </sup>, make the test more sensitive but slower, especially for containers that fail it.
+     */
+    public HashFloodingTester<C> withSizes(int smallSize, int largeSize) {
+        checkArgument(smallSize >= 2, "smallSize (%s) must be at least 2", smallSize);
+        checkArgument(
+                largeSize >= 2 * smallSize,
+                "largeSize (%s) must be at least twice smallSize (%s)",
+                largeSize,
+                smallSize);
+        this.smallSize = smallSize;
+        this.largeSize = largeSize;
+        return this;
+    }
+
+    /** Sets the expected complexity of constructing a container. Defaults to {@code N_LOG_N}. */
+    public HashFloodingTester<C> expectConstruction(Complexity complexity) {
+        this.constructionComplexity = checkNotNull(complexity);
+        return this;
+    }
+
+    /** Sets the expected complexity of a single query. Defaults to {@code LOG}. */
+    public HashFloodingTester<C> expectQuery(Complexity complexity) {
+        this.queryComplexity = checkNotNull(complexity);
+        return this;
+    }
+
+    /** Runs construction and all queries with every configured kind of key. */
+    public void test() {
+        List<String> failures = new ArrayList<>();
+        for (Kind kind : kinds) {
+            CollidingKeys small = kind.create(smallSize);
+            CollidingKeys large = kind.create(largeSize);
+
+            small.resetCalls();
+            C smallContainer = construction.apply(small.keys());
+            long smallCalls = small.calls();
+            large.resetCalls();
+            C largeContainer = construction.apply(large.keys());
+            long largeCalls = large.calls();
+            check(failures, kind, "construction", constructionComplexity, smallCalls, largeCalls);
+
+            for (Map.Entry<String, BiConsumer<? super C, Object>> query : queries.entrySet()) {
+                long smallQueryCalls = runQuery(query.getValue(), smallContainer, small);
+                long largeQueryCalls = runQuery(query.getValue(), largeContainer, large);
+                check(
+                        failures,
+                        kind,
+                        query.getKey(),
+                        queryComplexity,
+                        // per-query average
+                        smallQueryCalls / (double) smallSize,
+                        largeQueryCalls / (double) largeSize);
+            }
+        }
+        if (!failures.isEmpty()) {
+            fail(format("%s is vulnerable to hash flooding:%n  %s", name, String.join("\n  ", failures)));
+        }
+    }
+
+    private long runQuery(BiConsumer<? super C, Object> query, C container, CollidingKeys keys) {
+        keys.resetCalls();
+        for (Object key : keys.keys()) {
+            query.accept(container, key);
+        }
+        return keys.calls();
+    }
+
+    private void check(
+            List<String> failures,
+            Kind kind,
+            String operation,
+            Complexity complexity,
+            double smallCalls,
+            double largeCalls) {
+        double observedRatio = largeCalls / Math.max(smallCalls, 1);
+        double expectedRatio = complexity.growth(smallSize, largeSize);
+        if (observedRatio > SLACK * expectedRatio) {
+            failures.add(
+                    format(
+                            "%s with %s keys: %.1f calls at size %s but %.1f calls at size %s (growth %.1fx, "
+                                    + "expected at most %.1fx for %s)",
+                            operation,
+                            kind,
+                            smallCalls,
+                            smallSize,
+                            largeCalls,
+                            largeSize,
+                            observedRatio,
+                            SLACK * expectedRatio,
+                            complexity));
+        }
+    }
+}
@@ -16,6 +16,8 @@
 
 package com.google.common.collect.testing;
 
+import com.google.common.testing.AllocationMeasurer;
+import com.google.common.testing.SerializableTester;
 import org.junit.jupiter.api.Assertions;
 
 import java.io.Serializable;
@@ -25,17 +27,33 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static java.util.Collections.sort;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class Helpers {
@@ -122,14 +140,24 @@ public class Helpers {
     public static void assertEqualIgnoringOrder(Iterable<?> expected, Iterable<?> actual) {
         List<?> exp = copyToList(expected);
         List<?> act = copyToList(actual);
-        String actString = act.toString();
+
+        // Linear in the common case. Only if hashing fails to prove equality (because the elements
+        // are unhashable, or their hashCode is inconsistent with equals, or the contents really
+        // differ) do we fall back to the n^2 comparison, which also builds the failure message.
+        if (!equalIgnoringOrderUsingHashCodes(exp, act)) {
+            assertEqualIgnoringOrderUsingEquals(exp, act);
+        }
+    }
+
+    private static void assertEqualIgnoringOrderUsingEquals(List<?> exp, List<?> act) {
+        List<?> remaining = new ArrayList<>(act);
 
         // Of course we could take pains to give the complete description of the
         // problem on any failure.
 
         // Yeah it's n^2.
         for (Object object : exp) {
-            if (!act.remove(object)) {
+            if (!remaining.remove(object)) {
                 Assertions.fail(
                         "did not contain expected element "
                                 + object
@@ -137,10 +165,56 @@ public class Helpers {
                                 + "expected = "
                                 + exp
                                 + ", actual = "
-                                + actString);
+                                + act);
+            }
+        }
+        if (!remaining.isEmpty()) {
+            Assertions.fail("unexpected elements: " + remaining);
+        }
+    }
+
+    /**
+     * Returns true if {@code exp} and {@code act} contain equal elements with equal multiplicities,
+     * as determined by a hash-based multiset. Returns false if they don't or if that can't be
+     * determined, for example because some element doesn't support {@code hashCode}.
+     */
+    private static boolean equalIgnoringOrderUsingHashCodes(List<?> exp, List<?> act) {
+        if (exp.size() != act.size()) {
+            return false;
+        }
+        try {
+            Map<Object, Integer> remaining = countOccurrences(act);
+            for (Object object : exp) {
+                // exp.equals(act), as in List.remove
+                if (!removeOccurrence(remaining, object)) {
+                    return false;
+                }
             }
+            return remaining.isEmpty();
+        } catch (RuntimeException unhashable) {
+            return false;
+        }
+    }
+
+    private static Map<Object, Integer> countOccurrences(Iterable<?> elements) {
+        Map<Object, Integer> counts = new HashMap<>();
+        for (Object element : elements) {
+            counts.merge(element, 1, Integer::sum);
         }
-        assertTrue(act.isEmpty(), "unexpected elements: " + act);
+        return counts;
+    }
+
+    private static boolean removeOccurrence(Map<Object, Integer> counts, Object element) {
+        Integer count = counts.get(element);
+        if (count == null) {
+            return false;
+        }
+        if (count == 1) {
+            counts.remove(element);
+        } else {
+            counts.put(element, count - 1);
+        }
+        return true;
     }
 
     public static void assertContentsAnyOrder(Iterable<?> actual, Object... expected) {
@@ -166,14 +240,37 @@ public class Helpers {
     }
 
     public static void assertContainsAllOf(Iterable<?> actual, Object... expected) {
-        List<Object> expectedList = new ArrayList<>(Arrays.asList(expected));
+        if (!containsAllOfUsingHashCodes(actual, expected)) {
+            List<Object> expectedList = new ArrayList<>(Arrays.asList(expected));
 
-        for (Object o : actual) {
-            expectedList.remove(o);
+            for (Object o : actual) {
+                expectedList.remove(o);
+            }
+
+            if (!expectedList.isEmpty()) {
+                Assertions.fail("Not true that " + actual + " contains all of " + Arrays.asList(expected));
+            }
         }
+    }
 
-        if (!expectedList.isEmpty()) {
-            Assertions.fail("Not true that " + actual + " contains all of " + Arrays.asList(expected));
+    /**
+     * Returns true if {@code actual} contains every element of {@code expected}, respecting
+     * multiplicities, as determined by a hash-based multiset. Returns false if it doesn't or if that
+     * can't be determined.
+     */
+    private static boolean containsAllOfUsingHashCodes(Iterable<?> actual, Object[] expected) {
+        try {
+            Map<Object, Integer> missing = countOccurrences(Arrays.asList(expected));
+            for (Object o : actual) {
+                if (missing.isEmpty()) {
+                    return true;
+                }
+                // act.equals(exp), as in List.remove
+                removeOccurrence(missing, o);
+            }
+            return missing.isEmpty();
+        } catch (RuntimeException unhashable) {
+            return false;
         }
     }
 
@@ -516,6 +613,315 @@ public class Helpers {
         }
     }
 
+    /**
+     * A comparator that delegates to another comparator and counts how often it is called, so that
+     * tests can check the number of comparisons made by sorted and priority-ordered containers
+     * without relying on timing. The counter is not thread-safe.
+     */
+    public static final class CountingComparator<T> implements Comparator<T> {
+        private final Comparator<? super T> delegate;
+        private long calls;
+
+        public CountingComparator(Comparator<? super T> delegate) {
+            if (delegate == null) {
+                throw new NullPointerException();
+            }
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int compare(T lhs, T rhs) {
+            calls++;
+            return delegate.compare(lhs, rhs);
+        }
+
+        /**
+         * Returns the number of comparisons since this comparator was created or since the last call
+         * to {@link #resetCalls}.
+         */
+        public long calls() {
+            return calls;
+        }
+
+        /** Resets the counter returned by {@link #calls} to zero. */
+        public void resetCalls() {
+            calls = 0;
+        }
+    }
+
+    /**
+     * Asserts that {@code viewMethod}, which calls a method returning a view such as {@code
+     * Map.keySet()}, returns the same instance every time, and does not allocate once warmed up.
+     */
+    public static void assertCachedView(String method, Supplier<?> viewMethod) {
+        Object view = viewMethod.get();
+        assertSame(view, viewMethod.get(), method + " should return the same view every time");
+        // Storing the view keeps escape analysis from eliding the allocation of a new one.
+        Object[] sink = new Object[1];
+        AllocationMeasurer.assertAllocationFree(method, () -> sink[0] = viewMethod.get());
+    }
+
+    /**
+     * The number of bytes that the serialized form of a container may grow by for each added entry,
+     * beyond the serialized size of the entry's contents: enough for the handle of a shared class
+     * descriptor, a small entry object or an {@code int} count, but not for a class descriptor of its
+     * own.
+     */
+    public static final int SERIALIZED_BYTES_PER_ENTRY_SLACK = 32;
+
+    /**
+     * Asserts that the serialized form of {@code larger} is at most {@link
+     * #SERIALIZED_BYTES_PER_ENTRY_SLACK} bytes per added entry larger than that of {@code smaller},
+     * beyond the growth from an {@code ArrayList} of {@code smallerContents} to one of {@code
+     * largerContents}. Comparing two non-empty containers leaves out the one-time cost of class
+     * descriptors, so that what remains is the cost of each entry.
+     */
+    public static void assertSerializedSizeGrowth(
+            Object smaller,
+            List<?> smallerContents,
+            Object larger,
+            List<?> largerContents,
+            int addedEntries) {
+        long growth = SerializableTester.serializedSize(larger) - SerializableTester.serializedSize(smaller);
+        long contentsGrowth =
+                SerializableTester.serializedSize(new ArrayList<>(largerContents))
+                        - SerializableTester.serializedSize(new ArrayList<>(smallerContents));
+        long budget = contentsGrowth + (long) SERIALIZED_BYTES_PER_ENTRY_SLACK * addedEntries;
+        if (growth > budget) {
+            Assertions.fail(
+                    Platform.format(
+                            "The serialized form grew by %s bytes for %s added entries, but at most %s bytes "
+                                    + "were expected: %s for their contents and %s for each entry",
+                            growth,
+                            addedEntries,
+                            budget,
+                            contentsGrowth,
+                            SERIALIZED_BYTES_PER_ENTRY_SLACK));
+        }
+    }
+
+    /** A task run by {@link #runConcurrently}, which receives the index of the thread running it. */
+    public interface ConcurrentTask {
+        void run(int thread) throws Exception;
+    }
+
+    /**
+     * The time within which the threads started by {@link #runConcurrently} must finish. It is far
+     * longer than any of the concurrent testers needs, so that only a deadlock or livelock exceeds
+     * it.
+     */
+    public static final long CONCURRENT_TIMEOUT_SECONDS = 30;
+
+    /**
+     * Runs {@code task} on {@code threads} new daemon threads, which start it together, and waits for
+     * all of them. The first exception thrown by a task is rethrown, with the later ones suppressed,
+     * and an {@link AssertionError} is thrown if the threads do not finish within {@link
+     * #CONCURRENT_TIMEOUT_SECONDS}.
+     */
+    public static void runConcurrently(int threads, ConcurrentTask task) {
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        List<Thread> started = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor =
+                Executors.newFixedThreadPool(
+                        threads,
+                        runnable -> {
+                            Thread thread = new Thread(runnable);
+                            thread.setDaemon(true);
+                            started.add(thread);
+                            return thread;
+                        });
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            int thread = i;
+            futures.add(
+                    executor.submit(
+                            () -> {
+                                barrier.await();
+                                task.run(thread);
+                                return null;
+                            }));
+        }
+        executor.shutdown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(CONCURRENT_TIMEOUT_SECONDS);
+        Throwable failure = null;
+        try {
+            for (Future<?> future : futures) {
+                try {
+                    future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    } else {
+                        failure.addSuppressed(e.getCause());
+                    }
+                }
+            }
+        } catch (TimeoutException e) {
+            throw new AssertionError(
+                    Platform.format(
+                            "%s threads did not finish within %s seconds, which suggests a deadlock:%s",
+                            threads, CONCURRENT_TIMEOUT_SECONDS, stackTraces(started)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(e);
+        } finally {
+            executor.shutdownNow();
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure != null) {
+            throw new AssertionError(failure);
+        }
+    }
+
+    /**
+     * The least time for which {@link #repeatForMinDuration} repeats an operation. A thread runs that
+     * long without being preempted only on a machine with as many processors as threads; otherwise,
+     * it is preempted several times, often in the middle of an operation.
+     */
+    public static final long CONCURRENT_MIN_DURATION_NANOS = 5_000_000;
+
+    /** The number of operations that {@link #repeatForMinDuration} runs between two checks of the clock. */
+    private static final int CONCURRENT_BATCH_SIZE = 64;
+
+    /**
+     * Runs {@code operation} repeatedly for at least {@link #CONCURRENT_MIN_DURATION_NANOS}, checking
+     * the clock only between batches of runs, and returns the number of runs. Meant to be called by
+     * the tasks of {@link #runConcurrently}, so that the threads overlap for long enough to interleave
+     * their operations.
+     */
+    public static long repeatForMinDuration(Runnable operation) {
+        long runs = 0;
+        long start = System.nanoTime();
+        do {
+            for (int i = 0; i < CONCURRENT_BATCH_SIZE; i++) {
+                operation.run();
+            }
+            runs += CONCURRENT_BATCH_SIZE;
+        } while (System.nanoTime() - start < CONCURRENT_MIN_DURATION_NANOS);
+        return runs;
+    }
+
+    /**
+     * Runs {@code writers} threads, the {@code i}th of which repeats {@code write.accept(i)} as {@link
+     * #repeatForMinDuration} does, together with {@code readers} threads, which repeat {@code read}
+     * until every writer has finished, so that all reads overlap the writes. A writer that fails
+     * counts as finished, so that its failure is rethrown rather than reported as a timeout.
+     */
+    public static void runWritersAndReaders(int writers, int readers, IntConsumer write, Runnable read) {
+        AtomicInteger writing = new AtomicInteger(writers);
+        runConcurrently(
+                writers + readers,
+                thread -> {
+                    if (thread < writers) {
+                        try {
+                            repeatForMinDuration(() -> write.accept(thread));
+                        } finally {
+                            writing.decrementAndGet();
+                        }
+                    } else {
+                        do {
+                            read.run();
+                        } while (writing.get() > 0);
+                    }
+                });
+    }
+
+    private static String stackTraces(List<Thread> threads) {
+        StringBuilder builder = new StringBuilder();
+        synchronized (threads) {
+            for (Thread thread : threads) {
+                builder.append(Platform.format("%n%s (%s)", thread.getName(), thread.getState()));
+                for (StackTraceElement element : thread.getStackTrace()) {
+                    builder.append(Platform.format("%n    at %s", element));
+                }
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Traverses {@code collection}, which other threads may be modifying, once with each of its
+     * iterator, {@code forEachRemaining}, its spliterator (split once), its stream and {@code
+     * forEach}, and asserts that each traversal is weakly consistent. Every element of {@code
+     * initial}, which must stay in the collection throughout, has to be returned exactly as often as
+     * it occurs there, and any other element returned has to be one of {@code transients}. If {@code
+     * distinct}, no element may be returned twice; if {@code comparator} is not null, the elements
+     * must be returned in strictly increasing order; and if {@code knownOrder}, the initial elements
+     * must be returned in the order of {@code initial}.
+     */
+    public static <E> void assertWeaklyConsistentTraversals(
+            Collection<? extends E> collection,
+            List<? extends E> initial,
+            Collection<?> transients,
+            boolean distinct,
+            Comparator<? super E> comparator,
+            boolean knownOrder) {
+        Map<String, List<E>> traversals = new LinkedHashMap<>();
+        List<E> iterated = new ArrayList<>();
+        for (Iterator<? extends E> iterator = collection.iterator(); iterator.hasNext(); ) {
+            iterated.add(iterator.next());
+        }
+        traversals.put("iterator()", iterated);
+        List<E> remaining = new ArrayList<>();
+        collection.iterator().forEachRemaining(remaining::add);
+        traversals.put("iterator().forEachRemaining()", remaining);
+        List<E> split = new ArrayList<>();
+        Spliterator<? extends E> suffix = collection.spliterator();
+        Spliterator<? extends E> prefix = suffix.trySplit();
+        if (prefix != null) {
+            prefix.forEachRemaining(split::add);
+        }
+        while (suffix.tryAdvance(split::add)) {}
+        traversals.put("spliterator()", split);
+        traversals.put("stream()", collection.stream().collect(Collectors.toList()));
+        List<E> forEach = new ArrayList<>();
+        collection.forEach(forEach::add);
+        traversals.put("forEach()", forEach);
+
+        // This runs in loops that race with writers, so the messages are only built on failure.
+        Set<Object> initialSet = knownOrder ? new HashSet<>(initial) : null;
+        for (Map.Entry<String, List<E>> entry : traversals.entrySet()) {
+            String description = entry.getKey();
+            List<E> traversal = entry.getValue();
+            Map<Object, Integer> extra = countOccurrences(traversal);
+            if (distinct && extra.size() < traversal.size()) {
+                Assertions.fail(description + " returned an element twice: " + traversal);
+            }
+            for (Object element : initial) {
+                if (!removeOccurrence(extra, element)) {
+                    Assertions.fail(
+                            description
+                                    + " did not return "
+                                    + element
+                                    + ", which was present throughout: "
+                                    + traversal);
+                }
+            }
+            for (Object element : extra.keySet()) {
+                if (!transients.contains(element)) {
+                    Assertions.fail(
+                            description + " returned " + element + " more often than it was present: " + traversal);
+                }
+            }
+            for (int i = 1; comparator != null && i < traversal.size(); i++) {
+                if (comparator.compare(traversal.get(i - 1), traversal.get(i)) >= 0) {
+                    Assertions.fail(description + " returned elements out of order: " + traversal);
+                }
+            }
+            if (knownOrder) {
+                List<E> initialSubsequence = new ArrayList<>(traversal);
+                initialSubsequence.removeIf(element -> !initialSet.contains(element));
+                if (!initial.equals(initialSubsequence)) {
+                    Assertions.fail(
+                            description + " did not return the initial elements in order: " + traversal);
+                }
+            }
+        }
+    }
+
     public static Method getMethod(Class<?> clazz, String name) {
         try {
             return clazz.getMethod(name);
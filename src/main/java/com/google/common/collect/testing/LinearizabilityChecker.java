@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.annotations.Beta;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.testing.Platform.format;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Records a history of operations that threads run concurrently on a map, and checks that the
+ * history is linearizable: that every operation appears to take effect atomically at some instant
+ * between its invocation and its response, so that the results match those of running the
+ * operations one at a time on a {@link HashMap}.
+ *
+ * <p>Every operation reads or writes a single key, which makes the check local: the history is
+ * linearizable exactly if the operations on each key are. The check for one key is a depth-first
+ * search over the orders consistent with real time, with the states already visited pruned, in the
+ * manner of Wing and Gong. It is fast for the short histories on a few keys that stress tests such as
+ * {@link com.google.common.collect.testing.testers.ConcurrentMapLinearizabilityTester} produce, but
+ * the search is exponential in the number of threads.
+ *
+ * <p>Operations must be deterministic, since the checker replays them on the sequential model, and
+ * must not store {@code null} values.
+ */
+@Beta
+public final class LinearizabilityChecker<K, V> {
+    private final Map<K, V> initialContents;
+    private final Queue<Event<K, V>> events = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a checker for a history that starts with the map containing {@code initialContents},
+     * which are copied.
+     */
+    public LinearizabilityChecker(Map<? extends K, ? extends V> initialContents) {
+        this.initialContents = new HashMap<>(initialContents);
+    }
+
+    /**
+     * Runs {@code operation}, which must access only {@code key}, on {@code map}, records it in the
+     * history and returns its result. This method is thread-safe.
+     */
+    public <R> R run(
+            Map<K, V> map, K key, String description, Function<? super Map<K, V>, R> operation) {
+        checkNotNull(description);
+        long invoked = System.nanoTime();
+        R result = operation.apply(map);
+        long responded = System.nanoTime();
+        String thread = Thread.currentThread().getName();
+        events.add(new Event<>(key, description, operation, result, invoked, responded, thread));
+        return result;
+    }
+
+    /** Asserts that the recorded history is linearizable. */
+    public void check() {
+        Map<K, List<Event<K, V>>> byKey = new LinkedHashMap<>();
+        for (Event<K, V> event : events) {
+            byKey.computeIfAbsent(event.key, k -> new ArrayList<>()).add(event);
+        }
+        for (Map.Entry<K, List<Event<K, V>>> entry : byKey.entrySet()) {
+            List<Event<K, V>> history = entry.getValue();
+            history.sort(Comparator.comparingLong(event -> event.invoked));
+            K key = entry.getKey();
+            if (!new Search(key, history).linearizable(new BitSet(), initialContents.get(key), 0)) {
+                fail(
+                        format(
+                                "The history of key %s is not linearizable, starting from %s:%s",
+                                key, initialContents.get(key), describe(history)));
+            }
+        }
+    }
+
+    private static <K, V> String describe(List<Event<K, V>> history) {
+        long origin = history.get(0).invoked;
+        StringBuilder builder = new StringBuilder();
+        for (Event<K, V> event : history) {
+            builder.append(
+                    format(
+                            "%n  [%s, %s] %s: %s -> %s",
+                            event.invoked - origin,
+                            event.responded - origin,
+                            event.thread,
+                            event.description,
+                            event.result));
+        }
+        return builder.toString();
+    }
+
+    /** The search for a linearization of the history of one key. */
+    private final class Search {
+        final K key;
+        final List<Event<K, V>> history;
+        /** The pairs of linearized events and resulting value that have been explored. */
+        final Set<List<Object>> visited = new HashSet<>();
+
+        Search(K key, List<Event<K, V>> history) {
+            this.key = key;
+            this.history = history;
+        }
+
+        boolean linearizable(BitSet linearized, V value, int count) {
+            if (count == history.size()) {
+                return true;
+            }
+            if (!visited.add(Arrays.asList(linearized.clone(), value))) {
+                return false;
+            }
+            // an event can come next only if it was invoked before every pending event responded
+            long firstResponse = Long.MAX_VALUE;
+            int size = history.size();
+            for (int i = linearized.nextClearBit(0); i < size; i = linearized.nextClearBit(i + 1)) {
+                firstResponse = Math.min(firstResponse, history.get(i).responded);
+            }
+            for (int i = linearized.nextClearBit(0); i < size; i = linearized.nextClearBit(i + 1)) {
+                Event<K, V> event = history.get(i);
+                if (event.invoked > firstResponse) {
+                    break;
+                }
+                Map<K, V> model = new HashMap<>();
+                if (value != null) {
+                    model.put(key, value);
+                }
+                if (Objects.equals(event.operation.apply(model), event.result)) {
+                    linearized.set(i);
+                    if (linearizable(linearized, model.get(key), count + 1)) {
+                        return true;
+                    }
+                    linearized.clear(i);
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Event<K, V> {
+        final K key;
+        final String description;
+        final Function<? super Map<K, V>, ?> operation;
+        final Object result;
+        final long invoked;
+        final long responded;
+        final String thread;
+
+        Event(
+                K key,
+                String description,
+                Function<? super Map<K, V>, ?> operation,
+                Object result,
+                long invoked,
+                long responded,
+                String thread) {
+            this.key = key;
+            this.description = description;
+            this.operation = operation;
+            this.result = result;
+            this.invoked = invoked;
+            this.responded = responded;
+            this.thread = thread;
+        }
+    }
+}
@@ -30,6 +30,7 @@ import com.google.common.collect.testing.testers.ListHashCodeTester;
 import com.google.common.collect.testing.testers.ListIndexOfTester;
 import com.google.common.collect.testing.testers.ListLastIndexOfTester;
 import com.google.common.collect.testing.testers.ListListIteratorTester;
+import com.google.common.collect.testing.testers.ListPositionalCostTester;
 import com.google.common.collect.testing.testers.ListRemoveAllTester;
 import com.google.common.collect.testing.testers.ListRemoveAtIndexTester;
 import com.google.common.collect.testing.testers.ListRemoveTester;
@@ -79,6 +80,7 @@ public final class ListTestSuiteBuilder<E>
         testers.add(ListIndexOfTester.class);
         testers.add(ListLastIndexOfTester.class);
         testers.add(ListListIteratorTester.class);
+        testers.add(ListPositionalCostTester.class);
         testers.add(ListRemoveAllTester.class);
         testers.add(ListRemoveAtIndexTester.class);
         testers.add(ListRemoveTester.class);
@@ -22,6 +22,7 @@ import com.google.common.collect.testing.features.CollectionFeature;
 import com.google.common.collect.testing.features.CollectionSize;
 import com.google.common.collect.testing.features.Feature;
 import com.google.common.collect.testing.features.MapFeature;
+import com.google.common.collect.testing.testers.MapAllocationFreeReadTester;
 import com.google.common.collect.testing.testers.MapClearTester;
 import com.google.common.collect.testing.testers.MapComputeIfAbsentTester;
 import com.google.common.collect.testing.testers.MapComputeIfPresentTester;
@@ -40,6 +41,7 @@ import com.google.common.collect.testing.testers.MapMergeTester;
 import com.google.common.collect.testing.testers.MapPutAllTester;
 import com.google.common.collect.testing.testers.MapPutIfAbsentTester;
 import com.google.common.collect.testing.testers.MapPutTester;
+import com.google.common.collect.testing.testers.MapReferenceReleaseTester;
 import com.google.common.collect.testing.testers.MapRemoveEntryTester;
 import com.google.common.collect.testing.testers.MapRemoveTester;
 import com.google.common.collect.testing.testers.MapReplaceAllTester;
@@ -48,6 +50,8 @@ import com.google.common.collect.testing.testers.MapReplaceTester;
 import com.google.common.collect.testing.testers.MapSerializationTester;
 import com.google.common.collect.testing.testers.MapSizeTester;
 import com.google.common.collect.testing.testers.MapToStringTester;
+import com.google.common.collect.testing.testers.MapViewCachingTester;
+import com.google.common.collect.testing.testers.MapWeaklyConsistentIterationTester;
 import com.google.common.testing.SerializableTester;
 import com.google.common.testing.junit.TestSuite;
 
@@ -76,6 +80,7 @@ public class MapTestSuiteBuilder<K, V>
     @Override
     protected List<Class<? extends AbstractTester>> getTesters() {
         return Arrays.<Class<? extends AbstractTester>>asList(
+                MapAllocationFreeReadTester.class,
                 MapClearTester.class,
                 MapComputeTester.class,
                 MapComputeIfAbsentTester.class,
@@ -94,6 +99,7 @@ public class MapTestSuiteBuilder<K, V>
                 MapPutTester.class,
                 MapPutAllTester.class,
                 MapPutIfAbsentTester.class,
+                MapReferenceReleaseTester.class,
                 MapRemoveTester.class,
                 MapRemoveEntryTester.class,
                 MapReplaceTester.class,
@@ -101,7 +107,9 @@ public class MapTestSuiteBuilder<K, V>
                 MapReplaceEntryTester.class,
                 MapSerializationTester.class,
                 MapSizeTester.class,
-                MapToStringTester.class);
+                MapToStringTester.class,
+                MapViewCachingTester.class,
+                MapWeaklyConsistentIterationTester.class);
     }
 
     @Override
@@ -232,6 +240,9 @@ public class MapTestSuiteBuilder<K, V>
         if (mapFeatures.contains(MapFeature.FAILS_FAST_ON_CONCURRENT_MODIFICATION)) {
             derivedFeatures.add(CollectionFeature.FAILS_FAST_ON_CONCURRENT_MODIFICATION);
         }
+        if (mapFeatures.contains(MapFeature.WEAKLY_CONSISTENT_ITERATION)) {
+            derivedFeatures.add(CollectionFeature.WEAKLY_CONSISTENT_ITERATION);
+        }
         // add the intersection of CollectionFeature.values() and mapFeatures
         for (CollectionFeature feature : CollectionFeature.values()) {
             if (mapFeatures.contains(feature)) {
@@ -20,7 +20,11 @@ import com.google.common.collect.testing.DerivedCollectionGenerators.Bound;
 import com.google.common.collect.testing.DerivedCollectionGenerators.ForwardingTestMapGenerator;
 import com.google.common.collect.testing.DerivedCollectionGenerators.SortedMapSubmapTestMapGenerator;
 import com.google.common.collect.testing.features.Feature;
+import com.google.common.collect.testing.features.MapFeature;
 import com.google.common.collect.testing.testers.NavigableMapNavigationTester;
+import com.google.common.collect.testing.testers.NavigableMapReferenceReleaseTester;
+import com.google.common.collect.testing.testers.NavigableMapViewCachingTester;
+import com.google.common.collect.testing.testers.ReferenceReleaseHelpers;
 import com.google.common.testing.junit.TestSuite;
 
 import java.util.ArrayList;
@@ -49,6 +53,8 @@ public class NavigableMapTestSuiteBuilder<K, V> extends SortedMapTestSuiteBuilde
     protected List<Class<? extends AbstractTester>> getTesters() {
         List<Class<? extends AbstractTester>> testers = Helpers.copyToList(super.getTesters());
         testers.add(NavigableMapNavigationTester.class);
+        testers.add(NavigableMapReferenceReleaseTester.class);
+        testers.add(NavigableMapViewCachingTester.class);
         return testers;
     }
 
@@ -124,11 +130,14 @@ public class NavigableMapTestSuiteBuilder<K, V> extends SortedMapTestSuiteBuilde
         List<Feature<?>> features = new ArrayList<>();
         features.add(NoRecurse.DESCENDING);
         features.addAll(parentBuilder.getFeatures());
+        // Range and descending views are typically created on demand, and need not cache their own views.
+        features.remove(MapFeature.CACHES_VIEWS);
 
         return subSuiteUsing(new DescendingTestMapGenerator<K, V>(delegate))
                 .named(parentBuilder.getName() + " descending")
                 .withFeatures(features)
                 .suppressing(parentBuilder.getSuppressedTests())
+                .suppressing(ReferenceReleaseHelpers.getReleaseTestMethods())
                 .createTestSuite();
     }
 
@@ -20,6 +20,7 @@ import com.google.common.collect.testing.DerivedCollectionGenerators.Bound;
 import com.google.common.collect.testing.DerivedCollectionGenerators.SortedSetSubsetTestSetGenerator;
 import com.google.common.collect.testing.features.Feature;
 import com.google.common.collect.testing.testers.NavigableSetNavigationTester;
+import com.google.common.collect.testing.testers.ReferenceReleaseHelpers;
 import com.google.common.testing.junit.TestSuite;
 
 import java.util.ArrayList;
@@ -139,6 +140,7 @@ public final class NavigableSetTestSuiteBuilder<E> extends SortedSetTestSuiteBui
                 .named(parentBuilder.getName() + " descending")
                 .withFeatures(features)
                 .suppressing(parentBuilder.getSuppressedTests())
+                .suppressing(ReferenceReleaseHelpers.getReleaseTestMethods())
                 .createTestSuite();
     }
 
@@ -0,0 +1,326 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.annotations.Beta;
+import com.google.common.primitives.Doubles;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+import static com.google.common.collect.testing.Platform.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tester for containers of primitive values, such as {@code ImmutableIntArray} or the lists
+ * returned by {@code Ints.asList}, on their unboxed paths. For each requested size, the tester
+ * creates a container of that many {@linkplain PrimitiveSampleElements distinct values} and checks
+ * that its {@code Spliterator.OfInt} (or {@code OfLong}, {@code OfDouble}), traversed through
+ * primitive consumers with and without splitting, and its primitive stream produce exactly those
+ * values, in order if the spliterator reports {@link Spliterator#ORDERED}.
+ *
+ * <p>None of these checks box the values, so they remain cheap for sizes in the millions. Small
+ * containers are additionally checked with {@link SpliteratorTester}, which exercises more
+ * decompositions but boxes every value.
+ *
+ * <p>Example usage:
+ *
+ * <pre>
+ * PrimitiveContainerTester.testInts(
+ *     new TestIntGenerator&lt;ImmutableIntArray&gt;() {
+ *       public ImmutableIntArray create(int[] values) {
+ *         return ImmutableIntArray.copyOf(values);
+ *       }
+ *
+ *       public Spliterator.OfInt spliterator(ImmutableIntArray array) {
+ *         return array.stream().spliterator();
+ *       }
+ *     });
+ * </pre>
+ */
+@Beta
+public final class PrimitiveContainerTester {
+    private static final int[] DEFAULT_SIZES = {0, 1, 2, 5, 1_000, 100_000};
+
+    /** The largest size for which {@link SpliteratorTester} is also run, on boxed values. */
+    private static final int MAX_BOXED_SIZE = 1_000;
+
+    /** Ways of traversing a primitive spliterator, all of which must produce the same values. */
+    private enum Traversal {
+        FOR_EACH_REMAINING {
+            @Override
+            <C, S extends Spliterator.OfPrimitive<?, C, S>> void traverse(S spliterator, C consumer) {
+                spliterator.forEachRemaining(consumer);
+            }
+        },
+        TRY_ADVANCE {
+            @Override
+            <C, S extends Spliterator.OfPrimitive<?, C, S>> void traverse(S spliterator, C consumer) {
+                while (spliterator.tryAdvance(consumer)) {
+                    // do nothing
+                }
+            }
+        },
+        MAXIMUM_SPLIT {
+            @Override
+            <C, S extends Spliterator.OfPrimitive<?, C, S>> void traverse(S spliterator, C consumer) {
+                // The prefix returned by trySplit precedes the remainder in encounter order.
+                for (S prefix = spliterator.trySplit(); prefix != null; prefix = spliterator.trySplit()) {
+                    traverse(prefix, consumer);
+                }
+                spliterator.forEachRemaining(consumer);
+            }
+        };
+
+        abstract <C, S extends Spliterator.OfPrimitive<?, C, S>> void traverse(
+                S spliterator, C consumer);
+    }
+
+    public static <T> void testInts(TestIntGenerator<T> generator) {
+        testInts(generator, DEFAULT_SIZES);
+    }
+
+    public static <T> void testInts(TestIntGenerator<T> generator, int... sizes) {
+        for (int size : sizes) {
+            int[] values = PrimitiveSampleElements.ints(size);
+            int[] sorted = values.clone();
+            Arrays.sort(sorted);
+            T container = generator.create(values);
+
+            Spliterator.OfInt spliterator = generator.spliterator(container);
+            boolean ordered = spliterator.hasCharacteristics(Spliterator.ORDERED);
+            int[] inOrder = spliterator.hasCharacteristics(Spliterator.SORTED) ? sorted : values;
+            checkTraversals(
+                    "Spliterator.OfInt",
+                    widen(inOrder),
+                    () -> generator.spliterator(container),
+                    buffer -> (IntConsumer) buffer::add);
+            checkValues(
+                    format("IntStream over %s values", size),
+                    widen(inOrder),
+                    widen(generator.stream(container).toArray()),
+                    ordered);
+            checkValues(
+                    format("parallel IntStream over %s values", size),
+                    widen(inOrder),
+                    widen(generator.stream(container).parallel().toArray()),
+                    ordered);
+            int sum = 0;
+            for (int value : values) {
+                sum += value;
+            }
+            assertEquals(sum, generator.stream(container).sum(), "IntStream.sum()");
+            assertEquals(size, generator.stream(container).count(), "IntStream.count()");
+
+            if (size <= MAX_BOXED_SIZE) {
+                SpliteratorTester.Ordered boxed =
+                        SpliteratorTester.ofInt(() -> generator.spliterator(container))
+                                .expect(Ints.asList(inOrder));
+                if (ordered) {
+                    boxed.inOrder();
+                }
+            }
+        }
+    }
+
+    public static <T> void testLongs(TestLongGenerator<T> generator) {
+        testLongs(generator, DEFAULT_SIZES);
+    }
+
+    public static <T> void testLongs(TestLongGenerator<T> generator, int... sizes) {
+        for (int size : sizes) {
+            long[] values = PrimitiveSampleElements.longs(size);
+            long[] sorted = values.clone();
+            Arrays.sort(sorted);
+            T container = generator.create(values);
+
+            Spliterator.OfLong spliterator = generator.spliterator(container);
+            boolean ordered = spliterator.hasCharacteristics(Spliterator.ORDERED);
+            long[] inOrder = spliterator.hasCharacteristics(Spliterator.SORTED) ? sorted : values;
+            checkTraversals(
+                    "Spliterator.OfLong",
+                    inOrder,
+                    () -> generator.spliterator(container),
+                    buffer -> (LongConsumer) buffer::add);
+            checkValues(
+                    format("LongStream over %s values", size),
+                    inOrder,
+                    generator.stream(container).toArray(),
+                    ordered);
+            checkValues(
+                    format("parallel LongStream over %s values", size),
+                    inOrder,
+                    generator.stream(container).parallel().toArray(),
+                    ordered);
+            long sum = 0;
+            for (long value : values) {
+                sum += value;
+            }
+            assertEquals(sum, generator.stream(container).sum(), "LongStream.sum()");
+            assertEquals(size, generator.stream(container).count(), "LongStream.count()");
+
+            if (size <= MAX_BOXED_SIZE) {
+                SpliteratorTester.Ordered boxed =
+                        SpliteratorTester.ofLong(() -> generator.spliterator(container))
+                                .expect(Longs.asList(inOrder));
+                if (ordered) {
+                    boxed.inOrder();
+                }
+            }
+        }
+    }
+
+    public static <T> void testDoubles(TestDoubleGenerator<T> generator) {
+        testDoubles(generator, DEFAULT_SIZES);
+    }
+
+    public static <T> void testDoubles(TestDoubleGenerator<T> generator, int... sizes) {
+        for (int size : sizes) {
+            double[] values = PrimitiveSampleElements.doubles(size);
+            double[] sorted = values.clone();
+            Arrays.sort(sorted);
+            T container = generator.create(values);
+
+            Spliterator.OfDouble spliterator = generator.spliterator(container);
+            boolean ordered = spliterator.hasCharacteristics(Spliterator.ORDERED);
+            double[] inOrder = spliterator.hasCharacteristics(Spliterator.SORTED) ? sorted : values;
+            checkTraversals(
+                    "Spliterator.OfDouble",
+                    toBits(inOrder),
+                    () -> generator.spliterator(container),
+                    buffer -> (DoubleConsumer) value -> buffer.add(Double.doubleToLongBits(value)));
+            checkValues(
+                    format("DoubleStream over %s values", size),
+                    toBits(inOrder),
+                    toBits(generator.stream(container).toArray()),
+                    ordered);
+            checkValues(
+                    format("parallel DoubleStream over %s values", size),
+                    toBits(inOrder),
+                    toBits(generator.stream(container).parallel().toArray()),
+                    ordered);
+            assertEquals(size, generator.stream(container).count(), "DoubleStream.count()");
+
+            if (size <= MAX_BOXED_SIZE) {
+                SpliteratorTester.Ordered boxed =
+                        SpliteratorTester.ofDouble(() -> generator.spliterator(container))
+                                .expect(Doubles.asList(inOrder));
+                if (ordered) {
+                    boxed.inOrder();
+                }
+            }
+        }
+    }
+
+    /**
+     * Traverses fresh spliterators in every {@link Traversal}, collecting the values, widened to
+     * {@code long} (or, for doubles, converted to their bits), into a growable array.
+     */
+    private static <C, S extends Spliterator.OfPrimitive<?, C, S>> void checkTraversals(
+            String description,
+            long[] expected,
+            Supplier<S> spliteratorSupplier,
+            Function<LongBuffer, C> consumerFactory) {
+        for (Traversal traversal : Traversal.values()) {
+            S spliterator = spliteratorSupplier.get();
+            long exactSize = spliterator.getExactSizeIfKnown();
+            boolean ordered = spliterator.hasCharacteristics(Spliterator.ORDERED);
+            LongBuffer buffer = new LongBuffer(expected.length);
+            traversal.traverse(spliterator, consumerFactory.apply(buffer));
+
+            String where = format("%s over %s values, %s", description, expected.length, traversal);
+            if (exactSize >= 0) {
+                assertEquals(expected.length, exactSize, () -> where + ": exact size");
+            }
+            checkValues(where, expected, buffer.toArray(), ordered);
+        }
+    }
+
+    private static void checkValues(String where, long[] expected, long[] actual, boolean ordered) {
+        if (expected.length != actual.length) {
+            fail(format("%s: expected %s values but got %s", where, expected.length, actual.length));
+        }
+        long[] expectedCopy = expected;
+        long[] actualCopy = actual;
+        if (!ordered) {
+            expectedCopy = expected.clone();
+            actualCopy = actual.clone();
+            Arrays.sort(expectedCopy);
+            Arrays.sort(actualCopy);
+        }
+        int mismatch = Arrays.mismatch(expectedCopy, actualCopy);
+        if (mismatch >= 0) {
+            fail(
+                    format(
+                            "%s: values differ%s at index %s: expected %s but got %s",
+                            where,
+                            ordered ? "" : " (ignoring order)",
+                            mismatch,
+                            expectedCopy[mismatch],
+                            actualCopy[mismatch]));
+        }
+    }
+
+    private static long[] widen(int[] values) {
+        long[] result = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i];
+        }
+        return result;
+    }
+
+    private static long[] toBits(double[] values) {
+        long[] result = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = Double.doubleToLongBits(values[i]);
+        }
+        return result;
+    }
+
+    /** A minimal growable {@code long[]}, so that traversals don't box. */
+    private static final class LongBuffer {
+        private long[] values;
+        private int size;
+
+        LongBuffer(int expectedSize) {
+            values = new long[Math.max(expectedSize, 1)];
+        }
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, 2 * values.length);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private PrimitiveContainerTester() {
+    }
+}
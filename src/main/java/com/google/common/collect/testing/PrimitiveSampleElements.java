@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Sources of any number of distinct primitive sample values, the unboxed counterpart of {@link
+ * SampleElements.Ints} for use with {@link TestIntGenerator} and its siblings. The values are
+ * deterministic, and they aren't sorted, to better test the iteration ordering of sorted
+ * containers.
+ */
+public final class PrimitiveSampleElements {
+    // Multiplying by an odd constant permutes the ints (or longs), so the values are distinct.
+    private static final int INT_SCRAMBLE = 0x9E3779B9;
+    private static final long LONG_SCRAMBLE = 0x9E3779B97F4A7C15L;
+
+    /** Returns {@code size} distinct {@code int} values, both negative and positive. */
+    public static int[] ints(int size) {
+        checkArgument(size >= 0, "size (%s) must be nonnegative", size);
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i * INT_SCRAMBLE;
+        }
+        return values;
+    }
+
+    /** Returns {@code size} distinct {@code long} values, both negative and positive. */
+    public static long[] longs(int size) {
+        checkArgument(size >= 0, "size (%s) must be nonnegative", size);
+        long[] values = new long[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i * LONG_SCRAMBLE;
+        }
+        return values;
+    }
+
+    /**
+     * Returns {@code size} distinct {@code double} values, both negative and positive, and most of
+     * them non-integral.
+     */
+    public static double[] doubles(int size) {
+        checkArgument(size >= 0, "size (%s) must be nonnegative", size);
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            // exact, since an int divided by a power of two fits in a double
+            values[i] = (i * INT_SCRAMBLE) / 8.0;
+        }
+        return values;
+    }
+
+    private PrimitiveSampleElements() {
+    }
+}
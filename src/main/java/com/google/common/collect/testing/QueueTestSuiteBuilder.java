@@ -20,6 +20,9 @@ import com.google.common.collect.testing.testers.QueueElementTester;
 import com.google.common.collect.testing.testers.QueueOfferTester;
 import com.google.common.collect.testing.testers.QueuePeekTester;
 import com.google.common.collect.testing.testers.QueuePollTester;
+import com.google.common.collect.testing.testers.QueuePriorityCostTester;
+import com.google.common.collect.testing.testers.QueuePriorityOrderTester;
+import com.google.common.collect.testing.testers.QueueReferenceReleaseTester;
 import com.google.common.collect.testing.testers.QueueRemoveTester;
 
 import java.util.ArrayList;
@@ -31,7 +34,7 @@ import java.util.List;
  *
  * @author Jared Levy
  */
-public final class QueueTestSuiteBuilder<E>
+public class QueueTestSuiteBuilder<E>
         extends AbstractCollectionTestSuiteBuilder<QueueTestSuiteBuilder<E>, E> {
     public static <E> QueueTestSuiteBuilder<E> using(TestQueueGenerator<E> generator) {
         return new QueueTestSuiteBuilder<E>().usingGenerator(generator);
@@ -60,6 +63,9 @@ public final class QueueTestSuiteBuilder<E>
         testers.add(QueueOfferTester.class);
         testers.add(QueuePeekTester.class);
         testers.add(QueuePollTester.class);
+        testers.add(QueuePriorityCostTester.class);
+        testers.add(QueuePriorityOrderTester.class);
+        testers.add(QueueReferenceReleaseTester.class);
         testers.add(QueueRemoveTester.class);
         return testers;
     }
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.annotations.Beta;
+
+import java.util.function.IntFunction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.collect.testing.Platform.format;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Asserts that the running time of a workload grows no faster than a given {@link Complexity} as
+ * the size of its input grows, for testers of performance contracts such as "{@code get} is
+ * constant-time on a {@link java.util.RandomAccess} list".
+ *
+ * <p>The workload is timed at a small and a large size, and the ratio of the two times is compared
+ * with the ratio predicted by the complexity. Each time is the best of several trials, each long
+ * enough to be measured reliably, and a failing comparison is retried before it is reported. The
+ * tolerance is generous: the aim is to tell {@code O(1)} from {@code O(n)}, not to benchmark.
+ */
+@Beta
+public final class ScalingTimer {
+    /** The tolerated ratio between the observed growth and the growth predicted by the complexity. */
+    private static final double SLACK = 8.0;
+
+    private static final int ATTEMPTS = 3;
+    private static final int TRIALS = 5;
+    private static final long MIN_TRIAL_NANOS = 1_000_000;
+
+    /**
+     * Asserts that the time taken by the workload grows no faster than {@code complexity} from {@code
+     * smallSize} to {@code largeSize}.
+     *
+     * @param workloadForSize does any setup for the given size, which is not timed, and returns the
+     *     workload to time. The workload is run many times, so it must leave its input in a state in
+     *     which it can run again. It should consume the results of the operations it runs, for
+     *     example by accumulating them into a field, so that they are not optimized away.
+     */
+    public static void assertTimeScales(
+            String description,
+            Complexity complexity,
+            int smallSize,
+            int largeSize,
+            IntFunction<? extends Runnable> workloadForSize) {
+        checkArgument(
+                0 < smallSize && smallSize < largeSize,
+                "sizes (%s, %s) must be positive and increasing",
+                smallSize,
+                largeSize);
+        Runnable small = workloadForSize.apply(smallSize);
+        Runnable large = workloadForSize.apply(largeSize);
+        double allowedGrowth = SLACK * complexity.growth(smallSize, largeSize);
+        double observedGrowth = Double.NaN;
+        for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+            double smallNanos = bestNanosPerRun(small);
+            double largeNanos = bestNanosPerRun(large);
+            observedGrowth = largeNanos / Math.max(smallNanos, 1);
+            if (observedGrowth <= allowedGrowth) {
+                return;
+            }
+        }
+        fail(
+                format(
+                        "%s: time grew %.1fx from size %s to size %s, but at most %.1fx was expected for %s",
+                        description,
+                        observedGrowth,
+                        smallSize,
+                        largeSize,
+                        allowedGrowth,
+                        complexity));
+    }
+
+    /**
+     * Returns the best observed time, in nanoseconds, of a single run of {@code workload}. The first
+     * runs also serve to warm up the workload.
+     */
+    public static double bestNanosPerRun(Runnable workload) {
+        int runsPerTrial = 1;
+        while (timeNanos(workload, runsPerTrial) < MIN_TRIAL_NANOS && runsPerTrial < (1 << 30)) {
+            runsPerTrial *= 2;
+        }
+        double best = Double.MAX_VALUE;
+        for (int trial = 0; trial < TRIALS; trial++) {
+            best = Math.min(best, timeNanos(workload, runsPerTrial) / (double) runsPerTrial);
+        }
+        return best;
+    }
+
+    private static long timeNanos(Runnable workload, int runs) {
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            workload.run();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private ScalingTimer() {
+    }
+}
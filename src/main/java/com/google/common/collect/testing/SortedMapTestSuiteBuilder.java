@@ -19,6 +19,8 @@ package com.google.common.collect.testing;
 import com.google.common.collect.testing.DerivedCollectionGenerators.Bound;
 import com.google.common.collect.testing.DerivedCollectionGenerators.SortedMapSubmapTestMapGenerator;
 import com.google.common.collect.testing.features.Feature;
+import com.google.common.collect.testing.features.MapFeature;
+import com.google.common.collect.testing.testers.ReferenceReleaseHelpers;
 import com.google.common.collect.testing.testers.SortedMapNavigationTester;
 import com.google.common.testing.junit.TestSuite;
 
@@ -115,11 +117,14 @@ public class SortedMapTestSuiteBuilder<K, V> extends MapTestSuiteBuilder<K, V> {
         List<Feature<?>> features = new ArrayList<>();
         features.add(NoRecurse.SUBMAP);
         features.addAll(parentBuilder.getFeatures());
+        // Range and descending views are typically created on demand, and need not cache their own views.
+        features.remove(MapFeature.CACHES_VIEWS);
 
         return newBuilderUsing(delegate, to, from)
                 .named(parentBuilder.getName() + " subMap " + from + "-" + to)
                 .withFeatures(features)
                 .suppressing(parentBuilder.getSuppressedTests())
+                .suppressing(ReferenceReleaseHelpers.getReleaseTestMethods())
                 .withSetUp(parentBuilder.getSetUp())
                 .withTearDown(parentBuilder.getTearDown())
                 .createTestSuite();
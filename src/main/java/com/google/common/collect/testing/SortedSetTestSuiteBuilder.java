@@ -20,6 +20,7 @@ import com.google.common.collect.testing.DerivedCollectionGenerators.Bound;
 import com.google.common.collect.testing.DerivedCollectionGenerators.SortedSetSubsetTestSetGenerator;
 import com.google.common.collect.testing.features.CollectionFeature;
 import com.google.common.collect.testing.features.Feature;
+import com.google.common.collect.testing.testers.ReferenceReleaseHelpers;
 import com.google.common.collect.testing.testers.SortedSetNavigationTester;
 import com.google.common.testing.junit.TestSuite;
 
@@ -92,6 +93,7 @@ public class SortedSetTestSuiteBuilder<E> extends SetTestSuiteBuilder<E> {
                 .named(parentBuilder.getName() + " subSet " + from + "-" + to)
                 .withFeatures(features)
                 .suppressing(parentBuilder.getSuppressedTests())
+                .suppressing(ReferenceReleaseHelpers.getReleaseTestMethods())
                 .withSetUp(parentBuilder.getSetUp())
                 .withTearDown(parentBuilder.getTearDown())
                 .createTestSuite();
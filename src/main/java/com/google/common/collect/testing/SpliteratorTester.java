@@ -277,6 +277,8 @@ public final class SpliteratorTester<E> {
     }
 
     public final Ordered expect(Iterable<?> elements) {
+        // Copied once, rather than once per strategy, since it may be large.
+        List<?> expected = Helpers.copyToList(elements);
         List<List<E>> resultsForAllStrategies = new ArrayList<>();
         for (Supplier<GeneralSpliterator<E>> spliteratorSupplier : spliteratorSuppliers) {
             GeneralSpliterator<E> spliterator = spliteratorSupplier.get();
@@ -287,22 +289,29 @@ public final class SpliteratorTester<E> {
                 List<E> resultsForStrategy = new ArrayList<>();
                 strategy.forEach(spliteratorSupplier.get(), resultsForStrategy::add);
 
-                // TODO(cpovirk): better failure messages
+                // Failure messages are built lazily, since the results may be large.
                 if ((characteristics & Spliterator.NONNULL) != 0) {
-                    assertFalse(resultsForStrategy.contains(null));
+                    assertFalse(
+                            resultsForStrategy.contains(null),
+                            () -> format("%s: NONNULL spliterator produced null: %s", strategy, resultsForStrategy));
                 }
                 if ((characteristics & Spliterator.SORTED) != 0) {
                     Comparator<? super E> comparator = spliterator.getComparator();
                     if (comparator == null) {
                         comparator = (Comparator) Comparator.naturalOrder();
                     }
-                    assertTrue(Ordering.from(comparator).isOrdered(resultsForStrategy));
+                    assertTrue(
+                            Ordering.from(comparator).isOrdered(resultsForStrategy),
+                            () -> format("%s: SORTED spliterator produced %s", strategy, resultsForStrategy));
                 }
                 if ((characteristics & Spliterator.SIZED) != 0) {
-                    assertEquals(Ints.checkedCast(estimatedSize), resultsForStrategy.size());
+                    assertEquals(
+                            Ints.checkedCast(estimatedSize),
+                            resultsForStrategy.size(),
+                            () -> format("%s: size of SIZED spliterator", strategy));
                 }
 
-                assertEqualIgnoringOrder(elements, resultsForStrategy);
+                assertEqualIgnoringOrder(expected, resultsForStrategy);
                 resultsForAllStrategies.add(resultsForStrategy);
             }
         }
@@ -310,7 +319,7 @@ public final class SpliteratorTester<E> {
             @Override
             public void inOrder() {
                 for (List<E> resultsForStrategy : resultsForAllStrategies) {
-                    assertEqualInOrder(elements, resultsForStrategy);
+                    assertEqualInOrder(expected, resultsForStrategy);
                 }
             }
         };
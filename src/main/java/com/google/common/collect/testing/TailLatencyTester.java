@@ -0,0 +1,329 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.annotations.Beta;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.testing.Platform.format;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tester for the latency of the individual insertions that grow a container from empty to a large
+ * size. Average throughput hides the occasional insertion that resizes or rehashes the whole
+ * container; this tester times every insertion with {@link System#nanoTime}, records the times in a
+ * histogram, and reports the median, the 99th and 99.9th percentiles, the maximum and the indexes
+ * of the slowest insertions.
+ *
+ * <p>Garbage collection, compilation and interrupts also cause slow insertions, but at different
+ * indexes from run to run. The tester therefore grows several containers and keeps, for every
+ * index, the fastest of its insertions, so that only the spikes caused by the container itself
+ * remain. By default the tester only measures; {@link #expectMaxToMedianAtMost} makes {@link #test}
+ * fail when the slowest insertion exceeds the median by more than the given factor.
+ *
+ * <p>Example usage:
+ *
+ * <pre>
+ * TailLatencyTester.forInsertion(ImmutableList::builder, ImmutableList.Builder::add, i -&gt; "e" + i)
+ *     .named("ImmutableList.Builder")
+ *     .report();
+ * </pre>
+ */
+@Beta
+public final class TailLatencyTester {
+    private static final int DEFAULT_SIZE = 1 << 20;
+    private static final int DEFAULT_TRIALS = 3;
+
+    /** The number of slowest insertions listed by the report. */
+    private static final int WORST_COUNT = 5;
+
+    /**
+     * Creates a tester for the containers created by {@code factory}, into which {@code insert}
+     * inserts the elements returned by {@code elements} for the indexes {@code 0} to the size. This
+     * also covers builders, such as {@code ImmutableList::builder} with {@code
+     * ImmutableList.Builder::add}.
+     */
+    @SuppressWarnings("unchecked") // the items hold what elements returned
+    public static <C, E> TailLatencyTester forInsertion(
+            Supplier<? extends C> factory,
+            BiConsumer<? super C, ? super E> insert,
+            IntFunction<? extends E> elements) {
+        checkNotNull(factory);
+        checkNotNull(insert);
+        return new TailLatencyTester(
+                elements,
+                items -> {
+                    C container = factory.get();
+                    return i -> insert.accept(container, (E) items[i]);
+                });
+    }
+
+    /**
+     * Creates a tester that adds the elements returned by {@code elements} to the empty collections
+     * created by {@code generator}.
+     */
+    public static <E> TailLatencyTester forGenerator(
+            TestCollectionGenerator<E> generator, IntFunction<? extends E> elements) {
+        checkNotNull(generator);
+        return forInsertion(generator::create, Collection<E>::add, elements);
+    }
+
+    /**
+     * Creates a tester that puts the keys and values returned by {@code keys} and {@code values}
+     * into the empty maps created by {@code generator}, as {@link
+     * com.google.common.collect.testing.testers.MapPutTester} does.
+     */
+    public static <K, V> TailLatencyTester forGenerator(
+            TestMapGenerator<K, V> generator,
+            IntFunction<? extends K> keys,
+            IntFunction<? extends V> values) {
+        checkNotNull(generator);
+        checkNotNull(keys);
+        checkNotNull(values);
+        return forInsertion(
+                generator::create,
+                (Map<K, V> map, Map.Entry<K, V> entry) -> map.put(entry.getKey(), entry.getValue()),
+                i -> Helpers.<K, V>mapEntry(keys.apply(i), values.apply(i)));
+    }
+
+    private final IntFunction<?> elements;
+    /** Creates a container and returns the insertion of the item at an index into it. */
+    private final Function<Object[], IntConsumer> trial;
+    private String name = "container";
+    private int size = DEFAULT_SIZE;
+    private int trials = DEFAULT_TRIALS;
+    private double maxToMedian = Double.POSITIVE_INFINITY;
+
+    private TailLatencyTester(IntFunction<?> elements, Function<Object[], IntConsumer> trial) {
+        this.elements = checkNotNull(elements);
+        this.trial = trial;
+    }
+
+    /** Names the container under test in the report and in failure messages. */
+    public TailLatencyTester named(String name) {
+        this.name = checkNotNull(name);
+        return this;
+    }
+
+    /** Sets the number of insertions into each container. Defaults to 2<sup>20</sup>. */
+    public TailLatencyTester withSize(int size) {
+        checkArgument(size > 0, "size (%s) must be positive", size);
+        this.size = size;
+        return this;
+    }
+
+    /**
+     * Sets the number of containers that are grown, of which the fastest insertion at each index is
+     * kept. Defaults to 3.
+     */
+    public TailLatencyTester withTrials(int trials) {
+        checkArgument(trials > 0, "trials (%s) must be positive", trials);
+        this.trials = trials;
+        return this;
+    }
+
+    /**
+     * Makes {@link #test} fail if the slowest insertion takes more than {@code ratio} times as long
+     * as the median insertion.
+     */
+    public TailLatencyTester expectMaxToMedianAtMost(double ratio) {
+        checkArgument(ratio >= 1, "ratio (%s) must be at least 1", ratio);
+        this.maxToMedian = ratio;
+        return this;
+    }
+
+    /** Returns a human-readable latency profile of the insertions. */
+    public String report() {
+        return measure().toString();
+    }
+
+    /** Asserts that the slowest insertion is within the expected ratio to the median one. */
+    public void test() {
+        Profile profile = measure();
+        double ratio = profile.max / (double) Math.max(profile.median, 1);
+        if (ratio > maxToMedian) {
+            fail(
+                    format(
+                            "the slowest insertion into %s took %.0fx as long as the median, expected at "
+                                    + "most %.0fx%n%s",
+                            name, ratio, maxToMedian, profile));
+        }
+    }
+
+    private Profile measure() {
+        Object[] items = new Object[size];
+        for (int i = 0; i < size; i++) {
+            items[i] = elements.apply(i);
+        }
+        long[] best = new long[size];
+        Arrays.fill(best, Long.MAX_VALUE);
+        for (int t = 0; t < trials; t++) {
+            IntConsumer insert = trial.apply(items);
+            for (int i = 0; i < size; i++) {
+                long start = System.nanoTime();
+                insert.accept(i);
+                long elapsed = System.nanoTime() - start;
+                if (elapsed < best[i]) {
+                    best[i] = elapsed;
+                }
+            }
+        }
+        return new Profile(best);
+    }
+
+    private final class Profile {
+        final long median;
+        final long p99;
+        final long p999;
+        final long max;
+        /** The indexes of the slowest insertions, slowest first. */
+        final int[] worst;
+        final long[] nanos;
+
+        Profile(long[] nanos) {
+            this.nanos = nanos;
+            Histogram histogram = new Histogram();
+            for (long value : nanos) {
+                histogram.record(value);
+            }
+            this.median = histogram.valueAtPercentile(50);
+            this.p99 = histogram.valueAtPercentile(99);
+            this.p999 = histogram.valueAtPercentile(99.9);
+            this.max = histogram.max;
+            this.worst = worstIndexes(nanos, Math.min(WORST_COUNT, nanos.length));
+        }
+
+        @Override
+        public String toString() {
+            List<String> slowest = new ArrayList<>();
+            for (int index : worst) {
+                slowest.add(format("#%s (%s ns)", index, nanos[index]));
+            }
+            return format(
+                    "%s: %s insertions, fastest of %s trials each%n"
+                            + "  p50 %s ns, p99 %s ns, p99.9 %s ns, max %s ns%n"
+                            + "  slowest: %s",
+                    name,
+                    size,
+                    trials,
+                    median,
+                    p99,
+                    p999,
+                    max,
+                    String.join(", ", slowest));
+        }
+    }
+
+    private static int[] worstIndexes(long[] nanos, int count) {
+        // insertion into a short array, slowest first
+        int[] worst = new int[count];
+        int filled = 0;
+        for (int i = 0; i < nanos.length; i++) {
+            if (filled == count && nanos[i] <= nanos[worst[count - 1]]) {
+                continue;
+            }
+            int position = filled < count ? filled++ : count - 1;
+            while (position > 0 && nanos[worst[position - 1]] < nanos[i]) {
+                worst[position] = worst[position - 1];
+                position--;
+            }
+            worst[position] = i;
+        }
+        return worst;
+    }
+
+    /**
+     * A histogram in the style of HdrHistogram: values are recorded exactly below 2<sup>{@value
+     * #SUB_BUCKET_BITS}</sup> and with {@value #SUB_BUCKET_BITS} significant bits above. A bucket
+     * above that spans at most 1/64 of its lowest value, so percentiles overstate the recorded
+     * values by less than 1/64 (about 1.6%) over the whole range of {@code long}.
+     */
+    static final class Histogram {
+        static final int SUB_BUCKET_BITS = 7;
+        private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+        private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+
+        private final long[] counts =
+                new long[SUB_BUCKET_COUNT + (Long.SIZE - SUB_BUCKET_BITS) * HALF_SUB_BUCKET_COUNT];
+        private long total;
+        long max;
+
+        void record(long value) {
+            checkArgument(value >= 0, "value (%s) must be nonnegative", value);
+            counts[bucket(value)]++;
+            total++;
+            max = Math.max(max, value);
+        }
+
+        /** Adds the values recorded by {@code other} to this histogram. */
+        void add(Histogram other) {
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                counts[bucket] += other.counts[bucket];
+            }
+            total += other.total;
+            max = Math.max(max, other.max);
+        }
+
+        /**
+         * Returns the highest value equivalent to the one below which {@code percentile} percent of
+         * the recorded values fall, but at most the largest recorded value.
+         */
+        long valueAtPercentile(double percentile) {
+            long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+            long seen = 0;
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                seen += counts[bucket];
+                if (seen >= target) {
+                    return Math.min(highestEquivalentValue(bucket), max);
+                }
+            }
+            return max;
+        }
+
+        static int bucket(long value) {
+            if (value < SUB_BUCKET_COUNT) {
+                return (int) value;
+            }
+            int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+            int subBucket = (int) (value >>> shift);
+            return SUB_BUCKET_COUNT + (shift - 1) * HALF_SUB_BUCKET_COUNT
+                    + (subBucket - HALF_SUB_BUCKET_COUNT);
+        }
+
+        static long highestEquivalentValue(int bucket) {
+            if (bucket < SUB_BUCKET_COUNT) {
+                return bucket;
+            }
+            int shift = (bucket - SUB_BUCKET_COUNT) / HALF_SUB_BUCKET_COUNT + 1;
+            long subBucket = (bucket - SUB_BUCKET_COUNT) % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+            return ((subBucket + 1) << shift) - 1;
+        }
+    }
+}
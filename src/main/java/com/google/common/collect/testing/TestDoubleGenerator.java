@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect.testing;
+
+import java.util.Spliterator;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Creates containers of primitive {@code double} values, to be tested on their unboxed paths by {@link
+ * PrimitiveContainerTester}. Unlike {@link TestContainerGenerator}, the values are passed as a
+ * {@code double[]}, so that large containers can be built without boxing every element.
+ *
+ * @param <T> the type of the container, such as {@code ImmutableDoubleArray} or {@code List<Double>}
+ */
+public interface TestDoubleGenerator<T> {
+    /**
+     * Creates a new container holding exactly the given values. The container may use {@code values}
+     * directly, so implementations must not modify it, and neither will the tester.
+     */
+    T create(double[] values);
+
+    /** Returns a new {@code Spliterator.OfDouble} over the contents of {@code container}. */
+    Spliterator.OfDouble spliterator(T container);
+
+    /**
+     * Returns a new sequential stream over the contents of {@code container}. By default, the stream
+     * is built from {@link #spliterator}; containers with their own stream implementation should
+     * override this method.
+     */
+    default DoubleStream stream(T container) {
+        return StreamSupport.doubleStream(spliterator(container), false);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect.testing;
+
+import java.util.Spliterator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Creates containers of primitive {@code long} values, to be tested on their unboxed paths by {@link
+ * PrimitiveContainerTester}. Unlike {@link TestContainerGenerator}, the values are passed as a
+ * {@code long[]}, so that large containers can be built without boxing every element.
+ *
+ * @param <T> the type of the container, such as {@code ImmutableLongArray} or {@code List<Long>}
+ */
+public interface TestLongGenerator<T> {
+    /**
+     * Creates a new container holding exactly the given values. The container may use {@code values}
+     * directly, so implementations must not modify it, and neither will the tester.
+     */
+    T create(long[] values);
+
+    /** Returns a new {@code Spliterator.OfLong} over the contents of {@code container}. */
+    Spliterator.OfLong spliterator(T container);
+
+    /**
+     * Returns a new sequential stream over the contents of {@code container}. By default, the stream
+     * is built from {@link #spliterator}; containers with their own stream implementation should
+     * override this method.
+     */
+    default LongStream stream(T container) {
+        return StreamSupport.longStream(spliterator(container), false);
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Queue;
+
+/**
+ * Creates priority queues, containing sample elements, to be tested. Besides queues of sample
+ * elements, a priority queue generator can create queues of the same implementation for any element
+ * type and comparator, which lets testers check ordering and comparison counts on large inputs.
+ */
+public interface TestPriorityQueueGenerator<E> extends TestQueueGenerator<E> {
+    /** Returns the comparator by which the queues returned by {@link #create(Object...)} are ordered. */
+    Comparator<? super E> comparator();
+
+    /**
+     * Creates a queue ordered by {@code comparator} and containing {@code elements}, using the bulk
+     * construction of the implementation under test if it has one.
+     */
+    <T> Queue<T> create(Comparator<? super T> comparator, Collection<? extends T> elements);
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.collect.testing.SampleElements.Strings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Create priority queues of strings, ordered by their natural ordering, for tests.
+ */
+public abstract class TestStringPriorityQueueGenerator implements TestPriorityQueueGenerator<String> {
+    @Override
+    public SampleElements<String> samples() {
+        return new Strings();
+    }
+
+    @Override
+    public Comparator<? super String> comparator() {
+        return Comparator.naturalOrder();
+    }
+
+    @Override
+    public Queue<String> create(Object... elements) {
+        String[] array = new String[elements.length];
+        int i = 0;
+        for (Object e : elements) {
+            array[i++] = (String) e;
+        }
+        return create(comparator(), Arrays.asList(array));
+    }
+
+    @Override
+    public String[] createArray(int length) {
+        return new String[length];
+    }
+
+    /** Sorts the elements by {@link #comparator()}, which is the order in which they are polled. */
+    @Override
+    public List<String> order(List<String> insertionOrder) {
+        List<String> order = new ArrayList<>(insertionOrder);
+        order.sort(comparator());
+        return order;
+    }
+}
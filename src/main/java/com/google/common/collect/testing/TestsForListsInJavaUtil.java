@@ -129,7 +129,10 @@ public class TestsForListsInJavaUtil {
                             }
                         })
                 .named("emptyList")
-                .withFeatures(CollectionFeature.SERIALIZABLE, CollectionSize.ZERO)
+                .withFeatures(
+                        CollectionFeature.SERIALIZABLE,
+                        CollectionFeature.ALLOCATION_FREE_READS,
+                        CollectionSize.ZERO)
                 .suppressing(suppressForEmptyList())
                 .createTestSuite();
     }
@@ -146,6 +149,7 @@ public class TestsForListsInJavaUtil {
                 .withFeatures(
                         CollectionFeature.SERIALIZABLE,
                         CollectionFeature.ALLOWS_NULL_VALUES,
+                        CollectionFeature.ALLOCATION_FREE_READS,
                         CollectionSize.ONE)
                 .suppressing(suppressForSingletonList())
                 .createTestSuite();
@@ -164,6 +168,7 @@ public class TestsForListsInJavaUtil {
                         ListFeature.SUPPORTS_SET,
                         CollectionFeature.SERIALIZABLE,
                         CollectionFeature.ALLOWS_NULL_VALUES,
+                        CollectionFeature.ALLOCATION_FREE_READS,
                         CollectionSize.ANY)
                 .suppressing(suppressForArraysAsList())
                 .createTestSuite();
@@ -183,6 +188,7 @@ public class TestsForListsInJavaUtil {
                         CollectionFeature.SERIALIZABLE,
                         CollectionFeature.ALLOWS_NULL_VALUES,
                         CollectionFeature.FAILS_FAST_ON_CONCURRENT_MODIFICATION,
+                        CollectionFeature.ALLOCATION_FREE_READS,
                         CollectionSize.ANY)
                 .suppressing(suppressForArrayList())
                 .createTestSuite();
@@ -224,6 +230,8 @@ public class TestsForListsInJavaUtil {
                         CollectionFeature.SUPPORTS_REMOVE,
                         CollectionFeature.SERIALIZABLE,
                         CollectionFeature.ALLOWS_NULL_VALUES,
+                        CollectionFeature.ALLOCATION_FREE_READS,
+                        CollectionFeature.WEAKLY_CONSISTENT_ITERATION,
                         CollectionSize.ANY)
                 .suppressing(suppressForCopyOnWriteArrayList())
                 .createTestSuite();
@@ -243,6 +251,7 @@ public class TestsForListsInJavaUtil {
                 .withFeatures(
                         CollectionFeature.SERIALIZABLE,
                         CollectionFeature.ALLOWS_NULL_VALUES,
+                        CollectionFeature.ALLOCATION_FREE_READS,
                         CollectionSize.ANY)
                 .suppressing(suppressForUnmodifiableList())
                 .createTestSuite();
@@ -264,6 +273,7 @@ public class TestsForListsInJavaUtil {
                         CollectionFeature.SERIALIZABLE,
                         CollectionFeature.RESTRICTS_ELEMENTS,
                         CollectionFeature.ALLOWS_NULL_VALUES,
+                        CollectionFeature.ALLOCATION_FREE_READS,
                         CollectionSize.ANY)
                 .suppressing(suppressForCheckedList())
                 .createTestSuite();
@@ -336,6 +346,7 @@ public class TestsForListsInJavaUtil {
                         CollectionFeature.ALLOWS_NULL_VALUES,
                         CollectionFeature.FAILS_FAST_ON_CONCURRENT_MODIFICATION,
                         CollectionFeature.SERIALIZABLE,
+                        CollectionFeature.ALLOCATION_FREE_READS,
                         CollectionSize.ANY)
                 .createTestSuite();
     }
@@ -240,7 +240,11 @@ public class TestsForMapsInJavaUtil {
                             }
                         })
                 .named("emptyMap")
-                .withFeatures(CollectionFeature.SERIALIZABLE, CollectionSize.ZERO)
+                .withFeatures(
+                        CollectionFeature.SERIALIZABLE,
+                        MapFeature.ALLOCATION_FREE_READS,
+                        CollectionFeature.ALLOCATION_FREE_READS,
+                        CollectionSize.ZERO)
                 .suppressing(suppressForEmptyMap())
                 .createTestSuite();
     }
@@ -287,6 +291,8 @@ public class TestsForMapsInJavaUtil {
                         MapFeature.ALLOWS_NULL_VALUES,
                         MapFeature.ALLOWS_ANY_NULL_QUERIES,
                         CollectionFeature.SERIALIZABLE,
+                        MapFeature.ALLOCATION_FREE_READS,
+                        CollectionFeature.ALLOCATION_FREE_READS,
                         CollectionSize.ONE)
                 .suppressing(suppressForSingletonMap())
                 .createTestSuite();
@@ -309,6 +315,9 @@ public class TestsForMapsInJavaUtil {
                         MapFeature.FAILS_FAST_ON_CONCURRENT_MODIFICATION,
                         CollectionFeature.SUPPORTS_ITERATOR_REMOVE,
                         CollectionFeature.SERIALIZABLE,
+                        MapFeature.ALLOCATION_FREE_READS,
+                        CollectionFeature.ALLOCATION_FREE_READS,
+                        MapFeature.CACHES_VIEWS,
                         CollectionSize.ANY)
                 .suppressing(suppressForHashMap())
                 .createTestSuite();
@@ -355,6 +364,9 @@ public class TestsForMapsInJavaUtil {
                         CollectionFeature.SUPPORTS_ITERATOR_REMOVE,
                         CollectionFeature.KNOWN_ORDER,
                         CollectionFeature.SERIALIZABLE,
+                        MapFeature.ALLOCATION_FREE_READS,
+                        CollectionFeature.ALLOCATION_FREE_READS,
+                        MapFeature.CACHES_VIEWS,
                         CollectionSize.ANY)
                 .suppressing(suppressForLinkedHashMap())
                 .createTestSuite();
@@ -406,6 +418,7 @@ public class TestsForMapsInJavaUtil {
                         CollectionFeature.SUPPORTS_ITERATOR_REMOVE,
                         CollectionFeature.KNOWN_ORDER,
                         CollectionFeature.SERIALIZABLE,
+                        MapFeature.CACHES_VIEWS,
                         CollectionSize.ANY)
                 .suppressing(suppressForTreeMapNatural())
                 .createTestSuite();
@@ -430,6 +443,7 @@ public class TestsForMapsInJavaUtil {
                         CollectionFeature.SUPPORTS_ITERATOR_REMOVE,
                         CollectionFeature.KNOWN_ORDER,
                         CollectionFeature.SERIALIZABLE,
+                        MapFeature.CACHES_VIEWS,
                         CollectionSize.ANY)
                 .suppressing(suppressForTreeMapWithComparator())
                 .createTestSuite();
@@ -507,13 +521,14 @@ public class TestsForMapsInJavaUtil {
                         CollectionFeature.SUPPORTS_ITERATOR_REMOVE,
                         CollectionFeature.KNOWN_ORDER,
                         CollectionFeature.SERIALIZABLE,
+                        MapFeature.CACHES_VIEWS,
                         CollectionSize.ANY)
                 .suppressing(suppressForEnumMap())
                 .createTestSuite();
     }
 
     public Test testsForConcurrentHashMap() {
-        return MapTestSuiteBuilder.using(
+        return ConcurrentMapTestSuiteBuilder.using(
                         new TestStringMapGenerator() {
                             @Override
                             protected Map<String, String> create(Entry<String, String>[] entries) {
@@ -525,13 +540,16 @@ public class TestsForMapsInJavaUtil {
                         MapFeature.GENERAL_PURPOSE,
                         CollectionFeature.SUPPORTS_ITERATOR_REMOVE,
                         CollectionFeature.SERIALIZABLE,
+                        MapFeature.CACHES_VIEWS,
+                        MapFeature.WEAKLY_CONSISTENT_ITERATION,
+                        MapFeature.COMPUTES_ATOMICALLY,
                         CollectionSize.ANY)
                 .suppressing(suppressForConcurrentHashMap())
                 .createTestSuite();
     }
 
     public Test testsForConcurrentSkipListMapNatural() {
-        return NavigableMapTestSuiteBuilder.using(
+        return ConcurrentNavigableMapTestSuiteBuilder.using(
                         new TestStringSortedMapGenerator() {
                             @Override
                             protected SortedMap<String, String> create(Entry<String, String>[] entries) {
@@ -544,13 +562,15 @@ public class TestsForMapsInJavaUtil {
                         CollectionFeature.SUPPORTS_ITERATOR_REMOVE,
                         CollectionFeature.KNOWN_ORDER,
                         CollectionFeature.SERIALIZABLE,
+                        MapFeature.CACHES_VIEWS,
+                        MapFeature.WEAKLY_CONSISTENT_ITERATION,
                         CollectionSize.ANY)
                 .suppressing(suppressForConcurrentSkipListMap())
                 .createTestSuite();
     }
 
     public Test testsForConcurrentSkipListMapWithComparator() {
-        return NavigableMapTestSuiteBuilder.using(
+        return ConcurrentNavigableMapTestSuiteBuilder.using(
                         new TestStringSortedMapGenerator() {
                             @Override
                             protected SortedMap<String, String> create(Entry<String, String>[] entries) {
@@ -565,6 +585,8 @@ public class TestsForMapsInJavaUtil {
                         CollectionFeature.SUPPORTS_ITERATOR_REMOVE,
                         CollectionFeature.KNOWN_ORDER,
                         CollectionFeature.SERIALIZABLE,
+                        MapFeature.CACHES_VIEWS,
+                        MapFeature.WEAKLY_CONSISTENT_ITERATION,
                         CollectionSize.ANY)
                 .suppressing(suppressForConcurrentSkipListMap())
                 .createTestSuite();
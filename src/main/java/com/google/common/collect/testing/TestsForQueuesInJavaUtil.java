@@ -18,6 +18,8 @@ package com.google.common.collect.testing;
 
 import com.google.common.collect.testing.features.CollectionFeature;
 import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.features.QueueFeature;
+import com.google.common.collect.testing.testers.QueuePriorityCostTester;
 import com.google.common.testing.junit.Test;
 import com.google.common.testing.junit.TestSuite;
 
@@ -25,6 +27,8 @@ import java.lang.reflect.Method;
 import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.LinkedList;
 import java.util.PriorityQueue;
 import java.util.Queue;
@@ -55,9 +59,11 @@ public class TestsForQueuesInJavaUtil {
         suite.addTest(testsForConcurrentLinkedDeque());
         suite.addTest(testsForConcurrentLinkedQueue());
         suite.addTest(testsForLinkedBlockingDeque());
+        suite.addTest(testsForLinkedBlockingDequeBounded());
         suite.addTest(testsForLinkedBlockingQueue());
         suite.addTest(testsForPriorityBlockingQueue());
         suite.addTest(testsForPriorityQueue());
+        suite.addTest(testsForPriorityQueueWithComparator());
         return suite;
     }
 
@@ -89,6 +95,10 @@ public class TestsForQueuesInJavaUtil {
         return Collections.emptySet();
     }
 
+    protected Collection<Method> suppressForLinkedBlockingDequeBounded() {
+        return Collections.emptySet();
+    }
+
     protected Collection<Method> suppressForLinkedBlockingQueue() {
         return Collections.emptySet();
     }
@@ -101,6 +111,10 @@ public class TestsForQueuesInJavaUtil {
         return Collections.emptySet();
     }
 
+    protected Collection<Method> suppressForPriorityQueueWithComparator() {
+        return Collections.emptySet();
+    }
+
     public Test testsForCheckedQueue() {
         return QueueTestSuiteBuilder.using(
                         new TestStringQueueGenerator() {
@@ -123,25 +137,28 @@ public class TestsForQueuesInJavaUtil {
     }
 
     public Test testsForArrayDeque() {
-        return QueueTestSuiteBuilder.using(
-                        new TestStringQueueGenerator() {
+        return DequeTestSuiteBuilder.using(
+                        new TestStringDequeGenerator() {
                             @Override
-                            public Queue<String> create(String[] elements) {
+                            public Deque<String> create(String[] elements) {
                                 return new ArrayDeque<>(MinimalCollection.of(elements));
                             }
                         })
                 .named("ArrayDeque")
                 .withFeatures(
-                        CollectionFeature.GENERAL_PURPOSE, CollectionFeature.KNOWN_ORDER, CollectionSize.ANY)
+                        CollectionFeature.GENERAL_PURPOSE,
+                        CollectionFeature.KNOWN_ORDER,
+                        CollectionFeature.ALLOCATION_FREE_READS,
+                        CollectionSize.ANY)
                 .suppressing(suppressForArrayDeque())
                 .createTestSuite();
     }
 
     public Test testsForLinkedList() {
-        return QueueTestSuiteBuilder.using(
-                        new TestStringQueueGenerator() {
+        return DequeTestSuiteBuilder.using(
+                        new TestStringDequeGenerator() {
                             @Override
-                            public Queue<String> create(String[] elements) {
+                            public Deque<String> create(String[] elements) {
                                 return new LinkedList<>(MinimalCollection.of(elements));
                             }
                         })
@@ -157,7 +174,7 @@ public class TestsForQueuesInJavaUtil {
     }
 
     public Test testsForArrayBlockingQueue() {
-        return QueueTestSuiteBuilder.using(
+        return BlockingQueueTestSuiteBuilder.using(
                         new TestStringQueueGenerator() {
                             @Override
                             public Queue<String> create(String[] elements) {
@@ -166,22 +183,31 @@ public class TestsForQueuesInJavaUtil {
                         })
                 .named("ArrayBlockingQueue")
                 .withFeatures(
-                        CollectionFeature.GENERAL_PURPOSE, CollectionFeature.KNOWN_ORDER, CollectionSize.ANY)
+                        CollectionFeature.GENERAL_PURPOSE,
+                        CollectionFeature.KNOWN_ORDER,
+                        CollectionFeature.ALLOCATION_FREE_READS,
+                        QueueFeature.BOUNDED,
+                        CollectionFeature.WEAKLY_CONSISTENT_ITERATION,
+                        CollectionSize.ANY)
                 .suppressing(suppressForArrayBlockingQueue())
                 .createTestSuite();
     }
 
     public Test testsForConcurrentLinkedDeque() {
-        return QueueTestSuiteBuilder.using(
-                        new TestStringQueueGenerator() {
+        return DequeTestSuiteBuilder.using(
+                        new TestStringDequeGenerator() {
                             @Override
-                            public Queue<String> create(String[] elements) {
+                            public Deque<String> create(String[] elements) {
                                 return new ConcurrentLinkedDeque<>(MinimalCollection.of(elements));
                             }
                         })
                 .named("ConcurrentLinkedDeque")
                 .withFeatures(
-                        CollectionFeature.GENERAL_PURPOSE, CollectionFeature.KNOWN_ORDER, CollectionSize.ANY)
+                        CollectionFeature.GENERAL_PURPOSE,
+                        CollectionFeature.KNOWN_ORDER,
+                        CollectionFeature.ALLOCATION_FREE_READS,
+                        CollectionFeature.WEAKLY_CONSISTENT_ITERATION,
+                        CollectionSize.ANY)
                 .suppressing(suppressForConcurrentLinkedDeque())
                 .createTestSuite();
     }
@@ -196,28 +222,57 @@ public class TestsForQueuesInJavaUtil {
                         })
                 .named("ConcurrentLinkedQueue")
                 .withFeatures(
-                        CollectionFeature.GENERAL_PURPOSE, CollectionFeature.KNOWN_ORDER, CollectionSize.ANY)
+                        CollectionFeature.GENERAL_PURPOSE,
+                        CollectionFeature.KNOWN_ORDER,
+                        CollectionFeature.ALLOCATION_FREE_READS,
+                        CollectionFeature.WEAKLY_CONSISTENT_ITERATION,
+                        CollectionSize.ANY)
                 .suppressing(suppressForConcurrentLinkedQueue())
                 .createTestSuite();
     }
 
     public Test testsForLinkedBlockingDeque() {
-        return QueueTestSuiteBuilder.using(
-                        new TestStringQueueGenerator() {
+        return DequeTestSuiteBuilder.using(
+                        new TestStringDequeGenerator() {
                             @Override
-                            public Queue<String> create(String[] elements) {
+                            public Deque<String> create(String[] elements) {
                                 return new LinkedBlockingDeque<>(MinimalCollection.of(elements));
                             }
                         })
                 .named("LinkedBlockingDeque")
                 .withFeatures(
-                        CollectionFeature.GENERAL_PURPOSE, CollectionFeature.KNOWN_ORDER, CollectionSize.ANY)
+                        CollectionFeature.GENERAL_PURPOSE,
+                        CollectionFeature.KNOWN_ORDER,
+                        CollectionFeature.WEAKLY_CONSISTENT_ITERATION,
+                        CollectionSize.ANY)
                 .suppressing(suppressForLinkedBlockingDeque())
                 .createTestSuite();
     }
 
+    public Test testsForLinkedBlockingDequeBounded() {
+        return BlockingQueueTestSuiteBuilder.using(
+                        new TestStringQueueGenerator() {
+                            @Override
+                            public Queue<String> create(String[] elements) {
+                                LinkedBlockingDeque<String> deque = new LinkedBlockingDeque<>(100);
+                                Collections.addAll(deque, elements);
+                                return deque;
+                            }
+                        })
+                .named("LinkedBlockingDeque, bounded")
+                .withFeatures(
+                        CollectionFeature.GENERAL_PURPOSE,
+                        CollectionFeature.KNOWN_ORDER,
+                        QueueFeature.BOUNDED,
+                        CollectionFeature.WEAKLY_CONSISTENT_ITERATION,
+                        CollectionSize.ANY)
+                .skipCollectionTests() // already covered by testsForLinkedBlockingDeque
+                .suppressing(suppressForLinkedBlockingDequeBounded())
+                .createTestSuite();
+    }
+
     public Test testsForLinkedBlockingQueue() {
-        return QueueTestSuiteBuilder.using(
+        return BlockingQueueTestSuiteBuilder.using(
                         new TestStringQueueGenerator() {
                             @Override
                             public Queue<String> create(String[] elements) {
@@ -226,7 +281,10 @@ public class TestsForQueuesInJavaUtil {
                         })
                 .named("LinkedBlockingQueue")
                 .withFeatures(
-                        CollectionFeature.GENERAL_PURPOSE, CollectionFeature.KNOWN_ORDER, CollectionSize.ANY)
+                        CollectionFeature.GENERAL_PURPOSE,
+                        CollectionFeature.KNOWN_ORDER,
+                        CollectionFeature.WEAKLY_CONSISTENT_ITERATION,
+                        CollectionSize.ANY)
                 .suppressing(suppressForLinkedBlockingQueue())
                 .createTestSuite();
     }
@@ -237,30 +295,83 @@ public class TestsForQueuesInJavaUtil {
     // don't.
 
     public Test testsForPriorityBlockingQueue() {
-        return QueueTestSuiteBuilder.using(
-                        new TestStringQueueGenerator() {
+        return BlockingQueueTestSuiteBuilder.using(
+                        new TestStringPriorityQueueGenerator() {
                             @Override
-                            public Queue<String> create(String[] elements) {
-                                return new PriorityBlockingQueue<>(MinimalCollection.of(elements));
+                            @SuppressWarnings("unchecked") // elements are Comparable for natural ordering
+                            public <T> Queue<T> create(
+                                    Comparator<? super T> comparator, Collection<? extends T> elements) {
+                                // PriorityBlockingQueue(Collection) heapifies, but only by natural ordering
+                                if (comparator.equals(Comparator.naturalOrder())) {
+                                    return (Queue<T>)
+                                            new PriorityBlockingQueue<>(MinimalCollection.of(elements.toArray()));
+                                }
+                                Queue<T> queue = new PriorityBlockingQueue<>(11, comparator);
+                                queue.addAll(elements);
+                                return queue;
                             }
                         })
                 .named("PriorityBlockingQueue")
-                .withFeatures(CollectionFeature.GENERAL_PURPOSE, CollectionSize.ANY)
+                .withFeatures(
+                        CollectionFeature.GENERAL_PURPOSE,
+                        QueueFeature.PRIORITY_ORDERED,
+                        CollectionFeature.ALLOCATION_FREE_READS,
+                        CollectionFeature.WEAKLY_CONSISTENT_ITERATION,
+                        CollectionSize.ANY)
                 .suppressing(suppressForPriorityBlockingQueue())
                 .createTestSuite();
     }
 
     public Test testsForPriorityQueue() {
         return QueueTestSuiteBuilder.using(
-                        new TestStringQueueGenerator() {
+                        new TestStringPriorityQueueGenerator() {
                             @Override
-                            public Queue<String> create(String[] elements) {
-                                return new PriorityQueue<>(MinimalCollection.of(elements));
+                            @SuppressWarnings("unchecked") // elements are Comparable for natural ordering
+                            public <T> Queue<T> create(
+                                    Comparator<? super T> comparator, Collection<? extends T> elements) {
+                                // PriorityQueue(Collection) heapifies, but only by natural ordering
+                                if (comparator.equals(Comparator.naturalOrder())) {
+                                    return (Queue<T>) new PriorityQueue<>(MinimalCollection.of(elements.toArray()));
+                                }
+                                Queue<T> queue = new PriorityQueue<>(comparator);
+                                queue.addAll(elements);
+                                return queue;
                             }
                         })
                 .named("PriorityQueue")
-                .withFeatures(CollectionFeature.GENERAL_PURPOSE, CollectionSize.ANY)
+                .withFeatures(
+                        CollectionFeature.GENERAL_PURPOSE,
+                        QueueFeature.PRIORITY_ORDERED,
+                        CollectionFeature.ALLOCATION_FREE_READS,
+                        CollectionSize.ANY)
                 .suppressing(suppressForPriorityQueue())
                 .createTestSuite();
     }
+
+    public Test testsForPriorityQueueWithComparator() {
+        return QueueTestSuiteBuilder.using(
+                        new TestStringPriorityQueueGenerator() {
+                            @Override
+                            public Comparator<? super String> comparator() {
+                                return Comparator.reverseOrder();
+                            }
+
+                            @Override
+                            public <T> Queue<T> create(
+                                    Comparator<? super T> comparator, Collection<? extends T> elements) {
+                                Queue<T> queue = new PriorityQueue<>(comparator);
+                                queue.addAll(elements);
+                                return queue;
+                            }
+                        })
+                .named("PriorityQueue, reverse order")
+                .withFeatures(
+                        CollectionFeature.GENERAL_PURPOSE,
+                        QueueFeature.PRIORITY_ORDERED,
+                        CollectionSize.ANY)
+                .suppressing(suppressForPriorityQueueWithComparator())
+                // with a comparator, PriorityQueue can only be built by insertion, not by heapify
+                .suppressing(QueuePriorityCostTester.getBulkConstructionLinearComparisonsMethod())
+                .createTestSuite();
+    }
 }
@@ -36,6 +36,7 @@ import java.util.NavigableSet;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.CopyOnWriteArraySet;
 
@@ -76,6 +77,7 @@ public class TestsForSetsInJavaUtil {
         suite.addTest(testsForBadlyCollidingHashSet());
         suite.addTest(testsForConcurrentSkipListSetNatural());
         suite.addTest(testsForConcurrentSkipListSetWithComparator());
+        suite.addTest(testsForConcurrentHashMapKeySet());
 
         return suite;
     }
@@ -158,6 +160,10 @@ public class TestsForSetsInJavaUtil {
         return Collections.emptySet();
     }
 
+    protected Collection<Method> suppressForConcurrentHashMapKeySet() {
+        return Collections.emptySet();
+    }
+
     public Test testsForCheckedNavigableSet() {
         return SortedSetTestSuiteBuilder.using(
                         new TestStringSortedSetGenerator() {
@@ -189,7 +195,10 @@ public class TestsForSetsInJavaUtil {
                             }
                         })
                 .named("emptySet")
-                .withFeatures(CollectionFeature.SERIALIZABLE, CollectionSize.ZERO)
+                .withFeatures(
+                        CollectionFeature.SERIALIZABLE,
+                        CollectionFeature.ALLOCATION_FREE_READS,
+                        CollectionSize.ZERO)
                 .suppressing(suppressForEmptySet())
                 .createTestSuite();
     }
@@ -234,6 +243,7 @@ public class TestsForSetsInJavaUtil {
                 .withFeatures(
                         CollectionFeature.SERIALIZABLE,
                         CollectionFeature.ALLOWS_NULL_VALUES,
+                        CollectionFeature.ALLOCATION_FREE_READS,
                         CollectionSize.ONE)
                 .suppressing(suppressForSingletonSet())
                 .createTestSuite();
@@ -300,8 +310,9 @@ public class TestsForSetsInJavaUtil {
     }
 
     /**
-     * Tests regular NavigableSet behavior of synchronizedNavigableSet(treeSet); does not test the
-     * fact that it's synchronized.
+     * Tests regular NavigableSet behavior of synchronizedNavigableSet(treeSet), and that concurrent
+     * updates through it are not lost; does not test its iterators, which must be synchronized
+     * manually.
      */
     public Test testsForSynchronizedNavigableSet() {
         return NavigableSetTestSuiteBuilder.using(
@@ -318,6 +329,7 @@ public class TestsForSetsInJavaUtil {
                         CollectionFeature.SERIALIZABLE,
                         CollectionFeature.KNOWN_ORDER,
                         CollectionFeature.FAILS_FAST_ON_CONCURRENT_MODIFICATION,
+                        CollectionFeature.THREAD_SAFE,
                         CollectionSize.ANY)
                 .suppressing(suppressForSynchronizedNavigableSet())
                 .createTestSuite();
@@ -379,6 +391,8 @@ public class TestsForSetsInJavaUtil {
                         CollectionFeature.SERIALIZABLE,
                         CollectionFeature.ALLOWS_NULL_VALUES,
                         CollectionFeature.KNOWN_ORDER,
+                        CollectionFeature.ALLOCATION_FREE_READS,
+                        CollectionFeature.WEAKLY_CONSISTENT_ITERATION,
                         CollectionSize.ANY)
                 .suppressing(suppressForCopyOnWriteArraySet())
                 .createTestSuite();
@@ -526,6 +540,7 @@ public class TestsForSetsInJavaUtil {
                         SetFeature.GENERAL_PURPOSE,
                         CollectionFeature.SERIALIZABLE,
                         CollectionFeature.KNOWN_ORDER,
+                        CollectionFeature.WEAKLY_CONSISTENT_ITERATION,
                         CollectionSize.ANY)
                 .suppressing(suppressForConcurrentSkipListSetNatural())
                 .createTestSuite();
@@ -547,11 +562,32 @@ public class TestsForSetsInJavaUtil {
                         SetFeature.GENERAL_PURPOSE,
                         CollectionFeature.SERIALIZABLE,
                         CollectionFeature.KNOWN_ORDER,
+                        CollectionFeature.WEAKLY_CONSISTENT_ITERATION,
                         CollectionSize.ANY)
                 .suppressing(suppressForConcurrentSkipListSetWithComparator())
                 .createTestSuite();
     }
 
+    public Test testsForConcurrentHashMapKeySet() {
+        return SetTestSuiteBuilder.using(
+                        new TestStringSetGenerator() {
+                            @Override
+                            public Set<String> create(String[] elements) {
+                                Set<String> set = ConcurrentHashMap.newKeySet();
+                                Collections.addAll(set, elements);
+                                return set;
+                            }
+                        })
+                .named("ConcurrentHashMap.newKeySet")
+                .withFeatures(
+                        SetFeature.GENERAL_PURPOSE,
+                        CollectionFeature.SERIALIZABLE,
+                        CollectionFeature.WEAKLY_CONSISTENT_ITERATION,
+                        CollectionSize.ANY)
+                .suppressing(suppressForConcurrentHashMapKeySet())
+                .createTestSuite();
+    }
+
     private static String[] dedupe(String[] elements) {
         Set<String> tmp = new LinkedHashSet<>();
         Collections.addAll(tmp, elements);
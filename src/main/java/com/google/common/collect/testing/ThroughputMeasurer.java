@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.annotations.Beta;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.testing.Platform.format;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Measures how the throughput of workloads scales with the number of threads running them, for
+ * scalability testers such as {@link ConcurrentMapScalabilityTester}. Each workload is run on 1, 2,
+ * 4 and so on up to the maximum number of threads, each time on a fresh subject, and the best of
+ * several rounds is kept. The measurer then reports the operations per second and the speedup over
+ * a single thread, or asserts a least ratio between them.
+ */
+@Beta
+public final class ThroughputMeasurer {
+    /** The number of operations between two checks of the clock. */
+    private static final int BATCH_SIZE = 64;
+
+    /** The number of interleaved measurements per thread count, of which the best is kept. */
+    private static final int ROUNDS = 3;
+
+    /** A workload, which prepares a fresh subject for each measurement. */
+    public interface Workload {
+        /**
+         * Prepares a fresh subject for a measurement with {@code threads} threads, and returns the
+         * operation that the threads call on it.
+         */
+        Operation prepare(int threads);
+    }
+
+    /** An operation called repeatedly by each thread of a measurement. */
+    public interface Operation {
+        /**
+         * Performs the operation for the given thread, which has already called it {@code index}
+         * times, and returns any result of it, which is accumulated so that the call cannot be
+         * optimized away.
+         */
+        long run(int thread, long index);
+    }
+
+    private final String name;
+    private final List<Integer> threadCounts = new ArrayList<>();
+    private final long durationNanos;
+    private final Map<String, String> headings = new LinkedHashMap<>();
+    private final Map<String, double[]> results = new LinkedHashMap<>();
+
+    /** Receives the accumulated results of the operations, so that the calls cannot be optimized away. */
+    private volatile long resultSink;
+
+    /**
+     * Creates a measurer of the subject called {@code name}, which runs each measurement for {@code
+     * durationNanos} with up to {@code maxThreads} threads.
+     */
+    public ThroughputMeasurer(String name, int maxThreads, long durationNanos) {
+        checkArgument(maxThreads >= 2, "maxThreads (%s) must be at least 2", maxThreads);
+        checkArgument(durationNanos > 0, "durationNanos (%s) must be positive", durationNanos);
+        this.name = checkNotNull(name);
+        this.durationNanos = durationNanos;
+        for (int threads = 1; threads < maxThreads; threads *= 2) {
+            threadCounts.add(threads);
+        }
+        threadCounts.add(maxThreads);
+    }
+
+    /**
+     * Measures the throughput of {@code workload} at each number of threads. The {@code label} names
+     * the workload in failure messages, and the {@code heading} describes it in the report.
+     */
+    public ThroughputMeasurer measure(String label, String heading, Workload workload) {
+        double[] best = new double[threadCounts.size()];
+        // one unrecorded round warms up the code paths
+        for (int round = -1; round < ROUNDS; round++) {
+            for (int i = 0; i < best.length; i++) {
+                double throughput = run(workload, threadCounts.get(i));
+                if (round >= 0) {
+                    best[i] = Math.max(best[i], throughput);
+                }
+            }
+        }
+        headings.put(checkNotNull(label), checkNotNull(heading));
+        results.put(label, best);
+        return this;
+    }
+
+    /** Returns a human-readable table of the throughput and speedup of each measured workload. */
+    public String report() {
+        List<String> lines = new ArrayList<>();
+        lines.add(name);
+        for (Map.Entry<String, double[]> result : results.entrySet()) {
+            lines.add(format("  %s:", headings.get(result.getKey())));
+            double[] throughputs = result.getValue();
+            for (int i = 0; i < throughputs.length; i++) {
+                lines.add(
+                        format(
+                                "    %3d threads: %10.0f ops/s, speedup %.2fx",
+                                threadCounts.get(i), throughputs[i], throughputs[i] / throughputs[0]));
+            }
+        }
+        return String.join("\n", lines);
+    }
+
+    /**
+     * Asserts that the throughput of every measured workload at every number of threads is at least
+     * {@code ratio} times its single-threaded throughput.
+     */
+    public void assertThroughputRatioAtLeast(double ratio) {
+        List<String> failures = new ArrayList<>();
+        for (Map.Entry<String, double[]> result : results.entrySet()) {
+            double[] throughputs = result.getValue();
+            for (int i = 1; i < throughputs.length; i++) {
+                double observed = throughputs[i] / throughputs[0];
+                if (observed < ratio) {
+                    failures.add(
+                            format(
+                                    "%s with %s threads: %.2fx the single-threaded throughput, expected at least "
+                                            + "%.2fx",
+                                    result.getKey(), threadCounts.get(i), observed, ratio));
+                }
+            }
+        }
+        if (!failures.isEmpty()) {
+            fail(format("%s does not scale:%n  %s%n%s", name, String.join("\n  ", failures), report()));
+        }
+    }
+
+    private double run(Workload workload, int threads) {
+        Operation operation = workload.prepare(threads);
+        long[] operationCounts = new long[threads];
+        long[] starts = new long[threads];
+        long[] ends = new long[threads];
+        Helpers.runConcurrently(
+                threads,
+                thread -> {
+                    long index = 0;
+                    long results = 0;
+                    long start = System.nanoTime();
+                    long now;
+                    do {
+                        for (int i = 0; i < BATCH_SIZE; i++) {
+                            results += operation.run(thread, index++);
+                        }
+                        now = System.nanoTime();
+                    } while (now - start < durationNanos);
+                    resultSink = results;
+                    operationCounts[thread] = index;
+                    starts[thread] = start;
+                    ends[thread] = now;
+                });
+        // Threads that do not all run at once, for lack of processors, take longer overall.
+        long elapsed = Arrays.stream(ends).max().getAsLong() - Arrays.stream(starts).min().getAsLong();
+        return Arrays.stream(operationCounts).sum() * 1e9 / elapsed;
+    }
+}
@@ -99,6 +99,30 @@ public enum CollectionFeature implements Feature<Collection> {
     SUBSET_VIEW,
     DESCENDING_VIEW,
 
+    /**
+     * Indicates that read-only queries such as {@code contains}, {@code size}, {@code isEmpty} and
+     * {@code forEach} (with a consumer that does not allocate itself) do not allocate heap memory once
+     * the collection has been warmed up.
+     */
+    ALLOCATION_FREE_READS,
+
+    /**
+     * Indicates that the collection may be read and modified by several threads at once without
+     * external synchronization, such as a concurrent collection or a {@code
+     * Collections.synchronizedCollection}. Its iterators need not be thread-safe.
+     */
+    THREAD_SAFE,
+
+    /**
+     * Indicates that the iterators, spliterators and streams of the collection never throw {@link
+     * java.util.ConcurrentModificationException}, but are weakly consistent, even while other
+     * threads modify the collection: they return no element more often than it is contained, every
+     * element that is contained for the whole traversal, and, for a collection with a known order,
+     * the elements in that order. This is the concurrent counterpart of {@link
+     * #FAILS_FAST_ON_CONCURRENT_MODIFICATION}.
+     */
+    WEAKLY_CONSISTENT_ITERATION(THREAD_SAFE),
+
     /**
      * For documenting collections that support no optional features, such as {@link
      * java.util.Collections#emptySet}
@@ -43,7 +43,16 @@ public enum ListFeature implements Feature<List> {
             SUPPORTS_REMOVE_WITH_INDEX),
 
     /** Features supported by lists where only removal is allowed. */
-    REMOVE_OPERATIONS(CollectionFeature.REMOVE_OPERATIONS, SUPPORTS_REMOVE_WITH_INDEX);
+    REMOVE_OPERATIONS(CollectionFeature.REMOVE_OPERATIONS, SUPPORTS_REMOVE_WITH_INDEX),
+
+    /**
+     * Indicates that positional operations cost what the {@link List} documentation leads callers to
+     * expect: {@code get} in constant time if the list implements {@link java.util.RandomAccess},
+     * {@code subList} views in constant time and without slowing down when nested, and list
+     * iterators in constant time per step. The tests of these costs are based on timing, so they run
+     * only for lists that declare this feature.
+     */
+    EFFICIENT_POSITIONAL_ACCESS;
 
     private final Set<Feature<? super List>> implied;
 
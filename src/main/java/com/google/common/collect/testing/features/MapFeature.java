@@ -63,12 +63,43 @@ public enum MapFeature implements Feature<Map> {
     SUPPORTS_PUT,
     SUPPORTS_REMOVE,
     FAILS_FAST_ON_CONCURRENT_MODIFICATION,
+    /**
+     * Indicates that the iterators, spliterators and streams of the views of the map never throw
+     * {@link java.util.ConcurrentModificationException}, but are weakly consistent, even while other
+     * threads modify the map, as described for {@link CollectionFeature#WEAKLY_CONSISTENT_ITERATION}.
+     */
+    WEAKLY_CONSISTENT_ITERATION,
     /**
      * Indicates that the constructor or factory method of a map, usually an immutable map, throws an
      * {@link IllegalArgumentException} when presented with duplicate keys instead of discarding all
      * but one.
      */
     REJECTS_DUPLICATES_AT_CREATION,
+    /**
+     * Indicates that read-only queries such as {@code get}, {@code containsKey}, {@code size}, {@code
+     * isEmpty} and {@code forEach} (with a consumer that does not allocate itself) do not allocate
+     * heap memory once the map has been warmed up. This does not extend to the views of the map,
+     * which declare {@link CollectionFeature#ALLOCATION_FREE_READS} separately.
+     */
+    ALLOCATION_FREE_READS,
+    /**
+     * Indicates that the methods returning views, such as {@code keySet()}, {@code values()} and
+     * {@code entrySet()}, return the same instance every time, so that calling them repeatedly is
+     * {@code O(1)} and does not allocate. For a navigable map this includes {@code descendingMap()}
+     * and {@code navigableKeySet()}, for a {@code BiMap} {@code inverse()}, and for a {@code Multimap}
+     * its own views, such as {@code asMap()}, {@code keys()} and {@code entries()}. The feature is not
+     * passed on to range and descending views, which are usually created on demand.
+     */
+    CACHES_VIEWS,
+    /**
+     * Indicates that {@code compute}, {@code computeIfAbsent}, {@code computeIfPresent} and {@code
+     * merge} apply their function at most once per call, atomically with the update: while the
+     * function runs, other updates of the same key wait for it. {@link
+     * java.util.concurrent.ConcurrentHashMap} does this, while the default methods of {@link
+     * java.util.concurrent.ConcurrentMap} and {@link java.util.concurrent.ConcurrentSkipListMap} may
+     * apply the function several times and discard all results but one.
+     */
+    COMPUTES_ATOMICALLY,
 
     GENERAL_PURPOSE(SUPPORTS_PUT, SUPPORTS_REMOVE);
 
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.features;
+
+import com.google.common.collect.testing.Helpers;
+
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Optional features of classes derived from {@code Queue}.
+ */
+// Enum values use constructors with generic varargs.
+@SuppressWarnings("unchecked")
+public enum QueueFeature implements Feature<Queue> {
+    /**
+     * The queue orders its elements by a comparator instead of by insertion, so that {@code peek()}
+     * and {@code poll()} return the least element in the order given by the generator's {@code
+     * order()} method. Tests with large inputs also require the generator to be a {@link
+     * com.google.common.collect.testing.TestPriorityQueueGenerator}.
+     */
+    PRIORITY_ORDERED,
+
+    /**
+     * The queue is a {@code BlockingQueue} with a fixed capacity, as reported by {@code
+     * remainingCapacity()}, at which {@code offer} returns false and {@code put} blocks. Tests fill
+     * such queues up to their capacity, which should therefore be small, such as a few hundred
+     * elements. A blocking queue without this feature must report {@code Integer.MAX_VALUE}, less at
+     * most its size, as its remaining capacity.
+     */
+    BOUNDED,
+
+    /**
+     * Indicates that the queue, which must be a {@code Deque}, inserts and removes elements at both
+     * ends in amortized constant time, as {@code ArrayDeque} does. The tests of these costs are based
+     * on timing, so they run only for deques that declare this feature.
+     */
+    EFFICIENT_END_OPERATIONS;
+
+    private final Set<Feature<? super Queue>> implied;
+
+    QueueFeature(Feature<? super Queue>... implied) {
+        this.implied = Helpers.copyToSet(implied);
+    }
+
+    @Override
+    public Set<Feature<? super Queue>> getImpliedFeatures() {
+        return implied;
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Inherited
+    @TesterAnnotation
+    public @interface Require {
+        public abstract QueueFeature[] value() default {};
+
+        public abstract QueueFeature[] absent() default {};
+    }
+}
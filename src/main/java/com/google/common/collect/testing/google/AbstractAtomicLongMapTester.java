@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.collect.testing.AbstractContainerTester;
+import com.google.common.util.concurrent.AtomicLongMap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map.Entry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Base class for {@code AtomicLongMap} testers.
+ */
+public abstract class AbstractAtomicLongMapTester<K>
+        extends AbstractContainerTester<AtomicLongMap<K>, Entry<K, Long>> {
+
+    protected final AtomicLongMap<K> getMap() {
+        return container;
+    }
+
+    /** Returns the entries of {@link AtomicLongMap#asMap}, copied so that they stay unchanged. */
+    @Override
+    protected Collection<Entry<K, Long>> actualContents() {
+        return new ArrayList<>(getMap().asMap().entrySet());
+    }
+
+    /** Returns the sum of the sample values that the map under test was created with. */
+    protected long sampleSum() {
+        long sum = 0;
+        for (Entry<K, Long> entry : getSampleElements()) {
+            sum += entry.getValue();
+        }
+        return sum;
+    }
+
+    /**
+     * Asserts that {@code key} is mapped to {@code value}, both by {@link AtomicLongMap#get} and by
+     * {@link AtomicLongMap#asMap}.
+     */
+    protected void expectValue(K key, long value) {
+        assertEquals(value, getMap().get(key), "get(" + key + ")");
+        assertEquals((Long) value, getMap().asMap().get(key), "asMap().get(" + key + ")");
+    }
+
+    protected final K k0() {
+        return e0().getKey();
+    }
+
+    protected final long v0() {
+        return e0().getValue();
+    }
+
+    protected final K k1() {
+        return e1().getKey();
+    }
+
+    protected final long v1() {
+        return e1().getValue();
+    }
+
+    protected final K k2() {
+        return e2().getKey();
+    }
+
+    protected final long v2() {
+        return e2().getValue();
+    }
+
+    protected final K k3() {
+        return e3().getKey();
+    }
+
+    protected final long v3() {
+        return e3().getValue();
+    }
+
+    protected final K k4() {
+        return e4().getKey();
+    }
+
+    protected final long v4() {
+        return e4().getValue();
+    }
+}
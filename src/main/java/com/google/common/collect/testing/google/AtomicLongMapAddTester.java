@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.collect.testing.Helpers;
+import com.google.common.collect.testing.features.CollectionSize;
+
+import static com.google.common.collect.testing.features.CollectionSize.ZERO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tester for {@code AtomicLongMap.incrementAndGet}, {@code decrementAndGet}, {@code addAndGet}, and
+ * their {@code getAnd} counterparts. Can't be invoked directly; please see {@link
+ * AtomicLongMapTestSuiteBuilder}.
+ */
+public class AtomicLongMapAddTester<K> extends AbstractAtomicLongMapTester<K> {
+    @CollectionSize.Require(absent = ZERO)
+    public void testIncrementAndGet_present() {
+        assertEquals(v0() + 1, getMap().incrementAndGet(k0()));
+        expectValue(k0(), v0() + 1);
+        assertEquals(getNumElements(), getMap().size());
+    }
+
+    public void testIncrementAndGet_absent() {
+        assertEquals(1, getMap().incrementAndGet(k3()));
+        expectAdded(Helpers.mapEntry(k3(), 1L));
+    }
+
+    @CollectionSize.Require(absent = ZERO)
+    public void testDecrementAndGet_present() {
+        assertEquals(v0() - 1, getMap().decrementAndGet(k0()));
+        expectValue(k0(), v0() - 1);
+    }
+
+    public void testDecrementAndGet_absent() {
+        assertEquals(-1, getMap().decrementAndGet(k3()));
+        expectAdded(Helpers.mapEntry(k3(), -1L));
+    }
+
+    @CollectionSize.Require(absent = ZERO)
+    public void testAddAndGet_present() {
+        assertEquals(v0() + v3(), getMap().addAndGet(k0(), v3()));
+        expectValue(k0(), v0() + v3());
+    }
+
+    @CollectionSize.Require(absent = ZERO)
+    public void testAddAndGet_negative() {
+        assertEquals(v0() - v3(), getMap().addAndGet(k0(), -v3()));
+        expectValue(k0(), v0() - v3());
+    }
+
+    public void testAddAndGet_absent() {
+        assertEquals(v3(), getMap().addAndGet(k3(), v3()));
+        expectAdded(e3());
+    }
+
+    @CollectionSize.Require(absent = ZERO)
+    public void testAddAndGet_zero() {
+        assertEquals(v0(), getMap().addAndGet(k0(), 0));
+        expectUnchanged();
+    }
+
+    @CollectionSize.Require(absent = ZERO)
+    public void testAddAndGet_overflowWraps() {
+        getMap().put(k0(), Long.MAX_VALUE);
+        assertEquals(Long.MIN_VALUE, getMap().addAndGet(k0(), 1));
+        expectValue(k0(), Long.MIN_VALUE);
+    }
+
+    @CollectionSize.Require(absent = ZERO)
+    public void testGetAndIncrement_present() {
+        assertEquals(v0(), getMap().getAndIncrement(k0()));
+        expectValue(k0(), v0() + 1);
+    }
+
+    public void testGetAndIncrement_absent() {
+        assertEquals(0, getMap().getAndIncrement(k3()));
+        expectAdded(Helpers.mapEntry(k3(), 1L));
+    }
+
+    @CollectionSize.Require(absent = ZERO)
+    public void testGetAndDecrement_present() {
+        assertEquals(v0(), getMap().getAndDecrement(k0()));
+        expectValue(k0(), v0() - 1);
+    }
+
+    @CollectionSize.Require(absent = ZERO)
+    public void testGetAndAdd_present() {
+        assertEquals(v0(), getMap().getAndAdd(k0(), v3()));
+        expectValue(k0(), v0() + v3());
+    }
+
+    public void testGetAndAdd_absent() {
+        assertEquals(0, getMap().getAndAdd(k3(), v3()));
+        expectAdded(e3());
+    }
+
+    @CollectionSize.Require(absent = ZERO)
+    public void testGetAndAdd_repeated() {
+        long expected = v0();
+        for (long delta = -3; delta <= 3; delta++) {
+            assertEquals(expected, getMap().getAndAdd(k0(), delta));
+            expected += delta;
+        }
+        expectValue(k0(), expected);
+    }
+}
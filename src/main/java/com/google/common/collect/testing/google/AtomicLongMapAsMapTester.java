@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.collect.testing.Helpers;
+import com.google.common.collect.testing.features.CollectionSize;
+
+import java.util.Map;
+
+import static com.google.common.collect.testing.features.CollectionSize.ZERO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tester for {@code AtomicLongMap.asMap}, which must be a live, read-only view of the map. The
+ * generic behavior of the view as a {@code Map} is tested by the derived suite of {@link
+ * AtomicLongMapTestSuiteBuilder}. Can't be invoked directly; please see {@link
+ * AtomicLongMapTestSuiteBuilder}.
+ */
+public class AtomicLongMapAsMapTester<K> extends AbstractAtomicLongMapTester<K> {
+    public void testAsMap_readsThrough() {
+        Map<K, Long> asMap = getMap().asMap();
+        getMap().addAndGet(k3(), v3());
+        assertEquals(v3(), (long) asMap.get(k3()));
+        getMap().remove(k3());
+        assertEquals(getNumElements(), asMap.size());
+        Helpers.assertEqualIgnoringOrder(getSampleElements(), asMap.entrySet());
+    }
+
+    @CollectionSize.Require(absent = ZERO)
+    public void testAsMap_includesZeros() {
+        getMap().addAndGet(k0(), -v0());
+        assertEquals(0L, (long) getMap().asMap().get(k0()));
+        assertTrue(getMap().asMap().containsKey(k0()));
+        getMap().removeIfZero(k0());
+        expectMissing(Helpers.mapEntry(k0(), 0L));
+    }
+
+    public void testAsMap_sumOfValues() {
+        long sum = 0;
+        for (long value : getMap().asMap().values()) {
+            sum += value;
+        }
+        assertEquals(getMap().sum(), sum);
+    }
+
+    public void testAsMap_unmodifiable() {
+        Map<K, Long> asMap = getMap().asMap();
+        assertThrows(UnsupportedOperationException.class, () -> asMap.put(k3(), v3()));
+        assertThrows(UnsupportedOperationException.class, () -> asMap.remove(k0()));
+        assertThrows(UnsupportedOperationException.class, () -> asMap.clear());
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> asMap.merge(k0(), 1L, (a, b) -> a + b));
+        expectUnchanged();
+    }
+}
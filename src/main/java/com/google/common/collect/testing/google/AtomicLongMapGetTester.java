@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.collect.testing.features.CollectionSize;
+
+import java.util.Map.Entry;
+
+import static com.google.common.collect.testing.features.CollectionSize.ZERO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tester for {@code AtomicLongMap.get}, {@code containsKey}, {@code size}, {@code isEmpty} and
+ * {@code sum}. Can't be invoked directly; please see {@link AtomicLongMapTestSuiteBuilder}.
+ */
+public class AtomicLongMapGetTester<K> extends AbstractAtomicLongMapTester<K> {
+    public void testGet() {
+        for (Entry<K, Long> entry : getSampleElements()) {
+            assertEquals((long) entry.getValue(), getMap().get(entry.getKey()), "get(" + entry + ")");
+        }
+    }
+
+    public void testGet_absentIsZero() {
+        assertEquals(0, getMap().get(k3()));
+        assertFalse(getMap().containsKey(k3()), "get() should not add the key");
+        expectUnchanged();
+    }
+
+    @CollectionSize.Require(absent = ZERO)
+    public void testContainsKey_yes() {
+        assertTrue(getMap().containsKey(k0()));
+    }
+
+    public void testContainsKey_no() {
+        assertFalse(getMap().containsKey(k3()));
+    }
+
+    public void testSize() {
+        assertEquals(getNumElements(), getMap().size());
+        assertEquals(getNumElements() == 0, getMap().isEmpty());
+    }
+
+    public void testSum() {
+        assertEquals(sampleSum(), getMap().sum());
+    }
+
+    @CollectionSize.Require(absent = ZERO)
+    public void testSum_afterUpdates() {
+        getMap().addAndGet(k0(), -3 * v0());
+        getMap().incrementAndGet(k3());
+        assertEquals(sampleSum() - 3 * v0() + 1, getMap().sum());
+    }
+}
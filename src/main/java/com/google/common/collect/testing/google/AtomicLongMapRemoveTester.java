@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.collect.testing.features.CollectionSize;
+
+import static com.google.common.collect.testing.features.CollectionSize.SEVERAL;
+import static com.google.common.collect.testing.features.CollectionSize.ZERO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tester for {@code AtomicLongMap.remove}, {@code removeIfZero}, {@code removeAllZeros} and {@code
+ * clear}. Can't be invoked directly; please see {@link AtomicLongMapTestSuiteBuilder}.
+ */
+public class AtomicLongMapRemoveTester<K> extends AbstractAtomicLongMapTester<K> {
+    @CollectionSize.Require(absent = ZERO)
+    public void testRemove_present() {
+        assertEquals(v0(), getMap().remove(k0()));
+        expectMissing(e0());
+        assertFalse(getMap().containsKey(k0()));
+        assertEquals(getNumElements() - 1, getMap().size());
+    }
+
+    public void testRemove_absent() {
+        assertEquals(0, getMap().remove(k3()));
+        expectUnchanged();
+    }
+
+    @CollectionSize.Require(absent = ZERO)
+    public void testRemoveIfZero_zero() {
+        getMap().addAndGet(k0(), -v0());
+        assertTrue(getMap().removeIfZero(k0()));
+        assertFalse(getMap().containsKey(k0()));
+        assertEquals(getNumElements() - 1, getMap().size());
+    }
+
+    @CollectionSize.Require(absent = ZERO)
+    public void testRemoveIfZero_nonZero() {
+        assertFalse(getMap().removeIfZero(k0()));
+        expectUnchanged();
+    }
+
+    public void testRemoveIfZero_absent() {
+        assertFalse(getMap().removeIfZero(k3()));
+        expectUnchanged();
+    }
+
+    @CollectionSize.Require(SEVERAL)
+    public void testRemoveAllZeros() {
+        getMap().addAndGet(k0(), -v0());
+        getMap().addAndGet(k2(), -v2());
+        getMap().removeAllZeros();
+        expectContents(e1());
+    }
+
+    public void testRemoveAllZeros_none() {
+        getMap().removeAllZeros();
+        expectUnchanged();
+    }
+
+    public void testClear() {
+        getMap().clear();
+        expectContents();
+        assertTrue(getMap().isEmpty());
+        assertEquals(0, getMap().sum());
+    }
+}
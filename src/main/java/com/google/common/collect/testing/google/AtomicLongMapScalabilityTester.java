@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.annotations.Beta;
+import com.google.common.collect.testing.AbstractScalabilityTester;
+import com.google.common.collect.testing.Helpers;
+import com.google.common.collect.testing.ThroughputMeasurer;
+import com.google.common.util.concurrent.AtomicLongMap;
+
+import java.util.Locale;
+import java.util.Map.Entry;
+import java.util.function.IntFunction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Tester for how the throughput of an {@code AtomicLongMap}, used as a set of counters, scales with
+ * the number of threads using it. For each of {@code get(key)}, {@code incrementAndGet(key)}, {@code
+ * getAndAdd(key, delta)} with alternating positive and negative deltas, and {@code
+ * incrementAndGet(key)} followed by {@code decrementAndGet(key)} and {@code removeIfZero(key)}, the
+ * tester runs the operation on 1, 2, 4 and so on up to the maximum number of threads, each time on
+ * a fresh map created by the generator, and reports the operations per second and the speedup over
+ * a single thread. All threads update the same few keys, as hot counters do.
+ *
+ * <p>By default, {@link #test} fails only if the throughput at some number of threads falls below
+ * half of the single-threaded throughput; {@link #expectThroughputRatioAtLeast} can demand a
+ * speedup instead, which of course needs at least as many processors as threads. That no update is
+ * lost under contention is checked by the suites of {@link AtomicLongMapTestSuiteBuilder}.
+ *
+ * <p>Example usage, with a generator that is also passed to {@link AtomicLongMapTestSuiteBuilder}:
+ *
+ * <pre>
+ * AtomicLongMapScalabilityTester.forGenerator(generator, i -&gt; "k" + i)
+ *     .named("AtomicLongMap")
+ *     .test();
+ * </pre>
+ */
+@Beta
+public final class AtomicLongMapScalabilityTester<K>
+        extends AbstractScalabilityTester<AtomicLongMapScalabilityTester<K>> {
+    private static final int DEFAULT_KEY_COUNT = 16;
+
+    /**
+     * Creates a tester for the maps created by {@code generator}, which initially map each of the
+     * keys returned by {@code keys} for the indexes {@code 0} to the key count to zero.
+     */
+    public static <K> AtomicLongMapScalabilityTester<K> forGenerator(
+            TestAtomicLongMapGenerator<K> generator, IntFunction<? extends K> keys) {
+        return new AtomicLongMapScalabilityTester<>(generator, keys);
+    }
+
+    private final TestAtomicLongMapGenerator<K> generator;
+    private final IntFunction<? extends K> keys;
+    private int keyCount = DEFAULT_KEY_COUNT;
+
+    private AtomicLongMapScalabilityTester(
+            TestAtomicLongMapGenerator<K> generator, IntFunction<? extends K> keys) {
+        super("AtomicLongMap");
+        this.generator = checkNotNull(generator);
+        this.keys = checkNotNull(keys);
+    }
+
+    /** Sets the number of distinct keys that the threads update. Defaults to 16. */
+    public AtomicLongMapScalabilityTester<K> withKeys(int keyCount) {
+        checkArgument(keyCount > 0, "keyCount (%s) must be positive", keyCount);
+        this.keyCount = keyCount;
+        return this;
+    }
+
+    @Override
+    protected void measureWorkloads(ThroughputMeasurer measurer) {
+        K[] keyArray = generator.createKeyArray(keyCount);
+        Entry<K, Long>[] entries = generator.createArray(keyCount);
+        for (int i = 0; i < keyCount; i++) {
+            keyArray[i] = keys.apply(i);
+            entries[i] = Helpers.mapEntry(keyArray[i], 0L);
+        }
+        measure(measurer, "get", keyArray, entries, (map, key, index) -> map.get(key));
+        measure(
+                measurer,
+                "incrementAndGet",
+                keyArray,
+                entries,
+                (map, key, index) -> map.incrementAndGet(key));
+        measure(
+                measurer,
+                "getAndAdd",
+                keyArray,
+                entries,
+                (map, key, index) -> map.getAndAdd(key, (index & 1) == 0 ? 1 : -1));
+        measure(
+                measurer,
+                "increment, decrement and removeIfZero",
+                keyArray,
+                entries,
+                (map, key, index) -> {
+                    map.incrementAndGet(key);
+                    long value = map.decrementAndGet(key);
+                    return map.removeIfZero(key) ? value + 1 : value;
+                });
+    }
+
+    private void measure(
+            ThroughputMeasurer measurer,
+            String operation,
+            K[] keyArray,
+            Entry<K, Long>[] entries,
+            Call<K> call) {
+        measurer.measure(
+                operation,
+                String.format(Locale.ROOT, "%s on %s keys", operation, keyCount),
+                threads -> {
+                    AtomicLongMap<K> map = generator.create((Object[]) entries);
+                    // each thread starts at a different key
+                    return (thread, index) ->
+                            call.run(map, keyArray[(int) ((thread + index) % keyArray.length)], index);
+                });
+    }
+
+    /** A call to the map under test, given the key and the number of previous calls by the thread. */
+    private interface Call<K> {
+        long run(AtomicLongMap<K> map, K key, long index);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.collect.testing.AbstractTester;
+import com.google.common.collect.testing.FeatureSpecificTestSuiteBuilder;
+import com.google.common.collect.testing.MapTestSuiteBuilder;
+import com.google.common.collect.testing.OneSizeTestContainerGenerator;
+import com.google.common.collect.testing.PerCollectionSizeTestSuiteBuilder;
+import com.google.common.collect.testing.google.DerivedGoogleCollectionGenerators.AtomicLongMapAsMapGenerator;
+import com.google.common.testing.junit.TestSuite;
+import com.google.common.util.concurrent.AtomicLongMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+
+/**
+ * Creates, based on your criteria, a JUnit test suite that exhaustively tests an {@code
+ * AtomicLongMap}, as created by a generator from sample keys and their initial values. Besides its
+ * own updates, such as {@code incrementAndGet} and {@code removeIfZero}, single-threaded and
+ * concurrently, the suite tests {@link AtomicLongMap#asMap} with {@link MapTestSuiteBuilder} as an
+ * unmodifiable map.
+ *
+ * <p>As for maps, the sizes to test are given as {@link
+ * com.google.common.collect.testing.features.CollectionSize} features. The throughput of an {@code
+ * AtomicLongMap} under contention is measured by {@link AtomicLongMapScalabilityTester} instead.
+ */
+public class AtomicLongMapTestSuiteBuilder<K>
+        extends PerCollectionSizeTestSuiteBuilder<
+        AtomicLongMapTestSuiteBuilder<K>,
+        TestAtomicLongMapGenerator<K>,
+        AtomicLongMap<K>,
+        Entry<K, Long>> {
+    public static <K> AtomicLongMapTestSuiteBuilder<K> using(TestAtomicLongMapGenerator<K> generator) {
+        return new AtomicLongMapTestSuiteBuilder<K>().usingGenerator(generator);
+    }
+
+    @Override
+    protected List<Class<? extends AbstractTester>> getTesters() {
+        List<Class<? extends AbstractTester>> testers = new ArrayList<>();
+        testers.add(AtomicLongMapGetTester.class);
+        testers.add(AtomicLongMapAddTester.class);
+        testers.add(AtomicLongMapRemoveTester.class);
+        testers.add(AtomicLongMapAsMapTester.class);
+        testers.add(AtomicLongMapThreadSafetyTester.class);
+        return testers;
+    }
+
+    @Override
+    protected List<TestSuite> createDerivedSuites(
+            FeatureSpecificTestSuiteBuilder<
+                    ?, ? extends OneSizeTestContainerGenerator<AtomicLongMap<K>, Entry<K, Long>>>
+                    parentBuilder) {
+        List<TestSuite> derived = super.createDerivedSuites(parentBuilder);
+        derived.add(
+                MapTestSuiteBuilder.using(
+                                new AtomicLongMapAsMapGenerator<K>(parentBuilder.getSubjectGenerator()))
+                        .withFeatures(parentBuilder.getFeatures())
+                        .named(parentBuilder.getName() + " asMap")
+                        .suppressing(parentBuilder.getSuppressedTests())
+                        .withSetUp(parentBuilder.getSetUp())
+                        .withTearDown(parentBuilder.getTearDown())
+                        .createTestSuite());
+        return derived;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.collect.testing.Helpers;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.collect.testing.google.GoogleHelpers.assertUnbrokenSteps;
+import static com.google.common.collect.testing.google.GoogleHelpers.stepsPerThread;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A generic JUnit test which calls the updates of an {@code AtomicLongMap} on one key from several
+ * threads at once, and checks that no update is lost. Since each update returns the value it
+ * replaced or the value it left, the tester checks that the updates can be put in an order in which
+ * each one found the value that the previous one left, as well as the exact final value. An {@code
+ * AtomicLongMap} is always thread-safe, so these tests need no feature. Can't be invoked directly;
+ * please see {@link AtomicLongMapTestSuiteBuilder}.
+ */
+public class AtomicLongMapThreadSafetyTester<K> extends AbstractAtomicLongMapTester<K> {
+    private static final int THREADS = 4;
+
+    /** The initial value of a key from which the threads only subtract, more than they can subtract. */
+    private static final long LARGE_VALUE = 1L << 40;
+
+    public void testConcurrentIncrementAndGet_exactValues() {
+        List<List<long[]>> steps = stepsPerThread(THREADS);
+        Helpers.runConcurrently(
+                THREADS,
+                thread -> {
+                    Helpers.repeatForMinDuration(
+                            () -> steps.get(thread).add(new long[] {getMap().incrementAndGet(k3()) - 1, 1}));
+                });
+        assertUnbrokenSteps("incrementAndGet", steps, 0, getMap().get(k3()));
+    }
+
+    public void testConcurrentAddAndGet_exactValues() {
+        List<List<long[]>> steps = stepsPerThread(THREADS);
+        Helpers.runConcurrently(
+                THREADS,
+                thread -> {
+                    long delta = thread + 1;
+                    Helpers.repeatForMinDuration(
+                            () -> steps.get(thread).add(new long[] {getMap().addAndGet(k3(), delta) - delta, delta}));
+                });
+        assertUnbrokenSteps("addAndGet", steps, 0, getMap().get(k3()));
+        assertEquals(sampleSum() + getMap().get(k3()), getMap().sum());
+    }
+
+    public void testConcurrentGetAndAdd_exactValues() {
+        getMap().put(k3(), LARGE_VALUE);
+        List<List<long[]>> steps = stepsPerThread(THREADS);
+        Helpers.runConcurrently(
+                THREADS,
+                thread -> {
+                    long delta = thread + 1;
+                    Helpers.repeatForMinDuration(
+                            () -> {
+                                // a subtraction from a value is the reverse of an addition to the lower value
+                                long previousValue = getMap().getAndAdd(k3(), -delta);
+                                steps.get(thread).add(new long[] {previousValue - delta, delta});
+                            });
+                });
+        assertUnbrokenSteps("getAndAdd", steps, getMap().get(k3()), LARGE_VALUE);
+    }
+
+    public void testConcurrentRemoveIfZero_noLostUpdates() {
+        Helpers.runConcurrently(
+                THREADS,
+                thread -> {
+                    Helpers.repeatForMinDuration(
+                            () -> {
+                                // the other threads subtract no more than they have added themselves
+                                long value = getMap().incrementAndGet(k3());
+                                assertTrue(value >= 1, "incrementAndGet returned " + value);
+                                value = getMap().decrementAndGet(k3());
+                                assertTrue(value >= 0, "decrementAndGet after incrementAndGet returned " + value);
+                                getMap().removeIfZero(k3());
+                            });
+                });
+        assertEquals(0, getMap().get(k3()));
+        getMap().removeIfZero(k3());
+        assertFalse(getMap().containsKey(k3()));
+        expectUnchanged();
+    }
+
+    public void testConcurrentSum_neverDecreasesWhileAdding() {
+        AtomicLong added = new AtomicLong();
+        // read by the single reader only
+        long[] last = {sampleSum()};
+        Helpers.runWritersAndReaders(
+                THREADS - 1,
+                1,
+                thread -> {
+                    getMap().incrementAndGet(thread % 2 == 0 ? k3() : k4());
+                    added.incrementAndGet();
+                },
+                () -> {
+                    long sum = getMap().sum();
+                    assertTrue(
+                            sum >= last[0],
+                            "sum() returned " + sum + " after " + last[0] + " while values were only incremented");
+                    last[0] = sum;
+                });
+        assertEquals(sampleSum() + added.get(), getMap().sum());
+        assertEquals(added.get(), getMap().get(k3()) + getMap().get(k4()));
+    }
+}
@@ -60,6 +60,7 @@ public class BiMapTestSuiteBuilder<K, V>
         testers.add(BiMapInverseTester.class);
         testers.add(BiMapRemoveTester.class);
         testers.add(BiMapClearTester.class);
+        testers.add(BiMapViewCachingTester.class);
         return testers;
     }
 
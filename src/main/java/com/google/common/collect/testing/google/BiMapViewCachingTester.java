@@ -0,0 +1,31 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.collect.testing.features.MapFeature;
+
+import static com.google.common.collect.testing.Helpers.assertCachedView;
+import static com.google.common.collect.testing.features.MapFeature.CACHES_VIEWS;
+
+/** Tests that {@code BiMap.inverse()} is cached. */
+public class BiMapViewCachingTester<K, V> extends AbstractBiMapTester<K, V> {
+    @MapFeature.Require(CACHES_VIEWS)
+    public void testInverse_cached() {
+        assertCachedView("inverse()", () -> getMap().inverse());
+    }
+}
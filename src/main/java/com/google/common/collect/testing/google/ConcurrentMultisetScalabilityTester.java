@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.annotations.Beta;
+import com.google.common.collect.Multiset;
+import com.google.common.collect.testing.AbstractScalabilityTester;
+import com.google.common.collect.testing.ThroughputMeasurer;
+
+import java.util.Locale;
+import java.util.function.IntFunction;
+import java.util.function.ToLongBiFunction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Tester for how the throughput of a concurrent multiset, used as a set of counters, scales with the
+ * number of threads using it. For each of {@code count(e)}, {@code add(e, 1)}, {@code add(e, 1)}
+ * followed by {@code remove(e, 1)}, and an increment by conditional {@code setCount(e, oldCount,
+ * oldCount + 1)} retried until it succeeds, the tester runs the operation on 1, 2, 4 and so on up to
+ * the maximum number of threads, each time on a fresh multiset created by the generator, and
+ * reports the operations per second and the speedup over a single thread. All threads update the
+ * same few elements, as hot counters do.
+ *
+ * <p>A multiset that serializes its operations cannot speed up, and usually loses throughput as
+ * threads contend for the lock. By default, {@link #test} fails only if the throughput at some
+ * number of threads falls below half of the single-threaded throughput; {@link
+ * #expectThroughputRatioAtLeast} can demand a speedup instead, which of course needs at least as
+ * many processors as threads. The correctness of the counts under contention is checked by the
+ * suites of {@link MultisetTestSuiteBuilder} for multisets with {@link
+ * com.google.common.collect.testing.features.CollectionFeature#THREAD_SAFE}.
+ *
+ * <p>Example usage, with a generator that is also passed to {@link MultisetTestSuiteBuilder}:
+ *
+ * <pre>
+ * ConcurrentMultisetScalabilityTester.forGenerator(generator, i -&gt; "e" + i)
+ *     .named("ConcurrentHashMultiset")
+ *     .test();
+ * </pre>
+ */
+@Beta
+public final class ConcurrentMultisetScalabilityTester<E>
+        extends AbstractScalabilityTester<ConcurrentMultisetScalabilityTester<E>> {
+    private static final int DEFAULT_ELEMENT_COUNT = 16;
+
+    /**
+     * Creates a tester for the multisets created by {@code generator}, which initially contain one
+     * occurrence of each of the elements returned by {@code elements} for the indexes {@code 0} to
+     * the element count.
+     */
+    public static <E> ConcurrentMultisetScalabilityTester<E> forGenerator(
+            TestMultisetGenerator<E> generator, IntFunction<? extends E> elements) {
+        return new ConcurrentMultisetScalabilityTester<>(generator, elements);
+    }
+
+    private final TestMultisetGenerator<E> generator;
+    private final IntFunction<? extends E> elements;
+    private int elementCount = DEFAULT_ELEMENT_COUNT;
+
+    private ConcurrentMultisetScalabilityTester(
+            TestMultisetGenerator<E> generator, IntFunction<? extends E> elements) {
+        super("multiset");
+        this.generator = checkNotNull(generator);
+        this.elements = checkNotNull(elements);
+    }
+
+    /** Sets the number of distinct elements that the threads update. Defaults to 16. */
+    public ConcurrentMultisetScalabilityTester<E> withElements(int elementCount) {
+        checkArgument(elementCount > 0, "elementCount (%s) must be positive", elementCount);
+        this.elementCount = elementCount;
+        return this;
+    }
+
+    @Override
+    protected void measureWorkloads(ThroughputMeasurer measurer) {
+        @SuppressWarnings("unchecked") // the generator's elements are Es
+        E[] elementArray = (E[]) new Object[elementCount];
+        for (int i = 0; i < elementCount; i++) {
+            elementArray[i] = elements.apply(i);
+        }
+        measure(measurer, "count", elementArray, Multiset::count);
+        measure(measurer, "add", elementArray, (multiset, element) -> multiset.add(element, 1));
+        measure(
+                measurer,
+                "add and remove",
+                elementArray,
+                (multiset, element) -> {
+                    multiset.add(element, 1);
+                    return multiset.remove(element, 1);
+                });
+        measure(
+                measurer,
+                "conditional setCount",
+                elementArray,
+                (multiset, element) -> {
+                    int count;
+                    do {
+                        count = multiset.count(element);
+                    } while (!multiset.setCount(element, count, count + 1));
+                    return count;
+                });
+    }
+
+    private void measure(
+            ThroughputMeasurer measurer,
+            String operation,
+            E[] elementArray,
+            ToLongBiFunction<Multiset<E>, E> call) {
+        measurer.measure(
+                operation,
+                String.format(Locale.ROOT, "%s on %s elements", operation, elementCount),
+                threads -> {
+                    Multiset<E> multiset = generator.create((Object[]) elementArray);
+                    // each thread starts at a different element
+                    return (thread, index) ->
+                            call.applyAsLong(multiset, elementArray[(int) ((thread + index) % elementArray.length)]);
+                });
+    }
+}
@@ -24,6 +24,7 @@ import com.google.common.collect.testing.SampleElements;
 import com.google.common.collect.testing.TestMapGenerator;
 import com.google.common.collect.testing.TestSetGenerator;
 import com.google.common.collect.testing.TestSubjectGenerator;
+import com.google.common.util.concurrent.AtomicLongMap;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -209,6 +210,51 @@ public final class DerivedGoogleCollectionGenerators {
         }
     }
 
+    public static class AtomicLongMapAsMapGenerator<K>
+            implements TestMapGenerator<K, Long>, DerivedGenerator {
+        private final OneSizeTestContainerGenerator<AtomicLongMap<K>, Entry<K, Long>> generator;
+
+        public AtomicLongMapAsMapGenerator(
+                OneSizeTestContainerGenerator<AtomicLongMap<K>, Entry<K, Long>> generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public SampleElements<Entry<K, Long>> samples() {
+            return generator.samples();
+        }
+
+        @Override
+        public Map<K, Long> create(Object... elements) {
+            return generator.create(elements).asMap();
+        }
+
+        @Override
+        public Entry<K, Long>[] createArray(int length) {
+            return generator.createArray(length);
+        }
+
+        @Override
+        public Iterable<Entry<K, Long>> order(List<Entry<K, Long>> insertionOrder) {
+            return generator.order(insertionOrder);
+        }
+
+        @Override
+        public K[] createKeyArray(int length) {
+            return ((TestAtomicLongMapGenerator<K>) generator.getInnerGenerator()).createKeyArray(length);
+        }
+
+        @Override
+        public Long[] createValueArray(int length) {
+            return new Long[length];
+        }
+
+        @Override
+        public TestSubjectGenerator<?> getInnerGenerator() {
+            return generator;
+        }
+    }
+
     private DerivedGoogleCollectionGenerators() {
     }
 }
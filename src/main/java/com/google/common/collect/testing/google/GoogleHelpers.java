@@ -18,6 +18,11 @@ package com.google.common.collect.testing.google;
 
 import com.google.common.collect.Multimap;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
 /**
@@ -35,4 +40,38 @@ final class GoogleHelpers {
             fail("Not true that " + multimap + " is empty");
         }
     }
+
+    /**
+     * Returns a list for each of {@code threads} threads, in which the thread records the steps of
+     * its concurrent updates for {@link #assertUnbrokenSteps}.
+     */
+    static List<List<long[]>> stepsPerThread(int threads) {
+        List<List<long[]>> steps = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            steps.add(new ArrayList<>());
+        }
+        return steps;
+    }
+
+    /**
+     * Asserts that the steps recorded by the threads, each of which is a value found by an update and
+     * the amount it added to that value, form a sequence from {@code fromValue} to {@code toValue} in
+     * which each step starts where the previous one ended. An update that is lost under contention
+     * leaves a step that starts at the same value as another one.
+     */
+    static void assertUnbrokenSteps(
+            String operation, List<List<long[]>> stepsPerThread, long fromValue, long toValue) {
+        List<long[]> steps = new ArrayList<>();
+        stepsPerThread.forEach(steps::addAll);
+        steps.sort(Comparator.comparingLong(step -> step[0]));
+        long expected = fromValue;
+        for (long[] step : steps) {
+            assertEquals(
+                    expected,
+                    step[0],
+                    operation + " found a value that no other update left, so some update was lost");
+            expected += step[1];
+        }
+        assertEquals(toValue, expected, "the final value");
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.collect.testing.AbstractTester;
+import com.google.common.collect.testing.Helpers;
+import com.google.common.collect.testing.QueueTestSuiteBuilder;
+import com.google.common.collect.testing.TestPriorityQueueGenerator;
+import com.google.common.collect.testing.features.QueueFeature;
+import com.google.common.testing.junit.TestSuite;
+
+import java.util.List;
+
+/**
+ * Creates, based on your criteria, a JUnit test suite that exhaustively tests a {@code
+ * MinMaxPriorityQueue}, including its double-ended operations and {@code maximumSize} eviction.
+ *
+ * <p><b>Warning:</b> expects the generator to create instances of {@link
+ * com.google.common.collect.MinMaxPriorityQueue}.
+ */
+public class MinMaxPriorityQueueTestSuiteBuilder<E> extends QueueTestSuiteBuilder<E> {
+    public static <E> MinMaxPriorityQueueTestSuiteBuilder<E> using(
+            TestPriorityQueueGenerator<E> generator) {
+        MinMaxPriorityQueueTestSuiteBuilder<E> result = new MinMaxPriorityQueueTestSuiteBuilder<>();
+        result.usingGenerator(generator);
+        return result;
+    }
+
+    @Override
+    public TestSuite createTestSuite() {
+        withFeatures(QueueFeature.PRIORITY_ORDERED);
+        return super.createTestSuite();
+    }
+
+    @Override
+    protected List<Class<? extends AbstractTester>> getTesters() {
+        List<Class<? extends AbstractTester>> testers = Helpers.copyToList(super.getTesters());
+        testers.add(MinMaxPriorityQueueTester.class);
+        return testers;
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.collect.MinMaxPriorityQueue;
+import com.google.common.collect.testing.Complexity;
+import com.google.common.collect.testing.Helpers.CountingComparator;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.testers.AbstractPriorityQueueTester;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_ADD;
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_REMOVE;
+import static com.google.common.collect.testing.features.CollectionSize.SEVERAL;
+import static com.google.common.collect.testing.features.CollectionSize.ZERO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tester for the double-ended operations and the {@code maximumSize} eviction of {@code
+ * MinMaxPriorityQueue}, including the number of comparisons they make. Can't be invoked directly;
+ * please see {@link MinMaxPriorityQueueTestSuiteBuilder}.
+ */
+public class MinMaxPriorityQueueTester<E> extends AbstractPriorityQueueTester<E> {
+    private static final int SMALL_SIZE = 1 << 8;
+    private static final int LARGE_SIZE = 1 << 16;
+    private static final int OPERATIONS = 1 << 8;
+
+    private MinMaxPriorityQueue<E> getMinMaxPriorityQueue() {
+        return (MinMaxPriorityQueue<E>) getQueue();
+    }
+
+    private MinMaxPriorityQueue<Integer> createLargeQueue(
+            Comparator<? super Integer> comparator, int size) {
+        return (MinMaxPriorityQueue<Integer>)
+                getPriorityQueueGenerator().create(comparator, randomIntegers(size));
+    }
+
+    @CollectionSize.Require(ZERO)
+    public void testPeekLast_empty() {
+        assertNull(
+                getMinMaxPriorityQueue().peekLast(),
+                "emptyQueue.peekLast() should return null");
+        expectUnchanged();
+    }
+
+    @CollectionSize.Require(absent = ZERO)
+    public void testPeekLast_greatest() {
+        assertEquals(
+                getOrderedElements().get(getNumElements() - 1),
+                getMinMaxPriorityQueue().peekLast(),
+                "peekLast() should return the greatest element");
+        expectUnchanged();
+    }
+
+    @CollectionFeature.Require(SUPPORTS_REMOVE)
+    @CollectionSize.Require(absent = ZERO)
+    public void testPollLast_greatest() {
+        E greatest = getOrderedElements().get(getNumElements() - 1);
+        assertEquals(
+                greatest,
+                getMinMaxPriorityQueue().pollLast(),
+                "pollLast() should return the greatest element");
+        expectMissing(greatest);
+    }
+
+    @CollectionFeature.Require(SUPPORTS_REMOVE)
+    @CollectionSize.Require(ZERO)
+    public void testRemoveLast_empty() {
+        try {
+            getMinMaxPriorityQueue().removeLast();
+            fail("emptyQueue.removeLast() should throw");
+        } catch (NoSuchElementException expected) {
+        }
+        expectUnchanged();
+    }
+
+    @CollectionFeature.Require(SUPPORTS_REMOVE)
+    public void testPollFirstAndLast_priorityOrder() {
+        assertPollsFromBothEnds(getOrderedElements(), getMinMaxPriorityQueue());
+    }
+
+    @CollectionFeature.Require(SUPPORTS_REMOVE)
+    @CollectionSize.Require(SEVERAL)
+    public void testPollFirstAndLast_largeRandomInput() {
+        List<Integer> ordered = randomIntegers(LARGE_SIZE);
+        ordered.sort(null);
+        assertPollsFromBothEnds(ordered, createLargeQueue(Comparator.naturalOrder(), LARGE_SIZE));
+    }
+
+    /*
+     * Offers elements greater than all others, which must travel to the root of the max-heap levels.
+     */
+    @CollectionFeature.Require(SUPPORTS_ADD)
+    @CollectionSize.Require(SEVERAL)
+    public void testOfferGreatest_logarithmicComparisons() {
+        assertComparisonsScale(
+                "offer() of the greatest element",
+                Complexity.LOG,
+                SMALL_SIZE,
+                offerGreatestComparisons(SMALL_SIZE) / OPERATIONS,
+                LARGE_SIZE,
+                offerGreatestComparisons(LARGE_SIZE) / OPERATIONS);
+    }
+
+    @CollectionFeature.Require(SUPPORTS_REMOVE)
+    @CollectionSize.Require(SEVERAL)
+    public void testPollLast_logarithmicComparisons() {
+        assertComparisonsScale(
+                "pollLast()",
+                Complexity.LOG,
+                SMALL_SIZE,
+                pollLastComparisons(SMALL_SIZE) / OPERATIONS,
+                LARGE_SIZE,
+                pollLastComparisons(LARGE_SIZE) / OPERATIONS);
+    }
+
+    /*
+     * maximumSize is a property of the builder rather than of the queues created by the generator,
+     * so this test and the next one build bounded queues themselves.
+     */
+    @CollectionSize.Require(SEVERAL)
+    public void testMaximumSize_keepsLeastElements() {
+        List<Integer> input = randomIntegers(LARGE_SIZE);
+        MinMaxPriorityQueue<Integer> queue =
+                MinMaxPriorityQueue.orderedBy(Comparator.<Integer>naturalOrder())
+                        .maximumSize(SMALL_SIZE)
+                        .create();
+        for (Integer element : input) {
+            queue.offer(element);
+            assertTrue(queue.size() <= SMALL_SIZE, "size() should never exceed maximumSize");
+        }
+        List<Integer> ordered = new ArrayList<>(input);
+        ordered.sort(null);
+        assertPollsFromBothEnds(ordered.subList(0, SMALL_SIZE), queue);
+    }
+
+    @CollectionSize.Require(SEVERAL)
+    public void testMaximumSize_logarithmicComparisons() {
+        assertComparisonsScale(
+                "offer() to a full queue with maximumSize",
+                Complexity.LOG,
+                SMALL_SIZE,
+                boundedOfferComparisons(SMALL_SIZE) / (4 * SMALL_SIZE),
+                LARGE_SIZE,
+                boundedOfferComparisons(LARGE_SIZE) / (4 * LARGE_SIZE));
+    }
+
+    private static <T> void assertPollsFromBothEnds(List<T> ordered, MinMaxPriorityQueue<T> queue) {
+        int first = 0;
+        int last = ordered.size() - 1;
+        while (first <= last) {
+            assertEquals(ordered.get(first++), queue.pollFirst(), "pollFirst()");
+            if (first <= last) {
+                assertEquals(ordered.get(last--), queue.pollLast(), "pollLast()");
+            }
+        }
+        assertNull(queue.pollFirst(), "pollFirst() should return null after the queue is drained");
+    }
+
+    private double offerGreatestComparisons(int size) {
+        CountingComparator<Integer> comparator = new CountingComparator<>(Comparator.naturalOrder());
+        MinMaxPriorityQueue<Integer> queue = createLargeQueue(comparator, size);
+        comparator.resetCalls();
+        for (int i = 1; i <= OPERATIONS; i++) {
+            queue.offer(size + i);
+        }
+        return comparator.calls();
+    }
+
+    private double pollLastComparisons(int size) {
+        CountingComparator<Integer> comparator = new CountingComparator<>(Comparator.naturalOrder());
+        MinMaxPriorityQueue<Integer> queue = createLargeQueue(comparator, size);
+        comparator.resetCalls();
+        for (int i = 0; i < OPERATIONS; i++) {
+            queue.pollLast();
+        }
+        return comparator.calls();
+    }
+
+    private static double boundedOfferComparisons(int maximumSize) {
+        CountingComparator<Integer> comparator = new CountingComparator<>(Comparator.naturalOrder());
+        MinMaxPriorityQueue<Integer> queue =
+                MinMaxPriorityQueue.orderedBy(comparator).maximumSize(maximumSize).create();
+        for (Integer element : randomIntegers(4 * maximumSize)) {
+            queue.offer(element);
+        }
+        return comparator.calls();
+    }
+}
@@ -95,7 +95,8 @@ public class MultimapTestSuiteBuilder<K, V, M extends Multimap<K, V>>
                 MultimapRemoveEntryTester.class,
                 MultimapRemoveAllTester.class,
                 MultimapToStringTester.class,
-                MultimapValuesTester.class);
+                MultimapValuesTester.class,
+                MultimapViewCachingTester.class);
     }
 
     @Override
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.collect.Multimap;
+import com.google.common.collect.testing.features.MapFeature;
+
+import static com.google.common.collect.testing.Helpers.assertCachedView;
+import static com.google.common.collect.testing.features.MapFeature.CACHES_VIEWS;
+
+/** Tests that the views of a {@code Multimap} are cached. */
+public class MultimapViewCachingTester<K, V> extends AbstractMultimapTester<K, V, Multimap<K, V>> {
+    @MapFeature.Require(CACHES_VIEWS)
+    public void testAsMap_cached() {
+        assertCachedView("asMap()", () -> multimap().asMap());
+    }
+
+    @MapFeature.Require(CACHES_VIEWS)
+    public void testKeys_cached() {
+        assertCachedView("keys()", () -> multimap().keys());
+    }
+
+    @MapFeature.Require(CACHES_VIEWS)
+    public void testEntries_cached() {
+        assertCachedView("entries()", () -> multimap().entries());
+    }
+
+    @MapFeature.Require(CACHES_VIEWS)
+    public void testKeySet_cached() {
+        assertCachedView("keySet()", () -> multimap().keySet());
+    }
+
+    @MapFeature.Require(CACHES_VIEWS)
+    public void testValues_cached() {
+        assertCachedView("values()", () -> multimap().values());
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.testing.AllocationMeasurer;
+
+import static com.google.common.collect.testing.features.CollectionFeature.ALLOCATION_FREE_READS;
+import static com.google.common.collect.testing.features.CollectionSize.ZERO;
+
+/**
+ * Tests that {@code Multiset#count} does not allocate heap memory, as measured by {@link
+ * AllocationMeasurer}. The other read-only queries are covered by {@link
+ * com.google.common.collect.testing.testers.CollectionAllocationFreeReadTester}.
+ */
+public class MultisetAllocationFreeReadTester<E> extends AbstractMultisetTester<E> {
+    // Accumulates results so that the measured operations aren't optimized away.
+    private int sink;
+
+    @CollectionFeature.Require(ALLOCATION_FREE_READS)
+    @CollectionSize.Require(absent = ZERO)
+    public void testCount_yes_allocationFree() {
+        E present = e0();
+        AllocationMeasurer.assertAllocationFree(
+                "count(present)", () -> sink += getMultiset().count(present));
+    }
+
+    @CollectionFeature.Require(ALLOCATION_FREE_READS)
+    public void testCount_no_allocationFree() {
+        E absent = e3();
+        AllocationMeasurer.assertAllocationFree(
+                "count(notPresent)", () -> sink += getMultiset().count(absent));
+    }
+}
@@ -36,7 +36,12 @@ public enum MultisetFeature implements Feature<Multiset> {
      * Indicates that elements from {@code Multiset.entrySet()} update to reflect changes in the
      * backing multiset.
      */
-    ENTRIES_ARE_VIEWS;
+    ENTRIES_ARE_VIEWS,
+    /**
+     * Indicates that {@code Multiset.elementSet()} and {@code Multiset.entrySet()} return the same
+     * instance every time, so that calling them repeatedly is {@code O(1)} and does not allocate.
+     */
+    CACHES_VIEWS;
 
     @Override
     public Set<Feature<? super Multiset>> getImpliedFeatures() {
@@ -18,12 +18,19 @@ package com.google.common.collect.testing.google;
 
 import com.google.common.annotations.GwtCompatible;
 import com.google.common.collect.Multiset;
+import com.google.common.collect.testing.Helpers;
 import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
 import com.google.common.testing.SerializableTester;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Set;
 
+import static com.google.common.collect.testing.features.CollectionFeature.SERIALIZABLE;
 import static com.google.common.collect.testing.features.CollectionFeature.SERIALIZABLE_INCLUDING_VIEWS;
+import static com.google.common.collect.testing.features.CollectionSize.SEVERAL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
@@ -45,4 +52,16 @@ public class MultisetSerializationTester<E> extends AbstractMultisetTester<E> {
         Set<E> expected = getMultiset().elementSet();
         assertEquals(expected, SerializableTester.reserialize(expected));
     }
+
+    /** The serialized form should store a count with each distinct element, not repeat it. */
+    @CollectionFeature.Require(SERIALIZABLE)
+    @CollectionSize.Require(SEVERAL)
+    public void testSerializedSize_independentOfCount() {
+        Collection<E> single = getSubjectGenerator().create(e0());
+        Object[] copies = new Object[100];
+        Arrays.fill(copies, e0());
+        Collection<E> repeated = getSubjectGenerator().create(copies);
+        Helpers.assertSerializedSizeGrowth(
+                single, Collections.singletonList(e0()), repeated, Collections.singletonList(e0()), 0);
+    }
 }
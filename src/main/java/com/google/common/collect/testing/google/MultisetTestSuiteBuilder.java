@@ -72,6 +72,7 @@ public class MultisetTestSuiteBuilder<E>
         List<Class<? extends AbstractTester>> testers = Helpers.copyToList(super.getTesters());
         testers.add(CollectionSerializationEqualTester.class);
         testers.add(MultisetAddTester.class);
+        testers.add(MultisetAllocationFreeReadTester.class);
         testers.add(MultisetContainsTester.class);
         testers.add(MultisetCountTester.class);
         testers.add(MultisetElementSetTester.class);
@@ -80,10 +81,12 @@ public class MultisetTestSuiteBuilder<E>
         testers.add(MultisetReadsTester.class);
         testers.add(MultisetSetCountConditionallyTester.class);
         testers.add(MultisetSetCountUnconditionallyTester.class);
+        testers.add(MultisetThreadSafetyTester.class);
         testers.add(MultisetRemoveTester.class);
         testers.add(MultisetEntrySetTester.class);
         testers.add(MultisetIteratorTester.class);
         testers.add(MultisetSerializationTester.class);
+        testers.add(MultisetViewCachingTester.class);
         return testers;
     }
 
@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.collect.testing.Helpers;
+import com.google.common.collect.testing.features.CollectionFeature;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_ADD;
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_REMOVE;
+import static com.google.common.collect.testing.features.CollectionFeature.THREAD_SAFE;
+import static com.google.common.collect.testing.google.GoogleHelpers.assertUnbrokenSteps;
+import static com.google.common.collect.testing.google.GoogleHelpers.stepsPerThread;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A generic JUnit test which calls {@code add(e, n)}, {@code remove(e, n)}, conditional {@code
+ * setCount(e, oldCount, newCount)} and {@code count(e)} on one element from several threads at
+ * once, and checks the exact final count. Since each of the writes returns or is conditional on the
+ * count it replaced, the tester also checks that the writes can be put in an order in which each
+ * one found the count that the previous one left: no two increments start from the same count, and
+ * a conditional {@code setCount} succeeds only on the count it expected. Can't be invoked directly;
+ * please see {@link MultisetTestSuiteBuilder}.
+ */
+public class MultisetThreadSafetyTester<E> extends AbstractMultisetTester<E> {
+    private static final int THREADS = 4;
+
+    /** The initial count of an element that the threads only remove, more than they can remove. */
+    private static final int LARGE_COUNT = 1 << 30;
+
+    /** The initial count of an element that the threads decrement to zero. */
+    private static final int DECREMENTED_COUNT = 1 << 17;
+
+    @CollectionFeature.Require({SUPPORTS_ADD, THREAD_SAFE})
+    public void testConcurrentAdd_exactCounts() {
+        List<List<long[]>> steps = stepsPerThread(THREADS);
+        Helpers.runConcurrently(
+                THREADS,
+                thread -> {
+                    int occurrences = thread + 1;
+                    Helpers.repeatForMinDuration(
+                            () -> {
+                                int previousCount = getMultiset().add(e3(), occurrences);
+                                steps.get(thread).add(new long[] {previousCount, occurrences});
+                            });
+                });
+        assertUnbrokenSteps("add(e, n)", steps, 0, getMultiset().count(e3()));
+    }
+
+    @CollectionFeature.Require({SUPPORTS_ADD, SUPPORTS_REMOVE, THREAD_SAFE})
+    public void testConcurrentRemove_exactCounts() {
+        getMultiset().setCount(e3(), LARGE_COUNT);
+        List<List<long[]>> steps = stepsPerThread(THREADS);
+        Helpers.runConcurrently(
+                THREADS,
+                thread -> {
+                    int occurrences = thread + 1;
+                    Helpers.repeatForMinDuration(
+                            () -> {
+                                // a removal from a count is the reverse of an addition to the lower count
+                                int previousCount = getMultiset().remove(e3(), occurrences);
+                                steps.get(thread).add(new long[] {previousCount - occurrences, occurrences});
+                            });
+                });
+        assertUnbrokenSteps("remove(e, n)", steps, getMultiset().count(e3()), LARGE_COUNT);
+    }
+
+    @CollectionFeature.Require({SUPPORTS_ADD, SUPPORTS_REMOVE, THREAD_SAFE})
+    public void testConcurrentAddRemove_exactCounts() {
+        Helpers.runConcurrently(
+                THREADS,
+                thread -> {
+                    int occurrences = thread + 1;
+                    Helpers.repeatForMinDuration(
+                            () -> {
+                                getMultiset().add(e3(), occurrences);
+                                // the other threads remove no more than they have added themselves
+                                int previousCount = getMultiset().remove(e3(), occurrences);
+                                assertTrue(
+                                        previousCount >= occurrences,
+                                        "remove(e, " + occurrences + ") after add(e, " + occurrences + ") returned "
+                                                + previousCount);
+                            });
+                });
+        assertEquals(0, getMultiset().count(e3()));
+        expectUnchanged();
+    }
+
+    @CollectionFeature.Require({SUPPORTS_ADD, THREAD_SAFE})
+    public void testConcurrentSetCountConditionally_compareAndSet() {
+        List<List<long[]>> steps = stepsPerThread(THREADS);
+        Helpers.runConcurrently(
+                THREADS,
+                thread -> {
+                    Helpers.repeatForMinDuration(
+                            () -> {
+                                int count;
+                                do {
+                                    count = getMultiset().count(e3());
+                                } while (!getMultiset().setCount(e3(), count, count + 1));
+                                steps.get(thread).add(new long[] {count, 1});
+                            });
+                });
+        assertUnbrokenSteps("setCount(e, oldCount, oldCount + 1)", steps, 0, getMultiset().count(e3()));
+    }
+
+    @CollectionFeature.Require({SUPPORTS_ADD, SUPPORTS_REMOVE, THREAD_SAFE})
+    public void testConcurrentSetCountConditionally_toZero() {
+        getMultiset().setCount(e3(), DECREMENTED_COUNT);
+        List<List<long[]>> steps = stepsPerThread(THREADS);
+        Helpers.runConcurrently(
+                THREADS,
+                thread -> {
+                    for (int count = getMultiset().count(e3()); count > 0; count = getMultiset().count(e3())) {
+                        if (getMultiset().setCount(e3(), count, count - 1)) {
+                            steps.get(thread).add(new long[] {count - 1, 1});
+                        }
+                    }
+                });
+        assertUnbrokenSteps("setCount(e, oldCount, oldCount - 1)", steps, 0, DECREMENTED_COUNT);
+        assertFalse(getMultiset().contains(e3()), "an element set to a count of zero should be absent");
+        expectUnchanged();
+    }
+
+    @CollectionFeature.Require({SUPPORTS_ADD, THREAD_SAFE})
+    public void testConcurrentCount_neverDecreasesWhileAdding() {
+        AtomicInteger added = new AtomicInteger();
+        // read by the single reader only
+        int[] last = {0};
+        Helpers.runWritersAndReaders(
+                THREADS - 1,
+                1,
+                thread -> {
+                    getMultiset().add(e3());
+                    added.incrementAndGet();
+                },
+                () -> {
+                    int count = getMultiset().count(e3());
+                    assertTrue(
+                            count >= last[0],
+                            "count() returned " + count + " after " + last[0] + " while elements were only added");
+                    last[0] = count;
+                });
+        assertEquals(added.get(), getMultiset().count(e3()));
+    }
+}
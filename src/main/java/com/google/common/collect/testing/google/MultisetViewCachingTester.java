@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import static com.google.common.collect.testing.Helpers.assertCachedView;
+import static com.google.common.collect.testing.google.MultisetFeature.CACHES_VIEWS;
+
+/** Tests that {@code Multiset.elementSet()} and {@code Multiset.entrySet()} are cached. */
+public class MultisetViewCachingTester<E> extends AbstractMultisetTester<E> {
+    @MultisetFeature.Require(CACHES_VIEWS)
+    public void testElementSet_cached() {
+        assertCachedView("elementSet()", () -> getMultiset().elementSet());
+    }
+
+    @MultisetFeature.Require(CACHES_VIEWS)
+    public void testEntrySet_cached() {
+        assertCachedView("entrySet()", () -> getMultiset().entrySet());
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.collect.testing.TestContainerGenerator;
+import com.google.common.util.concurrent.AtomicLongMap;
+
+import java.util.Map.Entry;
+
+/**
+ * Creates atomic long maps, containing sample entries, to be tested.
+ */
+public interface TestAtomicLongMapGenerator<K>
+        extends TestContainerGenerator<AtomicLongMap<K>, Entry<K, Long>> {
+    K[] createKeyArray(int length);
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.collect.testing.Helpers;
+import com.google.common.collect.testing.SampleElements;
+import com.google.common.util.concurrent.AtomicLongMap;
+
+import java.util.List;
+import java.util.Map.Entry;
+
+/**
+ * Implementation helper for {@link TestAtomicLongMapGenerator} for use with atomic long maps of
+ * strings. The sample keys are those of {@link
+ * com.google.common.collect.testing.TestStringMapGenerator}, and each is mapped to its number.
+ */
+public abstract class TestStringAtomicLongMapGenerator
+        implements TestAtomicLongMapGenerator<String> {
+
+    @Override
+    public SampleElements<Entry<String, Long>> samples() {
+        return new SampleElements<>(
+                Helpers.mapEntry("one", 1L),
+                Helpers.mapEntry("two", 2L),
+                Helpers.mapEntry("three", 3L),
+                Helpers.mapEntry("four", 4L),
+                Helpers.mapEntry("five", 5L));
+    }
+
+    @Override
+    public final AtomicLongMap<String> create(Object... entries) {
+        @SuppressWarnings("unchecked")
+        Entry<String, Long>[] array = new Entry[entries.length];
+        int i = 0;
+        for (Object o : entries) {
+            @SuppressWarnings("unchecked")
+            Entry<String, Long> e = (Entry<String, Long>) o;
+            array[i++] = e;
+        }
+        return create(array);
+    }
+
+    protected abstract AtomicLongMap<String> create(Entry<String, Long>[] entries);
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public final Entry<String, Long>[] createArray(int length) {
+        return new Entry[length];
+    }
+
+    @Override
+    public final String[] createKeyArray(int length) {
+        return new String[length];
+    }
+
+    /** Returns the original element list, unchanged. */
+    @Override
+    public Iterable<Entry<String, Long>> order(List<Entry<String, Long>> insertionOrder) {
+        return insertionOrder;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.annotations.Beta;
+import com.google.common.collect.ImmutableBiMap;
+import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.testing.TestContainerGenerator;
+import com.google.common.testing.AllocationMeasurer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.IntFunction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tester for the paths on which Guava's immutable collections are supposed to avoid copying. For
+ * each container created by a {@link TestContainerGenerator}, such as those of {@link
+ * SetGenerators}, {@link ListGenerators} and {@link MapGenerators}, the tester asserts that:
+ *
+ * <ul>
+ *   <li>{@code copyOf} of the matching immutable type returns the container itself: {@link
+ *       ImmutableList#copyOf}, {@link ImmutableSet#copyOf}, {@link ImmutableSortedSet#copyOf} with
+ *       the same comparator, {@link ImmutableMap#copyOf}, {@link ImmutableBiMap#copyOf}, and {@link
+ *       ImmutableSortedMap#copyOf} and {@link ImmutableSortedMap#copyOfSorted};
+ *   <li>{@link ImmutableList#asList} returns the list itself, and {@link ImmutableCollection#asList}
+ *       of any other collection allocates at most a small view, however large the collection is.
+ * </ul>
+ *
+ * <p>Partial views, such as the results of {@code subList} or {@code headSet}, and the key set of
+ * an {@code ImmutableMap}, are copied by {@code copyOf} on purpose, so that the copy does not retain
+ * the larger backing array; don't test generators that create them. The allocation check passes
+ * trivially on JVMs where {@link AllocationMeasurer#isSupported} returns false.
+ *
+ * <p>Example usage:
+ *
+ * <pre>
+ * ZeroCopyTester.forGenerator(new SetGenerators.ImmutableSetCopyOfGenerator(), i -> "e" + i)
+ *     .named("ImmutableSet")
+ *     .test();
+ * </pre>
+ */
+@Beta
+public final class ZeroCopyTester<E> {
+    /**
+     * The most that a call to {@code asList()} may allocate: enough for a view object, but far less
+     * than a copy of the elements at the largest default size.
+     */
+    private static final int MAX_VIEW_BYTES = 128;
+
+    private static final int[] DEFAULT_SIZES = {1, 1024};
+
+    /** The number of fresh containers on which {@code asList()} is measured at each size. */
+    private static final int BATCH_SIZE = 64;
+
+    /**
+     * Creates a tester for the containers created by {@code generator}, populated with the elements
+     * returned by {@code elements} for the indexes {@code 0} to {@code size - 1}.
+     */
+    public static <E> ZeroCopyTester<E> forGenerator(
+            TestContainerGenerator<?, E> generator, IntFunction<? extends E> elements) {
+        return new ZeroCopyTester<>(generator, elements);
+    }
+
+    private final TestContainerGenerator<?, E> generator;
+    private final IntFunction<? extends E> elements;
+    private String name = "container";
+    private int[] sizes = DEFAULT_SIZES;
+
+    private ZeroCopyTester(TestContainerGenerator<?, E> generator, IntFunction<? extends E> elements) {
+        this.generator = checkNotNull(generator);
+        this.elements = checkNotNull(elements);
+    }
+
+    /** Names the container under test in failure messages. */
+    public ZeroCopyTester<E> named(String name) {
+        this.name = checkNotNull(name);
+        return this;
+    }
+
+    /** Replaces the sizes of the containers to test. */
+    public ZeroCopyTester<E> withSizes(int... sizes) {
+        checkArgument(sizes.length > 0, "no sizes given");
+        for (int size : sizes) {
+            checkArgument(size >= 0, "size (%s) must be nonnegative", size);
+        }
+        this.sizes = sizes.clone();
+        return this;
+    }
+
+    /** Runs all checks that apply to the type of the containers, at every size. */
+    public void test() {
+        List<String> failures = new ArrayList<>();
+        for (int size : sizes) {
+            Object container = create(size);
+            checkCopyOf(failures, container, size);
+            if (container instanceof ImmutableCollection) {
+                checkAsList(failures, size);
+            }
+        }
+        if (!failures.isEmpty()) {
+            fail(
+                    String.format(
+                            Locale.ROOT,
+                            "%s copies on a zero-copy path:%n  %s",
+                            name,
+                            String.join("\n  ", failures)));
+        }
+    }
+
+    private Object create(int size) {
+        Object[] contents = new Object[size];
+        for (int i = 0; i < size; i++) {
+            contents[i] = elements.apply(i);
+        }
+        return generator.create(contents);
+    }
+
+    private void checkCopyOf(List<String> failures, Object container, int size) {
+        if (container instanceof ImmutableSortedSet) {
+            ImmutableSortedSet<?> set = (ImmutableSortedSet<?>) container;
+            expectSame(failures, size, "ImmutableSortedSet.copyOf(comparator(), set)", set, copyOf(set));
+        } else if (container instanceof ImmutableSet) {
+            ImmutableSet<?> set = (ImmutableSet<?>) container;
+            expectSame(failures, size, "ImmutableSet.copyOf()", set, ImmutableSet.copyOf(set));
+        } else if (container instanceof ImmutableList) {
+            ImmutableList<?> list = (ImmutableList<?>) container;
+            expectSame(failures, size, "ImmutableList.copyOf()", list, ImmutableList.copyOf(list));
+            // ImmutableList.asList() is deprecated as trivial, which is what this checks
+            ImmutableCollection<?> collection = list;
+            expectSame(failures, size, "asList()", list, collection.asList());
+        } else if (container instanceof ImmutableSortedMap) {
+            ImmutableSortedMap<?, ?> map = (ImmutableSortedMap<?, ?>) container;
+            expectSame(
+                    failures, size, "ImmutableSortedMap.copyOfSorted()", map, ImmutableSortedMap.copyOfSorted(map));
+            expectSame(failures, size, "ImmutableSortedMap.copyOf(map, comparator())", map, copyOf(map));
+        } else if (container instanceof ImmutableBiMap) {
+            ImmutableBiMap<?, ?> map = (ImmutableBiMap<?, ?>) container;
+            expectSame(failures, size, "ImmutableBiMap.copyOf()", map, ImmutableBiMap.copyOf(map));
+            expectSame(failures, size, "ImmutableMap.copyOf()", map, ImmutableMap.copyOf(map));
+        } else if (container instanceof ImmutableMap) {
+            ImmutableMap<?, ?> map = (ImmutableMap<?, ?>) container;
+            expectSame(failures, size, "ImmutableMap.copyOf()", map, ImmutableMap.copyOf(map));
+        } else if (!(container instanceof ImmutableCollection)) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            Locale.ROOT,
+                            "%s is a %s, which is not an immutable collection or map",
+                            name,
+                            container.getClass().getName()));
+        }
+    }
+
+    private static <T> ImmutableSortedSet<T> copyOf(ImmutableSortedSet<T> set) {
+        return ImmutableSortedSet.copyOf(set.comparator(), set);
+    }
+
+    private static <K, V> ImmutableSortedMap<K, V> copyOf(ImmutableSortedMap<K, V> map) {
+        return ImmutableSortedMap.copyOf(map, map.comparator());
+    }
+
+    private static void expectSame(
+            List<String> failures, int size, String operation, Object container, Object result) {
+        if (result != container) {
+            failures.add(String.format(Locale.ROOT, "%s returned a copy at size %s", operation, size));
+        }
+    }
+
+    /**
+     * Measures the first call to {@code asList()} on fresh containers, since implementations may
+     * create the view lazily and cache it.
+     */
+    private void checkAsList(List<String> failures, int size) {
+        if (!AllocationMeasurer.isSupported()) {
+            return;
+        }
+        // The lists are stored so that the calls can't be optimized away.
+        Object[] lists = new Object[BATCH_SIZE];
+        // An unmeasured first batch loads the classes involved and sets up any one-time state, such as
+        // a view cached by a shared empty instance, so that only the per-call allocation is measured.
+        callAsList(createBatch(size), lists);
+        ImmutableCollection<?>[] batch = createBatch(size);
+        long before = AllocationMeasurer.currentThreadAllocatedBytes();
+        callAsList(batch, lists);
+        double bytesPerCall =
+                (AllocationMeasurer.currentThreadAllocatedBytes() - before) / (double) BATCH_SIZE;
+        if (bytesPerCall > MAX_VIEW_BYTES) {
+            failures.add(
+                    String.format(
+                            Locale.ROOT,
+                            "asList() allocated %.1f bytes per call at size %s, expected at most %s",
+                            bytesPerCall,
+                            size,
+                            MAX_VIEW_BYTES));
+        }
+    }
+
+    private ImmutableCollection<?>[] createBatch(int size) {
+        ImmutableCollection<?>[] batch = new ImmutableCollection<?>[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch[i] = (ImmutableCollection<?>) create(size);
+        }
+        return batch;
+    }
+
+    private static void callAsList(ImmutableCollection<?>[] batch, Object[] lists) {
+        for (int i = 0; i < batch.length; i++) {
+            lists[i] = batch[i].asList();
+        }
+    }
+}
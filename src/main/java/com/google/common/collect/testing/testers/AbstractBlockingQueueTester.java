@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import java.lang.Thread.State;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Base class for blocking queue tests.
+ */
+public class AbstractBlockingQueueTester<E> extends AbstractQueueTester<E> {
+    /** The timeout passed to the timed {@code offer} and {@code poll} when they are expected to expire. */
+    static final long TIMEOUT_MILLIS = 10;
+
+    protected final BlockingQueue<E> getBlockingQueue() {
+        return (BlockingQueue<E>) collection;
+    }
+
+    /** Offers {@code e3()} until a bounded queue is full, and returns the number of added copies. */
+    protected final int fillToCapacity() {
+        int added = 0;
+        while (getBlockingQueue().remainingCapacity() > 0) {
+            assertTrue(getBlockingQueue().offer(e3()), "offer() with remaining capacity should return true");
+            added++;
+        }
+        return added;
+    }
+
+    /**
+     * Waits until {@code thread}, once it has been set, blocks in a call that sets {@code returned}
+     * when it returns, and fails if the call returns first.
+     */
+    static void awaitBlocked(
+            AtomicReference<Thread> thread, AtomicBoolean returned, String description) {
+        while (true) {
+            assertFalse(returned.get(), description + " should block");
+            Thread blocked = thread.get();
+            if (blocked != null) {
+                State state = blocked.getState();
+                if (state == State.WAITING || state == State.TIMED_WAITING) {
+                    return;
+                }
+            }
+            Thread.yield();
+        }
+    }
+}
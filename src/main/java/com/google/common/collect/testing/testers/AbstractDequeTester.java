@@ -0,0 +1,29 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import java.util.Deque;
+
+/**
+ * Base class for deque collection tests.
+ */
+public class AbstractDequeTester<E> extends AbstractQueueTester<E> {
+    protected final Deque<E> getDeque() {
+        return (Deque<E>) collection;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.collect.testing.Complexity;
+import com.google.common.collect.testing.TestPriorityQueueGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.google.common.collect.testing.testers.Platform.format;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Base class for priority queue tests, with helpers for tests that use large inputs.
+ */
+public class AbstractPriorityQueueTester<E> extends AbstractQueueTester<E> {
+    /**
+     * The tolerated ratio between the observed and the expected growth of a comparison count. Counts
+     * are deterministic, so this can be tight enough to separate {@code O(log n)} from {@code O(1)}
+     * growth of the per-element cost at the sizes used by the tests.
+     */
+    private static final double SLACK = 1.5;
+
+    /**
+     * Returns the generator of the queue under test, which must be a {@link
+     * TestPriorityQueueGenerator} for tests with large inputs.
+     */
+    protected final TestPriorityQueueGenerator<E> getPriorityQueueGenerator() {
+        Object generator = getSubjectGenerator().getInnerGenerator();
+        if (!(generator instanceof TestPriorityQueueGenerator)) {
+            fail(format("PRIORITY_ORDERED requires a TestPriorityQueueGenerator, but got %s", generator));
+        }
+        return (TestPriorityQueueGenerator<E>) generator;
+    }
+
+    /**
+     * Returns {@code size} pseudorandom integers between {@code 0} and {@code size}, usually with
+     * some duplicates. The result is the same for every call with the same size.
+     */
+    protected static List<Integer> randomIntegers(int size) {
+        Random random = new Random(size);
+        List<Integer> integers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            integers.add(random.nextInt(size));
+        }
+        return integers;
+    }
+
+    /**
+     * Asserts that a comparison count, measured at two sizes, grows no faster than the given
+     * complexity.
+     */
+    protected static void assertComparisonsScale(
+            String operation,
+            Complexity complexity,
+            int smallSize,
+            double smallComparisons,
+            int largeSize,
+            double largeComparisons) {
+        double observedRatio = largeComparisons / Math.max(smallComparisons, 1);
+        double expectedRatio = complexity.growth(smallSize, largeSize);
+        if (observedRatio > SLACK * expectedRatio) {
+            fail(
+                    format(
+                            "%s: %.1f comparisons at size %s but %.1f comparisons at size %s (growth %.1fx, "
+                                    + "expected at most %.1fx for %s)",
+                            operation,
+                            smallComparisons,
+                            smallSize,
+                            largeComparisons,
+                            largeSize,
+                            observedRatio,
+                            SLACK * expectedRatio,
+                            complexity));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.collect.testing.Helpers;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.collect.testing.features.CollectionFeature.KNOWN_ORDER;
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_REMOVE;
+import static com.google.common.collect.testing.features.CollectionSize.SEVERAL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * A generic JUnit test which tests {@code drainTo} operations on a blocking queue. Can't be invoked
+ * directly; please see {@link com.google.common.collect.testing.BlockingQueueTestSuiteBuilder}.
+ */
+public class BlockingQueueDrainToTester<E> extends AbstractBlockingQueueTester<E> {
+    @CollectionFeature.Require(SUPPORTS_REMOVE)
+    public void testDrainTo() {
+        List<E> drained = new ArrayList<>();
+        assertEquals(getNumElements(), getBlockingQueue().drainTo(drained), "drainTo() should return the count");
+        Helpers.assertEqualIgnoringOrder(getSampleElements(), drained);
+        expectContents();
+    }
+
+    @CollectionFeature.Require({SUPPORTS_REMOVE, KNOWN_ORDER})
+    public void testDrainTo_knownOrder() {
+        List<E> drained = new ArrayList<>();
+        getBlockingQueue().drainTo(drained);
+        assertEquals(getOrderedElements(), drained, "drainTo() should move the elements in order");
+    }
+
+    @CollectionFeature.Require(SUPPORTS_REMOVE)
+    public void testDrainTo_appends() {
+        List<E> drained = new ArrayList<>();
+        drained.add(e4());
+        getBlockingQueue().drainTo(drained);
+        assertEquals(e4(), drained.get(0), "drainTo() should not disturb the target's elements");
+        assertEquals(getNumElements() + 1, drained.size());
+    }
+
+    @CollectionFeature.Require({SUPPORTS_REMOVE, KNOWN_ORDER})
+    @CollectionSize.Require(SEVERAL)
+    public void testDrainTo_maxElements() {
+        List<E> drained = new ArrayList<>();
+        assertEquals(2, getBlockingQueue().drainTo(drained, 2), "drainTo(c, 2) should return 2");
+        List<E> ordered = getOrderedElements();
+        assertEquals(ordered.subList(0, 2), drained);
+        expectContents(ordered.subList(2, ordered.size()));
+    }
+
+    @CollectionFeature.Require(SUPPORTS_REMOVE)
+    public void testDrainTo_maxElementsMoreThanSize() {
+        List<E> drained = new ArrayList<>();
+        assertEquals(getNumElements(), getBlockingQueue().drainTo(drained, getNumElements() + 1));
+        Helpers.assertEqualIgnoringOrder(getSampleElements(), drained);
+        expectContents();
+    }
+
+    @CollectionFeature.Require(SUPPORTS_REMOVE)
+    public void testDrainTo_zeroMaxElements() {
+        List<E> drained = new ArrayList<>();
+        assertEquals(0, getBlockingQueue().drainTo(drained, 0), "drainTo(c, 0) should return 0");
+        assertEquals(0, drained.size());
+        expectUnchanged();
+    }
+
+    @CollectionFeature.Require(SUPPORTS_REMOVE)
+    public void testDrainTo_self() {
+        try {
+            getBlockingQueue().drainTo(getBlockingQueue());
+            fail("drainTo(this) should throw");
+        } catch (IllegalArgumentException expected) {
+        }
+        expectUnchanged();
+    }
+
+    @CollectionFeature.Require(SUPPORTS_REMOVE)
+    public void testDrainTo_null() {
+        try {
+            getBlockingQueue().drainTo(null);
+            fail("drainTo(null) should throw");
+        } catch (NullPointerException expected) {
+        }
+        expectUnchanged();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.collect.testing.Helpers;
+import com.google.common.collect.testing.features.CollectionFeature;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_ADD;
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_REMOVE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * A generic JUnit test which hands elements from several producer threads to several consumer
+ * threads through a blocking queue, and checks that every element put is taken exactly once. With a
+ * bounded queue, producers also block on {@code put} when the consumers fall behind. For throughput
+ * and hand-off latency, see {@link com.google.common.collect.testing.BlockingQueueHandoffTester}.
+ * Can't be invoked directly; please see {@link
+ * com.google.common.collect.testing.BlockingQueueTestSuiteBuilder}.
+ */
+public class BlockingQueueProducerConsumerTester<E> extends AbstractBlockingQueueTester<E> {
+    private static final int PRODUCERS = 2;
+    private static final int CONSUMERS = 2;
+    private static final int ELEMENTS_PER_PRODUCER = 1000;
+
+    @CollectionFeature.Require({SUPPORTS_ADD, SUPPORTS_REMOVE})
+    public void testPutTake_noLossOrDuplication() {
+        List<E> elements = Helpers.copyToList(samples);
+        // how often each of the elements is expected to be taken, minus how often it was
+        AtomicIntegerArray balance = new AtomicIntegerArray(elements.size());
+        for (E element : getBlockingQueue()) {
+            balance.incrementAndGet(elements.indexOf(element));
+        }
+        // the number of takes that the consumers have yet to claim
+        AtomicInteger untaken = new AtomicInteger(getNumElements() + PRODUCERS * ELEMENTS_PER_PRODUCER);
+        Helpers.runConcurrently(
+                PRODUCERS + CONSUMERS,
+                thread -> {
+                    if (thread < PRODUCERS) {
+                        for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                            int index = (thread + i) % elements.size();
+                            balance.incrementAndGet(index);
+                            getBlockingQueue().put(elements.get(index));
+                        }
+                    } else {
+                        while (untaken.getAndDecrement() > 0) {
+                            balance.decrementAndGet(elements.indexOf(getBlockingQueue().take()));
+                        }
+                    }
+                });
+        for (int i = 0; i < elements.size(); i++) {
+            assertEquals(
+                    0,
+                    balance.get(i),
+                    "times " + elements.get(i) + " was put, minus times it was taken");
+        }
+        expectContents();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.collect.testing.Helpers;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.QueueFeature;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_ADD;
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_REMOVE;
+import static com.google.common.collect.testing.features.QueueFeature.BOUNDED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * A generic JUnit test which tests {@code put} operations on a blocking queue. Can't be invoked
+ * directly; please see {@link com.google.common.collect.testing.BlockingQueueTestSuiteBuilder}.
+ */
+public class BlockingQueuePutTester<E> extends AbstractBlockingQueueTester<E> {
+    @CollectionFeature.Require(SUPPORTS_ADD)
+    public void testPut_supportedNotPresent() throws InterruptedException {
+        getBlockingQueue().put(e3());
+        expectAdded(e3());
+    }
+
+    @CollectionFeature.Require(SUPPORTS_ADD)
+    public void testPut_null() throws InterruptedException {
+        try {
+            getBlockingQueue().put(null);
+            fail("put(null) should throw");
+        } catch (NullPointerException expected) {
+        }
+        expectUnchanged();
+    }
+
+    @CollectionFeature.Require({SUPPORTS_ADD, SUPPORTS_REMOVE})
+    @QueueFeature.Require(BOUNDED)
+    public void testPut_full_blocksUntilTake() {
+        int capacity = getNumElements() + fillToCapacity();
+        AtomicReference<Thread> putter = new AtomicReference<>();
+        AtomicBoolean returned = new AtomicBoolean();
+        Helpers.runConcurrently(
+                2,
+                thread -> {
+                    if (thread == 0) {
+                        putter.set(Thread.currentThread());
+                        getBlockingQueue().put(e4());
+                        returned.set(true);
+                    } else {
+                        awaitBlocked(putter, returned, "put() into a full queue");
+                        assertFalse(getBlockingQueue().contains(e4()), "put() into a full queue should block");
+                        assertNotNull(getBlockingQueue().take());
+                    }
+                });
+        assertTrue(getBlockingQueue().contains(e4()), "put() should add once there is room");
+        assertEquals(capacity, getBlockingQueue().size());
+        assertEquals(0, getBlockingQueue().remainingCapacity());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.QueueFeature;
+
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_ADD;
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_REMOVE;
+import static com.google.common.collect.testing.features.QueueFeature.BOUNDED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * A generic JUnit test which tests {@code remainingCapacity()} and the behavior of a blocking queue
+ * at its capacity. Can't be invoked directly; please see {@link
+ * com.google.common.collect.testing.BlockingQueueTestSuiteBuilder}.
+ */
+public class BlockingQueueRemainingCapacityTester<E> extends AbstractBlockingQueueTester<E> {
+    @QueueFeature.Require(absent = BOUNDED)
+    public void testRemainingCapacity_unbounded() {
+        // LinkedBlockingQueue, for one, counts down from Integer.MAX_VALUE
+        assertTrue(
+                getBlockingQueue().remainingCapacity() >= Integer.MAX_VALUE - getNumElements(),
+                "an unbounded queue should report Integer.MAX_VALUE as its remaining capacity");
+    }
+
+    @QueueFeature.Require(BOUNDED)
+    public void testRemainingCapacity_bounded() {
+        assertTrue(
+                getBlockingQueue().remainingCapacity() < Integer.MAX_VALUE - getNumElements(),
+                "a bounded queue should report its remaining capacity");
+    }
+
+    @CollectionFeature.Require(SUPPORTS_ADD)
+    @QueueFeature.Require(BOUNDED)
+    public void testRemainingCapacity_afterOffer() {
+        int remaining = getBlockingQueue().remainingCapacity();
+        assertTrue(getBlockingQueue().offer(e3()));
+        assertEquals(remaining - 1, getBlockingQueue().remainingCapacity());
+    }
+
+    @CollectionFeature.Require(SUPPORTS_REMOVE)
+    @QueueFeature.Require(BOUNDED)
+    public void testRemainingCapacity_afterClear() {
+        int remaining = getBlockingQueue().remainingCapacity();
+        getBlockingQueue().clear();
+        assertEquals(remaining + getNumElements(), getBlockingQueue().remainingCapacity());
+    }
+
+    @CollectionFeature.Require(SUPPORTS_ADD)
+    @QueueFeature.Require(BOUNDED)
+    public void testOffer_full() {
+        int capacity = getNumElements() + fillToCapacity();
+        assertFalse(getBlockingQueue().offer(e4()), "offer() into a full queue should return false");
+        try {
+            getBlockingQueue().add(e4());
+            fail("add() into a full queue should throw");
+        } catch (IllegalStateException expected) {
+        }
+        assertFalse(getBlockingQueue().contains(e4()));
+        assertEquals(capacity, getBlockingQueue().size());
+        assertEquals(0, getBlockingQueue().remainingCapacity());
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.collect.testing.Helpers;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.google.common.collect.testing.features.CollectionFeature.KNOWN_ORDER;
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_ADD;
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_REMOVE;
+import static com.google.common.collect.testing.features.CollectionSize.ONE;
+import static com.google.common.collect.testing.features.CollectionSize.SEVERAL;
+import static com.google.common.collect.testing.features.CollectionSize.ZERO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A generic JUnit test which tests {@code take()} operations on a blocking queue. Can't be invoked
+ * directly; please see {@link com.google.common.collect.testing.BlockingQueueTestSuiteBuilder}.
+ */
+public class BlockingQueueTakeTester<E> extends AbstractBlockingQueueTester<E> {
+    @CollectionFeature.Require(SUPPORTS_REMOVE)
+    @CollectionSize.Require(ONE)
+    public void testTake_size1() throws InterruptedException {
+        assertEquals(e0(), getBlockingQueue().take(), "size1Queue.take() should return first element");
+        expectMissing(e0());
+    }
+
+    @CollectionFeature.Require({KNOWN_ORDER, SUPPORTS_REMOVE})
+    @CollectionSize.Require(SEVERAL)
+    public void testTake_sizeMany() throws InterruptedException {
+        assertEquals(e0(), getBlockingQueue().take(), "sizeManyQueue.take() should return first element");
+        expectMissing(e0());
+    }
+
+    @CollectionFeature.Require({SUPPORTS_ADD, SUPPORTS_REMOVE})
+    @CollectionSize.Require(ZERO)
+    public void testTake_empty_blocksUntilOffer() {
+        AtomicReference<Thread> taker = new AtomicReference<>();
+        AtomicBoolean returned = new AtomicBoolean();
+        AtomicReference<E> taken = new AtomicReference<>();
+        Helpers.runConcurrently(
+                2,
+                thread -> {
+                    if (thread == 0) {
+                        taker.set(Thread.currentThread());
+                        taken.set(getBlockingQueue().take());
+                        returned.set(true);
+                    } else {
+                        awaitBlocked(taker, returned, "take() from an empty queue");
+                        assertTrue(getBlockingQueue().offer(e3()));
+                    }
+                });
+        assertEquals(e3(), taken.get(), "take() should return the element offered while it blocked");
+        expectUnchanged();
+    }
+}
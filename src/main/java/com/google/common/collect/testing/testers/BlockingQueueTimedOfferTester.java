@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.QueueFeature;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_ADD;
+import static com.google.common.collect.testing.features.QueueFeature.BOUNDED;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * A generic JUnit test which tests {@code offer(E, long, TimeUnit)} operations on a blocking
+ * queue. Can't be invoked directly; please see {@link
+ * com.google.common.collect.testing.BlockingQueueTestSuiteBuilder}.
+ */
+public class BlockingQueueTimedOfferTester<E> extends AbstractBlockingQueueTester<E> {
+    @CollectionFeature.Require(SUPPORTS_ADD)
+    public void testTimedOffer_supportedNotPresent() throws InterruptedException {
+        assertTrue(
+                getBlockingQueue().offer(e3(), TIMEOUT_MILLIS, TimeUnit.MILLISECONDS),
+                "offer(notPresent, timeout) should return true");
+        expectAdded(e3());
+    }
+
+    @CollectionFeature.Require(SUPPORTS_ADD)
+    public void testTimedOffer_null() throws InterruptedException {
+        try {
+            getBlockingQueue().offer(null, TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            fail("offer(null, timeout) should throw");
+        } catch (NullPointerException expected) {
+        }
+        expectUnchanged();
+    }
+
+    @CollectionFeature.Require(SUPPORTS_ADD)
+    @QueueFeature.Require(BOUNDED)
+    public void testTimedOffer_full_timesOut() throws InterruptedException {
+        fillToCapacity();
+        long start = System.nanoTime();
+        assertFalse(
+                getBlockingQueue().offer(e4(), TIMEOUT_MILLIS, TimeUnit.MILLISECONDS),
+                "offer(e, timeout) into a full queue should return false");
+        assertTrue(
+                System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS),
+                "offer(e, timeout) into a full queue should wait for the timeout");
+        assertFalse(getBlockingQueue().contains(e4()));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.collect.testing.AbstractCollectionTester;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.testing.AllocationMeasurer;
+
+import java.util.function.Consumer;
+
+import static com.google.common.collect.testing.features.CollectionFeature.ALLOCATION_FREE_READS;
+import static com.google.common.collect.testing.features.CollectionSize.ZERO;
+
+/**
+ * A generic JUnit test which tests that the read-only queries of a collection do not allocate heap
+ * memory, as measured by {@link AllocationMeasurer}. Can't be invoked directly; please see {@link
+ * com.google.common.collect.testing.CollectionTestSuiteBuilder}.
+ *
+ * <p>The tests pass trivially on JVMs that cannot measure allocation.
+ */
+public class CollectionAllocationFreeReadTester<E> extends AbstractCollectionTester<E> {
+    // Accumulates results so that the measured operations aren't optimized away.
+    private int sink;
+
+    private final Consumer<E> consumer = element -> sink++;
+
+    @CollectionFeature.Require(ALLOCATION_FREE_READS)
+    @CollectionSize.Require(absent = ZERO)
+    public void testContains_yes_allocationFree() {
+        E present = e0();
+        AllocationMeasurer.assertAllocationFree(
+                "contains(present)", () -> sink += collection.contains(present) ? 1 : 0);
+    }
+
+    @CollectionFeature.Require(ALLOCATION_FREE_READS)
+    public void testContains_no_allocationFree() {
+        E absent = e3();
+        AllocationMeasurer.assertAllocationFree(
+                "contains(notPresent)", () -> sink += collection.contains(absent) ? 1 : 0);
+    }
+
+    @CollectionFeature.Require(ALLOCATION_FREE_READS)
+    public void testSize_allocationFree() {
+        AllocationMeasurer.assertAllocationFree("size()", () -> sink += collection.size());
+    }
+
+    @CollectionFeature.Require(ALLOCATION_FREE_READS)
+    public void testIsEmpty_allocationFree() {
+        AllocationMeasurer.assertAllocationFree(
+                "isEmpty()", () -> sink += collection.isEmpty() ? 1 : 0);
+    }
+
+    @CollectionFeature.Require(ALLOCATION_FREE_READS)
+    public void testForEach_allocationFree() {
+        AllocationMeasurer.assertAllocationFree("forEach()", () -> collection.forEach(consumer));
+    }
+}
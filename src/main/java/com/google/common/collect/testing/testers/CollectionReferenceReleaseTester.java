@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.collect.testing.AbstractCollectionTester;
+import com.google.common.collect.testing.Helpers;
+import com.google.common.collect.testing.MinimalCollection;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.testers.ReferenceReleaseHelpers.ReleaseChecker;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_ITERATOR_REMOVE;
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_REMOVE;
+import static com.google.common.collect.testing.features.CollectionSize.SEVERAL;
+import static com.google.common.collect.testing.testers.ReferenceReleaseHelpers.freshCopies;
+import static com.google.common.collect.testing.testers.ReferenceReleaseHelpers.isDerivedView;
+import static com.google.common.collect.testing.testers.ReferenceReleaseHelpers.removeAllThroughIterator;
+import static com.google.common.collect.testing.testers.ReferenceReleaseHelpers.weakReferences;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A generic JUnit test which tests that a collection releases the elements removed from it, so that
+ * they can be garbage collected. Can't be invoked directly; please see {@link
+ * com.google.common.collect.testing.CollectionTestSuiteBuilder}.
+ *
+ * <p>The tests are skipped for elements that cannot be copied by serialization, and for views
+ * derived from another container, since the testers of that container, such as {@link
+ * MapReferenceReleaseTester}, remove elements through its views themselves.
+ */
+public class CollectionReferenceReleaseTester<E> extends AbstractCollectionTester<E> {
+    private boolean canCreateFreshElements() {
+        return !isDerivedView(getSubjectGenerator().getInnerGenerator())
+                && freshCopies(getSampleElements()) != null;
+    }
+
+    /**
+     * Replaces the collection under test with one containing fresh copies of the sample elements,
+     * which {@code checker} keeps reachable, and returns weak references to those copies in sample
+     * order.
+     */
+    private List<WeakReference<E>> resetWithFreshElements(ReleaseChecker checker) {
+        List<E> fresh = freshCopies(getSampleElements());
+        checker.keepReachable(resetContainer(getSubjectGenerator().create(fresh.toArray())));
+        return weakReferences(fresh);
+    }
+
+    @CollectionFeature.Require(SUPPORTS_REMOVE)
+    @CollectionSize.Require(SEVERAL)
+    public void testRemove_releasesElements() {
+        if (!canCreateFreshElements()) {
+            return;
+        }
+        ReleaseChecker checker = new ReleaseChecker();
+
+        List<WeakReference<E>> references = resetWithFreshElements(checker);
+        assertTrue(collection.remove(e0()));
+        checker.expectReleased("remove()", references.get(0));
+
+        references = resetWithFreshElements(checker);
+        assertTrue(collection.removeIf(Predicate.isEqual(e0())));
+        checker.expectReleased("removeIf()", references.get(0));
+
+        references = resetWithFreshElements(checker);
+        assertTrue(collection.removeAll(MinimalCollection.of(e0())));
+        checker.expectReleased("removeAll()", references.get(0));
+
+        references = resetWithFreshElements(checker);
+        assertTrue(collection.retainAll(MinimalCollection.of()));
+        checker.expectAllReleased("retainAll()", references);
+
+        references = resetWithFreshElements(checker);
+        collection.clear();
+        checker.expectAllReleased("clear()", references);
+
+        checker.assertReleased();
+    }
+
+    @CollectionFeature.Require(SUPPORTS_ITERATOR_REMOVE)
+    @CollectionSize.Require(SEVERAL)
+    public void testIteratorRemove_releasesElements() {
+        if (!canCreateFreshElements()) {
+            return;
+        }
+        ReleaseChecker checker = new ReleaseChecker();
+        List<WeakReference<E>> references = resetWithFreshElements(checker);
+        removeAllThroughIterator(collection);
+        checker.expectAllReleased("iterator().remove()", references);
+        checker.assertReleased();
+    }
+
+    /**
+     * Returns the {@link Method} instances for the tests of this tester, so that the suites of subset
+     * and descending views, which would each repeat the same garbage collections as the suite of the
+     * original set, can suppress them with {@code FeatureSpecificTestSuiteBuilder.suppressing()}.
+     */
+    @GwtIncompatible // reflection
+    public static Method[] getReleaseTestMethods() {
+        Class<?> tester = CollectionReferenceReleaseTester.class;
+        return new Method[] {
+            Helpers.getMethod(tester, "testRemove_releasesElements"),
+            Helpers.getMethod(tester, "testIteratorRemove_releasesElements")
+        };
+    }
+}
@@ -19,9 +19,14 @@ package com.google.common.collect.testing.testers;
 import com.google.common.collect.testing.AbstractCollectionTester;
 import com.google.common.collect.testing.Helpers;
 import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
 import com.google.common.testing.SerializableTester;
 
+import java.util.Collection;
+import java.util.List;
+
 import static com.google.common.collect.testing.features.CollectionFeature.SERIALIZABLE;
+import static com.google.common.collect.testing.features.CollectionSize.SEVERAL;
 
 /**
  * Basic reserialization test for collections.
@@ -35,4 +40,14 @@ public class CollectionSerializationTester<E> extends AbstractCollectionTester<E
         Helpers.assertEqualIgnoringOrder(
                 actualContents(), SerializableTester.reserialize(actualContents()));
     }
+
+    @CollectionFeature.Require(SERIALIZABLE)
+    @CollectionSize.Require(SEVERAL)
+    public void testReserialize_sizePerElement() {
+        Collection<E> single = getSubjectGenerator().create(e0());
+        List<E> singleContents = Helpers.copyToList(single);
+        List<E> contents = Helpers.copyToList(actualContents());
+        Helpers.assertSerializedSizeGrowth(
+                single, singleContents, actualContents(), contents, contents.size() - singleContents.size());
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.collect.testing.AbstractCollectionTester;
+import com.google.common.collect.testing.Helpers;
+import com.google.common.collect.testing.features.CollectionFeature;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_ADD;
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_REMOVE;
+import static com.google.common.collect.testing.features.CollectionFeature.THREAD_SAFE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A generic JUnit test which modifies a thread-safe collection from several threads at once, and
+ * checks that no update is lost: the final contents are the initial ones plus every element whose
+ * {@code add} returned {@code true}, minus every element whose {@code remove} did, and the size
+ * agrees with them. Elements that {@code add} rejects because the collection is full are treated
+ * like elements it rejects as duplicates. Can't be invoked directly; please see {@link
+ * com.google.common.collect.testing.CollectionTestSuiteBuilder}.
+ */
+public class CollectionThreadSafetyTester<E> extends AbstractCollectionTester<E> {
+    private static final int THREADS = 4;
+    private static final int ADDS_PER_THREAD = 1000;
+
+    @CollectionFeature.Require({SUPPORTS_ADD, THREAD_SAFE})
+    public void testConcurrentAdd_noLostUpdates() {
+        List<E> elements = samples.asList();
+        List<E> expected = Helpers.copyToList(collection);
+        List<E> added = Collections.synchronizedList(new ArrayList<>());
+        Helpers.runConcurrently(
+                THREADS,
+                thread -> {
+                    for (int i = 0; i < ADDS_PER_THREAD; i++) {
+                        E element = elements.get((thread + i) % elements.size());
+                        if (add(element)) {
+                            added.add(element);
+                        }
+                    }
+                });
+        expected.addAll(added);
+        expectQuiescentContents(expected);
+    }
+
+    @CollectionFeature.Require({SUPPORTS_ADD, SUPPORTS_REMOVE, THREAD_SAFE})
+    public void testConcurrentAddRemove_noLostUpdates() {
+        List<E> expected = Helpers.copyToList(collection);
+        // the number of successful adds minus successful removes of each thread's element
+        int[] netAdds = new int[THREADS];
+        Helpers.runConcurrently(
+                THREADS,
+                thread -> {
+                    E element = elementOf(thread);
+                    Helpers.repeatForMinDuration(
+                            () -> {
+                                netAdds[thread] += add(element) ? 1 : 0;
+                                netAdds[thread] -= collection.remove(element) ? 1 : 0;
+                            });
+                });
+        for (E element : Arrays.asList(e3(), e4())) {
+            int net = 0;
+            for (int thread = 0; thread < THREADS; thread++) {
+                net += elementOf(thread).equals(element) ? netAdds[thread] : 0;
+            }
+            assertTrue(net >= 0, element + " was removed " + -net + " times more often than it was added");
+            expected.addAll(Collections.nCopies(net, element));
+        }
+        expectQuiescentContents(expected);
+    }
+
+    /**
+     * Reads the collection while other threads add and remove elements, and checks that the reads
+     * see every element present throughout, and only elements that were ever added. The size is not
+     * checked, since concurrent collections may report an inaccurate size while they are modified.
+     */
+    @CollectionFeature.Require({SUPPORTS_ADD, SUPPORTS_REMOVE, THREAD_SAFE})
+    public void testConcurrentReads_consistent() {
+        List<E> initial = Helpers.copyToList(collection);
+        List<E> possible = Arrays.asList(e0(), e1(), e2(), e3(), e4());
+        Helpers.runWritersAndReaders(
+                THREADS - 1,
+                1,
+                thread -> {
+                    E element = elementOf(thread);
+                    add(element);
+                    collection.remove(element);
+                },
+                () -> {
+                    List<Object> snapshot = Arrays.asList(collection.toArray());
+                    assertTrue(
+                            snapshot.containsAll(initial),
+                            "toArray() " + snapshot + " lost initial elements " + initial);
+                    assertTrue(
+                            possible.containsAll(snapshot),
+                            "toArray() " + snapshot + " contains elements that were never added");
+                    for (E element : initial) {
+                        assertTrue(collection.contains(element), "lost " + element);
+                    }
+                });
+    }
+
+    /** Returns the element that a thread adds and removes, which is not initially present. */
+    private E elementOf(int thread) {
+        return thread % 2 == 0 ? e3() : e4();
+    }
+
+    /** Adds {@code element}, returning false if the collection is full, as a bounded queue may be. */
+    private boolean add(E element) {
+        try {
+            return collection.add(element);
+        } catch (IllegalStateException full) {
+            return false;
+        }
+    }
+
+    private void expectQuiescentContents(List<E> expected) {
+        assertEquals(expected.size(), collection.size(), "size() after concurrent updates");
+        assertEquals(expected.size(), collection.toArray().length, "toArray() after concurrent updates");
+        expectContents(expected);
+    }
+}
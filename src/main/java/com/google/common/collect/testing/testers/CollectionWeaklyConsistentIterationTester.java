@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.collect.testing.AbstractCollectionTester;
+import com.google.common.collect.testing.Helpers;
+import com.google.common.collect.testing.features.CollectionFeature;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+
+import static com.google.common.collect.testing.features.CollectionFeature.KNOWN_ORDER;
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_ADD;
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_REMOVE;
+import static com.google.common.collect.testing.features.CollectionFeature.WEAKLY_CONSISTENT_ITERATION;
+
+/**
+ * A generic JUnit test which traverses a collection with its iterator, spliterator and stream while
+ * other threads add and remove elements, and checks with {@link
+ * Helpers#assertWeaklyConsistentTraversals} that the traversals are weakly consistent. Can't be
+ * invoked directly; please see {@link com.google.common.collect.testing.CollectionTestSuiteBuilder}.
+ */
+public class CollectionWeaklyConsistentIterationTester<E> extends AbstractCollectionTester<E> {
+    private static final int WRITERS = 2;
+    private static final int READERS = 2;
+
+    @CollectionFeature.Require(
+            value = {SUPPORTS_ADD, SUPPORTS_REMOVE, WEAKLY_CONSISTENT_ITERATION},
+            absent = KNOWN_ORDER)
+    public void testConcurrentTraversal_weaklyConsistent() {
+        runConcurrentTraversals(false);
+    }
+
+    @CollectionFeature.Require({SUPPORTS_ADD, SUPPORTS_REMOVE, WEAKLY_CONSISTENT_ITERATION, KNOWN_ORDER})
+    public void testConcurrentTraversal_weaklyConsistentInOrder() {
+        runConcurrentTraversals(true);
+    }
+
+    /**
+     * Runs writers, each of which keeps adding and removing one element that is not initially
+     * present, and readers, which keep traversing the collection until the writers are done.
+     */
+    private void runConcurrentTraversals(boolean knownOrder) {
+        List<E> initial = Helpers.copyToList(collection);
+        List<E> transients = Arrays.asList(e3(), e4());
+        Comparator<? super E> comparator = null;
+        if (collection instanceof SortedSet) {
+            comparator = ((SortedSet<E>) collection).comparator();
+            if (comparator == null) {
+                comparator = (Comparator<? super E>) Comparator.naturalOrder();
+            }
+        }
+        Comparator<? super E> order = comparator;
+        Helpers.runWritersAndReaders(
+                WRITERS,
+                READERS,
+                thread -> {
+                    E element = transients.get(thread);
+                    collection.add(element);
+                    collection.remove(element);
+                },
+                () ->
+                        Helpers.assertWeaklyConsistentTraversals(
+                                collection, initial, transients, collection instanceof Set, order, knownOrder));
+    }
+}
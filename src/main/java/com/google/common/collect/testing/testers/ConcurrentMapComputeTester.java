@@ -0,0 +1,274 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.collect.testing.AbstractMapTester;
+import com.google.common.collect.testing.Helpers;
+import com.google.common.collect.testing.features.MapFeature;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import static com.google.common.collect.testing.features.MapFeature.COMPUTES_ATOMICALLY;
+import static com.google.common.collect.testing.features.MapFeature.SUPPORTS_PUT;
+import static com.google.common.collect.testing.features.MapFeature.SUPPORTS_REMOVE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A generic JUnit test which calls {@code compute}, {@code computeIfAbsent}, {@code
+ * computeIfPresent} and {@code merge} on one key from several threads at once. It counts how often
+ * the functions are applied, checks that no committed update is lost, also for maps which retry the
+ * functions instead of computing atomically, and checks that a function which updates the map
+ * itself does not deadlock. Can't be invoked directly;
+ * please see {@link com.google.common.collect.testing.ConcurrentMapTestSuiteBuilder}.
+ */
+public class ConcurrentMapComputeTester<K, V> extends AbstractMapTester<K, V> {
+    private static final int THREADS = 4;
+    private static final int ROUNDS = 20;
+    private static final int OPERATIONS_PER_THREAD = 250;
+
+    @Override
+    protected ConcurrentMap<K, V> getMap() {
+        return (ConcurrentMap<K, V>) super.getMap();
+    }
+
+    @MapFeature.Require({SUPPORTS_PUT, SUPPORTS_REMOVE})
+    public void testComputeIfAbsent_concurrent_sameResult() {
+        runComputeIfAbsentRounds();
+    }
+
+    @MapFeature.Require({SUPPORTS_PUT, SUPPORTS_REMOVE, COMPUTES_ATOMICALLY})
+    public void testComputeIfAbsent_concurrent_appliesFunctionOnce() {
+        List<Integer> invocations = runComputeIfAbsentRounds();
+        for (int round = 0; round < ROUNDS; round++) {
+            assertEquals(
+                    1, (int) invocations.get(round), "invocations of the mapping function in round " + round);
+        }
+    }
+
+    @MapFeature.Require({SUPPORTS_PUT, COMPUTES_ATOMICALLY})
+    public void testCompute_concurrent_noLostUpdates() {
+        Remapping remapping = new Remapping(null);
+        Helpers.runConcurrently(
+                THREADS,
+                thread -> {
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        getMap().compute(k3(), (k, oldValue) -> remapping.apply(oldValue));
+                    }
+                });
+        remapping.assertAppliedToMap(THREADS * OPERATIONS_PER_THREAD);
+    }
+
+    @MapFeature.Require({SUPPORTS_PUT, COMPUTES_ATOMICALLY})
+    public void testComputeIfPresent_concurrent_noLostUpdates() {
+        getMap().put(k3(), v0());
+        Remapping remapping = new Remapping(v0());
+        Helpers.runConcurrently(
+                THREADS,
+                thread -> {
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        getMap().computeIfPresent(k3(), (k, oldValue) -> remapping.apply(oldValue));
+                    }
+                });
+        remapping.assertAppliedToMap(THREADS * OPERATIONS_PER_THREAD);
+    }
+
+    @MapFeature.Require({SUPPORTS_PUT, COMPUTES_ATOMICALLY})
+    public void testMerge_concurrent_noLostUpdates() {
+        getMap().put(k3(), v0());
+        Remapping remapping = new Remapping(v0());
+        Helpers.runConcurrently(
+                THREADS,
+                thread -> {
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        getMap().merge(k3(), v0(), (oldValue, value) -> remapping.apply(oldValue));
+                    }
+                });
+        remapping.assertAppliedToMap(THREADS * OPERATIONS_PER_THREAD);
+    }
+
+    @MapFeature.Require(SUPPORTS_PUT)
+    public void testCompute_concurrent_noLostCommittedUpdates() {
+        assertNoLostCommittedUpdates((key, step) -> getMap().compute(key, (k, oldValue) -> step.apply(oldValue)));
+    }
+
+    @MapFeature.Require(SUPPORTS_PUT)
+    public void testComputeIfPresent_concurrent_noLostCommittedUpdates() {
+        assertNoLostCommittedUpdates(
+                (key, step) -> getMap().computeIfPresent(key, (k, oldValue) -> step.apply(oldValue)));
+    }
+
+    @MapFeature.Require(SUPPORTS_PUT)
+    public void testMerge_concurrent_noLostCommittedUpdates() {
+        assertNoLostCommittedUpdates(
+                (key, step) -> getMap().merge(key, v0(), (oldValue, value) -> step.apply(oldValue)));
+    }
+
+    @MapFeature.Require(SUPPORTS_PUT)
+    public void testComputeIfAbsent_recursiveUpdate_noDeadlock() {
+        assertNoDeadlock(
+                () -> getMap().computeIfAbsent(k3(), k -> getMap().computeIfAbsent(k3(), k2 -> v3())));
+        assertNoDeadlock(
+                () -> getMap().computeIfAbsent(k3(), k -> getMap().computeIfAbsent(k4(), k2 -> v4())));
+    }
+
+    @MapFeature.Require(SUPPORTS_PUT)
+    public void testCompute_recursiveUpdate_noDeadlock() {
+        assertNoDeadlock(() -> getMap().compute(k3(), (k, v) -> getMap().compute(k3(), (k2, v2) -> v3())));
+        assertNoDeadlock(() -> getMap().compute(k3(), (k, v) -> getMap().compute(k4(), (k2, v2) -> v4())));
+    }
+
+    /**
+     * Runs {@code ROUNDS} rounds, in each of which every thread calls {@code computeIfAbsent} for the
+     * same absent key with a function returning a different value, and checks that all of them get
+     * the value that ends up in the map. Returns how often the function was applied in each round.
+     */
+    private List<Integer> runComputeIfAbsentRounds() {
+        List<V> values = Arrays.asList(v0(), v1(), v2(), v3());
+        List<Integer> invocations = new ArrayList<>();
+        for (int round = 0; round < ROUNDS; round++) {
+            AtomicInteger applied = new AtomicInteger();
+            AtomicReferenceArray<V> results = new AtomicReferenceArray<>(THREADS);
+            Helpers.runConcurrently(
+                    THREADS,
+                    thread ->
+                            results.set(
+                                    thread,
+                                    getMap()
+                                            .computeIfAbsent(
+                                                    k3(),
+                                                    k -> {
+                                                        applied.incrementAndGet();
+                                                        // let the other threads call computeIfAbsent meanwhile
+                                                        Thread.yield();
+                                                        return values.get(thread);
+                                                    })));
+            V value = getMap().remove(k3());
+            assertTrue(values.contains(value), "computeIfAbsent stored " + value);
+            for (int thread = 0; thread < THREADS; thread++) {
+                assertEquals(
+                        value, results.get(thread), "computeIfAbsent in thread " + thread + " of round " + round);
+            }
+            invocations.add(applied.get());
+        }
+        return invocations;
+    }
+
+    /**
+     * Calls {@code update} from several threads, with a function which steps the value of one key
+     * through the sample values. A map without {@link MapFeature#COMPUTES_ATOMICALLY} may apply the
+     * function again when it retries, so only committed updates are counted: those made by the last
+     * application in each call, whose result the call returns. Without lost updates, the number of
+     * committed updates from each sample value and the final value follow from the number of calls.
+     */
+    private void assertNoLostCommittedUpdates(BiFunction<K, UnaryOperator<V>, V> update) {
+        List<V> values = Arrays.asList(v0(), v1(), v2(), v3(), v4());
+        getMap().put(k3(), v0());
+        AtomicIntegerArray committedFrom = new AtomicIntegerArray(values.size());
+        Helpers.runConcurrently(
+                THREADS,
+                thread -> {
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        List<V> applied = new ArrayList<>();
+                        V newValue =
+                                update.apply(
+                                        k3(),
+                                        oldValue -> {
+                                            applied.add(oldValue);
+                                            return values.get((values.indexOf(oldValue) + 1) % values.size());
+                                        });
+                        V oldValue = applied.get(applied.size() - 1);
+                        int from = values.indexOf(oldValue);
+                        assertTrue(from >= 0, "value passed to the function: " + oldValue);
+                        assertEquals(values.get((from + 1) % values.size()), newValue, "value returned");
+                        committedFrom.incrementAndGet(from);
+                    }
+                });
+        int updates = THREADS * OPERATIONS_PER_THREAD;
+        for (int i = 0; i < values.size(); i++) {
+            int expected = updates / values.size() + (i < updates % values.size() ? 1 : 0);
+            assertEquals(expected, committedFrom.get(i), "committed updates from " + values.get(i));
+        }
+        assertEquals(values.get(updates % values.size()), getMap().get(k3()), "value after " + updates + " updates");
+    }
+
+    /**
+     * Calls {@code update}, whose function updates the map itself, in another thread, and fails if
+     * it does not finish. Like {@link java.util.concurrent.ConcurrentHashMap}, the map may reject such
+     * an update with an {@link IllegalStateException} or a {@link ConcurrentModificationException}.
+     */
+    private void assertNoDeadlock(Supplier<V> update) {
+        Helpers.runConcurrently(
+                1,
+                thread -> {
+                    try {
+                        V value = update.get();
+                        assertEquals(value, getMap().get(k3()));
+                    } catch (IllegalStateException | ConcurrentModificationException tolerated) {
+                    }
+                });
+        getMap().remove(k3());
+        getMap().remove(k4());
+    }
+
+    /**
+     * A remapping function which steps through the sample values, counts its invocations, and
+     * asserts that it is never applied concurrently and that each invocation receives the value
+     * returned by the previous one, that is, that no update was lost.
+     */
+    private class Remapping {
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger invocations = new AtomicInteger();
+        private volatile V last;
+
+        Remapping(V initialValue) {
+            this.last = initialValue;
+        }
+
+        V apply(V oldValue) {
+            assertEquals(1, running.incrementAndGet(), "remapping functions running concurrently");
+            try {
+                assertEquals(last, oldValue, "value passed to the remapping function");
+                // let the other threads try to update the same key meanwhile
+                Thread.yield();
+                List<V> values = Arrays.asList(v0(), v1(), v2(), v3(), v4());
+                V newValue = values.get((values.indexOf(oldValue) + 1) % values.size());
+                last = newValue;
+                invocations.incrementAndGet();
+                return newValue;
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+
+        void assertAppliedToMap(int expectedInvocations) {
+            assertEquals(expectedInvocations, invocations.get(), "invocations of the remapping function");
+            assertEquals(last, getMap().get(k3()));
+        }
+    }
+}
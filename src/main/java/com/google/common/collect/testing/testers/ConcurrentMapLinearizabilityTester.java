@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.collect.testing.AbstractMapTester;
+import com.google.common.collect.testing.Helpers;
+import com.google.common.collect.testing.LinearizabilityChecker;
+import com.google.common.collect.testing.features.MapFeature;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.collect.testing.features.MapFeature.SUPPORTS_PUT;
+import static com.google.common.collect.testing.features.MapFeature.SUPPORTS_REMOVE;
+
+/**
+ * A generic JUnit test which runs random atomic operations on a concurrent map from several
+ * threads at once, and checks with a {@link LinearizabilityChecker} that the recorded history is
+ * linearizable. The operations are {@code get}, {@code put}, {@code remove}, {@code putIfAbsent},
+ * both forms of {@code replace}, {@code remove(key, value)}, {@code compute} and {@code merge}, on
+ * the five sample keys, so that the threads contend for them. Can't be invoked directly; please see
+ * {@link com.google.common.collect.testing.ConcurrentMapTestSuiteBuilder}.
+ */
+public class ConcurrentMapLinearizabilityTester<K, V> extends AbstractMapTester<K, V> {
+    private static final int THREADS = 4;
+    private static final int OPERATIONS_PER_THREAD = 250;
+
+    @Override
+    protected ConcurrentMap<K, V> getMap() {
+        return (ConcurrentMap<K, V>) super.getMap();
+    }
+
+    @MapFeature.Require({SUPPORTS_PUT, SUPPORTS_REMOVE})
+    public void testConcurrentOperations_linearizable() {
+        ConcurrentMap<K, V> map = getMap();
+        List<K> keys = Arrays.asList(k0(), k1(), k2(), k3(), k4());
+        List<V> values = Arrays.asList(v0(), v1(), v2(), v3(), v4());
+        LinearizabilityChecker<K, V> checker = new LinearizabilityChecker<>(map);
+        Helpers.runConcurrently(
+                THREADS,
+                thread -> {
+                    Random random = new Random(thread);
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        K key = keys.get(random.nextInt(keys.size()));
+                        V value = values.get(random.nextInt(values.size()));
+                        V other = values.get(random.nextInt(values.size()));
+                        runRandomOperation(checker, random.nextInt(9), key, value, other);
+                    }
+                });
+        for (K key : keys) {
+            checker.run(map, key, "get", m -> m.get(key));
+        }
+        checker.check();
+    }
+
+    /**
+     * Runs one of the operations. The remapping functions of {@code compute} and {@code merge}
+     * remove the entry if it already has {@code value}, and otherwise store {@code value}, so that
+     * they both grow and shrink the map.
+     */
+    private void runRandomOperation(
+            LinearizabilityChecker<K, V> checker, int operation, K key, V value, V other) {
+        ConcurrentMap<K, V> map = getMap();
+        switch (operation) {
+            case 0:
+                checker.run(map, key, "get", m -> m.get(key));
+                break;
+            case 1:
+                checker.run(map, key, "put " + value, m -> m.put(key, value));
+                break;
+            case 2:
+                checker.run(map, key, "remove", m -> m.remove(key));
+                break;
+            case 3:
+                checker.run(map, key, "putIfAbsent " + value, m -> m.putIfAbsent(key, value));
+                break;
+            case 4:
+                checker.run(map, key, "replace " + value, m -> m.replace(key, value));
+                break;
+            case 5:
+                checker.run(
+                        map, key, "replace " + value + " with " + other, m -> m.replace(key, value, other));
+                break;
+            case 6:
+                checker.run(map, key, "remove " + value, m -> m.remove(key, value));
+                break;
+            case 7:
+                checker.run(
+                        map,
+                        key,
+                        "compute " + value,
+                        m -> m.compute(key, (k, old) -> value.equals(old) ? null : value));
+                break;
+            default:
+                checker.run(
+                        map,
+                        key,
+                        "merge " + value,
+                        m -> m.merge(key, value, (old, given) -> old.equals(given) ? null : given));
+                break;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.collect.testing.Helpers;
+import com.google.common.collect.testing.IteratorFeature;
+import com.google.common.collect.testing.IteratorTester;
+import com.google.common.collect.testing.features.CollectionFeature;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static com.google.common.collect.testing.IteratorFeature.MODIFIABLE;
+import static com.google.common.collect.testing.IteratorFeature.UNMODIFIABLE;
+import static com.google.common.collect.testing.features.CollectionFeature.KNOWN_ORDER;
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_ITERATOR_REMOVE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * A generic JUnit test which tests {@code descendingIterator()} operations on a deque. Can't be
+ * invoked directly; please see {@link com.google.common.collect.testing.DequeTestSuiteBuilder}.
+ */
+public class DequeDescendingIteratorTester<E> extends AbstractDequeTester<E> {
+    public void testDescendingIterator() {
+        List<E> iteratorElements = new ArrayList<>();
+        for (Iterator<E> iterator = getDeque().descendingIterator(); iterator.hasNext(); ) {
+            iteratorElements.add(iterator.next());
+        }
+        Helpers.assertEqualIgnoringOrder(getSampleElements(), iteratorElements);
+    }
+
+    @CollectionFeature.Require(KNOWN_ORDER)
+    public void testDescendingIterator_reversesIterationOrder() {
+        List<E> expected = new ArrayList<>(getOrderedElements());
+        Collections.reverse(expected);
+        List<E> iteratorElements = new ArrayList<>();
+        for (Iterator<E> iterator = getDeque().descendingIterator(); iterator.hasNext(); ) {
+            iteratorElements.add(iterator.next());
+        }
+        assertEquals(
+                expected,
+                iteratorElements,
+                "descendingIterator() should return the elements in reverse order");
+    }
+
+    @CollectionFeature.Require({KNOWN_ORDER, SUPPORTS_ITERATOR_REMOVE})
+    public void testDescendingIterator_removeSupported() {
+        runDescendingIteratorTest(MODIFIABLE);
+    }
+
+    @CollectionFeature.Require(value = KNOWN_ORDER, absent = SUPPORTS_ITERATOR_REMOVE)
+    public void testDescendingIterator_removeUnsupported() {
+        runDescendingIteratorTest(UNMODIFIABLE);
+    }
+
+    public void testDescendingIteratorNoSuchElementException() {
+        Iterator<E> iterator = getDeque().descendingIterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+        }
+
+        try {
+            iterator.next();
+            fail("descendingIterator().next() should throw NoSuchElementException");
+        } catch (NoSuchElementException expected) {
+        }
+    }
+
+    private void runDescendingIteratorTest(Set<IteratorFeature> features) {
+        List<E> expected = new ArrayList<>(getOrderedElements());
+        Collections.reverse(expected);
+        new IteratorTester<E>(
+                Platform.collectionIteratorTesterNumIterations(),
+                features,
+                expected,
+                IteratorTester.KnownOrder.KNOWN_ORDER) {
+            @Override
+            protected Iterator<E> newTargetIterator() {
+                resetCollection();
+                return getDeque().descendingIterator();
+            }
+
+            @Override
+            protected void verify(List<E> elements) {
+                expectContents(elements);
+            }
+        }.test();
+    }
+}
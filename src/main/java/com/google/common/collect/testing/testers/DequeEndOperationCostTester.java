@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.collect.testing.Complexity;
+import com.google.common.collect.testing.ScalingTimer;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.features.QueueFeature;
+
+import java.util.Deque;
+import java.util.List;
+
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_ADD;
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_REMOVE;
+import static com.google.common.collect.testing.features.CollectionSize.SEVERAL;
+import static com.google.common.collect.testing.features.QueueFeature.EFFICIENT_END_OPERATIONS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * A generic JUnit test which tests that operations at both ends of a deque take amortized constant
+ * time. Can't be invoked directly; please see {@link
+ * com.google.common.collect.testing.DequeTestSuiteBuilder}.
+ *
+ * <p>Each test inserts a large number of elements at one end and then removes them from one end,
+ * using the deque both as a stack and as a queue, and uses {@link ScalingTimer} to check that the
+ * total time grows linearly with the number of elements. The tests run only for deques that declare
+ * {@link QueueFeature#EFFICIENT_END_OPERATIONS}, and only in the {@code SEVERAL} suite, since the
+ * initial size of the deque is irrelevant to them.
+ */
+public class DequeEndOperationCostTester<E> extends AbstractDequeTester<E> {
+    private static final int SMALL_SIZE = 1 << 10;
+    private static final int LARGE_SIZE = 1 << 16;
+
+    // Accumulates results so that the timed operations aren't optimized away.
+    private int sink;
+
+    @QueueFeature.Require(EFFICIENT_END_OPERATIONS)
+    @CollectionFeature.Require({SUPPORTS_ADD, SUPPORTS_REMOVE})
+    @CollectionSize.Require(SEVERAL)
+    public void testOfferFirstPollFirst_amortizedConstantTime() {
+        assertEndOperationsScale("offerFirst() followed by pollFirst()", true, true);
+    }
+
+    @QueueFeature.Require(EFFICIENT_END_OPERATIONS)
+    @CollectionFeature.Require({SUPPORTS_ADD, SUPPORTS_REMOVE})
+    @CollectionSize.Require(SEVERAL)
+    public void testOfferFirstPollLast_amortizedConstantTime() {
+        assertEndOperationsScale("offerFirst() followed by pollLast()", true, false);
+    }
+
+    @QueueFeature.Require(EFFICIENT_END_OPERATIONS)
+    @CollectionFeature.Require({SUPPORTS_ADD, SUPPORTS_REMOVE})
+    @CollectionSize.Require(SEVERAL)
+    public void testOfferLastPollFirst_amortizedConstantTime() {
+        assertEndOperationsScale("offerLast() followed by pollFirst()", false, true);
+    }
+
+    @QueueFeature.Require(EFFICIENT_END_OPERATIONS)
+    @CollectionFeature.Require({SUPPORTS_ADD, SUPPORTS_REMOVE})
+    @CollectionSize.Require(SEVERAL)
+    public void testOfferLastPollLast_amortizedConstantTime() {
+        assertEndOperationsScale("offerLast() followed by pollLast()", false, false);
+    }
+
+    /*
+     * Every run inserts and removes the same number of elements, so the deque returns to its
+     * original size and can be reused by the next run.
+     */
+    private void assertEndOperationsScale(String description, boolean offerFirst, boolean pollFirst) {
+        List<E> elements = samples.asList();
+        ScalingTimer.assertTimeScales(
+                description,
+                Complexity.LINEAR,
+                SMALL_SIZE,
+                LARGE_SIZE,
+                size -> {
+                    Deque<E> deque = getDeque();
+                    return () -> {
+                        for (int i = 0; i < size; i++) {
+                            E element = elements.get(i % elements.size());
+                            if (offerFirst) {
+                                deque.offerFirst(element);
+                            } else {
+                                deque.offerLast(element);
+                            }
+                        }
+                        for (int i = 0; i < size; i++) {
+                            E element = pollFirst ? deque.pollFirst() : deque.pollLast();
+                            sink += System.identityHashCode(element);
+                        }
+                    };
+                });
+        assertEquals(getNumElements(), getDeque().size());
+    }
+}
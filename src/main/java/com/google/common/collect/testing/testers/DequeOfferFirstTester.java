@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+
+import static com.google.common.collect.testing.features.CollectionFeature.ALLOWS_NULL_VALUES;
+import static com.google.common.collect.testing.features.CollectionFeature.KNOWN_ORDER;
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_ADD;
+import static com.google.common.collect.testing.features.CollectionSize.ZERO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * A generic JUnit test which tests {@code offerFirst()} operations on a deque. Can't be invoked
+ * directly; please see {@link com.google.common.collect.testing.DequeTestSuiteBuilder}.
+ */
+public class DequeOfferFirstTester<E> extends AbstractDequeTester<E> {
+    @CollectionFeature.Require(SUPPORTS_ADD)
+    public void testOfferFirst_supportedNotPresent() {
+        assertTrue(
+                getDeque().offerFirst(e3()),
+                "offerFirst(notPresent) should return true");
+        expectAdded(e3());
+    }
+
+    @CollectionFeature.Require({SUPPORTS_ADD, KNOWN_ORDER})
+    @CollectionSize.Require(absent = ZERO)
+    public void testOfferFirst_addsAtHead() {
+        assertTrue(getDeque().offerFirst(e3()));
+        assertEquals(
+                e3(),
+                getDeque().peekFirst(),
+                "offerFirst(e) should make e the first element");
+        assertEquals(
+                getOrderedElements().get(getNumElements() - 1),
+                getDeque().peekLast(),
+                "offerFirst(e) should not change the last element");
+    }
+
+    @CollectionFeature.Require({SUPPORTS_ADD, ALLOWS_NULL_VALUES})
+    public void testOfferFirst_nullSupported() {
+        assertTrue(
+                getDeque().offerFirst(null),
+                "offerFirst(null) should return true");
+        expectAdded((E) null);
+    }
+
+    @CollectionFeature.Require(value = SUPPORTS_ADD, absent = ALLOWS_NULL_VALUES)
+    public void testOfferFirst_nullUnsupported() {
+        try {
+            getDeque().offerFirst(null);
+            fail("offerFirst(null) should throw");
+        } catch (NullPointerException expected) {
+        }
+        expectUnchanged();
+        expectNullMissingWhenNullUnsupported("Should not contain null after unsupported offerFirst(null)");
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.testers.ReferenceReleaseHelpers.ReleaseChecker;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_REMOVE;
+import static com.google.common.collect.testing.features.CollectionSize.SEVERAL;
+import static com.google.common.collect.testing.testers.ReferenceReleaseHelpers.freshCopies;
+import static com.google.common.collect.testing.testers.ReferenceReleaseHelpers.indexOfReferent;
+import static com.google.common.collect.testing.testers.ReferenceReleaseHelpers.isDerivedView;
+import static com.google.common.collect.testing.testers.ReferenceReleaseHelpers.weakReferences;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A generic JUnit test which tests that a deque releases the elements removed from its tail, so that
+ * they can be garbage collected. Can't be invoked directly; please see {@link
+ * com.google.common.collect.testing.DequeTestSuiteBuilder}.
+ */
+public class DequeReferenceReleaseTester<E> extends AbstractDequeTester<E> {
+    private boolean canCreateFreshElements() {
+        return !isDerivedView(getSubjectGenerator().getInnerGenerator())
+                && freshCopies(getSampleElements()) != null;
+    }
+
+    /**
+     * Replaces the deque under test with one containing fresh copies of the sample elements, which
+     * {@code checker} keeps reachable, and returns weak references to those copies in sample order.
+     */
+    private List<WeakReference<E>> resetWithFreshElements(ReleaseChecker checker) {
+        List<E> fresh = freshCopies(getSampleElements());
+        checker.keepReachable(resetContainer(getSubjectGenerator().create(fresh.toArray())));
+        return weakReferences(fresh);
+    }
+
+    @CollectionFeature.Require(SUPPORTS_REMOVE)
+    @CollectionSize.Require(SEVERAL)
+    public void testRemoveTail_releasesElements() {
+        if (!canCreateFreshElements()) {
+            return;
+        }
+        ReleaseChecker checker = new ReleaseChecker();
+
+        List<WeakReference<E>> references = resetWithFreshElements(checker);
+        int index = indexOfReferent(references, getDeque().pollLast());
+        assertTrue(index >= 0, "pollLast() should return one of the elements");
+        checker.expectReleased("pollLast()", references.get(index));
+
+        references = resetWithFreshElements(checker);
+        index = indexOfReferent(references, getDeque().removeLast());
+        assertTrue(index >= 0, "removeLast() should return one of the elements");
+        checker.expectReleased("removeLast()", references.get(index));
+
+        references = resetWithFreshElements(checker);
+        assertTrue(getDeque().removeLastOccurrence(e1()));
+        checker.expectReleased("removeLastOccurrence()", references.get(1));
+
+        checker.assertReleased();
+    }
+}
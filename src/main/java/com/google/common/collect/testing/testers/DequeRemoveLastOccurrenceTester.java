@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.google.common.collect.testing.features.CollectionFeature.ALLOWS_NULL_QUERIES;
+import static com.google.common.collect.testing.features.CollectionFeature.KNOWN_ORDER;
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_REMOVE;
+import static com.google.common.collect.testing.features.CollectionSize.ONE;
+import static com.google.common.collect.testing.features.CollectionSize.ZERO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A generic JUnit test which tests {@code removeLastOccurrence()} operations on a deque. Can't be
+ * invoked directly; please see {@link com.google.common.collect.testing.DequeTestSuiteBuilder}.
+ */
+public class DequeRemoveLastOccurrenceTester<E> extends AbstractDequeTester<E> {
+    @CollectionFeature.Require(SUPPORTS_REMOVE)
+    @CollectionSize.Require(absent = ZERO)
+    public void testRemoveLastOccurrence_present() {
+        int initialSize = collection.size();
+        assertTrue(
+                getDeque().removeLastOccurrence(e0()),
+                "removeLastOccurrence(present) should return true");
+        assertEquals(
+                initialSize - 1,
+                collection.size(),
+                "removeLastOccurrence(present) should decrease a deque's size by one.");
+        expectMissing(e0());
+    }
+
+    @CollectionFeature.Require(SUPPORTS_REMOVE)
+    public void testRemoveLastOccurrence_notPresent() {
+        assertFalse(
+                getDeque().removeLastOccurrence(e3()),
+                "removeLastOccurrence(notPresent) should return false");
+        expectUnchanged();
+    }
+
+    @CollectionFeature.Require({SUPPORTS_REMOVE, KNOWN_ORDER})
+    @CollectionSize.Require(absent = {ZERO, ONE})
+    public void testRemoveLastOccurrence_duplicate() {
+        ArrayWithDuplicate<E> arrayAndDuplicate = createArrayWithDuplicateElement();
+        collection = getSubjectGenerator().create(arrayAndDuplicate.elements);
+        assertTrue(
+                getDeque().removeLastOccurrence(arrayAndDuplicate.duplicate),
+                "removeLastOccurrence(duplicate) should return true");
+
+        List<E> expected = new ArrayList<>(Arrays.asList(arrayAndDuplicate.elements));
+        expected.remove(expected.lastIndexOf(arrayAndDuplicate.duplicate));
+        assertEquals(
+                expected,
+                new ArrayList<>(getDeque()),
+                "removeLastOccurrence(duplicate) should remove only the last occurrence");
+    }
+
+    @CollectionFeature.Require({SUPPORTS_REMOVE, ALLOWS_NULL_QUERIES})
+    public void testRemoveLastOccurrence_nullNotPresent() {
+        assertFalse(
+                getDeque().removeLastOccurrence(null),
+                "removeLastOccurrence(null) should return false");
+        expectUnchanged();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.collect.testing.Complexity;
+import com.google.common.collect.testing.ScalingTimer;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.features.ListFeature;
+
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+
+import static com.google.common.collect.testing.features.CollectionFeature.REJECTS_DUPLICATES_AT_CREATION;
+import static com.google.common.collect.testing.features.CollectionSize.SEVERAL;
+import static com.google.common.collect.testing.features.ListFeature.EFFICIENT_POSITIONAL_ACCESS;
+
+/**
+ * A generic JUnit test which tests the cost of positional operations on a list: {@code get()} on
+ * lists that implement {@link RandomAccess}, {@code subList()}, and {@code listIterator()}. Can't be
+ * invoked directly; please see {@link com.google.common.collect.testing.ListTestSuiteBuilder}.
+ *
+ * <p>The tests create lists much larger than the usual sample lists, repeating the sample elements,
+ * and compare running times at two sizes using {@link ScalingTimer}. They run only in the {@code
+ * SEVERAL} suite, since the size of the list under test is irrelevant to them, and not for lists
+ * that reject duplicates at creation, since those can't be made larger than the samples.
+ */
+public class ListPositionalCostTester<E> extends AbstractListTester<E> {
+    private static final int SMALL_SIZE = 1 << 8;
+    private static final int LARGE_SIZE = 1 << 14;
+    private static final int OPERATIONS_PER_RUN = 64;
+
+    // Accumulates results so that the timed operations aren't optimized away.
+    private int sink;
+
+    @ListFeature.Require(EFFICIENT_POSITIONAL_ACCESS)
+    @CollectionFeature.Require(absent = REJECTS_DUPLICATES_AT_CREATION)
+    @CollectionSize.Require(SEVERAL)
+    public void testGet_randomAccessIsConstantTime() {
+        if (!(getList() instanceof RandomAccess)) {
+            return;
+        }
+        ScalingTimer.assertTimeScales(
+                getList().getClass().getSimpleName() + " implements RandomAccess, but get()",
+                Complexity.CONSTANT,
+                SMALL_SIZE,
+                LARGE_SIZE,
+                size -> {
+                    List<E> list = createLargeList(size);
+                    return () -> {
+                        // spread over the whole list, including the middle
+                        for (int i = 0; i < OPERATIONS_PER_RUN; i++) {
+                            sink += System.identityHashCode(list.get(i * (size / OPERATIONS_PER_RUN)));
+                        }
+                    };
+                });
+    }
+
+    @ListFeature.Require(EFFICIENT_POSITIONAL_ACCESS)
+    @CollectionFeature.Require(absent = REJECTS_DUPLICATES_AT_CREATION)
+    @CollectionSize.Require(SEVERAL)
+    public void testSubList_creationIsConstantTime() {
+        ScalingTimer.assertTimeScales(
+                "subList()",
+                Complexity.CONSTANT,
+                SMALL_SIZE,
+                LARGE_SIZE,
+                size -> {
+                    List<E> list = createLargeList(size);
+                    return () -> {
+                        for (int i = 0; i < OPERATIONS_PER_RUN; i++) {
+                            sink += list.subList(i, size - i).size();
+                        }
+                    };
+                });
+    }
+
+    /*
+     * The size parameter here is the nesting depth, while the size of the list stays the same, so
+     * that the cost of get() itself (constant or not) cancels out.
+     */
+    @ListFeature.Require(EFFICIENT_POSITIONAL_ACCESS)
+    @CollectionFeature.Require(absent = REJECTS_DUPLICATES_AT_CREATION)
+    @CollectionSize.Require(SEVERAL)
+    public void testSubList_nestedDoesNotDegrade() {
+        List<E> list = createLargeList(4 * LARGE_SIZE);
+        ScalingTimer.assertTimeScales(
+                "get() on nested subList()",
+                Complexity.CONSTANT,
+                SMALL_SIZE / 16,
+                LARGE_SIZE / 16,
+                depth -> {
+                    List<E> view = list;
+                    for (int i = 0; i < depth; i++) {
+                        view = view.subList(1, view.size() - 1);
+                    }
+                    List<E> nested = view;
+                    int middle = nested.size() / 2;
+                    return () -> {
+                        for (int i = 0; i < OPERATIONS_PER_RUN; i++) {
+                            sink += System.identityHashCode(nested.get(middle));
+                        }
+                    };
+                });
+    }
+
+    @ListFeature.Require(EFFICIENT_POSITIONAL_ACCESS)
+    @CollectionFeature.Require(absent = REJECTS_DUPLICATES_AT_CREATION)
+    @CollectionSize.Require(SEVERAL)
+    public void testListIterator_traversalIsLinear() {
+        ScalingTimer.assertTimeScales(
+                "listIterator(size / 2), traversed to both ends",
+                Complexity.LINEAR,
+                SMALL_SIZE,
+                LARGE_SIZE,
+                size -> {
+                    List<E> list = createLargeList(size);
+                    return () -> {
+                        ListIterator<E> iterator = list.listIterator(size / 2);
+                        while (iterator.hasNext()) {
+                            sink += System.identityHashCode(iterator.next());
+                        }
+                        while (iterator.hasPrevious()) {
+                            sink += System.identityHashCode(iterator.previous());
+                        }
+                    };
+                });
+    }
+
+    /** Returns a new list of the given size, created by the generator from repeated samples. */
+    private List<E> createLargeList(int size) {
+        List<E> sampleList = samples.asList();
+        Object[] elements = new Object[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = sampleList.get(i % sampleList.size());
+        }
+        return (List<E>) getSubjectGenerator().create(elements);
+    }
+}
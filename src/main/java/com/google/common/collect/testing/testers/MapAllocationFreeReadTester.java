@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.collect.testing.AbstractMapTester;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.features.MapFeature;
+import com.google.common.testing.AllocationMeasurer;
+
+import java.util.function.BiConsumer;
+
+import static com.google.common.collect.testing.features.CollectionSize.ZERO;
+import static com.google.common.collect.testing.features.MapFeature.ALLOCATION_FREE_READS;
+
+/**
+ * A generic JUnit test which tests that the read-only queries of a map do not allocate heap memory,
+ * as measured by {@link AllocationMeasurer}. Can't be invoked directly; please see {@link
+ * com.google.common.collect.testing.MapTestSuiteBuilder}.
+ *
+ * <p>The tests pass trivially on JVMs that cannot measure allocation.
+ */
+public class MapAllocationFreeReadTester<K, V> extends AbstractMapTester<K, V> {
+    // Accumulates results so that the measured operations aren't optimized away.
+    private int sink;
+
+    private final BiConsumer<K, V> consumer = (key, value) -> sink++;
+
+    @MapFeature.Require(ALLOCATION_FREE_READS)
+    @CollectionSize.Require(absent = ZERO)
+    public void testGet_yes_allocationFree() {
+        K present = k0();
+        AllocationMeasurer.assertAllocationFree(
+                "get(present)", () -> sink += getMap().get(present) == null ? 0 : 1);
+    }
+
+    @MapFeature.Require(ALLOCATION_FREE_READS)
+    public void testGet_no_allocationFree() {
+        K absent = k3();
+        AllocationMeasurer.assertAllocationFree(
+                "get(notPresent)", () -> sink += getMap().get(absent) == null ? 0 : 1);
+    }
+
+    @MapFeature.Require(ALLOCATION_FREE_READS)
+    @CollectionSize.Require(absent = ZERO)
+    public void testContainsKey_yes_allocationFree() {
+        K present = k0();
+        AllocationMeasurer.assertAllocationFree(
+                "containsKey(present)", () -> sink += getMap().containsKey(present) ? 1 : 0);
+    }
+
+    @MapFeature.Require(ALLOCATION_FREE_READS)
+    public void testContainsKey_no_allocationFree() {
+        K absent = k3();
+        AllocationMeasurer.assertAllocationFree(
+                "containsKey(notPresent)", () -> sink += getMap().containsKey(absent) ? 1 : 0);
+    }
+
+    @MapFeature.Require(ALLOCATION_FREE_READS)
+    public void testSize_allocationFree() {
+        AllocationMeasurer.assertAllocationFree("size()", () -> sink += getMap().size());
+    }
+
+    @MapFeature.Require(ALLOCATION_FREE_READS)
+    public void testIsEmpty_allocationFree() {
+        AllocationMeasurer.assertAllocationFree(
+                "isEmpty()", () -> sink += getMap().isEmpty() ? 1 : 0);
+    }
+
+    @MapFeature.Require(ALLOCATION_FREE_READS)
+    public void testForEach_allocationFree() {
+        AllocationMeasurer.assertAllocationFree("forEach()", () -> getMap().forEach(consumer));
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.collect.testing.AbstractMapTester;
+import com.google.common.collect.testing.Helpers;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.features.MapFeature;
+import com.google.common.collect.testing.testers.ReferenceReleaseHelpers.ReleaseChecker;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_ITERATOR_REMOVE;
+import static com.google.common.collect.testing.features.CollectionSize.SEVERAL;
+import static com.google.common.collect.testing.features.MapFeature.SUPPORTS_PUT;
+import static com.google.common.collect.testing.features.MapFeature.SUPPORTS_REMOVE;
+import static com.google.common.collect.testing.testers.ReferenceReleaseHelpers.freshCopy;
+import static com.google.common.collect.testing.testers.ReferenceReleaseHelpers.isDerivedView;
+import static com.google.common.collect.testing.testers.ReferenceReleaseHelpers.removeAllThroughIterator;
+import static com.google.common.collect.testing.testers.ReferenceReleaseHelpers.weakReferences;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A generic JUnit test which tests that a map releases the keys and values removed from it, so that
+ * they can be garbage collected. Can't be invoked directly; please see {@link
+ * com.google.common.collect.testing.MapTestSuiteBuilder}.
+ *
+ * <p>The tests are skipped for keys or values that cannot be copied by serialization. Removal
+ * through the {@code keySet()}, {@code values()} and {@code entrySet()} views is tested here rather
+ * than by the suites of those views.
+ */
+public class MapReferenceReleaseTester<K, V> extends AbstractMapTester<K, V> {
+    /** Weak references to the keys of the map under test, in sample order. */
+    private List<WeakReference<K>> keyReferences;
+
+    /** Weak references to the values of the map under test, in sample order. */
+    private List<WeakReference<V>> valueReferences;
+
+    private boolean canCreateFreshEntries() {
+        if (isDerivedView(getSubjectGenerator().getInnerGenerator())) {
+            return false;
+        }
+        for (Entry<K, V> entry : getSampleElements()) {
+            if (freshCopy(entry.getKey()) == null || freshCopy(entry.getValue()) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the map under test with one containing fresh copies of the sample keys and values,
+     * which {@code checker} keeps reachable, and updates the weak references to them.
+     */
+    private void resetWithFreshEntries(ReleaseChecker checker) {
+        List<K> keys = new ArrayList<>();
+        List<V> values = new ArrayList<>();
+        Entry<K, V>[] entries = createSamplesArray();
+        for (int i = 0; i < entries.length; i++) {
+            K key = freshCopy(entries[i].getKey());
+            V value = freshCopy(entries[i].getValue());
+            keys.add(key);
+            values.add(value);
+            entries[i] = entry(key, value);
+        }
+        resetMap(entries);
+        checker.keepReachable(getMap());
+        keyReferences = weakReferences(keys);
+        valueReferences = weakReferences(values);
+    }
+
+    private void expectEntryReleased(ReleaseChecker checker, String operation, int index) {
+        checker.expectReleased(operation, keyReferences.get(index));
+        checker.expectReleased(operation, valueReferences.get(index));
+    }
+
+    @MapFeature.Require(SUPPORTS_REMOVE)
+    @CollectionSize.Require(SEVERAL)
+    public void testRemove_releasesKeysAndValues() {
+        if (!canCreateFreshEntries()) {
+            return;
+        }
+        ReleaseChecker checker = new ReleaseChecker();
+
+        resetWithFreshEntries(checker);
+        assertEquals(v0(), getMap().remove(k0()));
+        expectEntryReleased(checker, "remove()", 0);
+
+        resetWithFreshEntries(checker);
+        assertTrue(getMap().remove(k0(), v0()));
+        expectEntryReleased(checker, "remove(key, value)", 0);
+
+        resetWithFreshEntries(checker);
+        getMap().clear();
+        checker.expectAllReleased("clear()", keyReferences);
+        checker.expectAllReleased("clear()", valueReferences);
+
+        resetWithFreshEntries(checker);
+        assertTrue(getMap().keySet().remove(k0()));
+        expectEntryReleased(checker, "keySet().remove()", 0);
+
+        resetWithFreshEntries(checker);
+        assertTrue(getMap().values().remove(v0()));
+        expectEntryReleased(checker, "values().remove()", 0);
+
+        resetWithFreshEntries(checker);
+        assertTrue(getMap().entrySet().remove(e0()));
+        expectEntryReleased(checker, "entrySet().remove()", 0);
+
+        checker.assertReleased();
+    }
+
+    @MapFeature.Require(SUPPORTS_REMOVE)
+    @CollectionFeature.Require(SUPPORTS_ITERATOR_REMOVE)
+    @CollectionSize.Require(SEVERAL)
+    public void testEntrySetIteratorRemove_releasesKeysAndValues() {
+        if (!canCreateFreshEntries()) {
+            return;
+        }
+        ReleaseChecker checker = new ReleaseChecker();
+        resetWithFreshEntries(checker);
+        removeAllThroughIterator(getMap().entrySet());
+        checker.expectAllReleased("entrySet().iterator().remove()", keyReferences);
+        checker.expectAllReleased("entrySet().iterator().remove()", valueReferences);
+        checker.assertReleased();
+    }
+
+    @MapFeature.Require(SUPPORTS_PUT)
+    @CollectionSize.Require(SEVERAL)
+    public void testPut_releasesReplacedValues() {
+        if (!canCreateFreshEntries()) {
+            return;
+        }
+        ReleaseChecker checker = new ReleaseChecker();
+
+        resetWithFreshEntries(checker);
+        assertEquals(v0(), getMap().put(k0(), v3()));
+        checker.expectReleased("put() of an existing key", valueReferences.get(0));
+
+        resetWithFreshEntries(checker);
+        assertEquals(v0(), getMap().replace(k0(), v3()));
+        checker.expectReleased("replace()", valueReferences.get(0));
+
+        checker.assertReleased();
+    }
+
+    /**
+     * Returns the {@link Method} instances for the tests of this tester, so that the suites of submap
+     * and descending views can suppress them with {@code
+     * FeatureSpecificTestSuiteBuilder.suppressing()}.
+     */
+    @GwtIncompatible // reflection
+    public static Method[] getReleaseTestMethods() {
+        Class<?> tester = MapReferenceReleaseTester.class;
+        return new Method[] {
+            Helpers.getMethod(tester, "testRemove_releasesKeysAndValues"),
+            Helpers.getMethod(tester, "testEntrySetIteratorRemove_releasesKeysAndValues"),
+            Helpers.getMethod(tester, "testPut_releasesReplacedValues")
+        };
+    }
+}
@@ -17,13 +17,19 @@
 package com.google.common.collect.testing.testers;
 
 import com.google.common.collect.testing.AbstractMapTester;
+import com.google.common.collect.testing.Helpers;
 import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
 import com.google.common.testing.EqualsTester;
 import com.google.common.testing.SerializableTester;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import static com.google.common.collect.testing.features.CollectionFeature.SERIALIZABLE;
+import static com.google.common.collect.testing.features.CollectionSize.SEVERAL;
 
 /**
  * Basic serialization test for maps.
@@ -36,4 +42,25 @@ public class MapSerializationTester<K, V> extends AbstractMapTester<K, V> {
         Map<K, V> deserialized = SerializableTester.reserialize(getMap());
         new EqualsTester().addEqualityGroup(getMap(), deserialized).testEquals();
     }
+
+    @CollectionFeature.Require(SERIALIZABLE)
+    @CollectionSize.Require(SEVERAL)
+    public void testReserializeMap_sizePerEntry() {
+        Map<K, V> single = getSubjectGenerator().create(e0());
+        Helpers.assertSerializedSizeGrowth(
+                single,
+                keysAndValues(single),
+                getMap(),
+                keysAndValues(getMap()),
+                getMap().size() - single.size());
+    }
+
+    private static List<Object> keysAndValues(Map<?, ?> map) {
+        List<Object> keysAndValues = new ArrayList<>();
+        for (Entry<?, ?> entry : map.entrySet()) {
+            keysAndValues.add(entry.getKey());
+            keysAndValues.add(entry.getValue());
+        }
+        return keysAndValues;
+    }
 }
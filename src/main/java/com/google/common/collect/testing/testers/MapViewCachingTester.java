@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.collect.testing.AbstractMapTester;
+import com.google.common.collect.testing.features.MapFeature;
+
+import static com.google.common.collect.testing.Helpers.assertCachedView;
+import static com.google.common.collect.testing.features.MapFeature.CACHES_VIEWS;
+
+/**
+ * A generic JUnit test which tests that the views of a map are cached, so that calling {@code
+ * keySet()}, {@code values()} or {@code entrySet()} repeatedly returns the same instance without
+ * allocating. Can't be invoked directly; please see {@link
+ * com.google.common.collect.testing.MapTestSuiteBuilder}.
+ *
+ * <p>The allocation checks pass trivially on JVMs that cannot measure allocation.
+ */
+public class MapViewCachingTester<K, V> extends AbstractMapTester<K, V> {
+    @MapFeature.Require(CACHES_VIEWS)
+    public void testKeySet_cached() {
+        assertCachedView("keySet()", () -> getMap().keySet());
+    }
+
+    @MapFeature.Require(CACHES_VIEWS)
+    public void testValues_cached() {
+        assertCachedView("values()", () -> getMap().values());
+    }
+
+    @MapFeature.Require(CACHES_VIEWS)
+    public void testEntrySet_cached() {
+        assertCachedView("entrySet()", () -> getMap().entrySet());
+    }
+}
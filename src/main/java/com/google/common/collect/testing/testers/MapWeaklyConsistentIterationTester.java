@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.collect.testing.AbstractMapTester;
+import com.google.common.collect.testing.Helpers;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.MapFeature;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.SortedMap;
+import java.util.stream.Collectors;
+
+import static com.google.common.collect.testing.features.CollectionFeature.KNOWN_ORDER;
+import static com.google.common.collect.testing.features.MapFeature.SUPPORTS_PUT;
+import static com.google.common.collect.testing.features.MapFeature.SUPPORTS_REMOVE;
+import static com.google.common.collect.testing.features.MapFeature.WEAKLY_CONSISTENT_ITERATION;
+
+/**
+ * A generic JUnit test which traverses the {@code keySet()}, {@code values()} and {@code
+ * entrySet()} views of a map while other threads put and remove entries, and checks with {@link
+ * Helpers#assertWeaklyConsistentTraversals} that the traversals are weakly consistent. Can't be
+ * invoked directly; please see {@link com.google.common.collect.testing.MapTestSuiteBuilder}.
+ */
+public class MapWeaklyConsistentIterationTester<K, V> extends AbstractMapTester<K, V> {
+    private static final int WRITERS = 2;
+    private static final int READERS = 2;
+
+    @MapFeature.Require({SUPPORTS_PUT, SUPPORTS_REMOVE, WEAKLY_CONSISTENT_ITERATION})
+    @CollectionFeature.Require(absent = KNOWN_ORDER)
+    public void testConcurrentTraversal_weaklyConsistent() {
+        runConcurrentTraversals(false);
+    }
+
+    @MapFeature.Require({SUPPORTS_PUT, SUPPORTS_REMOVE, WEAKLY_CONSISTENT_ITERATION})
+    @CollectionFeature.Require(KNOWN_ORDER)
+    public void testConcurrentTraversal_weaklyConsistentInOrder() {
+        runConcurrentTraversals(true);
+    }
+
+    /**
+     * Runs writers, each of which keeps putting and removing one entry that is not initially
+     * present, and readers, which keep traversing all three views until the writers are done.
+     */
+    private void runConcurrentTraversals(boolean knownOrder) {
+        Map<K, V> map = getMap();
+        List<Entry<K, V>> initialEntries = copyEntries(map.entrySet());
+        List<K> initialKeys = initialEntries.stream().map(Entry::getKey).collect(Collectors.toList());
+        List<V> initialValues =
+                initialEntries.stream().map(Entry::getValue).collect(Collectors.toList());
+        List<Entry<K, V>> transients = Arrays.asList(e3(), e4());
+        List<K> transientKeys = Arrays.asList(k3(), k4());
+        List<V> transientValues = Arrays.asList(v3(), v4());
+        Comparator<? super K> keyOrder = null;
+        Comparator<Entry<K, V>> entryOrder = null;
+        if (map instanceof SortedMap) {
+            Comparator<? super K> comparator = ((SortedMap<K, V>) map).comparator();
+            keyOrder = comparator == null ? (Comparator<? super K>) Comparator.naturalOrder() : comparator;
+            entryOrder = Helpers.entryComparator(keyOrder);
+        }
+        Comparator<? super K> keys = keyOrder;
+        Comparator<Entry<K, V>> entries = entryOrder;
+        Helpers.runWritersAndReaders(
+                WRITERS,
+                READERS,
+                thread -> {
+                    Entry<K, V> entry = transients.get(thread);
+                    map.put(entry.getKey(), entry.getValue());
+                    map.remove(entry.getKey());
+                },
+                () -> {
+                    Helpers.assertWeaklyConsistentTraversals(
+                            map.keySet(), initialKeys, transientKeys, true, keys, knownOrder);
+                    Helpers.assertWeaklyConsistentTraversals(
+                            map.values(), initialValues, transientValues, false, null, knownOrder);
+                    Helpers.assertWeaklyConsistentTraversals(
+                            map.entrySet(), initialEntries, transients, true, entries, knownOrder);
+                });
+    }
+
+    /** Copies the entries of an entry set, since its entries may be reused or may change later. */
+    private static <K, V> List<Entry<K, V>> copyEntries(Iterable<Entry<K, V>> entrySet) {
+        List<Entry<K, V>> copies = new ArrayList<>();
+        for (Entry<K, V> entry : entrySet) {
+            copies.add(Helpers.mapEntry(entry.getKey(), entry.getValue()));
+        }
+        return copies;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.collect.testing.AbstractMapTester;
+import com.google.common.collect.testing.Helpers;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.features.MapFeature;
+import com.google.common.collect.testing.testers.ReferenceReleaseHelpers.ReleaseChecker;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+
+import static com.google.common.collect.testing.features.CollectionSize.SEVERAL;
+import static com.google.common.collect.testing.features.MapFeature.SUPPORTS_REMOVE;
+import static com.google.common.collect.testing.testers.ReferenceReleaseHelpers.freshCopy;
+import static com.google.common.collect.testing.testers.ReferenceReleaseHelpers.indexOfReferent;
+import static com.google.common.collect.testing.testers.ReferenceReleaseHelpers.isDerivedView;
+import static com.google.common.collect.testing.testers.ReferenceReleaseHelpers.weakReferences;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A generic JUnit test which tests that a navigable map releases the keys and values removed from
+ * its ends or through its range views, so that they can be garbage collected. Can't be invoked
+ * directly; please see {@link com.google.common.collect.testing.NavigableMapTestSuiteBuilder}.
+ */
+public class NavigableMapReferenceReleaseTester<K, V> extends AbstractMapTester<K, V> {
+    /** Weak references to the keys of the map under test, in sample order. */
+    private List<WeakReference<K>> keyReferences;
+
+    /** Weak references to the values of the map under test, in sample order. */
+    private List<WeakReference<V>> valueReferences;
+
+    /** The sample entries, in the order of the map. */
+    private List<Entry<K, V>> orderedEntries;
+
+    private boolean canCreateFreshEntries() {
+        if (isDerivedView(getSubjectGenerator().getInnerGenerator())) {
+            return false;
+        }
+        for (Entry<K, V> entry : getSampleElements()) {
+            if (freshCopy(entry.getKey()) == null || freshCopy(entry.getValue()) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the map under test with one containing fresh copies of the sample keys and values,
+     * which {@code checker} keeps reachable, and updates the weak references to them.
+     */
+    private void resetWithFreshEntries(ReleaseChecker checker) {
+        List<K> keys = new ArrayList<>();
+        List<V> values = new ArrayList<>();
+        Entry<K, V>[] entries = createSamplesArray();
+        for (int i = 0; i < entries.length; i++) {
+            K key = freshCopy(entries[i].getKey());
+            V value = freshCopy(entries[i].getValue());
+            keys.add(key);
+            values.add(value);
+            entries[i] = entry(key, value);
+        }
+        resetMap(entries);
+        checker.keepReachable(getMap());
+        keyReferences = weakReferences(keys);
+        valueReferences = weakReferences(values);
+        orderedEntries = getOrderedElements();
+    }
+
+    private NavigableMap<K, V> getNavigableMap() {
+        return (NavigableMap<K, V>) getMap();
+    }
+
+    private K firstKey() {
+        return orderedEntries.get(0).getKey();
+    }
+
+    private K secondKey() {
+        return orderedEntries.get(1).getKey();
+    }
+
+    private K lastKey() {
+        return orderedEntries.get(orderedEntries.size() - 1).getKey();
+    }
+
+    /** Returns the sample index of the entry with the given key. */
+    private int sampleIndexOf(K key) {
+        List<Entry<K, V>> sampleEntries = new ArrayList<>(getSampleElements());
+        for (int i = 0; i < sampleEntries.size(); i++) {
+            if (sampleEntries.get(i).getKey().equals(key)) {
+                return i;
+            }
+        }
+        throw new AssertionError(key + " is not a sample key");
+    }
+
+    private void expectEntryReleased(ReleaseChecker checker, String operation, int index) {
+        assertTrue(index >= 0, operation + " should return one of the entries");
+        checker.expectReleased(operation, keyReferences.get(index));
+        checker.expectReleased(operation, valueReferences.get(index));
+    }
+
+    @MapFeature.Require(SUPPORTS_REMOVE)
+    @CollectionSize.Require(SEVERAL)
+    public void testRemoveFromEnds_releasesKeysAndValues() {
+        if (!canCreateFreshEntries()) {
+            return;
+        }
+        ReleaseChecker checker = new ReleaseChecker();
+
+        // Only the index is kept, since a local variable holding the key would keep it reachable.
+        resetWithFreshEntries(checker);
+        int index = indexOfReferent(keyReferences, getNavigableMap().pollFirstEntry().getKey());
+        expectEntryReleased(checker, "pollFirstEntry()", index);
+
+        resetWithFreshEntries(checker);
+        index = indexOfReferent(keyReferences, getNavigableMap().pollLastEntry().getKey());
+        expectEntryReleased(checker, "pollLastEntry()", index);
+
+        resetWithFreshEntries(checker);
+        index =
+                indexOfReferent(
+                        keyReferences, getNavigableMap().descendingMap().pollFirstEntry().getKey());
+        expectEntryReleased(checker, "descendingMap().pollFirstEntry()", index);
+
+        checker.assertReleased();
+    }
+
+    @MapFeature.Require(SUPPORTS_REMOVE)
+    @CollectionSize.Require(SEVERAL)
+    public void testRangeViewClear_releasesKeysAndValues() {
+        if (!canCreateFreshEntries()) {
+            return;
+        }
+        ReleaseChecker checker = new ReleaseChecker();
+
+        resetWithFreshEntries(checker);
+        getNavigableMap().headMap(secondKey(), false).clear();
+        expectEntryReleased(checker, "headMap().clear()", sampleIndexOf(firstKey()));
+
+        resetWithFreshEntries(checker);
+        getNavigableMap().tailMap(lastKey(), true).clear();
+        expectEntryReleased(checker, "tailMap().clear()", sampleIndexOf(lastKey()));
+
+        resetWithFreshEntries(checker);
+        getNavigableMap().subMap(firstKey(), true, lastKey(), true).clear();
+        checker.expectAllReleased("subMap().clear()", keyReferences);
+        checker.expectAllReleased("subMap().clear()", valueReferences);
+
+        checker.assertReleased();
+    }
+
+    /**
+     * Returns the {@link Method} instances for the tests of this tester, so that the suites of submap
+     * and descending views, whose removals these tests already cover, can suppress them with {@code
+     * FeatureSpecificTestSuiteBuilder.suppressing()}.
+     */
+    @GwtIncompatible // reflection
+    public static Method[] getReleaseTestMethods() {
+        Class<?> tester = NavigableMapReferenceReleaseTester.class;
+        return new Method[] {
+            Helpers.getMethod(tester, "testRemoveFromEnds_releasesKeysAndValues"),
+            Helpers.getMethod(tester, "testRangeViewClear_releasesKeysAndValues")
+        };
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.collect.testing.Complexity;
+import com.google.common.collect.testing.Helpers;
+import com.google.common.collect.testing.Helpers.CountingComparator;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.features.QueueFeature;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_ADD;
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_REMOVE;
+import static com.google.common.collect.testing.features.CollectionSize.SEVERAL;
+import static com.google.common.collect.testing.features.QueueFeature.PRIORITY_ORDERED;
+
+/**
+ * A generic JUnit test which tests the number of comparisons made by a priority queue, using a
+ * {@link CountingComparator}. Can't be invoked directly; please see {@link
+ * com.google.common.collect.testing.QueueTestSuiteBuilder}.
+ *
+ * <p>The tests compare counts between a small and a large queue: {@code offer()} and {@code poll()}
+ * must make {@code O(log n)} comparisons, and bulk construction must make a constant number of
+ * comparisons per element, as heapify does. The tests run only in the {@code SEVERAL} suite, since
+ * the size of the sample queue is irrelevant to them.
+ */
+public class QueuePriorityCostTester<E> extends AbstractPriorityQueueTester<E> {
+    private static final int SMALL_SIZE = 1 << 8;
+    private static final int LARGE_SIZE = 1 << 16;
+    private static final int OPERATIONS = 1 << 8;
+
+    @QueueFeature.Require(PRIORITY_ORDERED)
+    @CollectionSize.Require(SEVERAL)
+    public void testBulkConstruction_linearComparisons() {
+        assertComparisonsScale(
+                "bulk construction (per element)",
+                Complexity.CONSTANT,
+                SMALL_SIZE,
+                constructionComparisons(SMALL_SIZE) / SMALL_SIZE,
+                LARGE_SIZE,
+                constructionComparisons(LARGE_SIZE) / LARGE_SIZE);
+    }
+
+    /*
+     * Offers elements smaller than all others, which must travel all the way to the root of a heap,
+     * to measure the worst case rather than the constant average case.
+     */
+    @QueueFeature.Require(PRIORITY_ORDERED)
+    @CollectionFeature.Require(SUPPORTS_ADD)
+    @CollectionSize.Require(SEVERAL)
+    public void testOffer_logarithmicComparisons() {
+        assertComparisonsScale(
+                "offer()",
+                Complexity.LOG,
+                SMALL_SIZE,
+                offerComparisons(SMALL_SIZE) / OPERATIONS,
+                LARGE_SIZE,
+                offerComparisons(LARGE_SIZE) / OPERATIONS);
+    }
+
+    @QueueFeature.Require(PRIORITY_ORDERED)
+    @CollectionFeature.Require(SUPPORTS_REMOVE)
+    @CollectionSize.Require(SEVERAL)
+    public void testPoll_logarithmicComparisons() {
+        assertComparisonsScale(
+                "poll()",
+                Complexity.LOG,
+                SMALL_SIZE,
+                pollComparisons(SMALL_SIZE) / OPERATIONS,
+                LARGE_SIZE,
+                pollComparisons(LARGE_SIZE) / OPERATIONS);
+    }
+
+    /*
+     * Builds from elements in descending order, the worst case for insertion one at a time, in which
+     * every element travels up to the root. The elements count their own comparisons, since
+     * constructors such as PriorityQueue(Collection) heapify only by natural ordering.
+     */
+    private double constructionComparisons(int size) {
+        long[] comparisons = new long[1];
+        List<CountingInteger> elements = new ArrayList<>(size);
+        for (int i = size; i > 0; i--) {
+            elements.add(new CountingInteger(i, comparisons));
+        }
+        getPriorityQueueGenerator().create(Comparator.<CountingInteger>naturalOrder(), elements);
+        return comparisons[0];
+    }
+
+    private double offerComparisons(int size) {
+        CountingComparator<Integer> comparator = new CountingComparator<>(Comparator.naturalOrder());
+        Queue<Integer> queue = getPriorityQueueGenerator().create(comparator, randomIntegers(size));
+        comparator.resetCalls();
+        for (int i = 1; i <= OPERATIONS; i++) {
+            queue.offer(-i);
+        }
+        return comparator.calls();
+    }
+
+    private double pollComparisons(int size) {
+        CountingComparator<Integer> comparator = new CountingComparator<>(Comparator.naturalOrder());
+        Queue<Integer> queue = getPriorityQueueGenerator().create(comparator, randomIntegers(size));
+        comparator.resetCalls();
+        for (int i = 0; i < OPERATIONS; i++) {
+            queue.poll();
+        }
+        return comparator.calls();
+    }
+
+    /**
+     * Returns the {@link Method} instance for {@link #testBulkConstruction_linearComparisons()} so
+     * that tests can suppress it with {@code FeatureSpecificTestSuiteBuilder.suppressing()} for
+     * queues that can't be built by heapify, such as a {@code PriorityQueue} with a comparator.
+     */
+    public static Method getBulkConstructionLinearComparisonsMethod() {
+        return Helpers.getMethod(QueuePriorityCostTester.class, "testBulkConstruction_linearComparisons");
+    }
+
+    /** An integer whose natural ordering counts the comparisons made with it. */
+    private static final class CountingInteger implements Comparable<CountingInteger> {
+        private final int value;
+        private final long[] comparisons;
+
+        CountingInteger(int value, long[] comparisons) {
+            this.value = value;
+            this.comparisons = comparisons;
+        }
+
+        @Override
+        public int compareTo(CountingInteger other) {
+            comparisons[0]++;
+            return Integer.compare(value, other.value);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.collect.testing.Helpers;
+import com.google.common.collect.testing.TestPriorityQueueGenerator;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.features.QueueFeature;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_ADD;
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_REMOVE;
+import static com.google.common.collect.testing.features.CollectionSize.SEVERAL;
+import static com.google.common.collect.testing.features.CollectionSize.ZERO;
+import static com.google.common.collect.testing.features.QueueFeature.PRIORITY_ORDERED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * A generic JUnit test which tests that a priority queue returns its elements in the order of its
+ * comparator. Can't be invoked directly; please see {@link
+ * com.google.common.collect.testing.QueueTestSuiteBuilder}.
+ */
+public class QueuePriorityOrderTester<E> extends AbstractPriorityQueueTester<E> {
+    private static final int LARGE_SIZE = 1 << 14;
+
+    @QueueFeature.Require(PRIORITY_ORDERED)
+    @CollectionSize.Require(absent = ZERO)
+    public void testPeek_least() {
+        assertEquals(
+                getOrderedElements().get(0),
+                getQueue().peek(),
+                "peek() should return the least element");
+        expectUnchanged();
+    }
+
+    @QueueFeature.Require(PRIORITY_ORDERED)
+    @CollectionFeature.Require(SUPPORTS_REMOVE)
+    public void testPoll_priorityOrder() {
+        List<E> polled = new ArrayList<>();
+        for (E element = getQueue().poll(); element != null; element = getQueue().poll()) {
+            polled.add(element);
+        }
+        assertEquals(
+                getOrderedElements(),
+                polled,
+                "poll() should return the elements in priority order");
+    }
+
+    @QueueFeature.Require(PRIORITY_ORDERED)
+    @CollectionFeature.Require({SUPPORTS_ADD, SUPPORTS_REMOVE})
+    public void testOfferThenPoll_priorityOrder() {
+        getQueue().offer(e4());
+        getQueue().offer(e3());
+        List<E> added = new ArrayList<>(getSampleElements());
+        added.add(e4());
+        added.add(e3());
+        List<E> expected = Helpers.copyToList(getSubjectGenerator().order(added));
+
+        List<E> polled = new ArrayList<>();
+        for (E element = getQueue().poll(); element != null; element = getQueue().poll()) {
+            polled.add(element);
+        }
+        assertEquals(
+                expected,
+                polled,
+                "poll() should return offered elements in priority order");
+    }
+
+    @QueueFeature.Require(PRIORITY_ORDERED)
+    @CollectionFeature.Require(SUPPORTS_REMOVE)
+    @CollectionSize.Require(SEVERAL)
+    public void testPoll_largeRandomInput() {
+        List<Integer> input = randomIntegers(LARGE_SIZE);
+        Queue<Integer> queue =
+                getPriorityQueueGenerator().create(Comparator.<Integer>naturalOrder(), input);
+        List<Integer> expected = new ArrayList<>(input);
+        expected.sort(null);
+
+        List<Integer> polled = new ArrayList<>();
+        for (Integer element = queue.poll(); element != null; element = queue.poll()) {
+            polled.add(element);
+        }
+        assertEquals(
+                expected,
+                polled,
+                "poll() should return the elements of a large queue in priority order");
+    }
+
+    /*
+     * Interleaves offer() and poll() at random, with a reversed comparator so that implementations
+     * which ignore the comparator fail, and compares every result with a sorted multiset.
+     */
+    @QueueFeature.Require(PRIORITY_ORDERED)
+    @CollectionFeature.Require({SUPPORTS_ADD, SUPPORTS_REMOVE})
+    @CollectionSize.Require(SEVERAL)
+    public void testOfferAndPoll_largeRandomInput() {
+        TestPriorityQueueGenerator<E> generator = getPriorityQueueGenerator();
+        Comparator<Integer> comparator = Comparator.reverseOrder();
+        List<Integer> input = randomIntegers(LARGE_SIZE);
+        Queue<Integer> queue = generator.create(comparator, input.subList(0, LARGE_SIZE / 2));
+        TreeMap<Integer, Integer> counts = new TreeMap<>(comparator);
+        for (Integer element : input.subList(0, LARGE_SIZE / 2)) {
+            counts.merge(element, 1, Integer::sum);
+        }
+
+        Random random = new Random(0);
+        for (Integer element : input.subList(LARGE_SIZE / 2, LARGE_SIZE)) {
+            if (counts.isEmpty() || random.nextBoolean()) {
+                queue.offer(element);
+                counts.merge(element, 1, Integer::sum);
+            } else {
+                assertEquals(pollFirst(counts), queue.poll(), "poll() after random offers");
+            }
+        }
+        while (!counts.isEmpty()) {
+            assertEquals(pollFirst(counts), queue.poll(), "poll() after random offers");
+        }
+        assertNull(queue.poll(), "poll() should return null after the queue is drained");
+    }
+
+    private static Integer pollFirst(TreeMap<Integer, Integer> counts) {
+        Map.Entry<Integer, Integer> first = counts.firstEntry();
+        if (first.getValue() == 1) {
+            counts.remove(first.getKey());
+        } else {
+            counts.put(first.getKey(), first.getValue() - 1);
+        }
+        return first.getKey();
+    }
+}
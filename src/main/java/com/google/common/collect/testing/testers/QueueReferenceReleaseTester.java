@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.testers.ReferenceReleaseHelpers.ReleaseChecker;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+
+import static com.google.common.collect.testing.features.CollectionFeature.SUPPORTS_REMOVE;
+import static com.google.common.collect.testing.features.CollectionSize.SEVERAL;
+import static com.google.common.collect.testing.testers.ReferenceReleaseHelpers.freshCopies;
+import static com.google.common.collect.testing.testers.ReferenceReleaseHelpers.indexOfReferent;
+import static com.google.common.collect.testing.testers.ReferenceReleaseHelpers.isDerivedView;
+import static com.google.common.collect.testing.testers.ReferenceReleaseHelpers.weakReferences;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A generic JUnit test which tests that a queue releases the elements removed from its head, so
+ * that they can be garbage collected. Can't be invoked directly; please see {@link
+ * com.google.common.collect.testing.QueueTestSuiteBuilder}.
+ *
+ * <p>Array-backed queues are the usual offenders, by leaving the removed element in its slot.
+ */
+public class QueueReferenceReleaseTester<E> extends AbstractQueueTester<E> {
+    private boolean canCreateFreshElements() {
+        return !isDerivedView(getSubjectGenerator().getInnerGenerator())
+                && freshCopies(getSampleElements()) != null;
+    }
+
+    /**
+     * Replaces the queue under test with one containing fresh copies of the sample elements, which
+     * {@code checker} keeps reachable, and returns weak references to those copies in sample order.
+     */
+    private List<WeakReference<E>> resetWithFreshElements(ReleaseChecker checker) {
+        List<E> fresh = freshCopies(getSampleElements());
+        checker.keepReachable(resetContainer(getSubjectGenerator().create(fresh.toArray())));
+        return weakReferences(fresh);
+    }
+
+    @CollectionFeature.Require(SUPPORTS_REMOVE)
+    @CollectionSize.Require(SEVERAL)
+    public void testRemoveHead_releasesElements() {
+        if (!canCreateFreshElements()) {
+            return;
+        }
+        ReleaseChecker checker = new ReleaseChecker();
+
+        List<WeakReference<E>> references = resetWithFreshElements(checker);
+        int index = indexOfReferent(references, getQueue().poll());
+        assertTrue(index >= 0, "poll() should return one of the elements");
+        checker.expectReleased("poll()", references.get(index));
+
+        references = resetWithFreshElements(checker);
+        index = indexOfReferent(references, getQueue().remove());
+        assertTrue(index >= 0, "remove() should return one of the elements");
+        checker.expectReleased("remove()", references.get(index));
+
+        checker.assertReleased();
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.testers;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.collect.testing.DerivedGenerator;
+import com.google.common.testing.GcFinalization;
+import com.google.common.testing.SerializableTester;
+
+import java.io.Serializable;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Helpers for the testers which check that containers release the elements removed from them, so
+ * that the elements can be garbage collected.
+ *
+ * <p>The sample elements of a generator are usually constants, which are never collected, so these
+ * testers fill the container with fresh copies of the sample elements instead. The fresh copies must
+ * only be referenced by the container, which is why the testers keep nothing but weak references to
+ * them, and why they remove elements through helper methods rather than local variables.
+ *
+ * <p>Every check needs a full garbage collection, so each test exercises several removal paths, each
+ * on its own container, and checks them all at once with a {@link ReleaseChecker}.
+ */
+public final class ReferenceReleaseHelpers {
+    private ReferenceReleaseHelpers() {
+    }
+
+    /**
+     * Returns the reference-release tests, which the suites of range and descending views suppress.
+     * Each of them needs a full garbage collection, and the testers of the original container already
+     * remove elements through those views.
+     */
+    @GwtIncompatible // reflection
+    public static List<Method> getReleaseTestMethods() {
+        List<Method> methods = new ArrayList<>();
+        Collections.addAll(methods, CollectionReferenceReleaseTester.getReleaseTestMethods());
+        Collections.addAll(methods, MapReferenceReleaseTester.getReleaseTestMethods());
+        Collections.addAll(methods, NavigableMapReferenceReleaseTester.getReleaseTestMethods());
+        return methods;
+    }
+
+    /**
+     * Returns whether the testers should skip the container created by {@code generator}, because it
+     * is a collection derived from another container, such as {@code Map.keySet()}. The testers of
+     * the original container already remove elements through its views. Range and descending views
+     * are excluded by their suite builders instead, which suppress the tests.
+     */
+    static boolean isDerivedView(Object generator) {
+        return generator instanceof DerivedGenerator;
+    }
+
+    /**
+     * Returns a copy of {@code element} that is equal to it but is a distinct object, or null if no
+     * such copy can be made, as for elements that are not serializable or that serialize to a
+     * canonical instance, such as enum constants.
+     */
+    static <T> T freshCopy(T element) {
+        if (!(element instanceof Serializable)) {
+            return null;
+        }
+        T copy;
+        try {
+            copy = SerializableTester.reserialize(element);
+        } catch (RuntimeException e) {
+            return null;
+        }
+        return copy != element && element.equals(copy) ? copy : null;
+    }
+
+    /**
+     * Returns fresh copies of {@code elements}, in the same order, or null if any of them cannot be
+     * copied.
+     */
+    static <T> List<T> freshCopies(Collection<T> elements) {
+        List<T> copies = new ArrayList<>(elements.size());
+        for (T element : elements) {
+            T copy = freshCopy(element);
+            if (copy == null) {
+                return null;
+            }
+            copies.add(copy);
+        }
+        return copies;
+    }
+
+    static <T> List<WeakReference<T>> weakReferences(List<T> referents) {
+        List<WeakReference<T>> references = new ArrayList<>(referents.size());
+        for (T referent : referents) {
+            references.add(new WeakReference<>(referent));
+        }
+        return references;
+    }
+
+    /**
+     * Returns the index of the reference to {@code referent} itself, rather than to an equal object,
+     * or -1 if there is none.
+     */
+    static int indexOfReferent(List<? extends WeakReference<?>> references, Object referent) {
+        for (int i = 0; i < references.size(); i++) {
+            if (references.get(i).get() == referent) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes all elements of {@code iterable} through its iterator. This is a separate method so that
+     * the iterator, which may hold a snapshot of the elements, is unreachable once it returns.
+     */
+    static void removeAllThroughIterator(Iterable<?> iterable) {
+        for (Iterator<?> iterator = iterable.iterator(); iterator.hasNext(); ) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Collects the objects that removal operations should have released, and asserts that they all
+     * become unreachable while the containers they were removed from are still reachable.
+     */
+    static final class ReleaseChecker {
+        private final List<Object> containers = new ArrayList<>();
+        private final List<String> operations = new ArrayList<>();
+        private final List<WeakReference<?>> references = new ArrayList<>();
+
+        /** Keeps {@code container} reachable until {@link #assertReleased} returns. */
+        <C> C keepReachable(C container) {
+            containers.add(container);
+            return container;
+        }
+
+        void expectReleased(String operation, WeakReference<?> reference) {
+            operations.add(operation);
+            references.add(reference);
+        }
+
+        void expectAllReleased(String operation, List<? extends WeakReference<?>> references) {
+            for (WeakReference<?> reference : references) {
+                expectReleased(operation, reference);
+            }
+        }
+
+        void assertReleased() {
+            try {
+                GcFinalization.awaitClearAll(references);
+            } catch (RuntimeException leaked) {
+                // Reported below, by operation.
+            }
+            List<String> leaks = new ArrayList<>();
+            for (int i = 0; i < references.size(); i++) {
+                String leak = describeLeak(operations.get(i), references.get(i));
+                if (leak != null) {
+                    leaks.add(leak);
+                }
+            }
+            Reference.reachabilityFence(containers);
+            if (!leaks.isEmpty()) {
+                fail("Removed elements are still reachable:\n  " + String.join("\n  ", leaks));
+            }
+        }
+
+        private static String describeLeak(String operation, WeakReference<?> reference) {
+            Object referent = reference.get();
+            return referent == null ? null : operation + " did not release " + referent;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.testing;
+
+import com.google.common.annotations.Beta;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Measures the heap memory allocated by the current thread, using {@link
+ * com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}. This is supported by HotSpot and
+ * most JVMs derived from it; on other JVMs, {@link #isSupported} returns false and the assertions
+ * of this class pass trivially.
+ *
+ * <p>Allocation counts are exact, but the JIT compiler can remove allocations by escape analysis,
+ * so an operation may allocate while it is interpreted and stop allocating once it is compiled.
+ * {@link #assertAllocationFree} therefore warms the operation up and measures it several times.
+ */
+@Beta
+public final class AllocationMeasurer {
+    private static final int WARMUP_REPETITIONS = 20_000;
+    private static final int REPETITIONS = 10_000;
+    private static final int ATTEMPTS = 3;
+
+    private static final com.sun.management.ThreadMXBean THREADS = threads();
+
+    private static com.sun.management.ThreadMXBean threads() {
+        try {
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            if (threads instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean hotSpotThreads = (com.sun.management.ThreadMXBean) threads;
+                if (hotSpotThreads.isThreadAllocatedMemorySupported()) {
+                    hotSpotThreads.setThreadAllocatedMemoryEnabled(true);
+                    return hotSpotThreads;
+                }
+            }
+        } catch (RuntimeException | LinkageError e) {
+            // fall through
+        }
+        return null;
+    }
+
+    private AllocationMeasurer() {
+    }
+
+    /** Returns whether this JVM can measure the memory allocated by a thread. */
+    public static boolean isSupported() {
+        return THREADS != null;
+    }
+
+    /**
+     * Returns the total number of bytes allocated by the current thread so far.
+     *
+     * @throws UnsupportedOperationException if {@link #isSupported} returns false
+     */
+    public static long currentThreadAllocatedBytes() {
+        if (THREADS == null) {
+            throw new UnsupportedOperationException("allocation measurement is not supported");
+        }
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Runs {@code operation} {@code repetitions} times and returns the average number of bytes it
+     * allocated per run, excluding the allocations made by the measurement itself.
+     *
+     * @throws UnsupportedOperationException if {@link #isSupported} returns false
+     */
+    public static double allocatedBytesPerRun(Runnable operation, int repetitions) {
+        checkNotNull(operation);
+        checkArgument(repetitions > 0, "repetitions (%s) must be positive", repetitions);
+        long overhead = -currentThreadAllocatedBytes() + currentThreadAllocatedBytes();
+        long before = currentThreadAllocatedBytes();
+        for (int i = 0; i < repetitions; i++) {
+            operation.run();
+        }
+        long allocated = currentThreadAllocatedBytes() - before - overhead;
+        return Math.max(allocated, 0) / (double) repetitions;
+    }
+
+    /**
+     * Asserts that {@code operation}, after warmup, allocates less than one byte per run on average,
+     * which rules out allocating even a single object per run.
+     */
+    public static void assertAllocationFree(String description, Runnable operation) {
+        checkNotNull(description);
+        checkNotNull(operation);
+        if (!isSupported()) {
+            return;
+        }
+        for (int i = 0; i < WARMUP_REPETITIONS; i++) {
+            operation.run();
+        }
+        double least = Double.POSITIVE_INFINITY;
+        for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+            least = Math.min(least, allocatedBytesPerRun(operation, REPETITIONS));
+            if (least < 1) {
+                return;
+            }
+        }
+        fail(description + " should not allocate, but allocated " + least + " bytes per call");
+    }
+}
@@ -17,15 +17,31 @@
 package com.google.common.testing;
 
 import com.google.common.annotations.Beta;
+import com.sun.management.GarbageCollectionNotificationInfo;
 
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeoutException;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
@@ -46,8 +62,15 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  * specified the JVM flag {@code -XX:+DisableExplicitGC}. But in practice, it works very well for
  * ordinary tests.
  *
- * <p>Failure of the expected event to occur within an implementation-defined "reasonable" time
- * period or an interrupt while waiting for the expected event will result in a {@link
+ * <p>Each collection is confirmed by waiting for a phantom-reachable sentinel object to be enqueued
+ * in a {@link ReferenceQueue}, rather than by sleeping, so the methods of this class usually return
+ * as soon as the first collection after the expected event becomes possible has completed. Between
+ * collections, they wait for the expected event in increasingly long slices, and they also wake up
+ * early when the platform's {@link GarbageCollectorMXBean}s report a collection started by someone
+ * else.
+ *
+ * <p>Failure of the expected event to occur within an implementation-defined "reasonable" number of
+ * collections or an interrupt while waiting for the expected event will result in a {@link
  * RuntimeException}.
  *
  * <p>Here's an example that tests a {@code finalize} method:
@@ -91,6 +114,9 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  * }
  * }</pre>
  *
+ * <p>To wait for many references, such as the entries of a cache, use {@link #awaitClearAll} or
+ * {@link #awaitEnqueued}, which wait for all of them during the same collections.
+ *
  * <p>This class cannot currently be used to test soft references, since this class does not try to
  * create the memory pressure required to cause soft references to be cleared.
  *
@@ -106,9 +132,31 @@ public final class GcFinalization {
     private GcFinalization() {
     }
 
+    /**
+     * The number of confirmed garbage collections after which we give up. Weak references to an
+     * unreachable object are cleared by the first one, but finalizers and cleaners run later, on
+     * their own threads, which is what the growing wait between collections is for.
+     */
+    private static final int MAX_CONFIRMED_COLLECTIONS = 10;
+
+    /**
+     * The least time to wait before giving up, however quickly the collections complete. Finalizers
+     * and cleaners may lag well behind the collections on a loaded machine, so this is as long as the
+     * default timeout: confirmed collections only shorten the wait on gigantic heaps.
+     */
+    private static final long MIN_TIMEOUT_NANOS = SECONDS.toNanos(10);
+
+    /** The longest time to wait for a requested collection to be confirmed. */
+    private static final long COLLECTION_TIMEOUT_NANOS = SECONDS.toNanos(1);
+
+    private static final long INITIAL_BACKOFF_NANOS = MILLISECONDS.toNanos(1);
+    private static final long MAX_BACKOFF_NANOS = MILLISECONDS.toNanos(500);
+
     /**
      * 10 seconds ought to be long enough for any object to be GC'ed and finalized. Unless we have a
-     * gigantic heap, in which case we scale by heap size.
+     * gigantic heap, in which case we scale by heap size. This bounds the wait when collections
+     * cannot be confirmed, for example because explicit GC is disabled; otherwise we give up after
+     * {@link #MAX_CONFIRMED_COLLECTIONS} and {@link #MIN_TIMEOUT_NANOS}.
      */
     private static long timeoutSeconds() {
         // This class can make no hard guarantees.  The methods in this class are inherently flaky, but
@@ -125,6 +173,23 @@ public final class GcFinalization {
         return Math.max(10L, Runtime.getRuntime().totalMemory() / (32L * 1024L * 1024L));
     }
 
+    /** The most references to list when {@link #awaitClearAll} times out. */
+    private static final int MAX_REPORTED_REFERENCES = 10;
+
+    /** Something that the garbage collector is expected to bring about. */
+    private interface Condition {
+        boolean isDone();
+
+        /** Waits up to {@code nanos} for this condition, and returns whether it is done. */
+        boolean await(long nanos) throws InterruptedException;
+
+        /** Describes what did not happen, for the message of a timeout. */
+        String failure();
+
+        /** Returns further lines for the message of a timeout, each starting with a line break. */
+        String diagnostics();
+    }
+
     /**
      * Waits until the given future {@linkplain Future#isDone is done}, invoking the garbage collector
      * as necessary to try to ensure that this will happen.
@@ -132,29 +197,36 @@ public final class GcFinalization {
      * @throws RuntimeException if timed out or interrupted while waiting
      */
     public static void awaitDone(Future<?> future) {
-        if (future.isDone()) {
-            return;
-        }
-        long timeoutSeconds = timeoutSeconds();
-        long deadline = System.nanoTime() + SECONDS.toNanos(timeoutSeconds);
-        do {
-            System.runFinalization();
-            if (future.isDone()) {
-                return;
-            }
-            System.gc();
-            try {
-                future.get(1L, SECONDS);
-                return;
-            } catch (CancellationException | ExecutionException ok) {
-                return;
-            } catch (InterruptedException ie) {
-                throw new RuntimeException("Unexpected interrupt while waiting for future", ie);
-            } catch (TimeoutException tryHarder) {
-                /* OK */
-            }
-        } while (System.nanoTime() - deadline < 0);
-        throw formatRuntimeException("Future not done within %d second timeout", timeoutSeconds);
+        awaitDone(
+                new Condition() {
+                    @Override
+                    public boolean isDone() {
+                        return future.isDone();
+                    }
+
+                    @Override
+                    public boolean await(long nanos) throws InterruptedException {
+                        try {
+                            future.get(nanos, NANOSECONDS);
+                            return true;
+                        } catch (CancellationException | ExecutionException ok) {
+                            return true;
+                        } catch (TimeoutException tryHarder) {
+                            return false;
+                        }
+                    }
+
+                    @Override
+                    public String failure() {
+                        return "Future not done";
+                    }
+
+                    @Override
+                    public String diagnostics() {
+                        return "";
+                    }
+                },
+                "future");
     }
 
     /**
@@ -164,25 +236,29 @@ public final class GcFinalization {
      * @throws RuntimeException if timed out or interrupted while waiting
      */
     public static void awaitDone(FinalizationPredicate predicate) {
-        if (predicate.isDone()) {
-            return;
-        }
-        long timeoutSeconds = timeoutSeconds();
-        long deadline = System.nanoTime() + SECONDS.toNanos(timeoutSeconds);
-        do {
-            System.runFinalization();
-            if (predicate.isDone()) {
-                return;
-            }
-            CountDownLatch done = new CountDownLatch(1);
-            createUnreachableLatchFinalizer(done);
-            await(done);
-            if (predicate.isDone()) {
-                return;
-            }
-        } while (System.nanoTime() - deadline < 0);
-        throw formatRuntimeException(
-                "Predicate did not become true within %d second timeout", timeoutSeconds);
+        awaitDone(
+                new Condition() {
+                    @Override
+                    public boolean isDone() {
+                        return predicate.isDone();
+                    }
+
+                    @Override
+                    public boolean await(long nanos) throws InterruptedException {
+                        return awaitCollectionsUntil(predicate, nanos);
+                    }
+
+                    @Override
+                    public String failure() {
+                        return "Predicate did not become true";
+                    }
+
+                    @Override
+                    public String diagnostics() {
+                        return "";
+                    }
+                },
+                "predicate");
     }
 
     /**
@@ -192,40 +268,154 @@ public final class GcFinalization {
      * @throws RuntimeException if timed out or interrupted while waiting
      */
     public static void await(CountDownLatch latch) {
-        if (latch.getCount() == 0) {
+        awaitDone(
+                new Condition() {
+                    @Override
+                    public boolean isDone() {
+                        return latch.getCount() == 0;
+                    }
+
+                    @Override
+                    public boolean await(long nanos) throws InterruptedException {
+                        return latch.await(nanos, NANOSECONDS);
+                    }
+
+                    @Override
+                    public String failure() {
+                        return "Latch failed to count down";
+                    }
+
+                    @Override
+                    public String diagnostics() {
+                        return "";
+                    }
+                },
+                "latch");
+    }
+
+    /**
+     * Waits up to {@code nanos} for the given predicate to return true, checking it again after every
+     * collection reported by the platform, including ones we did not request.
+     */
+    private static boolean awaitCollectionsUntil(FinalizationPredicate predicate, long nanos)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + nanos;
+        while (!predicate.isDone()) {
+            if (!GcNotifications.awaitCollection(deadline - System.nanoTime())) {
+                return predicate.isDone();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Collects garbage until {@code condition} is done. Each round requests a collection, waits for
+     * it to be confirmed, and then waits for the condition for twice as long as in the previous
+     * round, to let finalizers and cleaners catch up.
+     */
+    private static void awaitDone(Condition condition, String name) {
+        if (condition.isDone()) {
             return;
         }
-        long timeoutSeconds = timeoutSeconds();
-        long deadline = System.nanoTime() + SECONDS.toNanos(timeoutSeconds);
-        do {
-            System.runFinalization();
-            if (latch.getCount() == 0) {
-                return;
-            }
-            System.gc();
-            try {
-                if (latch.await(1L, SECONDS)) {
+        long start = System.nanoTime();
+        long timeoutNanos = SECONDS.toNanos(timeoutSeconds());
+        long backoffNanos = INITIAL_BACKOFF_NANOS;
+        int collections = 0;
+        try {
+            while (true) {
+                if (collect()) {
+                    collections++;
+                }
+                if (condition.isDone() || condition.await(backoffNanos)) {
                     return;
                 }
-            } catch (InterruptedException ie) {
-                throw new RuntimeException("Unexpected interrupt while waiting for latch", ie);
+                long elapsedNanos = System.nanoTime() - start;
+                boolean triedEnough =
+                        collections >= MAX_CONFIRMED_COLLECTIONS && elapsedNanos >= MIN_TIMEOUT_NANOS;
+                if (triedEnough || elapsedNanos >= timeoutNanos) {
+                    throw formatRuntimeException(
+                            "%s after %d garbage collections in %d ms%s",
+                            condition.failure(),
+                            collections,
+                            NANOSECONDS.toMillis(elapsedNanos),
+                            condition.diagnostics());
+                }
+                backoffNanos = Math.min(2 * backoffNanos, MAX_BACKOFF_NANOS);
             }
-        } while (System.nanoTime() - deadline < 0);
-        throw formatRuntimeException(
-                "Latch failed to count down within %d second timeout", timeoutSeconds);
+        } catch (InterruptedException ie) {
+            throw new RuntimeException("Unexpected interrupt while waiting for " + name, ie);
+        }
     }
 
     /**
-     * Creates a garbage object that counts down the latch in its finalizer. Sequestered into a
-     * separate method to make it somewhat more likely to be unreachable.
+     * Requests a garbage collection and waits until it has processed references, which is when weak
+     * references to unreachable objects are cleared. Returns false if that did not happen within
+     * {@link #COLLECTION_TIMEOUT_NANOS}, for example because explicit GC is disabled.
      */
-    private static void createUnreachableLatchFinalizer(CountDownLatch latch) {
-        new Object() {
-            @Override
-            protected void finalize() {
-                latch.countDown();
+    private static boolean collect() throws InterruptedException {
+        ReferenceQueue<Object> queue = new ReferenceQueue<>();
+        Reference<Object> sentinel = newSentinel(queue);
+        System.gc();
+        boolean collected = queue.remove(NANOSECONDS.toMillis(COLLECTION_TIMEOUT_NANOS)) != null;
+        // A reference that is itself unreachable is never enqueued.
+        Reference.reachabilityFence(sentinel);
+        return collected;
+    }
+
+    /**
+     * Creates a reference to a garbage object. Sequestered into a separate method to make it somewhat
+     * more likely that the object is unreachable.
+     */
+    private static Reference<Object> newSentinel(ReferenceQueue<Object> queue) {
+        return new PhantomReference<>(new Object(), queue);
+    }
+
+    /**
+     * Counts the garbage collections reported by the platform's {@link GarbageCollectorMXBean}s. If
+     * they do not support notifications, the count never changes and waiting for a collection simply
+     * times out.
+     */
+    private static final class GcNotifications {
+        private static final Object lock = new Object();
+        private static long collections; // guarded by lock
+
+        static {
+            NotificationListener listener =
+                    (notification, handback) -> {
+                        if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(
+                                notification.getType())) {
+                            synchronized (lock) {
+                                collections++;
+                                lock.notifyAll();
+                            }
+                        }
+                    };
+            try {
+                for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                    if (collector instanceof NotificationEmitter) {
+                        ((NotificationEmitter) collector).addNotificationListener(listener, null, null);
+                    }
+                }
+            } catch (RuntimeException | LinkageError unsupported) {
+                // Fall back to timed waits.
+            }
+        }
+
+        /** Waits up to {@code nanos} for a collection to complete, and returns whether one did. */
+        static boolean awaitCollection(long nanos) throws InterruptedException {
+            long deadline = System.nanoTime() + nanos;
+            synchronized (lock) {
+                long start = collections;
+                while (collections == start) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    NANOSECONDS.timedWait(lock, remaining);
+                }
+                return true;
             }
-        };
+        }
     }
 
     /**
@@ -269,11 +459,146 @@ public final class GcFinalization {
                 });
     }
 
+    /**
+     * Waits until all of the given references are cleared, invoking the garbage collector as
+     * necessary to try to ensure that this will happen. The references share the same sequence of
+     * collections, so this is much faster than calling {@link #awaitClear} for each of them, and
+     * returns as soon as the last one is cleared.
+     *
+     * <p>A reference counts as cleared when its {@link Reference#get get} method returns null, which
+     * is always the case for a {@link PhantomReference}. Use {@link #awaitEnqueued} to wait for
+     * phantom references.
+     *
+     * @throws RuntimeException if timed out or interrupted while waiting. The message of a timeout
+     *     lists the references that were not cleared, by their position in {@code references}.
+     */
+    public static void awaitClearAll(Collection<? extends Reference<?>> references) {
+        List<Reference<?>> all = new ArrayList<>(references);
+        BitSet pending = new BitSet(all.size());
+        pending.set(0, all.size());
+        FinalizationPredicate allCleared =
+                new FinalizationPredicate() {
+                    @Override
+                    public boolean isDone() {
+                        for (int i = pending.nextSetBit(0); i >= 0; i = pending.nextSetBit(i + 1)) {
+                            if (all.get(i).get() == null) {
+                                pending.clear(i);
+                            }
+                        }
+                        return pending.isEmpty();
+                    }
+                };
+        awaitDone(
+                new Condition() {
+                    @Override
+                    public boolean isDone() {
+                        return allCleared.isDone();
+                    }
+
+                    @Override
+                    public boolean await(long nanos) throws InterruptedException {
+                        return awaitCollectionsUntil(allCleared, nanos);
+                    }
+
+                    @Override
+                    public String failure() {
+                        return String.format(
+                                Locale.ROOT,
+                                "%d of %d references were not cleared",
+                                pending.cardinality(),
+                                all.size());
+                    }
+
+                    @Override
+                    public String diagnostics() {
+                        StringBuilder builder = new StringBuilder();
+                        int reported = 0;
+                        for (int i = pending.nextSetBit(0); i >= 0; i = pending.nextSetBit(i + 1)) {
+                            if (reported++ == MAX_REPORTED_REFERENCES) {
+                                builder.append(
+                                        String.format(
+                                                Locale.ROOT,
+                                                "%n  ... and %d more",
+                                                pending.cardinality() - MAX_REPORTED_REFERENCES));
+                                break;
+                            }
+                            builder.append(String.format(Locale.ROOT, "%n  [%d] %s", i, all.get(i).get()));
+                        }
+                        return builder.toString();
+                    }
+                },
+                "references");
+    }
+
+    /**
+     * Waits until {@code count} references have been enqueued in the given queue, invoking the
+     * garbage collector as necessary to try to ensure that this will happen, and removes them from
+     * the queue. The references share the same sequence of collections, and this method returns as
+     * soon as the last one is enqueued.
+     *
+     * @return the references removed from the queue, in the order they were enqueued
+     * @throws RuntimeException if timed out or interrupted while waiting. The message of a timeout
+     *     reports how many references were enqueued.
+     */
+    public static <T> List<Reference<? extends T>> awaitEnqueued(ReferenceQueue<T> queue, int count) {
+        checkNotNull(queue);
+        checkArgument(count >= 0, "count (%s) must be nonnegative", count);
+        List<Reference<? extends T>> enqueued = new ArrayList<>(count);
+        awaitDone(
+                new Condition() {
+                    @Override
+                    public boolean isDone() {
+                        while (enqueued.size() < count) {
+                            Reference<? extends T> reference = queue.poll();
+                            if (reference == null) {
+                                return false;
+                            }
+                            enqueued.add(reference);
+                        }
+                        return true;
+                    }
+
+                    @Override
+                    public boolean await(long nanos) throws InterruptedException {
+                        long deadline = System.nanoTime() + nanos;
+                        while (!isDone()) {
+                            long remaining = deadline - System.nanoTime();
+                            if (remaining <= 0) {
+                                return false;
+                            }
+                            // remove(0) would wait forever.
+                            Reference<? extends T> reference =
+                                    queue.remove(Math.max(1, NANOSECONDS.toMillis(remaining)));
+                            if (reference != null) {
+                                enqueued.add(reference);
+                            }
+                        }
+                        return true;
+                    }
+
+                    @Override
+                    public String failure() {
+                        return String.format(
+                                Locale.ROOT,
+                                "Only %d of %d references were enqueued",
+                                enqueued.size(),
+                                count);
+                    }
+
+                    @Override
+                    public String diagnostics() {
+                        return "";
+                    }
+                },
+                "reference queue");
+        return enqueued;
+    }
+
     /**
      * Tries to perform a "full" garbage collection cycle (including processing of weak references and
      * invocation of finalize methods) and waits for it to complete. Ensures that at least one weak
-     * reference has been cleared and one {@code finalize} method has been run before this method
-     * returns. This method may be useful when testing the garbage collection mechanism itself, or
+     * reference has been cleared and that pending {@code finalize} methods have been run before this
+     * method returns. This method may be useful when testing the garbage collection mechanism itself, or
      * inhibiting a spontaneous GC initiation in subsequent code.
      *
      * <p>In contrast, a plain call to {@link java.lang.System#gc()} does not ensure finalization
@@ -292,20 +617,20 @@ public final class GcFinalization {
      * @since 12.0
      */
     public static void awaitFullGc() {
-        CountDownLatch finalizerRan = new CountDownLatch(1);
-        WeakReference<Object> ref =
-                new WeakReference<>(
-                        new Object() {
-                            @Override
-                            protected void finalize() {
-                                finalizerRan.countDown();
-                            }
-                        });
-
-        await(finalizerRan);
-        awaitClear(ref);
+        long deadline = System.nanoTime() + SECONDS.toNanos(timeoutSeconds());
+        try {
+            while (!collect()) {
+                if (System.nanoTime() - deadline >= 0) {
+                    throw formatRuntimeException(
+                            "Garbage collection not confirmed within %d second timeout", timeoutSeconds());
+                }
+            }
+        } catch (InterruptedException ie) {
+            throw new RuntimeException("Unexpected interrupt while waiting for garbage collection", ie);
+        }
 
-        // Hope to catch some stragglers queued up behind our finalizable object
+        // Run the finalize methods of the objects found unreachable by that collection, which would
+        // otherwise run later on the finalizer thread.
         System.runFinalization();
     }
 
@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.testing;
+
+import com.google.common.annotations.Beta;
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Measures the memory footprint of an object graph: all objects reachable from a root object
+ * through instance fields and array elements. This works without an instrumentation agent, by
+ * walking the graph with reflection and estimating the size of each object from the object layout
+ * of the running JVM (reference size, object header size and object alignment, as reported by
+ * HotSpot, or otherwise guessed from the heap size).
+ *
+ * <p>The estimates ignore padding between fields, so they can be slightly lower than the real
+ * sizes. Instances of {@link Class} and enum constants are shared by all object graphs, so they are
+ * never counted.
+ *
+ * <p>Reading the fields of JDK classes, such as those of {@link java.util.HashMap}, requires the
+ * packages declaring them to be opened to this class, for example with {@code --add-opens
+ * java.base/java.util=ALL-UNNAMED}.
+ */
+@Beta
+public final class ObjectGraphMeasurer {
+    private static final int REFERENCE_SIZE;
+    private static final int OBJECT_HEADER_SIZE;
+    private static final int ARRAY_HEADER_SIZE;
+    private static final int OBJECT_ALIGNMENT;
+
+    static {
+        boolean is64Bit = !"32".equals(System.getProperty("sun.arch.data.model"));
+        // HotSpot's defaults: compressed oops and class pointers below a 32 GB heap
+        boolean compressedOops = Runtime.getRuntime().maxMemory() < (32L << 30);
+        boolean compressedClassPointers = compressedOops;
+        int objectAlignment = 8;
+        try {
+            HotSpotDiagnosticMXBean hotSpot =
+                    ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            if (hotSpot != null) {
+                compressedOops = Boolean.parseBoolean(hotSpot.getVMOption("UseCompressedOops").getValue());
+                compressedClassPointers =
+                        Boolean.parseBoolean(hotSpot.getVMOption("UseCompressedClassPointers").getValue());
+                objectAlignment = Integer.parseInt(hotSpot.getVMOption("ObjectAlignmentInBytes").getValue());
+            }
+        } catch (RuntimeException | LinkageError e) {
+            // Not HotSpot, or an option is missing: keep the guesses.
+        }
+        if (is64Bit) {
+            REFERENCE_SIZE = compressedOops ? 4 : 8;
+            OBJECT_HEADER_SIZE = compressedClassPointers ? 12 : 16;
+        } else {
+            REFERENCE_SIZE = 4;
+            OBJECT_HEADER_SIZE = 8;
+        }
+        OBJECT_ALIGNMENT = objectAlignment;
+        ARRAY_HEADER_SIZE = (int) align(OBJECT_HEADER_SIZE + 4, 8);
+    }
+
+    private static final ClassValue<ClassLayout> LAYOUTS =
+            new ClassValue<ClassLayout>() {
+                @Override
+                protected ClassLayout computeValue(Class<?> type) {
+                    return new ClassLayout(type);
+                }
+            };
+
+    private ObjectGraphMeasurer() {
+    }
+
+    /** The footprint of an object graph, as returned by {@link #measure}. */
+    public static final class Footprint {
+        private final long objects;
+        private final long bytes;
+
+        private Footprint(long objects, long bytes) {
+            this.objects = objects;
+            this.bytes = bytes;
+        }
+
+        /** Returns the number of distinct objects, including arrays, in the graph. */
+        public long objects() {
+            return objects;
+        }
+
+        /** Returns the estimated total size of the objects in the graph. */
+        public long bytes() {
+            return bytes;
+        }
+
+        @Override
+        public String toString() {
+            return objects + " objects, " + bytes + " bytes";
+        }
+    }
+
+    /** Measures all objects reachable from {@code root}. */
+    public static Footprint measure(Object root) {
+        return measure(root, object -> true);
+    }
+
+    /**
+     * Measures all objects reachable from {@code root} without passing through an object for which
+     * {@code shouldMeasure} returns false. Such objects are neither counted nor followed, which lets
+     * callers exclude, for example, the elements of a collection from its footprint.
+     *
+     * @throws IllegalArgumentException if the fields of a reachable object can't be read
+     */
+    public static Footprint measure(Object root, Predicate<Object> shouldMeasure) {
+        checkNotNull(root);
+        checkNotNull(shouldMeasure);
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> pending = new ArrayDeque<>();
+        long objects = 0;
+        long bytes = 0;
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Object object = pending.pop();
+            if (object instanceof Class
+                    || object instanceof Enum
+                    || !visited.add(object)
+                    || !shouldMeasure.test(object)) {
+                continue;
+            }
+            objects++;
+            Class<?> type = object.getClass();
+            if (type.isArray()) {
+                Class<?> componentType = type.getComponentType();
+                int length = Array.getLength(object);
+                bytes += align(ARRAY_HEADER_SIZE + (long) length * sizeOf(componentType), OBJECT_ALIGNMENT);
+                if (!componentType.isPrimitive()) {
+                    for (Object element : (Object[]) object) {
+                        if (element != null) {
+                            pending.push(element);
+                        }
+                    }
+                }
+            } else {
+                ClassLayout layout = LAYOUTS.get(type);
+                bytes += layout.size;
+                for (Field field : layout.referenceFields) {
+                    Object value;
+                    try {
+                        value = field.get(object);
+                    } catch (IllegalAccessException e) {
+                        throw new AssertionError(e); // the field was made accessible
+                    }
+                    if (value != null) {
+                        pending.push(value);
+                    }
+                }
+            }
+        }
+        return new Footprint(objects, bytes);
+    }
+
+    /** The estimated size and the reference fields of instances of a class. */
+    private static final class ClassLayout {
+        final long size;
+        final List<Field> referenceFields = new ArrayList<>();
+
+        ClassLayout(Class<?> type) {
+            long fieldBytes = 0;
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    fieldBytes += sizeOf(field.getType());
+                    if (!field.getType().isPrimitive()) {
+                        if (!field.trySetAccessible()) {
+                            throw new IllegalArgumentException(
+                                    "Can't read "
+                                            + field
+                                            + "; add --add-opens "
+                                            + c.getModule().getName()
+                                            + "/"
+                                            + c.getPackageName()
+                                            + "=ALL-UNNAMED to the JVM arguments");
+                        }
+                        referenceFields.add(field);
+                    }
+                }
+            }
+            this.size = align(OBJECT_HEADER_SIZE + fieldBytes, OBJECT_ALIGNMENT);
+        }
+    }
+
+    private static int sizeOf(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        } else if (type == byte.class || type == boolean.class) {
+            return 1;
+        } else {
+            return REFERENCE_SIZE;
+        }
+    }
+
+    private static long align(long size, int alignment) {
+        return (size + alignment - 1) / alignment * alignment;
+    }
+}
@@ -31,14 +31,26 @@ import static com.google.common.base.Preconditions.checkNotNull;
  */
 final class Platform {
     /** Serializes and deserializes the specified object. */
-    @SuppressWarnings("unchecked")
     static <T> T reserialize(T object) {
+        return deserialize(serialize(object));
+    }
+
+    /** Returns the serialized form of the specified object. */
+    static byte[] serialize(Object object) {
         checkNotNull(object);
         ByteArrayOutputStream bytes = new ByteArrayOutputStream();
-        try {
-            ObjectOutputStream out = new ObjectOutputStream(bytes);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
             out.writeObject(object);
-            ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /** Reads an object from its serialized form. */
+    @SuppressWarnings("unchecked")
+    static <T> T deserialize(byte[] bytes) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
             return (T) in.readObject();
         } catch (IOException | ClassNotFoundException e) {
             throw new RuntimeException(e);
@@ -18,8 +18,13 @@ package com.google.common.testing;
 
 import com.google.common.annotations.Beta;
 import com.google.common.annotations.GwtCompatible;
+import com.google.common.annotations.GwtIncompatible;
 import org.junit.jupiter.api.Assertions;
 
+import java.util.Locale;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
 /**
  * Tests serialization and deserialization of an object, optionally asserting that the resulting
  * object is equal to the original.
@@ -56,6 +61,50 @@ public final class SerializableTester {
         return Platform.reserialize(object);
     }
 
+    /**
+     * Serializes and deserializes the specified object, like {@link #reserialize}, and reports the
+     * size of the serialized form along with the time and memory spent on each step.
+     *
+     * <p>The timings are those of a single, possibly cold, run and are only indicative. The serialized
+     * size and, where {@link AllocationMeasurer#isSupported}, the allocated bytes are exact.
+     *
+     * @throws RuntimeException if the specified object was not successfully serialized or
+     *     deserialized
+     */
+    @GwtIncompatible // ObjectOutputStream
+    public static <T> SerializationMetrics<T> reserializeWithMetrics(T object) {
+        checkNotNull(object);
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        byte[] bytes = Platform.serialize(object);
+        long serialized = System.nanoTime();
+        long allocatedSerializing = allocatedBytes();
+        T copy = Platform.deserialize(bytes);
+        long deserialized = System.nanoTime();
+        long allocatedDeserializing = allocatedBytes();
+        return new SerializationMetrics<>(
+                copy,
+                bytes.length,
+                serialized - start,
+                deserialized - serialized,
+                AllocationMeasurer.isSupported() ? allocatedSerializing - allocatedBefore : -1,
+                AllocationMeasurer.isSupported() ? allocatedDeserializing - allocatedSerializing : -1);
+    }
+
+    /**
+     * Returns the number of bytes in the serialized form of the specified object.
+     *
+     * @throws RuntimeException if the specified object was not successfully serialized
+     */
+    @GwtIncompatible // ObjectOutputStream
+    public static int serializedSize(Object object) {
+        return Platform.serialize(object).length;
+    }
+
+    private static long allocatedBytes() {
+        return AllocationMeasurer.isSupported() ? AllocationMeasurer.currentThreadAllocatedBytes() : 0;
+    }
+
     /**
      * Serializes and deserializes the specified object and verifies that the re-serialized object is
      * equal to the provided object, that the hashcodes are identical, and that the class of the
@@ -89,4 +138,82 @@ public final class SerializableTester {
         Assertions.assertEquals(object.getClass(), copy.getClass());
         return copy;
     }
+
+    /**
+     * The result of {@link #reserializeWithMetrics}: the re-serialized object and the cost of
+     * producing it.
+     */
+    @GwtIncompatible // ObjectOutputStream
+    public static final class SerializationMetrics<T> {
+        private final T copy;
+        private final int serializedSize;
+        private final long serializationNanos;
+        private final long deserializationNanos;
+        private final long serializationAllocatedBytes;
+        private final long deserializationAllocatedBytes;
+
+        private SerializationMetrics(
+                T copy,
+                int serializedSize,
+                long serializationNanos,
+                long deserializationNanos,
+                long serializationAllocatedBytes,
+                long deserializationAllocatedBytes) {
+            this.copy = copy;
+            this.serializedSize = serializedSize;
+            this.serializationNanos = serializationNanos;
+            this.deserializationNanos = deserializationNanos;
+            this.serializationAllocatedBytes = serializationAllocatedBytes;
+            this.deserializationAllocatedBytes = deserializationAllocatedBytes;
+        }
+
+        /** Returns the re-serialized object. */
+        public T copy() {
+            return copy;
+        }
+
+        /** Returns the number of bytes in the serialized form. */
+        public int serializedSize() {
+            return serializedSize;
+        }
+
+        /** Returns the time spent serializing the object, in nanoseconds. */
+        public long serializationNanos() {
+            return serializationNanos;
+        }
+
+        /** Returns the time spent deserializing the object, in nanoseconds. */
+        public long deserializationNanos() {
+            return deserializationNanos;
+        }
+
+        /**
+         * Returns the number of bytes allocated while serializing the object, or -1 if this JVM cannot
+         * measure allocation.
+         */
+        public long serializationAllocatedBytes() {
+            return serializationAllocatedBytes;
+        }
+
+        /**
+         * Returns the number of bytes allocated while deserializing the object, or -1 if this JVM
+         * cannot measure allocation.
+         */
+        public long deserializationAllocatedBytes() {
+            return deserializationAllocatedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    Locale.ROOT,
+                    "%s bytes, serialized in %s ns allocating %s bytes, "
+                            + "deserialized in %s ns allocating %s bytes",
+                    serializedSize,
+                    serializationNanos,
+                    serializationAllocatedBytes,
+                    deserializationNanos,
+                    deserializationAllocatedBytes);
+        }
+    }
 }
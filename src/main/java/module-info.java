@@ -1,6 +1,7 @@
 module com.google.common.testing {
     requires com.google.common;
     requires java.logging;
+    requires jdk.management;
     requires org.junit.jupiter.api;
 
     exports com.google.common.testing;
@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableMultiset;
+import com.google.common.collect.Multiset;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.features.MapFeature;
+import com.google.common.collect.testing.google.MultisetTestSuiteBuilder;
+import com.google.common.collect.testing.google.TestStringMultisetGenerator;
+import com.google.common.collect.testing.testers.CollectionAllocationFreeReadTester;
+import com.google.common.testing.AllocationMeasurer;
+import com.google.common.testing.junit.TestFailure;
+import com.google.common.testing.junit.TestResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link com.google.common.collect.testing.testers.CollectionAllocationFreeReadTester},
+ * {@link com.google.common.collect.testing.testers.MapAllocationFreeReadTester} and {@link
+ * com.google.common.collect.testing.google.MultisetAllocationFreeReadTester}.
+ */
+class AllocationFreeReadTestersTest {
+
+    /** A map whose {@code get} publishes a new array, which escape analysis cannot remove. */
+    private static final class AllocatingGetMap<K, V> extends HashMap<K, V> {
+        volatile Object[] lastQuery;
+
+        @Override
+        public V get(Object key) {
+            lastQuery = new Object[] {key};
+            return super.get(key);
+        }
+    }
+
+    @Test
+    void testImmutableMap() throws Throwable {
+        MapTestSuiteBuilder.using(
+                        new TestStringMapGenerator() {
+                            @Override
+                            protected Map<String, String> create(Entry<String, String>[] entries) {
+                                return ImmutableMap.copyOf(asList(entries));
+                            }
+                        })
+                .named("ImmutableMap")
+                .withFeatures(
+                        MapFeature.ALLOCATION_FREE_READS,
+                        MapFeature.REJECTS_DUPLICATES_AT_CREATION,
+                        CollectionSize.ANY)
+                .createTestSuite()
+                .run();
+    }
+
+    @Test
+    void testImmutableList() throws Throwable {
+        ListTestSuiteBuilder.using(
+                        new TestStringListGenerator() {
+                            @Override
+                            protected List<String> create(String[] elements) {
+                                return ImmutableList.copyOf(elements);
+                            }
+                        })
+                .named("ImmutableList")
+                .withFeatures(CollectionFeature.ALLOCATION_FREE_READS, CollectionSize.ANY)
+                .createTestSuite()
+                .run();
+    }
+
+    @Test
+    void testImmutableMultiset() throws Throwable {
+        MultisetTestSuiteBuilder.using(
+                        new TestStringMultisetGenerator() {
+                            @Override
+                            protected Multiset<String> create(String[] elements) {
+                                return ImmutableMultiset.copyOf(elements);
+                            }
+                        })
+                .named("ImmutableMultiset")
+                .withFeatures(
+                        CollectionFeature.ALLOCATION_FREE_READS,
+                        CollectionFeature.ALLOWS_NULL_QUERIES,
+                        CollectionSize.ANY)
+                // forEach iterates the entries through an iterator, which may be allocated
+                .suppressing(
+                        CollectionAllocationFreeReadTester.class.getMethod("testForEach_allocationFree"))
+                .createTestSuite()
+                .run();
+    }
+
+    @Test
+    void testAllocatingGetIsDetected() {
+        if (!AllocationMeasurer.isSupported()) {
+            return;
+        }
+        TestResult result = new TestResult();
+        MapTestSuiteBuilder.using(
+                        new TestStringMapGenerator() {
+                            @Override
+                            protected Map<String, String> create(Entry<String, String>[] entries) {
+                                Map<String, String> map = new AllocatingGetMap<>();
+                                for (Entry<String, String> entry : entries) {
+                                    map.put(entry.getKey(), entry.getValue());
+                                }
+                                return map;
+                            }
+                        })
+                .named("AllocatingGetMap")
+                .withFeatures(
+                        MapFeature.GENERAL_PURPOSE,
+                        MapFeature.ALLOWS_NULL_KEYS,
+                        MapFeature.ALLOWS_NULL_VALUES,
+                        MapFeature.ALLOWS_ANY_NULL_QUERIES,
+                        MapFeature.FAILS_FAST_ON_CONCURRENT_MODIFICATION,
+                        CollectionFeature.SUPPORTS_ITERATOR_REMOVE,
+                        MapFeature.ALLOCATION_FREE_READS,
+                        CollectionSize.ANY)
+                .createTestSuite()
+                .run(result);
+
+        List<TestFailure> failures = Collections.list(result.failures());
+        assertFalse(failures.isEmpty());
+        assertEquals(0, result.errorCount());
+        for (TestFailure failure : failures) {
+            assertTrue(
+                    failure.failedTest().toString().startsWith("testGet_")
+                            && failure.failedTest().toString().contains("_allocationFree"),
+                    failure.toString());
+            String message = failure.exceptionMessage();
+            assertTrue(message.contains("should not allocate"), message);
+        }
+    }
+}
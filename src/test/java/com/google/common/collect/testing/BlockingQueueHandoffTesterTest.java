@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link BlockingQueueHandoffTester}.
+ */
+class BlockingQueueHandoffTesterTest {
+
+    @Test
+    void testArrayBlockingQueue() {
+        BlockingQueueHandoffTester.forQueue(() -> new ArrayBlockingQueue<>(1024))
+                .named("ArrayBlockingQueue")
+                .test();
+    }
+
+    @Test
+    void testPriorityBlockingQueue() {
+        BlockingQueueHandoffTester.forQueue(PriorityBlockingQueue::new)
+                .named("PriorityBlockingQueue")
+                .withThreads(2, 3)
+                .test();
+    }
+
+    @Test
+    void testLossIsDetected() {
+        AssertionError expected =
+                assertThrows(
+                        AssertionError.class,
+                        () ->
+                                BlockingQueueHandoffTester.forQueue(LossyQueue::new)
+                                        .named("LossyQueue")
+                                        .withThreads(2, 2)
+                                        .withMessagesPerProducer(1000)
+                                        .test());
+        assertTrue(
+                expected.getMessage().contains("2 producers, 2 consumers: lost 20 messages, first #99"),
+                expected.getMessage());
+    }
+
+    @Test
+    void testLatencyBudget() {
+        assertThrows(
+                AssertionError.class,
+                () ->
+                        BlockingQueueHandoffTester.forQueue(LinkedBlockingQueue::new)
+                                .withThreads(1, 1)
+                                .withMessagesPerProducer(1000)
+                                .expectLatencyAtMost(50, 0)
+                                .test());
+    }
+
+    @Test
+    void testReport() {
+        String report =
+                BlockingQueueHandoffTester.forQueue(LinkedBlockingQueue::new)
+                        .named("LinkedBlockingQueue")
+                        .withThreads(1, 2)
+                        .withMessagesPerProducer(1000)
+                        .report();
+        assertTrue(report.startsWith("LinkedBlockingQueue"), report);
+        assertTrue(report.contains("1 producers, 2 consumers: 1000 messages, "), report);
+        assertTrue(report.contains(" messages/s, hand-off latency p50 "), report);
+    }
+
+    /** A queue which drops every hundredth message put by each thread. */
+    private static final class LossyQueue extends LinkedBlockingQueue<Object> {
+        private final ThreadLocal<int[]> puts = ThreadLocal.withInitial(() -> new int[1]);
+
+        @Override
+        public void put(Object element) throws InterruptedException {
+            if (++puts.get()[0] % 100 != 0) {
+                super.put(element);
+            }
+        }
+    }
+}
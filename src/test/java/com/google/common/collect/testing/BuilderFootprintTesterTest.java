@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link BuilderFootprintTester}, which also serve as capacity budgets for the builders of
+ * some Guava collections.
+ */
+class BuilderFootprintTesterTest {
+
+    @Test
+    void testImmutableListBuilder() {
+        BuilderFootprintTester.<String>forBuilder(
+                        (expectedSize, elements) ->
+                                ImmutableList.<String>builderWithExpectedSize(expectedSize)
+                                        .addAll(elements)
+                                        .build(),
+                        i -> "e" + i)
+                .named("ImmutableList.Builder")
+                .expectAtMostRatio(1.0)
+                .test();
+    }
+
+    @Test
+    void testImmutableSetBuilder() {
+        BuilderFootprintTester.<String>forBuilder(
+                        (expectedSize, elements) ->
+                                ImmutableSet.<String>builderWithExpectedSize(expectedSize)
+                                        .addAll(elements)
+                                        .build(),
+                        i -> "e" + i)
+                .named("ImmutableSet.Builder")
+                .test();
+    }
+
+    @Test
+    void testImmutableMapBuilder() {
+        BuilderFootprintTester.<String>forBuilder(
+                        (expectedSize, elements) -> {
+                            ImmutableMap.Builder<String, String> builder =
+                                    ImmutableMap.builderWithExpectedSize(expectedSize);
+                            for (String element : elements) {
+                                builder.put(element, element);
+                            }
+                            return builder.build();
+                        },
+                        i -> "e" + i)
+                .named("ImmutableMap.Builder")
+                .expectAtMostRatio(1.0)
+                .test();
+    }
+
+    @Test
+    void testReport() {
+        String report =
+                BuilderFootprintTester.<String>forBuilder(
+                                (expectedSize, elements) -> ImmutableList.copyOf(elements), i -> "e" + i)
+                        .named("ImmutableList")
+                        .withSizes(10)
+                        .withEstimates(0, 1)
+                        .report();
+        assertTrue(report.startsWith("ImmutableList footprint"), report);
+        assertTrue(report.contains("(1.00x)"), report);
+    }
+
+    @Test
+    void testOversizedArrayIsDetected() {
+        AssertionError expected =
+                assertThrows(
+                        AssertionError.class,
+                        () ->
+                                BuilderFootprintTester.<String>forBuilder(
+                                                (expectedSize, elements) -> {
+                                                    List<String> list =
+                                                            new ArrayList<>(Math.max(expectedSize, elements.size()));
+                                                    list.addAll(elements);
+                                                    return list;
+                                                },
+                                                i -> "e" + i)
+                                        .named("ArrayList")
+                                        .test());
+        assertTrue(expected.getMessage().contains("expected size 8000"), expected.getMessage());
+    }
+}
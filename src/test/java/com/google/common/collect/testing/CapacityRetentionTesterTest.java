@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link CapacityRetentionTester}.
+ */
+class CapacityRetentionTesterTest {
+
+    @Test
+    void testTreeMap() {
+        CapacityRetentionTester.forMap(TreeMap::new, i -> "k" + i, i -> "v" + i)
+                .named("TreeMap")
+                .expectCompaction()
+                .test();
+    }
+
+    @Test
+    void testTreeSet() {
+        CapacityRetentionTester.forCollection(TreeSet::new, i -> "e" + i)
+                .named("TreeSet")
+                .expectCompaction()
+                .test();
+    }
+
+    @Test
+    void testLinkedList() {
+        CapacityRetentionTester.forCollection(LinkedList::new, i -> "e" + i)
+                .named("LinkedList")
+                .withSizes(1 << 12, 16)
+                .expectCompaction()
+                .test();
+    }
+
+    @Test
+    void testHashMap() {
+        CapacityRetentionTester.forMap(HashMap::new, i -> "k" + i, i -> "v" + i)
+                .named("HashMap")
+                .test();
+    }
+
+    @Test
+    void testHashSetDoesNotCompact() {
+        AssertionError expected =
+                assertThrows(
+                        AssertionError.class,
+                        () ->
+                                CapacityRetentionTester.forCollection(HashSet::new, i -> "e" + i)
+                                        .named("HashSet")
+                                        .expectCompaction()
+                                        .test());
+        String message = expected.getMessage();
+        assertTrue(message.contains("HashSet retains capacity"), message);
+        assertTrue(message.contains("after removeIf, footprint costs"), message);
+    }
+
+    @Test
+    void testCompactionOnlyOnClearIsDetected() {
+        AssertionError expected =
+                assertThrows(
+                        AssertionError.class,
+                        () ->
+                                CapacityRetentionTester.forCollection(ClearCompactingSet::new, i -> "e" + i)
+                                        .named("ClearCompactingSet")
+                                        .withSizes(1 << 12, 16)
+                                        .expectCompaction()
+                                        .test());
+        String message = expected.getMessage();
+        assertTrue(message.contains("after removeIf, iteration costs"), message);
+    }
+
+    @Test
+    void testReport() {
+        String report =
+                CapacityRetentionTester.forMap(HashMap::new, i -> "k" + i, i -> "v" + i)
+                        .named("HashMap")
+                        .withSizes(1 << 10, 16)
+                        .report();
+        assertTrue(report.startsWith("HashMap shrunk from 1024 to 16 elements"), report);
+        assertTrue(report.contains("keySet().removeAll"), report);
+    }
+
+    /** A hash set that releases its capacity on {@code clear()}, but not on removals. */
+    private static final class ClearCompactingSet extends AbstractSet<Object> {
+        private Set<Object> delegate = new HashSet<>();
+
+        @Override
+        public boolean add(Object element) {
+            return delegate.add(element);
+        }
+
+        @Override
+        public boolean contains(Object element) {
+            return delegate.contains(element);
+        }
+
+        @Override
+        public boolean remove(Object element) {
+            return delegate.remove(element);
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return delegate.iterator();
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public void clear() {
+            delegate = new HashSet<>();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ConcurrentMapScalabilityTester}.
+ */
+class ConcurrentMapScalabilityTesterTest {
+
+    @Test
+    void testConcurrentHashMap() {
+        ConcurrentMapScalabilityTester.forGenerator(
+                        generator(ConcurrentHashMap::new), i -> "k" + i, i -> "v" + i)
+                .named("ConcurrentHashMap")
+                .withMaxThreads(2)
+                .test();
+    }
+
+    @Test
+    void testSynchronizedMapDoesNotSpeedUp() {
+        // on a single processor, no map can speed up, so only a collapse is measurable
+        if (Runtime.getRuntime().availableProcessors() < 2) {
+            return;
+        }
+        AssertionError expected =
+                assertThrows(
+                        AssertionError.class,
+                        () ->
+                                ConcurrentMapScalabilityTester.forGenerator(
+                                                generator(
+                                                        contents -> Collections.synchronizedMap(new HashMap<>(contents))),
+                                                i -> "k" + i,
+                                                i -> "v" + i)
+                                        .named("synchronizedMap")
+                                        .withMix("reads", 100, 0, 0)
+                                        .withMaxThreads(2)
+                                        .withDurationMillis(50)
+                                        .expectThroughputRatioAtLeast(1.5)
+                                        .test());
+        assertTrue(expected.getMessage().contains("reads with 2 threads"), expected.getMessage());
+    }
+
+    @Test
+    void testCollapseIsDetected() {
+        AssertionError expected =
+                assertThrows(
+                        AssertionError.class,
+                        () ->
+                                ConcurrentMapScalabilityTester.forGenerator(
+                                                generator(ContendedMap::new), i -> "k" + i, i -> "v" + i)
+                                        .named("ContendedMap")
+                                        .withMix("reads", 100, 0, 0)
+                                        .withMaxThreads(2)
+                                        .test());
+        assertTrue(expected.getMessage().contains("reads with 2 threads"), expected.getMessage());
+    }
+
+    @Test
+    void testReport() {
+        String report =
+                ConcurrentMapScalabilityTester.forGenerator(
+                                generator(ConcurrentHashMap::new), i -> "k" + i, i -> "v" + i)
+                        .named("ConcurrentHashMap")
+                        .withMix("updates", 0, 50, 50)
+                        .withKeys(16, 0)
+                        .withMaxThreads(3)
+                        .withDurationMillis(20)
+                        .report();
+        assertTrue(report.contains("updates (0% get, 50% put, 50% compute) on 16 keys"), report);
+        assertTrue(report.contains("  1 threads:"), report);
+        assertTrue(report.contains("  2 threads:"), report);
+        assertTrue(report.contains("  3 threads:"), report);
+    }
+
+    private static TestStringMapGenerator generator(Function<Map<String, String>, Map<String, String>> copy) {
+        return new TestStringMapGenerator() {
+            @Override
+            protected Map<String, String> create(Map.Entry<String, String>[] entries) {
+                Map<String, String> contents = new HashMap<>();
+                for (Map.Entry<String, String> entry : entries) {
+                    contents.put(entry.getKey(), entry.getValue());
+                }
+                return copy.apply(contents);
+            }
+        };
+    }
+
+    /**
+     * A map whose operations do work that grows with the cube of the number of threads using it,
+     * like a lock whose handoff gets more expensive as more threads contend for it, so that its
+     * throughput collapses whatever the number of processors.
+     */
+    private static final class ContendedMap extends ConcurrentHashMap<String, String> {
+        private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        private volatile long sink;
+
+        ContendedMap(Map<String, String> contents) {
+            super(contents);
+        }
+
+        @Override
+        public String get(Object key) {
+            contend();
+            return super.get(key);
+        }
+
+        @Override
+        public String put(String key, String value) {
+            contend();
+            return super.put(key, value);
+        }
+
+        @Override
+        public String compute(
+                String key, BiFunction<? super String, ? super String, ? extends String> function) {
+            contend();
+            return super.compute(key, function);
+        }
+
+        private void contend() {
+            threads.add(Thread.currentThread());
+            int count = threads.size();
+            long work = 0;
+            for (int i = 0; i < 100 * count * count * count; i++) {
+                work = work * 31 + i;
+            }
+            sink = work;
+        }
+    }
+}
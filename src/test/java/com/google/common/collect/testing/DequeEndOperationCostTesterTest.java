@@ -0,0 +1,239 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.features.QueueFeature;
+import com.google.common.testing.junit.TestFailure;
+import com.google.common.testing.junit.TestResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link com.google.common.collect.testing.testers.DequeEndOperationCostTester}.
+ */
+class DequeEndOperationCostTesterTest {
+
+    /**
+     * A deque backed by an {@link ArrayList}, which shifts all its elements to insert or remove at
+     * the front.
+     */
+    private static final class ArrayListDeque<E> extends AbstractCollection<E> implements Deque<E> {
+        private final List<E> list = new ArrayList<>();
+
+        @Override
+        public void addFirst(E element) {
+            list.add(0, checkNotNull(element));
+        }
+
+        @Override
+        public void addLast(E element) {
+            list.add(checkNotNull(element));
+        }
+
+        @Override
+        public boolean offerFirst(E element) {
+            addFirst(element);
+            return true;
+        }
+
+        @Override
+        public boolean offerLast(E element) {
+            addLast(element);
+            return true;
+        }
+
+        @Override
+        public E removeFirst() {
+            return list.remove(0);
+        }
+
+        @Override
+        public E removeLast() {
+            return list.remove(list.size() - 1);
+        }
+
+        @Override
+        public E pollFirst() {
+            return list.isEmpty() ? null : removeFirst();
+        }
+
+        @Override
+        public E pollLast() {
+            return list.isEmpty() ? null : removeLast();
+        }
+
+        @Override
+        public E getFirst() {
+            return list.get(0);
+        }
+
+        @Override
+        public E getLast() {
+            return list.get(list.size() - 1);
+        }
+
+        @Override
+        public E peekFirst() {
+            return list.isEmpty() ? null : getFirst();
+        }
+
+        @Override
+        public E peekLast() {
+            return list.isEmpty() ? null : getLast();
+        }
+
+        @Override
+        public boolean removeFirstOccurrence(Object element) {
+            return list.remove(element);
+        }
+
+        @Override
+        public boolean removeLastOccurrence(Object element) {
+            int index = list.lastIndexOf(element);
+            if (index < 0) {
+                return false;
+            }
+            list.remove(index);
+            return true;
+        }
+
+        @Override
+        public boolean add(E element) {
+            addLast(element);
+            return true;
+        }
+
+        @Override
+        public boolean offer(E element) {
+            return offerLast(element);
+        }
+
+        @Override
+        public E remove() {
+            return removeFirst();
+        }
+
+        @Override
+        public E poll() {
+            return pollFirst();
+        }
+
+        @Override
+        public E element() {
+            return getFirst();
+        }
+
+        @Override
+        public E peek() {
+            return peekFirst();
+        }
+
+        @Override
+        public void push(E element) {
+            addFirst(element);
+        }
+
+        @Override
+        public E pop() {
+            return removeFirst();
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return list.iterator();
+        }
+
+        @Override
+        public Iterator<E> descendingIterator() {
+            ListIterator<E> iterator = list.listIterator(list.size());
+            return new Iterator<E>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasPrevious();
+                }
+
+                @Override
+                public E next() {
+                    return iterator.previous();
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+    }
+
+    @Test
+    void testLinearFrontOperationsAreDetected() {
+        TestResult result = new TestResult();
+        DequeTestSuiteBuilder.using(
+                        new TestStringDequeGenerator() {
+                            @Override
+                            protected Deque<String> create(String[] elements) {
+                                Deque<String> deque = new ArrayListDeque<>();
+                                Collections.addAll(deque, elements);
+                                return deque;
+                            }
+                        })
+                .named("ArrayListDeque")
+                .withFeatures(
+                        CollectionFeature.GENERAL_PURPOSE,
+                        QueueFeature.EFFICIENT_END_OPERATIONS,
+                        CollectionSize.SEVERAL)
+                .createTestSuite()
+                .run(result);
+
+        // only offerLast() followed by pollLast() stays away from the front
+        Set<String> failed = new TreeSet<>();
+        for (TestFailure failure : Collections.list(result.failures())) {
+            assertTrue(
+                    failure.exceptionMessage().contains("was expected for LINEAR"),
+                    failure.exceptionMessage());
+            failed.add(failure.toString().substring(0, failure.toString().indexOf('[')));
+        }
+        assertEquals(
+                Set.of(
+                        "testOfferFirstPollFirst_amortizedConstantTime",
+                        "testOfferFirstPollLast_amortizedConstantTime",
+                        "testOfferLastPollFirst_amortizedConstantTime"),
+                failed);
+        assertEquals(0, result.errorCount(), Collections.list(result.errors()).toString());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.SetMultimap;
+import com.google.common.collect.testing.google.MapGenerators;
+import com.google.common.collect.testing.google.SetGenerators;
+import com.google.common.collect.testing.google.TestStringSetMultimapGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map.Entry;
+
+import static com.google.common.collect.testing.Helpers.mapEntry;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link FootprintTester}, which also serve as footprint budgets for some Guava
+ * collections.
+ */
+class FootprintTesterTest {
+
+    @Test
+    void testImmutableList() {
+        FootprintTester.forGenerator(
+                        new TestStringListGenerator() {
+                            @Override
+                            protected List<String> create(String[] elements) {
+                                return ImmutableList.copyOf(elements);
+                            }
+                        },
+                        i -> "e" + i)
+                .named("ImmutableList")
+                .expectAtMostBytesPerElement(8)
+                .test();
+    }
+
+    @Test
+    void testImmutableSet() {
+        FootprintTester.forGenerator(new SetGenerators.ImmutableSetCopyOfGenerator(), i -> "e" + i)
+                .named("ImmutableSet")
+                .expectAtMostBytesPerElement(24)
+                .test();
+    }
+
+    @Test
+    void testImmutableMap() {
+        FootprintTester.forGenerator(
+                        new MapGenerators.ImmutableMapCopyOfGenerator(), i -> mapEntry("k" + i, "v" + i))
+                .named("ImmutableMap")
+                .expectAtMostBytesPerElement(48)
+                .test();
+    }
+
+    @Test
+    void testHashMultimap() {
+        FootprintTester.forGenerator(
+                        new TestStringSetMultimapGenerator() {
+                            @Override
+                            protected SetMultimap<String, String> create(Entry<String, String>[] entries) {
+                                SetMultimap<String, String> multimap = HashMultimap.create();
+                                for (Entry<String, String> entry : entries) {
+                                    multimap.put(entry.getKey(), entry.getValue());
+                                }
+                                return multimap;
+                            }
+                        },
+                        // four values per key
+                        i -> mapEntry("k" + i / 4, "v" + i))
+                .named("HashMultimap")
+                .expectAtMostBytesPerElement(96)
+                .test();
+    }
+
+    @Test
+    void testReport() {
+        String report =
+                FootprintTester.forGenerator(new SetGenerators.ImmutableSetCopyOfGenerator(), i -> "e" + i)
+                        .named("ImmutableSet")
+                        .withSizes(10, 100)
+                        .report();
+        assertTrue(report.startsWith("ImmutableSet footprint"), report);
+        assertTrue(report.contains("bytes/element"), report);
+    }
+
+    @Test
+    void testBudgetExceeded() {
+        assertThrows(
+                AssertionError.class,
+                () ->
+                        FootprintTester.forGenerator(
+                                        new SetGenerators.ImmutableSetCopyOfGenerator(), i -> "e" + i)
+                                .expectAtMostBytesPerElement(1)
+                                .test());
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect.testing;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.testing.CollidingKeys.Kind;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link HashFloodingTester} and {@link CollidingKeys}.
+ */
+class HashFloodingTesterTest {
+
+    @Test
+    void testCollidingKeys() {
+        CollidingKeys keys = CollidingKeys.partiallyColliding(10_000, 100, false);
+        assertEquals(10_000, keys.size());
+        assertEquals(10_000, new HashSet<>(keys.keys()).size());
+        Set<Integer> hashCodes = new HashSet<>();
+        for (Object key : keys.keys()) {
+            hashCodes.add(key.hashCode());
+        }
+        assertEquals(100, hashCodes.size());
+        assertTrue(keys.calls() > 0);
+        keys.resetCalls();
+        assertEquals(0, keys.calls());
+    }
+
+    @Test
+    void testHashMap() {
+        HashFloodingTester.<Map<Object, Object>>forConstruction(
+                        keys -> {
+                            Map<Object, Object> map = new HashMap<>();
+                            for (Object key : keys) {
+                                map.put(key, key);
+                            }
+                            return map;
+                        })
+                .named("HashMap")
+                .withQuery("get", Map::get)
+                .withQuery("containsKey", Map::containsKey)
+                .test();
+    }
+
+    @Test
+    void testHashSet() {
+        HashFloodingTester.<Set<Object>>forConstruction(HashSet::new)
+                .named("HashSet")
+                .withQuery("contains", Set::contains)
+                .test();
+    }
+
+    @Test
+    void testImmutableSet() {
+        HashFloodingTester.<Set<Object>>forConstruction(ImmutableSet::copyOf)
+                .named("ImmutableSet")
+                .withQuery("contains", Set::contains)
+                .test();
+    }
+
+    @Test
+    void testImmutableMap() {
+        HashFloodingTester.<Map<Object, Object>>forConstruction(keys -> Maps.toMap(keys, key -> "value"))
+                .named("ImmutableMap")
+                .withQuery("get", Map::get)
+                .test();
+    }
+
+    @Test
+    void testLinkedHashMultimapKeys() {
+        HashFloodingTester.<Multimap<Object, Object>>forConstruction(
+                        keys -> {
+                            Multimap<Object, Object> multimap = LinkedHashMultimap.create();
+                            for (Object key : keys) {
+                                multimap.put(key, "value");
+                            }
+                            return multimap;
+                        })
+                .named("LinkedHashMultimap")
+                .withQuery("containsKey", Multimap::containsKey)
+                .withQuery("get", Multimap::get)
+                .test();
+    }
+
+    @Test
+    void testNonComparableKeysDefeatHashMap() {
+        assertThrows(
+                AssertionError.class,
+                () ->
+                        HashFloodingTester.<Set<Object>>forConstruction(HashSet::new)
+                                .withKeys(Kind.FULLY_COLLIDING)
+                                .withSizes(1 << 8, 1 << 12)
+                                .withQuery("contains", Set::contains)
+                                .test());
+    }
+
+    @Test
+    void testLinearScanIsDetected() {
+        assertThrows(
+                AssertionError.class,
+                () ->
+                        HashFloodingTester.<List<Object>>forConstruction(ArrayList::new)
+                                .expectConstruction(Complexity.LINEAR)
+                                .withQuery("contains", List::contains)
+                                .test());
+    }
+}
@@ -22,10 +22,12 @@ import junit.framework.TestCase;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.google.common.collect.testing.Helpers.NullsBeforeB;
 import static com.google.common.collect.testing.Helpers.testComparator;
@@ -143,6 +145,80 @@ public class HelpersTest extends TestCase {
         }
     }
 
+    public void testAssertEqualIgnoringOrder() {
+        List<?> list = Arrays.asList("a", "b", "a", null);
+        Helpers.assertEqualIgnoringOrder(list, Arrays.asList(null, "a", "a", "b"));
+
+        try {
+            Helpers.assertEqualIgnoringOrder(list, Arrays.asList("a", "b", "b", null));
+            throw new Error();
+        } catch (AssertionError expected) {
+        }
+
+        try {
+            Helpers.assertEqualIgnoringOrder(list, Arrays.asList("a", "b", "a", null, "c"));
+            throw new Error();
+        } catch (AssertionError expected) {
+        }
+
+        try {
+            Helpers.assertEqualIgnoringOrder(list, Arrays.asList("a", "b", null));
+            throw new Error();
+        } catch (AssertionError expected) {
+        }
+    }
+
+    public void testAssertEqualIgnoringOrder_unhashable() {
+        List<UnhashableObject> list =
+                Arrays.asList(new UnhashableObject(1), new UnhashableObject(2), new UnhashableObject(1));
+        Helpers.assertEqualIgnoringOrder(
+                list,
+                Arrays.asList(new UnhashableObject(2), new UnhashableObject(1), new UnhashableObject(1)));
+
+        try {
+            Helpers.assertEqualIgnoringOrder(
+                    list,
+                    Arrays.asList(new UnhashableObject(2), new UnhashableObject(2), new UnhashableObject(1)));
+            throw new Error();
+        } catch (AssertionError expected) {
+        }
+    }
+
+    public void testAssertEqualIgnoringOrder_hashCodeInconsistentWithEquals() {
+        // Equal to each other, but with different hash codes: only the fallback can match them.
+        Object first = new InconsistentHashCode(1);
+        Object second = new InconsistentHashCode(2);
+        Helpers.assertEqualIgnoringOrder(Arrays.asList(first), Arrays.asList(second));
+    }
+
+    public void testAssertEqualIgnoringOrder_large() {
+        List<Integer> ascending = new ArrayList<>();
+        List<Integer> descending = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            ascending.add(i);
+            descending.add(99_999 - i);
+        }
+        Helpers.assertEqualIgnoringOrder(ascending, descending);
+    }
+
+    private static final class InconsistentHashCode {
+        final int hashCode;
+
+        InconsistentHashCode(int hashCode) {
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof InconsistentHashCode;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
     public void testAssertContains() {
         List<?> list = Arrays.asList("a", "b");
         Helpers.assertContains(list, "a");
@@ -180,4 +256,96 @@ public class HelpersTest extends TestCase {
         } catch (AssertionError expected) {
         }
     }
+
+    public void testAssertContainsAllOf_unhashable() {
+        List<UnhashableObject> list =
+                Arrays.asList(new UnhashableObject(1), new UnhashableObject(2), new UnhashableObject(1));
+        Helpers.assertContainsAllOf(list, new UnhashableObject(1), new UnhashableObject(1));
+
+        try {
+            Helpers.assertContainsAllOf(list, new UnhashableObject(2), new UnhashableObject(2));
+            throw new Error();
+        } catch (AssertionError expected) {
+        }
+    }
+
+    public void testRunConcurrently() {
+        AtomicInteger sum = new AtomicInteger();
+        Helpers.runConcurrently(4, thread -> sum.addAndGet(thread + 1));
+        assertEquals(10, sum.get());
+    }
+
+    public void testRunConcurrently_rethrows() {
+        try {
+            Helpers.runConcurrently(
+                    4,
+                    thread -> {
+                        if (thread == 2) {
+                            throw new IllegalStateException("thread 2");
+                        }
+                    });
+            throw new Error();
+        } catch (IllegalStateException expected) {
+            assertEquals("thread 2", expected.getMessage());
+        }
+    }
+
+    public void testRepeatForMinDuration() {
+        AtomicInteger runs = new AtomicInteger();
+        long start = System.nanoTime();
+        long returned = Helpers.repeatForMinDuration(runs::incrementAndGet);
+        assertTrue(System.nanoTime() - start >= Helpers.CONCURRENT_MIN_DURATION_NANOS);
+        assertEquals(runs.get(), returned);
+    }
+
+    public void testRunWritersAndReaders() {
+        AtomicInteger writes = new AtomicInteger();
+        AtomicInteger reads = new AtomicInteger();
+        Helpers.runWritersAndReaders(2, 2, thread -> writes.incrementAndGet(), reads::incrementAndGet);
+        assertTrue(writes.get() > 0);
+        assertTrue(reads.get() >= 2);
+    }
+
+    public void testRunWritersAndReaders_writerFailureReleasesReaders() {
+        try {
+            Helpers.runWritersAndReaders(
+                    1,
+                    1,
+                    thread -> {
+                        throw new IllegalStateException("writer");
+                    },
+                    () -> {});
+            throw new Error();
+        } catch (IllegalStateException expected) {
+            assertEquals("writer", expected.getMessage());
+        }
+    }
+
+    public void testAssertWeaklyConsistentTraversals() {
+        List<String> list = Arrays.asList("a", "b", "c");
+        Helpers.assertWeaklyConsistentTraversals(
+                list, list, Collections.emptyList(), true, Comparator.naturalOrder(), true);
+        Helpers.assertWeaklyConsistentTraversals(
+                Arrays.asList("a", "x", "b", "c"), list, Arrays.asList("x"), true, null, true);
+        Helpers.assertWeaklyConsistentTraversals(
+                Arrays.asList("c", "b", "a"), list, Collections.emptyList(), true, null, false);
+    }
+
+    public void testAssertWeaklyConsistentTraversals_failures() {
+        List<String> list = Arrays.asList("a", "b", "c");
+        assertWeaklyConsistentTraversalsFails(Arrays.asList("a", "c"), list, true);
+        assertWeaklyConsistentTraversalsFails(Arrays.asList("a", "b", "c", "y"), list, false);
+        assertWeaklyConsistentTraversalsFails(Arrays.asList("a", "b", "c", "x", "x"), list, false);
+        assertWeaklyConsistentTraversalsFails(Arrays.asList("b", "a", "c"), list, true);
+    }
+
+    private static void assertWeaklyConsistentTraversalsFails(
+            List<String> traversal, List<String> initial, boolean knownOrder) {
+        try {
+            Helpers.assertWeaklyConsistentTraversals(
+                    traversal, initial, Arrays.asList("x"), true, null, knownOrder);
+            throw new Error();
+        } catch (AssertionError expected) {
+        }
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link LinearizabilityChecker}.
+ */
+class LinearizabilityCheckerTest {
+
+    @Test
+    void testSequentialHistory() {
+        Map<String, Integer> map = new HashMap<>();
+        map.put("a", 1);
+        LinearizabilityChecker<String, Integer> checker = new LinearizabilityChecker<>(map);
+        checker.run(map, "a", "putIfAbsent 2", m -> m.putIfAbsent("a", 2));
+        checker.run(map, "a", "merge 3", m -> m.merge("a", 3, Integer::sum));
+        checker.run(map, "b", "remove", m -> m.remove("b"));
+        checker.run(map, "a", "get", m -> m.get("a"));
+        checker.check();
+    }
+
+    @Test
+    void testWrongResultIsDetected() {
+        // putIfAbsent that overwrites, as a non-atomic check-then-act sometimes does
+        Map<String, Integer> map =
+                new HashMap<String, Integer>() {
+                    @Override
+                    public Integer putIfAbsent(String key, Integer value) {
+                        put(key, value);
+                        return null;
+                    }
+                };
+        LinearizabilityChecker<String, Integer> checker = new LinearizabilityChecker<>(map);
+        checker.run(map, "a", "putIfAbsent 1", m -> m.putIfAbsent("a", 1));
+        checker.run(map, "a", "putIfAbsent 2", m -> m.putIfAbsent("a", 2));
+        checker.run(map, "a", "get", m -> m.get("a"));
+        AssertionError expected = assertThrows(AssertionError.class, checker::check);
+        assertTrue(expected.getMessage().contains("history of key a"), expected.getMessage());
+    }
+
+    @Test
+    void testConcurrentHashMap() {
+        ConcurrentMap<Integer, Integer> map = new ConcurrentHashMap<>();
+        LinearizabilityChecker<Integer, Integer> checker = new LinearizabilityChecker<>(map);
+        Helpers.runConcurrently(
+                4,
+                thread -> {
+                    for (int i = 0; i < 1000; i++) {
+                        int key = i % 3;
+                        checker.run(map, key, "merge 1", m -> m.merge(key, 1, Integer::sum));
+                        checker.run(map, key, "replace", m -> m.replace(key, 7, 0));
+                    }
+                });
+        for (int key = 0; key < 3; key++) {
+            int k = key;
+            checker.run(map, k, "get", m -> m.get(k));
+        }
+        checker.check();
+    }
+}
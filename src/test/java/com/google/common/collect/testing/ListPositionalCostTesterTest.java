@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.features.ListFeature;
+import com.google.common.testing.junit.TestFailure;
+import com.google.common.testing.junit.TestResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link com.google.common.collect.testing.testers.ListPositionalCostTester}.
+ */
+class ListPositionalCostTesterTest {
+
+    /**
+     * A list which claims to support random access but is backed by a {@link LinkedList}. Its
+     * (unmodifiable) list iterators come from the {@code LinkedList}, so that only {@code get()} is
+     * slow.
+     */
+    private static final class FakeRandomAccessList<E> extends AbstractList<E> implements RandomAccess {
+        private final List<E> delegate;
+
+        FakeRandomAccessList(List<E> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public E get(int index) {
+            return delegate.get(index);
+        }
+
+        @Override
+        public ListIterator<E> listIterator(int index) {
+            return Collections.unmodifiableList(delegate).listIterator(index);
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+    }
+
+    @Test
+    void testLinearGetIsDetected() {
+        TestResult result = new TestResult();
+        ListTestSuiteBuilder.using(
+                        new TestStringListGenerator() {
+                            @Override
+                            protected List<String> create(String[] elements) {
+                                return new FakeRandomAccessList<>(new LinkedList<>(asList(elements)));
+                            }
+                        })
+                .named("FakeRandomAccessList")
+                .withFeatures(
+                        ListFeature.EFFICIENT_POSITIONAL_ACCESS,
+                        CollectionFeature.ALLOWS_NULL_VALUES,
+                        CollectionSize.SEVERAL)
+                .createTestSuite()
+                .run(result);
+
+        List<TestFailure> failures = Collections.list(result.failures());
+        assertEquals(1, failures.size(), failures.toString());
+        assertEquals(0, result.errorCount());
+        TestFailure failure = failures.get(0);
+        assertTrue(
+                failure.toString().startsWith("testGet_randomAccessIsConstantTime"), failure.toString());
+        assertTrue(
+                failure.exceptionMessage().contains("implements RandomAccess, but get()"),
+                failure.exceptionMessage());
+    }
+
+    @Test
+    void testListRejectingDuplicatesIsSkipped() {
+        TestResult result = new TestResult();
+        ListTestSuiteBuilder.using(
+                        new TestStringListGenerator() {
+                            @Override
+                            protected List<String> create(String[] elements) {
+                                if (new HashSet<>(asList(elements)).size() < elements.length) {
+                                    throw new IllegalArgumentException("duplicate elements");
+                                }
+                                return Collections.unmodifiableList(new ArrayList<>(asList(elements)));
+                            }
+                        })
+                .named("DistinctList")
+                .withFeatures(
+                        ListFeature.EFFICIENT_POSITIONAL_ACCESS,
+                        CollectionFeature.ALLOWS_NULL_VALUES,
+                        CollectionFeature.REJECTS_DUPLICATES_AT_CREATION,
+                        CollectionSize.SEVERAL)
+                .createTestSuite()
+                .run(result);
+
+        assertEquals(0, result.failureCount(), Collections.list(result.failures()).toString());
+        assertEquals(0, result.errorCount(), Collections.list(result.errors()).toString());
+    }
+}
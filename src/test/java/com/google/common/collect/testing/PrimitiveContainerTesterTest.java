@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.primitives.Doubles;
+import com.google.common.primitives.ImmutableDoubleArray;
+import com.google.common.primitives.ImmutableIntArray;
+import com.google.common.primitives.ImmutableLongArray;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests {@link PrimitiveContainerTester} against the primitive-backed collections of Guava.
+ */
+class PrimitiveContainerTesterTest {
+
+    @Test
+    void testIntsAsList() {
+        PrimitiveContainerTester.testInts(
+                new TestIntGenerator<List<Integer>>() {
+                    @Override
+                    public List<Integer> create(int[] values) {
+                        return Ints.asList(values);
+                    }
+
+                    @Override
+                    public Spliterator.OfInt spliterator(List<Integer> list) {
+                        // asList() of an empty array is Collections.emptyList()
+                        return list.isEmpty()
+                                ? Spliterators.emptyIntSpliterator()
+                                : (Spliterator.OfInt) list.spliterator();
+                    }
+                });
+    }
+
+    @Test
+    void testImmutableIntArray() {
+        PrimitiveContainerTester.testInts(
+                new TestIntGenerator<ImmutableIntArray>() {
+                    @Override
+                    public ImmutableIntArray create(int[] values) {
+                        // a subarray, to exercise the offsets
+                        return ImmutableIntArray.builder()
+                                .add(0)
+                                .addAll(values)
+                                .add(0)
+                                .build()
+                                .subArray(1, values.length + 1);
+                    }
+
+                    @Override
+                    public Spliterator.OfInt spliterator(ImmutableIntArray array) {
+                        return array.stream().spliterator();
+                    }
+
+                    @Override
+                    public IntStream stream(ImmutableIntArray array) {
+                        return array.stream();
+                    }
+                });
+    }
+
+    @Test
+    void testLongsAsList() {
+        PrimitiveContainerTester.testLongs(
+                new TestLongGenerator<List<Long>>() {
+                    @Override
+                    public List<Long> create(long[] values) {
+                        return Longs.asList(values);
+                    }
+
+                    @Override
+                    public Spliterator.OfLong spliterator(List<Long> list) {
+                        // asList() of an empty array is Collections.emptyList()
+                        return list.isEmpty()
+                                ? Spliterators.emptyLongSpliterator()
+                                : (Spliterator.OfLong) list.spliterator();
+                    }
+                });
+    }
+
+    @Test
+    void testImmutableLongArray() {
+        PrimitiveContainerTester.testLongs(
+                new TestLongGenerator<ImmutableLongArray>() {
+                    @Override
+                    public ImmutableLongArray create(long[] values) {
+                        return ImmutableLongArray.copyOf(values);
+                    }
+
+                    @Override
+                    public Spliterator.OfLong spliterator(ImmutableLongArray array) {
+                        return array.stream().spliterator();
+                    }
+                });
+    }
+
+    @Test
+    void testDoublesAsList() {
+        PrimitiveContainerTester.testDoubles(
+                new TestDoubleGenerator<List<Double>>() {
+                    @Override
+                    public List<Double> create(double[] values) {
+                        return Doubles.asList(values);
+                    }
+
+                    @Override
+                    public Spliterator.OfDouble spliterator(List<Double> list) {
+                        // asList() of an empty array is Collections.emptyList()
+                        return list.isEmpty()
+                                ? Spliterators.emptyDoubleSpliterator()
+                                : (Spliterator.OfDouble) list.spliterator();
+                    }
+                });
+    }
+
+    @Test
+    void testImmutableDoubleArray() {
+        PrimitiveContainerTester.testDoubles(
+                new TestDoubleGenerator<ImmutableDoubleArray>() {
+                    @Override
+                    public ImmutableDoubleArray create(double[] values) {
+                        return ImmutableDoubleArray.copyOf(values);
+                    }
+
+                    @Override
+                    public Spliterator.OfDouble spliterator(ImmutableDoubleArray array) {
+                        return array.stream().spliterator();
+                    }
+                });
+    }
+
+    @Test
+    void testSortedStream() {
+        PrimitiveContainerTester.testInts(
+                new TestIntGenerator<int[]>() {
+                    @Override
+                    public int[] create(int[] values) {
+                        return values;
+                    }
+
+                    @Override
+                    public Spliterator.OfInt spliterator(int[] values) {
+                        return IntStream.of(values).sorted().spliterator();
+                    }
+                });
+    }
+
+    @Test
+    void testMissingValueIsDetected() {
+        assertThrows(
+                AssertionError.class,
+                () ->
+                        PrimitiveContainerTester.testInts(
+                                new TestIntGenerator<int[]>() {
+                                    @Override
+                                    public int[] create(int[] values) {
+                                        return values.length == 0 ? values : Arrays.copyOf(values, values.length - 1);
+                                    }
+
+                                    @Override
+                                    public Spliterator.OfInt spliterator(int[] values) {
+                                        return Arrays.spliterator(values);
+                                    }
+                                },
+                                1_000));
+    }
+}
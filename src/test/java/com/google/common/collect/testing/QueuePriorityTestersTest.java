@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.features.QueueFeature;
+import com.google.common.testing.junit.TestFailure;
+import com.google.common.testing.junit.TestResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link com.google.common.collect.testing.testers.QueuePriorityOrderTester} and {@link
+ * com.google.common.collect.testing.testers.QueuePriorityCostTester}.
+ */
+class QueuePriorityTestersTest {
+
+    /** A correct priority queue whose {@code poll()} scans all elements. */
+    private static final class LinearScanQueue<E> extends AbstractQueue<E> {
+        private final Comparator<? super E> comparator;
+        private final List<E> elements = new ArrayList<>();
+
+        LinearScanQueue(Comparator<? super E> comparator) {
+            this.comparator = comparator;
+        }
+
+        @Override
+        public boolean offer(E e) {
+            if (e == null) {
+                throw new NullPointerException();
+            }
+            elements.add(e);
+            return true;
+        }
+
+        @Override
+        public E peek() {
+            return elements.isEmpty() ? null : elements.get(indexOfLeast());
+        }
+
+        @Override
+        public E poll() {
+            return elements.isEmpty() ? null : elements.remove(indexOfLeast());
+        }
+
+        private int indexOfLeast() {
+            int least = 0;
+            for (int i = 1; i < elements.size(); i++) {
+                if (comparator.compare(elements.get(i), elements.get(least)) < 0) {
+                    least = i;
+                }
+            }
+            return least;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return elements.iterator();
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+    }
+
+    @Test
+    void testLinearPollIsDetected() {
+        TestResult result = new TestResult();
+        QueueTestSuiteBuilder.using(
+                        new TestStringPriorityQueueGenerator() {
+                            @Override
+                            public <T> Queue<T> create(
+                                    Comparator<? super T> comparator, Collection<? extends T> elements) {
+                                Queue<T> queue = new LinearScanQueue<>(comparator);
+                                queue.addAll(elements);
+                                return queue;
+                            }
+                        })
+                .named("LinearScanQueue")
+                .withFeatures(
+                        CollectionFeature.GENERAL_PURPOSE, QueueFeature.PRIORITY_ORDERED, CollectionSize.ANY)
+                .createTestSuite()
+                .run(result);
+
+        List<String> failures = new ArrayList<>();
+        for (TestFailure failure : Collections.list(result.failures())) {
+            failures.add(failure.failedTest().toString());
+        }
+        assertEquals(1, failures.size(), failures.toString());
+        assertEquals(0, result.errorCount());
+        assertTrue(failures.get(0).startsWith("testPoll_logarithmicComparisons"), failures.toString());
+    }
+
+    @Test
+    void testConstructionByInsertionIsDetected() {
+        TestResult result = new TestResult();
+        QueueTestSuiteBuilder.using(
+                        new TestStringPriorityQueueGenerator() {
+                            @Override
+                            public <T> Queue<T> create(
+                                    Comparator<? super T> comparator, Collection<? extends T> elements) {
+                                Queue<T> queue = new PriorityQueue<>(comparator);
+                                queue.addAll(elements);
+                                return queue;
+                            }
+                        })
+                .named("PriorityQueue, built by insertion")
+                .withFeatures(
+                        CollectionFeature.GENERAL_PURPOSE, QueueFeature.PRIORITY_ORDERED, CollectionSize.ANY)
+                .createTestSuite()
+                .run(result);
+
+        List<String> failures = new ArrayList<>();
+        for (TestFailure failure : Collections.list(result.failures())) {
+            failures.add(failure.failedTest().toString());
+        }
+        assertEquals(1, failures.size(), failures.toString());
+        assertEquals(0, result.errorCount());
+        assertTrue(
+                failures.get(0).startsWith("testBulkConstruction_linearComparisons"), failures.toString());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.testing.junit.TestFailure;
+import com.google.common.testing.junit.TestResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link com.google.common.collect.testing.testers.QueueReferenceReleaseTester}.
+ */
+class ReferenceReleaseTestersTest {
+
+    /**
+     * A queue which remembers the element most recently returned by {@code poll()}. Its other removal
+     * methods don't call {@code poll()}, so that only {@code poll()} is reported.
+     */
+    private static final class LeakyQueue<E> extends AbstractQueue<E> {
+        private final List<E> elements = new ArrayList<>();
+        private E lastPolled;
+
+        @Override
+        public boolean offer(E e) {
+            if (e == null) {
+                throw new NullPointerException();
+            }
+            elements.add(e);
+            return true;
+        }
+
+        @Override
+        public E peek() {
+            return elements.isEmpty() ? null : elements.get(0);
+        }
+
+        @Override
+        public E poll() {
+            if (elements.isEmpty()) {
+                return null;
+            }
+            lastPolled = elements.remove(0);
+            return lastPolled;
+        }
+
+        @Override
+        public E remove() {
+            E e = peek();
+            if (e == null) {
+                return super.remove();
+            }
+            return elements.remove(0);
+        }
+
+        @Override
+        public void clear() {
+            elements.clear();
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return elements.iterator();
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+    }
+
+    @Test
+    void testRetainedElementIsDetected() {
+        TestResult result = new TestResult();
+        QueueTestSuiteBuilder.using(
+                        new TestStringQueueGenerator() {
+                            @Override
+                            protected Queue<String> create(String[] elements) {
+                                Queue<String> queue = new LeakyQueue<>();
+                                Collections.addAll(queue, elements);
+                                return queue;
+                            }
+                        })
+                .named("LeakyQueue")
+                .withFeatures(
+                        CollectionFeature.GENERAL_PURPOSE, CollectionFeature.KNOWN_ORDER, CollectionSize.ANY)
+                .createTestSuite()
+                .run(result);
+
+        List<TestFailure> failures = Collections.list(result.failures());
+        assertEquals(1, failures.size(), failures.toString());
+        assertEquals(0, result.errorCount());
+        TestFailure failure = failures.get(0);
+        assertTrue(
+                failure.failedTest().toString().startsWith("testRemoveHead_releasesElements"),
+                failure.toString());
+        String message = failure.exceptionMessage();
+        assertTrue(message.contains("poll() did not release"), message);
+        assertFalse(message.contains("remove() did not release"), message);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.testing.junit.TestFailure;
+import com.google.common.testing.junit.TestResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the serialized size checks of {@link
+ * com.google.common.collect.testing.testers.CollectionSerializationTester}.
+ */
+class SerializedSizeTestersTest {
+
+    /** An unmodifiable list which keeps, and serializes, 64 bytes of metadata for each element. */
+    private static final class StampedList<E> extends AbstractList<E> implements Serializable {
+        private static final long serialVersionUID = 0;
+
+        private final List<E> elements;
+        private final List<long[]> stamps = new ArrayList<>();
+
+        StampedList(List<E> elements) {
+            this.elements = new ArrayList<>(elements);
+            for (int i = 0; i < elements.size(); i++) {
+                stamps.add(new long[8]);
+            }
+        }
+
+        @Override
+        public E get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+    }
+
+    @Test
+    void testPerElementOverheadIsDetected() {
+        TestResult result = new TestResult();
+        ListTestSuiteBuilder.using(
+                        new TestStringListGenerator() {
+                            @Override
+                            protected List<String> create(String[] elements) {
+                                return new StampedList<>(Arrays.asList(elements));
+                            }
+                        })
+                .named("StampedList")
+                .withFeatures(
+                        CollectionFeature.ALLOWS_NULL_VALUES,
+                        CollectionFeature.SERIALIZABLE,
+                        CollectionSize.ANY)
+                .createTestSuite()
+                .run(result);
+
+        List<TestFailure> failures = Collections.list(result.failures());
+        assertFalse(failures.isEmpty());
+        assertEquals(0, result.errorCount());
+        for (TestFailure failure : failures) {
+            assertTrue(
+                    failure.failedTest().toString().startsWith("testReserialize_sizePerElement"),
+                    failure.toString());
+            String message = failure.exceptionMessage();
+            assertTrue(message.contains("The serialized form grew by"), message);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.testing.TailLatencyTester.Histogram;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link TailLatencyTester}.
+ */
+class TailLatencyTesterTest {
+
+    @Test
+    void testHistogram() {
+        Histogram histogram = new Histogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+        histogram.record(1_000_000);
+        assertEquals(1_000_000, histogram.max);
+        assertEquals(1_000_000, histogram.valueAtPercentile(100));
+        long median = histogram.valueAtPercentile(50);
+        assertTrue(median >= 500 && median <= 505, "median " + median);
+        for (long value : new long[] {0, 1, 127, 128, 129, 1000, 123_456_789, Long.MAX_VALUE / 2}) {
+            long highest = Histogram.highestEquivalentValue(Histogram.bucket(value));
+            assertTrue(highest >= value && highest <= value + value / 64, value + " -> " + highest);
+        }
+    }
+
+    @Test
+    void testResizingHashMapIsReported() {
+        TestStringMapGenerator generator =
+                new TestStringMapGenerator() {
+                    @Override
+                    protected Map<String, String> create(Map.Entry<String, String>[] entries) {
+                        Map<String, String> map = new HashMap<>();
+                        for (Map.Entry<String, String> entry : entries) {
+                            map.put(entry.getKey(), entry.getValue());
+                        }
+                        return map;
+                    }
+                };
+        AssertionError expected =
+                assertThrows(
+                        AssertionError.class,
+                        () ->
+                                TailLatencyTester.forGenerator(generator, i -> "k" + i, i -> "v" + i)
+                                        .named("HashMap")
+                                        .expectMaxToMedianAtMost(100)
+                                        .test());
+        // the largest resize happens when the map grows beyond 3/4 of 2^20
+        assertTrue(expected.getMessage().contains("slowest: #786432 "), expected.getMessage());
+    }
+
+    @Test
+    void testPresizedArrayList() {
+        int size = 1 << 18;
+        TailLatencyTester.<List<Object>, Object>forInsertion(
+                        () -> new ArrayList<>(size), List::add, i -> i)
+                .named("ArrayList")
+                .withSize(size)
+                .withTrials(5)
+                .expectMaxToMedianAtMost(10_000)
+                .test();
+    }
+
+    @Test
+    void testBuilderReport() {
+        String report =
+                TailLatencyTester.<ImmutableList.Builder<String>, String>forInsertion(
+                                ImmutableList::builder, ImmutableList.Builder::add, i -> "e" + i)
+                        .named("ImmutableList.Builder")
+                        .withSize(1 << 16)
+                        .report();
+        assertTrue(report.startsWith("ImmutableList.Builder: 65536 insertions"), report);
+        assertTrue(report.contains("p99.9"), report);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.HashBiMap;
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.features.MapFeature;
+import com.google.common.testing.junit.TestFailure;
+import com.google.common.testing.junit.TestResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link com.google.common.collect.testing.testers.MapViewCachingTester} and {@link
+ * Helpers#assertCachedView}.
+ */
+class ViewCachingTestersTest {
+
+    /** An unmodifiable map which caches its entry set and values, but not its key set. */
+    private static final class FreshKeySetMap<K, V> extends AbstractMap<K, V> {
+        private final Map<K, V> delegate;
+
+        FreshKeySetMap(Map<K, V> delegate) {
+            this.delegate = Collections.unmodifiableMap(delegate);
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet() {
+            return delegate.entrySet();
+        }
+
+        @Override
+        public Set<K> keySet() {
+            return new AbstractSet<K>() {
+                @Override
+                public Iterator<K> iterator() {
+                    return delegate.keySet().iterator();
+                }
+
+                @Override
+                public int size() {
+                    return delegate.size();
+                }
+            };
+        }
+    }
+
+    @Test
+    void testUncachedKeySetIsDetected() {
+        TestResult result = new TestResult();
+        MapTestSuiteBuilder.using(
+                        new TestStringMapGenerator() {
+                            @Override
+                            protected Map<String, String> create(Entry<String, String>[] entries) {
+                                Map<String, String> map = new HashMap<>();
+                                for (Entry<String, String> entry : entries) {
+                                    map.put(entry.getKey(), entry.getValue());
+                                }
+                                return new FreshKeySetMap<>(map);
+                            }
+                        })
+                .named("FreshKeySetMap")
+                .withFeatures(
+                        MapFeature.ALLOWS_NULL_KEYS,
+                        MapFeature.ALLOWS_NULL_VALUES,
+                        MapFeature.CACHES_VIEWS,
+                        CollectionSize.ANY)
+                .createTestSuite()
+                .run(result);
+
+        List<TestFailure> failures = Collections.list(result.failures());
+        assertFalse(failures.isEmpty());
+        assertEquals(0, result.errorCount());
+        for (TestFailure failure : failures) {
+            assertTrue(
+                    failure.failedTest().toString().startsWith("testKeySet_cached"), failure.toString());
+            String message = failure.exceptionMessage();
+            assertTrue(message.contains("keySet() should return the same view every time"), message);
+        }
+    }
+
+    @Test
+    void testGuavaViewsAreCached() {
+        HashBiMap<String, Integer> biMap = HashBiMap.create();
+        biMap.put("a", 1);
+        Helpers.assertCachedView("inverse()", biMap::inverse);
+
+        ArrayListMultimap<String, Integer> multimap = ArrayListMultimap.create();
+        multimap.put("a", 1);
+        Helpers.assertCachedView("asMap()", multimap::asMap);
+        Helpers.assertCachedView("keys()", multimap::keys);
+        Helpers.assertCachedView("entries()", multimap::entries);
+
+        HashMultiset<String> multiset = HashMultiset.create();
+        multiset.add("a");
+        Helpers.assertCachedView("elementSet()", multiset::elementSet);
+        Helpers.assertCachedView("entrySet()", multiset::entrySet);
+    }
+
+    @Test
+    void testFreshViewIsDetected() {
+        Map<String, Integer> map = new HashMap<>();
+        assertThrows(
+                AssertionError.class,
+                () ->
+                        Helpers.assertCachedView(
+                                "keySet()", () -> Collections.unmodifiableSet(map.keySet())));
+    }
+}
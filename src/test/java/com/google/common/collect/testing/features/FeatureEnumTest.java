@@ -109,6 +109,7 @@ public class FeatureEnumTest extends TestCase {
         assertGoodFeatureEnum(SetFeature.class);
         assertGoodFeatureEnum(CollectionSize.class);
         assertGoodFeatureEnum(MapFeature.class);
+        assertGoodFeatureEnum(QueueFeature.class);
     }
 
     private static String rootLocaleFormat(String format, Object... args) {
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.features.MapFeature;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map.Entry;
+
+/**
+ * Tests {@link ArrayListMultimap} with {@link ListMultimapTestSuiteBuilder}, including the caching
+ * of its views.
+ */
+class ArrayListMultimapTests {
+
+    @Test
+    void test() throws Throwable {
+        ListMultimapTestSuiteBuilder.using(
+                        new TestStringListMultimapGenerator() {
+                            @Override
+                            protected ListMultimap<String, String> create(Entry<String, String>[] entries) {
+                                ListMultimap<String, String> multimap = ArrayListMultimap.create();
+                                for (Entry<String, String> entry : entries) {
+                                    multimap.put(entry.getKey(), entry.getValue());
+                                }
+                                return multimap;
+                            }
+                        })
+                .named("ArrayListMultimap")
+                .withFeatures(
+                        MapFeature.GENERAL_PURPOSE,
+                        MapFeature.ALLOWS_NULL_KEYS,
+                        MapFeature.ALLOWS_NULL_VALUES,
+                        MapFeature.ALLOWS_ANY_NULL_QUERIES,
+                        MapFeature.FAILS_FAST_ON_CONCURRENT_MODIFICATION,
+                        MapFeature.CACHES_VIEWS,
+                        CollectionFeature.SUPPORTS_ITERATOR_REMOVE,
+                        CollectionFeature.SERIALIZABLE,
+                        CollectionSize.ANY)
+                .createTestSuite()
+                .run();
+    }
+}
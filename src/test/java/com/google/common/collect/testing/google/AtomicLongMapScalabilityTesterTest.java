@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.util.concurrent.AtomicLongMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map.Entry;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link AtomicLongMapScalabilityTester}.
+ */
+class AtomicLongMapScalabilityTesterTest {
+
+    @Test
+    void testUnreachableRatioFails() {
+        AssertionError expected =
+                assertThrows(
+                        AssertionError.class,
+                        () ->
+                                AtomicLongMapScalabilityTester.forGenerator(generator(), i -> "k" + i)
+                                        .withMaxThreads(2)
+                                        .withDurationMillis(20)
+                                        .expectThroughputRatioAtLeast(100)
+                                        .test());
+        assertTrue(expected.getMessage().contains("incrementAndGet with 2 threads"), expected.getMessage());
+    }
+
+    @Test
+    void testReport() {
+        String report =
+                AtomicLongMapScalabilityTester.forGenerator(generator(), i -> "k" + i)
+                        .named("AtomicLongMap")
+                        .withKeys(4)
+                        .withMaxThreads(3)
+                        .withDurationMillis(20)
+                        .report();
+        assertTrue(report.startsWith("AtomicLongMap\n"), report);
+        assertTrue(report.contains("  get on 4 keys:"), report);
+        assertTrue(report.contains("  incrementAndGet on 4 keys:"), report);
+        assertTrue(report.contains("  getAndAdd on 4 keys:"), report);
+        assertTrue(report.contains("  increment, decrement and removeIfZero on 4 keys:"), report);
+        assertTrue(report.contains("  1 threads:"), report);
+        assertTrue(report.contains("  2 threads:"), report);
+        assertTrue(report.contains("  3 threads:"), report);
+    }
+
+    private static TestStringAtomicLongMapGenerator generator() {
+        return new TestStringAtomicLongMapGenerator() {
+            @Override
+            protected AtomicLongMap<String> create(Entry<String, Long>[] entries) {
+                AtomicLongMap<String> map = AtomicLongMap.create();
+                for (Entry<String, Long> entry : entries) {
+                    map.put(entry.getKey(), entry.getValue());
+                }
+                return map;
+            }
+        };
+    }
+}
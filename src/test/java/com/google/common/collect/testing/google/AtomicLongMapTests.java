@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.util.concurrent.AtomicLongMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map.Entry;
+
+/**
+ * Tests {@link AtomicLongMap} with {@link AtomicLongMapTestSuiteBuilder}, including its thread
+ * safety.
+ */
+class AtomicLongMapTests {
+
+    @Test
+    void test() throws Throwable {
+        AtomicLongMapTestSuiteBuilder.using(
+                        new TestStringAtomicLongMapGenerator() {
+                            @Override
+                            protected AtomicLongMap<String> create(Entry<String, Long>[] entries) {
+                                AtomicLongMap<String> map = AtomicLongMap.create();
+                                for (Entry<String, Long> entry : entries) {
+                                    map.put(entry.getKey(), entry.getValue());
+                                }
+                                return map;
+                            }
+                        })
+                .named("AtomicLongMap")
+                .withFeatures(CollectionSize.ANY)
+                .createTestSuite()
+                .run();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.collect.ConcurrentHashMultiset;
+import com.google.common.collect.Multiset;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+/**
+ * Tests {@link ConcurrentHashMultiset} with {@link MultisetTestSuiteBuilder}, including its thread
+ * safety.
+ */
+class ConcurrentHashMultisetTests {
+
+    @Test
+    void test() throws Throwable {
+        MultisetTestSuiteBuilder.using(
+                        new TestStringMultisetGenerator() {
+                            @Override
+                            protected Multiset<String> create(String[] elements) {
+                                return ConcurrentHashMultiset.create(Arrays.asList(elements));
+                            }
+                        })
+                .named("ConcurrentHashMultiset")
+                .withFeatures(
+                        CollectionFeature.GENERAL_PURPOSE,
+                        CollectionFeature.SERIALIZABLE,
+                        CollectionFeature.ALLOWS_NULL_QUERIES,
+                        CollectionFeature.THREAD_SAFE,
+                        CollectionSize.ANY)
+                .createTestSuite()
+                .run();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.collect.ConcurrentHashMultiset;
+import com.google.common.collect.ForwardingMultiset;
+import com.google.common.collect.Multiset;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ConcurrentMultisetScalabilityTester}.
+ */
+class ConcurrentMultisetScalabilityTesterTest {
+
+    @Test
+    void testCollapseIsDetected() {
+        AssertionError expected =
+                assertThrows(
+                        AssertionError.class,
+                        () ->
+                                ConcurrentMultisetScalabilityTester.forGenerator(generator(true), i -> "e" + i)
+                                        .named("ContendedMultiset")
+                                        .withMaxThreads(2)
+                                        .test());
+        assertTrue(expected.getMessage().contains("add with 2 threads"), expected.getMessage());
+    }
+
+    @Test
+    void testReport() {
+        String report =
+                ConcurrentMultisetScalabilityTester.forGenerator(generator(false), i -> "e" + i)
+                        .named("ConcurrentHashMultiset")
+                        .withElements(4)
+                        .withMaxThreads(3)
+                        .withDurationMillis(20)
+                        .report();
+        assertTrue(report.startsWith("ConcurrentHashMultiset\n"), report);
+        assertTrue(report.contains("  count on 4 elements:"), report);
+        assertTrue(report.contains("  add on 4 elements:"), report);
+        assertTrue(report.contains("  add and remove on 4 elements:"), report);
+        assertTrue(report.contains("  conditional setCount on 4 elements:"), report);
+        assertTrue(report.contains("  1 threads:"), report);
+        assertTrue(report.contains("  2 threads:"), report);
+        assertTrue(report.contains("  3 threads:"), report);
+    }
+
+    private static TestStringMultisetGenerator generator(boolean contended) {
+        return new TestStringMultisetGenerator() {
+            @Override
+            protected Multiset<String> create(String[] elements) {
+                Multiset<String> multiset = ConcurrentHashMultiset.create(Arrays.asList(elements));
+                return contended ? new ContendedMultiset(multiset) : multiset;
+            }
+        };
+    }
+
+    /**
+     * A multiset whose operations do work that grows with the cube of the number of threads using
+     * it, like a lock whose handoff gets more expensive as more threads contend for it, so that its
+     * throughput collapses whatever the number of processors.
+     */
+    private static final class ContendedMultiset extends ForwardingMultiset<String> {
+        private final Multiset<String> delegate;
+        private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        private volatile long sink;
+
+        ContendedMultiset(Multiset<String> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        protected Multiset<String> delegate() {
+            return delegate;
+        }
+
+        @Override
+        public int count(Object element) {
+            contend();
+            return super.count(element);
+        }
+
+        @Override
+        public int add(String element, int occurrences) {
+            contend();
+            return super.add(element, occurrences);
+        }
+
+        @Override
+        public int remove(Object element, int occurrences) {
+            contend();
+            return super.remove(element, occurrences);
+        }
+
+        @Override
+        public boolean setCount(String element, int oldCount, int newCount) {
+            contend();
+            return super.setCount(element, oldCount, newCount);
+        }
+
+        private void contend() {
+            threads.add(Thread.currentThread());
+            int count = threads.size();
+            long work = 0;
+            for (int i = 0; i < 100 * count * count * count; i++) {
+                work = work * 31 + i;
+            }
+            sink = work;
+        }
+    }
+}
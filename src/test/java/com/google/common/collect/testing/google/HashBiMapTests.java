@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.collect.BiMap;
+import com.google.common.collect.HashBiMap;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.features.MapFeature;
+import com.google.common.collect.testing.testers.MapViewCachingTester;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map.Entry;
+
+/**
+ * Tests {@link HashBiMap} with {@link BiMapTestSuiteBuilder}, including the caching of its inverse.
+ */
+class HashBiMapTests {
+
+    @Test
+    void test() throws Throwable {
+        BiMapTestSuiteBuilder.using(
+                        new TestStringBiMapGenerator() {
+                            @Override
+                            protected BiMap<String, String> create(Entry<String, String>[] entries) {
+                                BiMap<String, String> map = HashBiMap.create();
+                                for (Entry<String, String> entry : entries) {
+                                    map.put(entry.getKey(), entry.getValue());
+                                }
+                                return map;
+                            }
+                        })
+                .named("HashBiMap")
+                .withFeatures(
+                        MapFeature.GENERAL_PURPOSE,
+                        MapFeature.ALLOWS_NULL_KEYS,
+                        MapFeature.ALLOWS_NULL_VALUES,
+                        MapFeature.ALLOWS_ANY_NULL_QUERIES,
+                        MapFeature.CACHES_VIEWS,
+                        CollectionFeature.SUPPORTS_ITERATOR_REMOVE,
+                        CollectionFeature.SERIALIZABLE,
+                        CollectionFeature.KNOWN_ORDER,
+                        CollectionSize.ANY)
+                // HashBiMap caches its inverse, but creates its other views on every call
+                .suppressing(
+                        MapViewCachingTester.class.getMethod("testKeySet_cached"),
+                        MapViewCachingTester.class.getMethod("testValues_cached"),
+                        MapViewCachingTester.class.getMethod("testEntrySet_cached"))
+                .createTestSuite()
+                .run();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+/**
+ * Tests {@link HashMultiset} with {@link MultisetTestSuiteBuilder}, including the caching of its
+ * views.
+ */
+class HashMultisetTests {
+
+    @Test
+    void test() throws Throwable {
+        MultisetTestSuiteBuilder.using(
+                        new TestStringMultisetGenerator() {
+                            @Override
+                            protected Multiset<String> create(String[] elements) {
+                                return HashMultiset.create(Arrays.asList(elements));
+                            }
+                        })
+                .named("HashMultiset")
+                .withFeatures(
+                        CollectionFeature.GENERAL_PURPOSE,
+                        CollectionFeature.ALLOWS_NULL_VALUES,
+                        CollectionFeature.SERIALIZABLE,
+                        MultisetFeature.ENTRIES_ARE_VIEWS,
+                        MultisetFeature.CACHES_VIEWS,
+                        CollectionSize.ANY)
+                .createTestSuite()
+                .run();
+    }
+}
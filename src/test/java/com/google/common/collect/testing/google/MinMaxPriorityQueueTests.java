@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.collect.MinMaxPriorityQueue;
+import com.google.common.collect.testing.TestStringPriorityQueueGenerator;
+import com.google.common.collect.testing.features.CollectionFeature;
+import com.google.common.collect.testing.features.CollectionSize;
+import com.google.common.collect.testing.testers.QueuePriorityCostTester;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Queue;
+
+/**
+ * Tests {@link MinMaxPriorityQueue} with {@link MinMaxPriorityQueueTestSuiteBuilder}.
+ */
+class MinMaxPriorityQueueTests {
+
+    @Test
+    void test() throws Throwable {
+        MinMaxPriorityQueueTestSuiteBuilder.using(
+                        new TestStringPriorityQueueGenerator() {
+                            @Override
+                            public <T> Queue<T> create(
+                                    Comparator<? super T> comparator, Collection<? extends T> elements) {
+                                return MinMaxPriorityQueue.orderedBy(comparator).create(elements);
+                            }
+                        })
+                .named("MinMaxPriorityQueue")
+                .withFeatures(CollectionFeature.GENERAL_PURPOSE, CollectionSize.ANY)
+                // MinMaxPriorityQueue.create(Iterable) inserts the elements one at a time
+                .suppressing(QueuePriorityCostTester.getBulkConstructionLinearComparisonsMethod())
+                .createTestSuite()
+                .run();
+    }
+}
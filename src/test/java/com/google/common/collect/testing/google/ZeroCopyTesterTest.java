@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.collect.testing.google;
+
+import com.google.common.collect.testing.TestContainerGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map.Entry;
+
+import static com.google.common.collect.testing.Helpers.mapEntry;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ZeroCopyTester}, which also check the zero-copy paths of Guava's immutable
+ * collections.
+ */
+class ZeroCopyTesterTest {
+
+    private static void assertZeroCopy(String name, TestContainerGenerator<?, String> generator) {
+        ZeroCopyTester.forGenerator(generator, i -> "e" + i).named(name).test();
+    }
+
+    private static void assertZeroCopyMap(
+            String name, TestContainerGenerator<?, Entry<String, String>> generator) {
+        ZeroCopyTester.forGenerator(generator, i -> mapEntry("k" + i, "v" + i)).named(name).test();
+    }
+
+    @Test
+    void testSets() {
+        assertZeroCopy("ImmutableSet.copyOf", new SetGenerators.ImmutableSetCopyOfGenerator());
+        assertZeroCopy("ImmutableSet.builder", new SetGenerators.ImmutableSetUnsizedBuilderGenerator());
+        assertZeroCopy(
+                "ImmutableSet.builderWithExpectedSize", new SetGenerators.ImmutableSetSizedBuilderGenerator());
+        assertZeroCopy(
+                "ImmutableSortedSet.copyOf", new SetGenerators.ImmutableSortedSetCopyOfGenerator());
+        assertZeroCopy(
+                "ImmutableSortedSet.orderedBy", new SetGenerators.ImmutableSortedSetExplicitComparator());
+        assertZeroCopy(
+                "ImmutableSortedSet.reverseOrder",
+                new SetGenerators.ImmutableSortedSetReversedOrderGenerator());
+        ZeroCopyTester.forGenerator(new SetGenerators.ContiguousSetGenerator(), i -> i)
+                .named("ContiguousSet")
+                .test();
+    }
+
+    @Test
+    void testLists() {
+        assertZeroCopy("ImmutableList.copyOf", new ListGenerators.ImmutableListOfGenerator());
+        assertZeroCopy("ImmutableList.builder", new ListGenerators.BuilderAddListGenerator());
+        assertZeroCopy("ImmutableList.builder.addAll", new ListGenerators.BuilderAddAllListGenerator());
+        assertZeroCopy("ImmutableList.reverse", new ListGenerators.BuilderReversedListGenerator());
+        assertZeroCopy("ImmutableSet.asList", new SetGenerators.ImmutableSetAsListGenerator());
+    }
+
+    @Test
+    void testMaps() {
+        assertZeroCopyMap("ImmutableMap.builder", new MapGenerators.ImmutableMapGenerator());
+        assertZeroCopyMap("ImmutableMap.copyOf", new MapGenerators.ImmutableMapCopyOfGenerator());
+        assertZeroCopyMap(
+                "ImmutableMap.copyOf(entries)", new MapGenerators.ImmutableMapCopyOfEntriesGenerator());
+        assertZeroCopyMap("ImmutableBiMap.builder", new BiMapGenerators.ImmutableBiMapGenerator());
+        assertZeroCopyMap(
+                "ImmutableSortedMap.builder", new SortedMapGenerators.ImmutableSortedMapGenerator());
+    }
+
+    @Test
+    void testPartialViewIsCopied() {
+        AssertionError expected =
+                assertThrows(
+                        AssertionError.class,
+                        () ->
+                                assertZeroCopy(
+                                        "ImmutableList.subList",
+                                        new ListGenerators.ImmutableListHeadSubListGenerator()));
+        assertTrue(
+                expected.getMessage().contains("ImmutableList.copyOf() returned a copy"),
+                expected.getMessage());
+    }
+}
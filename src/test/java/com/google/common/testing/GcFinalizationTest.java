@@ -20,7 +20,12 @@ import com.google.common.testing.GcFinalization.FinalizationPredicate;
 import com.google.common.util.concurrent.SettableFuture;
 import junit.framework.TestCase;
 
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.WeakHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -90,6 +95,28 @@ public class GcFinalizationTest extends TestCase {
         assertNull(ref.get());
     }
 
+    public void testAwaitClearAll() {
+        List<WeakReference<Object>> refs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            refs.add(new WeakReference<>(new Object()));
+        }
+        GcFinalization.awaitClearAll(refs);
+        for (WeakReference<Object> ref : refs) {
+            assertNull(ref.get());
+        }
+    }
+
+    public void testAwaitEnqueued() {
+        ReferenceQueue<Object> queue = new ReferenceQueue<>();
+        List<PhantomReference<Object>> refs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            refs.add(new PhantomReference<>(new Object(), queue));
+        }
+        List<Reference<?>> enqueued = new ArrayList<>(GcFinalization.awaitEnqueued(queue, 100));
+        assertThat(enqueued).containsExactlyElementsIn(refs);
+        assertNull(queue.poll());
+    }
+
     public void testAwaitDone_FinalizationPredicate() {
         final WeakHashMap<Object, Object> map = new WeakHashMap<>();
         map.put(new Object(), Boolean.TRUE);
@@ -103,6 +130,47 @@ public class GcFinalizationTest extends TestCase {
         assertTrue(map.isEmpty());
     }
 
+    // ----------------------------------------------------------------
+    // Test that waiting for something that never happens gives up after a few collections.
+    // ----------------------------------------------------------------
+
+    public void testAwaitClear_StronglyReachable() {
+        final WeakReference<Object> ref = new WeakReference<Object>(Boolean.TRUE);
+        try {
+            GcFinalization.awaitClear(ref);
+            fail("should throw");
+        } catch (RuntimeException expected) {
+            assertThat(expected).hasMessageThat().contains("garbage collections");
+        }
+    }
+
+    public void testAwaitClearAll_StronglyReachable() {
+        Object retained = "retained";
+        List<WeakReference<Object>> refs = new ArrayList<>();
+        refs.add(new WeakReference<>(new Object()));
+        refs.add(new WeakReference<>(retained));
+        try {
+            GcFinalization.awaitClearAll(refs);
+            fail("should throw");
+        } catch (RuntimeException expected) {
+            assertThat(expected).hasMessageThat().contains("1 of 2 references were not cleared");
+            assertThat(expected).hasMessageThat().contains("[1] retained");
+        }
+        assertNull(refs.get(0).get());
+    }
+
+    public void testAwaitEnqueued_NotEnqueued() {
+        ReferenceQueue<Object> queue = new ReferenceQueue<>();
+        PhantomReference<Object> ref = new PhantomReference<Object>(Boolean.TRUE, queue);
+        try {
+            GcFinalization.awaitEnqueued(queue, 1);
+            fail("should throw");
+        } catch (RuntimeException expected) {
+            assertThat(expected).hasMessageThat().contains("Only 0 of 1 references were enqueued");
+        }
+        Reference.reachabilityFence(ref);
+    }
+
     // ----------------------------------------------------------------
     // Test that interrupts result in RuntimeException, not InterruptedException.
     // Trickier than it looks, because runFinalization swallows interrupts.
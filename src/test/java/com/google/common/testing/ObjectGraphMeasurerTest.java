@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.common.testing;
+
+import com.google.common.testing.ObjectGraphMeasurer.Footprint;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ObjectGraphMeasurer}.
+ */
+class ObjectGraphMeasurerTest {
+
+    private static final class Node {
+        Object next;
+        int value;
+    }
+
+    @Test
+    void testArrays() {
+        long empty = ObjectGraphMeasurer.measure(new long[0]).bytes();
+        assertEquals(empty + 8 * 8, ObjectGraphMeasurer.measure(new long[8]).bytes());
+        assertTrue(ObjectGraphMeasurer.measure(new byte[8]).bytes() < ObjectGraphMeasurer.measure(new long[8]).bytes());
+        assertEquals(1, ObjectGraphMeasurer.measure(new Object[8]).objects());
+    }
+
+    @Test
+    void testSharedObjectCountedOnce() {
+        Node shared = new Node();
+        Object[] array = {shared, shared, shared};
+        Footprint footprint = ObjectGraphMeasurer.measure(array);
+        assertEquals(2, footprint.objects());
+        assertEquals(
+                ObjectGraphMeasurer.measure(new Object[3]).bytes() + ObjectGraphMeasurer.measure(shared).bytes(),
+                footprint.bytes());
+    }
+
+    @Test
+    void testCycle() {
+        Node first = new Node();
+        Node second = new Node();
+        first.next = second;
+        second.next = first;
+        assertEquals(2, ObjectGraphMeasurer.measure(first).objects());
+    }
+
+    @Test
+    void testClassesAndEnumsNotCounted() {
+        Node node = new Node();
+        node.next = TimeUnit.SECONDS;
+        assertEquals(1, ObjectGraphMeasurer.measure(node).objects());
+        node.next = Node.class;
+        assertEquals(1, ObjectGraphMeasurer.measure(node).objects());
+    }
+
+    @Test
+    void testExclusion() {
+        Node first = new Node();
+        Node second = new Node();
+        first.next = second;
+        second.next = new Node();
+        assertEquals(1, ObjectGraphMeasurer.measure(first, object -> object != second).objects());
+    }
+}
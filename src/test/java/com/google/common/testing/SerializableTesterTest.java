@@ -34,6 +34,25 @@ public class SerializableTesterTest extends TestCase {
         assertNotSame(original, copy);
     }
 
+    public void testReserializeWithMetrics() {
+        String original = "hello world";
+        SerializableTester.SerializationMetrics<String> metrics =
+                SerializableTester.reserializeWithMetrics(original);
+        assertEquals(original, metrics.copy());
+        assertNotSame(original, metrics.copy());
+        assertEquals(SerializableTester.serializedSize(original), metrics.serializedSize());
+        assertTrue(metrics.serializedSize() > original.length());
+        assertTrue(metrics.serializationNanos() >= 0);
+        assertTrue(metrics.deserializationNanos() >= 0);
+        if (AllocationMeasurer.isSupported()) {
+            assertTrue(metrics.serializationAllocatedBytes() > 0);
+            assertTrue(metrics.deserializationAllocatedBytes() > 0);
+        } else {
+            assertEquals(-1, metrics.serializationAllocatedBytes());
+            assertEquals(-1, metrics.deserializationAllocatedBytes());
+        }
+    }
+
     public void testClassWhichDoesNotImplementEquals() {
         ClassWhichDoesNotImplementEquals orig = new ClassWhichDoesNotImplementEquals();
         boolean errorNotThrown = false;